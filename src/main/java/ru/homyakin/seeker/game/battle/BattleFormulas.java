@@ -0,0 +1,69 @@
+package ru.homyakin.seeker.game.battle;
+
+import ru.homyakin.seeker.utils.MathUtils;
+
+/**
+ * Формулы боя, общие для расчёта мощи персонажа и для самого боя
+ */
+public class BattleFormulas {
+    /**
+     * Примерные значения шансов при разнице ловкостей:
+     * 0 -> 5
+     * 5 -> 11.3
+     * 12 -> 17.9
+     */
+    public static double dodgeChance(int agility, int enemyAgility) {
+        return BASE_DODGE_CHANCE + MathUtils.calcOneDivideXFunc(
+            agility - enemyAgility,
+            -1707.69,
+            -34.15,
+            50
+        );
+    }
+
+    /**
+     * Примерные значения шансов при разнице мудростей:
+     * 0 -> 5
+     * 5 -> 13.8
+     * 12 -> 21.9
+     */
+    public static double critChance(int wisdom, int enemyWisdom) {
+        return BASE_CRIT_CHANCE + MathUtils.calcOneDivideXFunc(
+            wisdom - enemyWisdom,
+            -1164.7,
+            -23.29,
+            50
+        );
+    }
+
+    /**
+     * Примерные значения бонусов при разнице сил:
+     * 0 -> 0
+     * 5 -> 0.1
+     * 12 -> 0.17(7)
+     */
+    public static double attackBonus(int strength, int enemyStrength) {
+        return MathUtils.calcOneDivideXFunc(
+            strength - enemyStrength,
+            -6.0,
+            -15.0,
+            0.4
+        );
+    }
+
+    /**
+     * Броня персонажа, которая снимается раньше здоровья
+     */
+    public static int armor(int defense) {
+        return 4 * defense;
+    }
+
+    // TODO вынести в базу
+    public static final double BASE_DODGE_CHANCE = 5;
+    public static final double BASE_CRIT_CHANCE = 5;
+    public static final double CRIT_MULTIPLIER = 2;
+    /**
+     * Отклонение атаки в процентах в обе стороны
+     */
+    public static final int ATTACK_DEVIATION = 10;
+}
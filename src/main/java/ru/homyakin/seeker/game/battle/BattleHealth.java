@@ -10,7 +10,7 @@ public class BattleHealth implements Cloneable {
     public BattleHealth(Characteristics characteristics) {
         maxHealth = characteristics.health();
         health = characteristics.health();
-        defense = 4 * characteristics.defense();
+        defense = BattleFormulas.armor(characteristics.defense());
     }
 
     public void takeDamage(int damage) {
@@ -4,7 +4,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.homyakin.seeker.game.personage.models.Characteristics;
 import ru.homyakin.seeker.game.personage.models.Personage;
-import ru.homyakin.seeker.utils.MathUtils;
 import ru.homyakin.seeker.utils.RandomUtils;
 import ru.homyakin.seeker.utils.models.Pair;
 
@@ -42,6 +41,25 @@ public class BattlePersonage implements Cloneable {
         return id;
     }
 
+    /**
+     * @return характеристики с учётом эффектов
+     */
+    public Characteristics characteristics() {
+        return characteristics;
+    }
+
+    public Personage personage() {
+        return personage;
+    }
+
+    public int remainingHealth() {
+        return health.remainingHealth();
+    }
+
+    public int remainingArmor() {
+        return health.defense();
+    }
+
     public boolean isDead() {
         return !health.isAlive();
     }
@@ -115,19 +133,8 @@ public class BattlePersonage implements Cloneable {
         return RandomUtils.getInInterval(1, 100) <= calculateDodgeChance(enemy.characteristics.agility());
     }
 
-    /**
-     * Примерные значения шансов при разнице ловкостей:
-     * 0 -> 5
-     * 5 -> 11.3
-     * 12 -> 17.9
-     */
     private double calculateDodgeChance(int enemyAgility) {
-        return baseDodgeChance + MathUtils.calcOneDivideXFunc(
-            this.characteristics.agility() - enemyAgility,
-            -1707.69,
-            -34.15,
-            50
-        );
+        return BattleFormulas.dodgeChance(this.characteristics.agility(), enemyAgility);
     }
 
     private Pair<Boolean, Double> critMultiplier(BattlePersonage enemy) {
@@ -138,19 +145,8 @@ public class BattlePersonage implements Cloneable {
         return Pair.of(true, baseCritMultiplier);
     }
 
-    /**
-     * Примерные значения шансов при разнице мудростей:
-     * 0 -> 5
-     * 5 -> 13.8
-     * 12 -> 21.9
-     */
     private double calculateCritChance(int enemyWisdom) {
-        return baseCritChance + MathUtils.calcOneDivideXFunc(
-            this.characteristics.wisdom() - enemyWisdom,
-            -1164.7,
-            -23.29,
-            50
-        );
+        return BattleFormulas.critChance(this.characteristics.wisdom(), enemyWisdom);
     }
 
     /**
@@ -162,19 +158,8 @@ public class BattlePersonage implements Cloneable {
         return randomAttack + bonus;
     }
 
-    /**
-     * Примерные значения бонусов при разнице сил:
-     * 0 -> 0
-     * 5 -> 0.1
-     * 12 -> 0.17(7)
-     */
     private double calculateAttackBonus(int enemyStrength) {
-        return MathUtils.calcOneDivideXFunc(
-            this.characteristics.strength() - enemyStrength,
-            -6.0,
-            -15.0,
-            0.4
-        );
+        return BattleFormulas.attackBonus(this.characteristics.strength(), enemyStrength);
     }
 
     public PersonageBattleResult toResult() {
@@ -196,11 +181,8 @@ public class BattlePersonage implements Cloneable {
         );
     }
 
-    // TODO вынести в базу
-    private static final double baseDodgeChance = 5;
-    private static final double baseCritChance = 5;
-    private static final double baseCritMultiplier = 2;
-    private static final int attackDeviation = 10;
+    private static final double baseCritMultiplier = BattleFormulas.CRIT_MULTIPLIER;
+    private static final int attackDeviation = BattleFormulas.ATTACK_DEVIATION;
 
     @Override
     @SuppressWarnings("super")
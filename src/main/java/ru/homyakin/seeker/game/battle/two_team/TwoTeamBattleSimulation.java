@@ -0,0 +1,267 @@
+package ru.homyakin.seeker.game.battle.two_team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import ru.homyakin.seeker.game.battle.BattleFormulas;
+import ru.homyakin.seeker.game.battle.BattlePersonage;
+import ru.homyakin.seeker.game.battle.PersonageBattleResult;
+import ru.homyakin.seeker.game.battle.PersonageBattleStats;
+import ru.homyakin.seeker.game.personage.models.Characteristics;
+
+/**
+ * Состояние одного боя в примитивных массивах, индекс в массиве - номер участника.
+ * Первая команда занимает индексы [0, firstTeamSize), вторая - остальные.
+ * Во время боя ничего не аллоцируется, поэтому бой больших рейдов стоит O(число ходов).
+ */
+class TwoTeamBattleSimulation {
+    private final BattlePersonage[] personages;
+    private final Characteristics[] characteristics;
+    private final int firstTeamSize;
+
+    private final int[] health;
+    private final int[] armor;
+    private final int[] attack;
+    private final int[] strength;
+    private final int[] agility;
+    private final int[] wisdom;
+
+    private final long[] normalDamageDealt;
+    private final long[] normalAttackCount;
+    private final long[] critDamageDealt;
+    private final long[] critsCount;
+    private final long[] damageBlocked;
+    private final long[] blocksCount;
+    private final long[] damageDodged;
+    private final long[] dodgesCount;
+    private final long[] missesCount;
+
+    private final Team firstTeam;
+    private final Team secondTeam;
+
+    TwoTeamBattleSimulation(List<BattlePersonage> firstTeam, List<BattlePersonage> secondTeam) {
+        firstTeamSize = firstTeam.size();
+        final var size = firstTeamSize + secondTeam.size();
+        personages = new BattlePersonage[size];
+        characteristics = new Characteristics[size];
+        health = new int[size];
+        armor = new int[size];
+        attack = new int[size];
+        strength = new int[size];
+        agility = new int[size];
+        wisdom = new int[size];
+        normalDamageDealt = new long[size];
+        normalAttackCount = new long[size];
+        critDamageDealt = new long[size];
+        critsCount = new long[size];
+        damageBlocked = new long[size];
+        blocksCount = new long[size];
+        damageDodged = new long[size];
+        dodgesCount = new long[size];
+        missesCount = new long[size];
+
+        int index = 0;
+        for (final var personage : firstTeam) {
+            fill(index++, personage);
+        }
+        for (final var personage : secondTeam) {
+            fill(index++, personage);
+        }
+        this.firstTeam = new Team(0, firstTeamSize);
+        this.secondTeam = new Team(firstTeamSize, secondTeam.size());
+    }
+
+    TwoTeamBattleWinner run(SplittableRandom random) {
+        firstTeam.shuffle(random);
+        secondTeam.shuffle(random);
+
+        var active = random.nextBoolean() ? firstTeam : secondTeam;
+        var enemy = active == firstTeam ? secondTeam : firstTeam;
+        while (firstTeam.aliveCount > 0 && secondTeam.aliveCount > 0) {
+            final var attacker = active.nextAttacker();
+            final var target = enemy.randomAlive(random);
+            hit(attacker, target, random);
+            if (health[target] <= 0) {
+                enemy.remove(target);
+            }
+            final var previous = active;
+            active = enemy;
+            enemy = previous;
+        }
+
+        if (firstTeam.aliveCount == 0) {
+            return TwoTeamBattleWinner.SECOND_TEAM;
+        } else {
+            return TwoTeamBattleWinner.FIRST_TEAM;
+        }
+    }
+
+    List<PersonageBattleResult> firstTeamResults() {
+        return results(0, firstTeamSize);
+    }
+
+    List<PersonageBattleResult> secondTeamResults() {
+        return results(firstTeamSize, personages.length);
+    }
+
+    /**
+     * Повторяет BattlePersonage.dealDamageToPersonage, порядок бросков тот же: крит, разброс атаки, уклонение
+     */
+    private void hit(int attacker, int target, SplittableRandom random) {
+        final var isCrit = roll(random) <= BattleFormulas.critChance(wisdom[attacker], wisdom[target]);
+        final var randomAttack = random.nextInt(
+            100 - BattleFormulas.ATTACK_DEVIATION,
+            100 + BattleFormulas.ATTACK_DEVIATION + 1
+        ) / 100.0;
+        final var damage = (int) (
+            attack[attacker]
+                * characteristics[attacker].advantage(characteristics[target])
+                * (randomAttack + BattleFormulas.attackBonus(strength[attacker], strength[target]))
+                * (isCrit ? BattleFormulas.CRIT_MULTIPLIER : 1.0)
+        );
+        if (roll(random) <= BattleFormulas.dodgeChance(agility[target], agility[attacker])) {
+            ++dodgesCount[target];
+            damageDodged[target] += damage;
+            ++missesCount[attacker];
+            return;
+        }
+
+        if (isCrit) {
+            critDamageDealt[attacker] += damage;
+            ++critsCount[attacker];
+        } else {
+            normalDamageDealt[attacker] += damage;
+            ++normalAttackCount[attacker];
+        }
+        damageBlocked[target] += damage;
+        ++blocksCount[target];
+        takeDamage(target, damage);
+    }
+
+    private void takeDamage(int target, int damage) {
+        var remainingDamage = damage;
+        if (armor[target] > 0) {
+            if (damage > armor[target]) {
+                remainingDamage = damage - armor[target];
+                armor[target] = 0;
+            } else {
+                armor[target] -= damage;
+                remainingDamage = 0;
+            }
+        }
+        health[target] = Math.max(health[target] - remainingDamage, 0);
+    }
+
+    private void fill(int index, BattlePersonage personage) {
+        final var personageCharacteristics = personage.characteristics();
+        personages[index] = personage;
+        characteristics[index] = personageCharacteristics;
+        health[index] = personage.remainingHealth();
+        armor[index] = personage.remainingArmor();
+        attack[index] = personageCharacteristics.attack();
+        strength[index] = personageCharacteristics.strength();
+        agility[index] = personageCharacteristics.agility();
+        wisdom[index] = personageCharacteristics.wisdom();
+    }
+
+    private List<PersonageBattleResult> results(int from, int to) {
+        final var results = new ArrayList<PersonageBattleResult>(to - from);
+        for (int i = from; i < to; ++i) {
+            results.add(
+                new PersonageBattleResult(
+                    personages[i].personage(),
+                    new PersonageBattleStats(
+                        health[i],
+                        normalDamageDealt[i],
+                        normalAttackCount[i],
+                        critDamageDealt[i],
+                        critsCount[i],
+                        damageBlocked[i],
+                        blocksCount[i],
+                        damageDodged[i],
+                        dodgesCount[i],
+                        missesCount[i],
+                        characteristics[i]
+                    )
+                )
+            );
+        }
+        return results;
+    }
+
+    /**
+     * Аналог RandomUtils.getInInterval(1, 100)
+     */
+    private static int roll(SplittableRandom random) {
+        return random.nextInt(1, 101);
+    }
+
+    /**
+     * Живые участники хранятся плотным массивом, умерший меняется местами с последним, поэтому случайная цель за O(1).
+     * Очередь атак - кольцевой буфер, мёртвые выкидываются из него, когда до них доходит ход.
+     */
+    private class Team {
+        private final int[] alive;
+        private final int[] alivePosition;
+        private final int offset;
+        private int aliveCount;
+
+        private final int[] queue;
+        private int queueHead = 0;
+        private int queueSize;
+
+        private Team(int offset, int size) {
+            this.offset = offset;
+            alive = new int[size];
+            alivePosition = new int[size];
+            queue = new int[size];
+            for (int i = 0; i < size; ++i) {
+                alive[i] = offset + i;
+                alivePosition[i] = i;
+                queue[i] = offset + i;
+            }
+            aliveCount = size;
+            queueSize = size;
+            // Участник мог прийти в бой уже мёртвым
+            for (int i = 0; i < size; ++i) {
+                if (health[offset + i] <= 0) {
+                    remove(offset + i);
+                }
+            }
+        }
+
+        private void shuffle(SplittableRandom random) {
+            for (int i = queue.length - 1; i > 0; --i) {
+                final var j = random.nextInt(i + 1);
+                final var temp = queue[i];
+                queue[i] = queue[j];
+                queue[j] = temp;
+            }
+        }
+
+        private int nextAttacker() {
+            while (true) {
+                final var personage = queue[queueHead];
+                queueHead = (queueHead + 1) % queue.length;
+                --queueSize;
+                if (health[personage] > 0) {
+                    queue[(queueHead + queueSize) % queue.length] = personage;
+                    ++queueSize;
+                    return personage;
+                }
+            }
+        }
+
+        private int randomAlive(SplittableRandom random) {
+            return alive[random.nextInt(aliveCount)];
+        }
+
+        private void remove(int personage) {
+            final var position = alivePosition[personage - offset];
+            final var last = alive[aliveCount - 1];
+            alive[position] = last;
+            alivePosition[last - offset] = position;
+            --aliveCount;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package ru.homyakin.seeker.game.catalog;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.game.event.raid.RaidDao;
+import ru.homyakin.seeker.game.event.raid.models.Raid;
+import ru.homyakin.seeker.game.item.database.ItemObjectDao;
+import ru.homyakin.seeker.game.item.models.GenerateItemObject;
+import ru.homyakin.seeker.game.item.models.ItemRarity;
+import ru.homyakin.seeker.game.item.modifier.ItemModifierDao;
+import ru.homyakin.seeker.game.item.modifier.models.GenerateModifier;
+import ru.homyakin.seeker.game.item.modifier.models.ModifierType;
+import ru.homyakin.seeker.game.personage.models.PersonageSlot;
+import ru.homyakin.seeker.game.rumor.Rumor;
+import ru.homyakin.seeker.game.rumor.RumorDao;
+import ru.homyakin.seeker.game.tavern_menu.menu.MenuDao;
+import ru.homyakin.seeker.game.tavern_menu.menu.models.MenuItem;
+import ru.homyakin.seeker.infrastructure.init.GameDataLoaded;
+import ru.homyakin.seeker.utils.RandomUtils;
+
+/**
+ * Игровые данные из toml во время работы не меняются, поэтому читаются из базы один раз после InitGameData
+ * и дальше отдаются из памяти. При перезагрузке новый снимок собирается целиком и подменяется атомарно,
+ * читатели видят либо старый, либо новый снимок, но не их смесь
+ */
+@Component
+public class GameCatalog {
+    private static final Logger logger = LoggerFactory.getLogger(GameCatalog.class);
+    private final RaidDao raidDao;
+    private final RumorDao rumorDao;
+    private final ItemObjectDao itemObjectDao;
+    private final ItemModifierDao itemModifierDao;
+    private final MenuDao menuDao;
+    private final AtomicReference<GameCatalogSnapshot> snapshot = new AtomicReference<>(GameCatalogSnapshot.EMPTY);
+
+    public GameCatalog(
+        RaidDao raidDao,
+        RumorDao rumorDao,
+        ItemObjectDao itemObjectDao,
+        ItemModifierDao itemModifierDao,
+        MenuDao menuDao
+    ) {
+        this.raidDao = raidDao;
+        this.rumorDao = rumorDao;
+        this.itemObjectDao = itemObjectDao;
+        this.itemModifierDao = itemModifierDao;
+        this.menuDao = menuDao;
+    }
+
+    @EventListener(GameDataLoaded.class)
+    public void reload() {
+        final var raids = raidDao.getAllByEnabled();
+        final var newSnapshot = new GameCatalogSnapshot(
+            raids.get(true),
+            raids.get(false),
+            rumorDao.getAllAvailable(),
+            itemObjectDao.getAllByRarity(),
+            itemModifierDao.getAllByRarity(),
+            menuDao.getAll()
+        );
+        snapshot.set(newSnapshot);
+        logger.info("Game catalog reloaded");
+    }
+
+    public Optional<Raid> getRandomRaid() {
+        return snapshot.get().randomRaid(RandomUtils.generator());
+    }
+
+    public Optional<Raid> getRaid(int eventId) {
+        return snapshot.get().raid(eventId);
+    }
+
+    public Optional<Rumor> getRandomRumor() {
+        return snapshot.get().randomRumor(RandomUtils.generator());
+    }
+
+    public Optional<GenerateItemObject> getRandomObject(ItemRarity rarity, PersonageSlot slot) {
+        return snapshot.get().randomObject(rarity, slot, RandomUtils.generator());
+    }
+
+    public Optional<GenerateModifier> getRandomModifier(ItemRarity rarity) {
+        return snapshot.get().randomModifier(rarity, RandomUtils.generator());
+    }
+
+    public Optional<GenerateModifier> getRandomModifierWithType(ModifierType type, ItemRarity rarity) {
+        return snapshot.get().randomModifier(rarity, type, RandomUtils.generator());
+    }
+
+    public Optional<GenerateModifier> getRandomModifierExcludeId(int id, ItemRarity rarity) {
+        return snapshot.get().randomModifierExcept(rarity, id, RandomUtils.generator());
+    }
+
+    public List<MenuItem> getAvailableMenu() {
+        return snapshot.get().availableMenu();
+    }
+
+    public Optional<MenuItem> getMenuItem(int id) {
+        return snapshot.get().menuItem(id);
+    }
+
+    public Optional<MenuItem> getMenuItem(String code) {
+        return snapshot.get().menuItem(code);
+    }
+}
@@ -0,0 +1,173 @@
+package ru.homyakin.seeker.game.catalog;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+import ru.homyakin.seeker.game.event.raid.models.Raid;
+import ru.homyakin.seeker.game.item.models.GenerateItemObject;
+import ru.homyakin.seeker.game.item.models.ItemRarity;
+import ru.homyakin.seeker.game.item.modifier.models.GenerateModifier;
+import ru.homyakin.seeker.game.item.modifier.models.ModifierType;
+import ru.homyakin.seeker.game.personage.models.PersonageSlot;
+import ru.homyakin.seeker.game.rumor.Rumor;
+import ru.homyakin.seeker.game.tavern_menu.menu.models.MenuItem;
+
+/**
+ * Неизменяемый снимок игровых данных с индексами под все запросы.
+ * Случайный элемент выбирается по индексу в списке, поэтому за O(1)
+ */
+public class GameCatalogSnapshot {
+    private final Map<Integer, Raid> raidsByEventId;
+    private final List<Raid> enabledRaids;
+    private final List<Rumor> availableRumors;
+    private final Map<ItemRarity, Map<PersonageSlot, List<GenerateItemObject>>> objects;
+    private final Map<ItemRarity, ModifierBucket> modifiers;
+    private final Map<ItemRarity, Map<ModifierType, List<GenerateModifier>>> modifiersByType;
+    private final Map<Integer, MenuItem> menuById;
+    private final Map<String, MenuItem> menuByCode;
+    private final List<MenuItem> availableMenu;
+
+    public GameCatalogSnapshot(
+        List<Raid> enabledRaids,
+        List<Raid> disabledRaids,
+        List<Rumor> availableRumors,
+        Map<ItemRarity, List<GenerateItemObject>> objectsByRarity,
+        Map<ItemRarity, List<GenerateModifier>> modifiersByRarity,
+        List<MenuItem> menu
+    ) {
+        final var raids = new HashMap<Integer, Raid>();
+        enabledRaids.forEach(raid -> raids.put(raid.eventId(), raid));
+        disabledRaids.forEach(raid -> raids.put(raid.eventId(), raid));
+        this.raidsByEventId = Map.copyOf(raids);
+        this.enabledRaids = List.copyOf(enabledRaids);
+        this.availableRumors = List.copyOf(availableRumors);
+
+        final var objects = new EnumMap<ItemRarity, Map<PersonageSlot, List<GenerateItemObject>>>(ItemRarity.class);
+        objectsByRarity.forEach((rarity, rarityObjects) -> {
+            final var bySlot = new EnumMap<PersonageSlot, List<GenerateItemObject>>(PersonageSlot.class);
+            for (final var slot : PersonageSlot.values()) {
+                final var slotObjects = rarityObjects.stream().filter(it -> it.slots().contains(slot)).toList();
+                if (!slotObjects.isEmpty()) {
+                    bySlot.put(slot, slotObjects);
+                }
+            }
+            objects.put(rarity, bySlot);
+        });
+        this.objects = objects;
+
+        final var modifiers = new EnumMap<ItemRarity, ModifierBucket>(ItemRarity.class);
+        final var modifiersByType = new EnumMap<ItemRarity, Map<ModifierType, List<GenerateModifier>>>(ItemRarity.class);
+        modifiersByRarity.forEach((rarity, rarityModifiers) -> {
+            modifiers.put(rarity, new ModifierBucket(rarityModifiers));
+            final var byType = new EnumMap<ModifierType, List<GenerateModifier>>(ModifierType.class);
+            for (final var type : ModifierType.values()) {
+                byType.put(type, rarityModifiers.stream().filter(it -> it.type() == type).toList());
+            }
+            modifiersByType.put(rarity, byType);
+        });
+        this.modifiers = modifiers;
+        this.modifiersByType = modifiersByType;
+
+        final var menuById = new HashMap<Integer, MenuItem>();
+        final var menuByCode = new HashMap<String, MenuItem>();
+        menu.forEach(item -> {
+            menuById.put(item.id(), item);
+            menuByCode.put(item.code(), item);
+        });
+        this.menuById = Map.copyOf(menuById);
+        this.menuByCode = Map.copyOf(menuByCode);
+        this.availableMenu = menu.stream().filter(MenuItem::isAvailable).toList();
+    }
+
+    public Optional<Raid> randomRaid(RandomGenerator random) {
+        return randomElement(enabledRaids, random);
+    }
+
+    public Optional<Raid> raid(int eventId) {
+        return Optional.ofNullable(raidsByEventId.get(eventId));
+    }
+
+    public Optional<Rumor> randomRumor(RandomGenerator random) {
+        return randomElement(availableRumors, random);
+    }
+
+    public Optional<GenerateItemObject> randomObject(ItemRarity rarity, PersonageSlot slot, RandomGenerator random) {
+        return randomElement(objects.getOrDefault(rarity, Map.of()).getOrDefault(slot, List.of()), random);
+    }
+
+    public Optional<GenerateModifier> randomModifier(ItemRarity rarity, RandomGenerator random) {
+        return Optional.ofNullable(modifiers.get(rarity)).flatMap(it -> randomElement(it.modifiers, random));
+    }
+
+    public Optional<GenerateModifier> randomModifier(ItemRarity rarity, ModifierType type, RandomGenerator random) {
+        return randomElement(modifiersByType.getOrDefault(rarity, Map.of()).getOrDefault(type, List.of()), random);
+    }
+
+    public Optional<GenerateModifier> randomModifierExcept(ItemRarity rarity, int excludedId, RandomGenerator random) {
+        return Optional.ofNullable(modifiers.get(rarity)).flatMap(it -> it.randomExcept(excludedId, random));
+    }
+
+    public List<MenuItem> availableMenu() {
+        return availableMenu;
+    }
+
+    public Optional<MenuItem> menuItem(int id) {
+        return Optional.ofNullable(menuById.get(id));
+    }
+
+    public Optional<MenuItem> menuItem(String code) {
+        return Optional.ofNullable(menuByCode.get(code));
+    }
+
+    private static <T> Optional<T> randomElement(List<T> list, RandomGenerator random) {
+        if (list.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(list.get(random.nextInt(list.size())));
+    }
+
+    /**
+     * Модификаторы одной редкости. Позиции нужны, чтобы выбрать случайный модификатор, кроме уже выпавшего,
+     * без перебора: берём индекс из n - 1 и сдвигаем его, если он попал на исключённый
+     */
+    private static class ModifierBucket {
+        private final List<GenerateModifier> modifiers;
+        private final Map<Integer, Integer> positionById;
+
+        private ModifierBucket(List<GenerateModifier> modifiers) {
+            this.modifiers = List.copyOf(modifiers);
+            final var positions = new HashMap<Integer, Integer>();
+            for (int i = 0; i < this.modifiers.size(); ++i) {
+                positions.put(this.modifiers.get(i).id(), i);
+            }
+            this.positionById = Map.copyOf(positions);
+        }
+
+        private Optional<GenerateModifier> randomExcept(int excludedId, RandomGenerator random) {
+            final var excludedPosition = positionById.get(excludedId);
+            if (excludedPosition == null) {
+                return randomElement(modifiers, random);
+            }
+            if (modifiers.size() < 2) {
+                return Optional.empty();
+            }
+            var index = random.nextInt(modifiers.size() - 1);
+            if (index >= excludedPosition) {
+                ++index;
+            }
+            return Optional.of(modifiers.get(index));
+        }
+    }
+
+    public static final GameCatalogSnapshot EMPTY = new GameCatalogSnapshot(
+        List.of(),
+        List.of(),
+        List.of(),
+        Map.of(),
+        Map.of(),
+        List.of()
+    );
+}
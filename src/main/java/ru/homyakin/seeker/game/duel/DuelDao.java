@@ -2,17 +2,15 @@ package ru.homyakin.seeker.game.duel;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Optional;
-import javax.sql.DataSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.duel.models.Duel;
 import ru.homyakin.seeker.game.duel.models.DuelStatus;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
-import ru.homyakin.seeker.utils.TimeUtils;
 
 @Component
 public class DuelDao {
@@ -37,15 +35,15 @@ public class DuelDao {
 
     private final JdbcClient jdbcClient;
 
-    public DuelDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public DuelDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     public long create(
         PersonageId initiatingPersonageId,
         PersonageId acceptingPersonageId,
         GroupId groupId,
-        Duration lifeTime
+        LocalDateTime expiringDate
     ) {
         final var sql = """
             INSERT INTO duel (initiating_personage_id, accepting_personage_id, pgroupd_id, expiring_date, status_id)
@@ -56,7 +54,7 @@ public class DuelDao {
             .param("initiating_personage_id", initiatingPersonageId.value())
             .param("accepting_personage_id", acceptingPersonageId.value())
             .param("pgroupd_id", groupId.value())
-            .param("expiring_date", TimeUtils.moscowTime().plus(lifeTime))
+            .param("expiring_date", expiringDate)
             .param("status_id", DuelStatus.WAITING.id())
             .query((rs, _) -> rs.getLong(1))
             .single();
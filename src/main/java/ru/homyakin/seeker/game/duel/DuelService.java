@@ -17,8 +17,12 @@ import ru.homyakin.seeker.game.models.Money;
 import ru.homyakin.seeker.game.personage.PersonageService;
 import ru.homyakin.seeker.game.personage.models.Personage;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.infrastructure.lock.LockKey;
 import ru.homyakin.seeker.infrastructure.lock.LockPrefixes;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
+import ru.homyakin.seeker.utils.TimeUtils;
 import ru.homyakin.seeker.utils.models.Success;
 
 @Component
@@ -28,19 +32,22 @@ public class DuelService {
     private final PersonageService personageService;
     private final TwoPersonageTeamsBattle twoPersonageTeamsBattle;
     private final LockService lockService;
+    private final DeadlineQueue deadlineQueue;
 
     public DuelService(
         DuelDao duelDao,
         DuelConfig duelConfig,
         PersonageService personageService,
         TwoPersonageTeamsBattle twoPersonageTeamsBattle,
-        LockService lockService
+        LockService lockService,
+        DeadlineQueue deadlineQueue
     ) {
         this.duelDao = duelDao;
         this.duelLifeTime = duelConfig.lifeTime();
         this.personageService = personageService;
         this.twoPersonageTeamsBattle = twoPersonageTeamsBattle;
         this.lockService = lockService;
+        this.deadlineQueue = deadlineQueue;
     }
 
     //TODO прочитать про transactional
@@ -58,7 +65,9 @@ public class DuelService {
 
         personageService.takeMoney(initiatingPersonage, DUEL_PRICE);
 
-        final var id = duelDao.create(initiatingPersonage.id(), acceptingPersonage.id(), groupId, duelLifeTime);
+        final var expiringDate = TimeUtils.moscowTime().plus(duelLifeTime);
+        final var id = duelDao.create(initiatingPersonage.id(), acceptingPersonage.id(), groupId, expiringDate);
+        deadlineQueue.schedule(DeadlineType.DUEL_EXPIRE, id, expiringDate);
         return Either.right(
             new CreateDuelResult(id, initiatingPersonage, acceptingPersonage, DUEL_PRICE)
         );
@@ -90,10 +99,10 @@ public class DuelService {
         if (!acceptor.equals(duel.acceptingPersonageId())) {
             return Either.left(ProcessDuelError.NotDuelAcceptor.INSTANCE);
         }
-        return lockService.<Either<ProcessDuelError, Success>>tryLockAndCalc(
+        return lockService.<Either<ProcessDuelError, Success>>lockAndCalc(
             duelLockKey(duel.id()),
             () -> {
-                if (duel.isFinalStatus()) {
+                if (getByIdForce(duel.id()).isFinalStatus()) {
                     return Either.left(ProcessDuelError.DuelIsFinished.INSTANCE);
                 }
                 returnMoneyToInitiator(duel.id());
@@ -110,7 +119,7 @@ public class DuelService {
         if (!acceptor.equals(duel.acceptingPersonageId())) {
             return Either.left(ProcessDuelError.NotDuelAcceptor.INSTANCE);
         }
-        return lockService.tryLockAndCalc(
+        return lockService.lockAndCalc(
             duelLockKey(duel.id()),
             () -> finishDuelLogic(duel)
         ).fold(
@@ -120,7 +129,8 @@ public class DuelService {
     }
 
     private Either<ProcessDuelError, DuelResult> finishDuelLogic(Duel duel) {
-        if (duel.isFinalStatus()) {
+        // Пока ждали блокировку, дуэль могла истечь или завершиться, поэтому статус перечитываем
+        if (getByIdForce(duel.id()).isFinalStatus()) {
             return Either.left(ProcessDuelError.DuelIsFinished.INSTANCE);
         }
         duelDao.updateStatus(duel.id(), DuelStatus.FINISHED);
@@ -153,8 +163,8 @@ public class DuelService {
         personageService.addMoney(initiatingPersonage, DUEL_PRICE);
     }
 
-    private String duelLockKey(long duelId) {
-        return LockPrefixes.DUEL.name() + "-" + duelId;
+    private LockKey duelLockKey(long duelId) {
+        return new LockKey(LockPrefixes.DUEL, duelId);
     }
 
     private static final Money DUEL_PRICE = new Money(2);
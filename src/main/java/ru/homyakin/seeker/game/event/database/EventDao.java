@@ -3,7 +3,6 @@ package ru.homyakin.seeker.game.event.database;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
-import javax.sql.DataSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.event.models.Event;
@@ -24,8 +23,8 @@ public class EventDao {
         """;
     private final JdbcClient jdbcClient;
 
-    public EventDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public EventDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     public Optional<Event> getById(Integer eventId) {
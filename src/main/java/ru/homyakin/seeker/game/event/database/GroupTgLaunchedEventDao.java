@@ -4,7 +4,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
-import javax.sql.DataSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.event.models.EventStatus;
@@ -22,8 +21,8 @@ public class GroupTgLaunchedEventDao {
         "SELECT * FROM grouptg_to_launched_event WHERE launched_event_id = :launched_event_id";
     private final JdbcClient jdbcClient;
 
-    public GroupTgLaunchedEventDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public GroupTgLaunchedEventDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     public void save(GroupLaunchedEvent groupLaunchedEvent) {
@@ -42,22 +41,25 @@ public class GroupTgLaunchedEventDao {
     }
 
     public int countFailedRaidsFromLastSuccessInGroup(GroupTgId groupId) {
+        // Сортировка и сравнение по launched_event_id, ключу секционирования: старые секции не читаются
         final var sql = """
             WITH last_success_raid AS (
-                SELECT MAX(launched_event_id) AS last_success_raid -- could be null
+                SELECT gtle.launched_event_id
                 FROM grouptg_to_launched_event gtle
-                LEFT JOIN public.launched_event le on gtle.launched_event_id = le.id
-                LEFT JOIN event e on le.event_id = e.id
+                INNER JOIN launched_event le on gtle.launched_event_id = le.id
+                INNER JOIN event e on le.event_id = e.id
                 WHERE gtle.grouptg_id = :grouptg_id
                 AND le.status_id = :success_id
                 AND e.type_id = :raid_id
+                ORDER BY gtle.launched_event_id DESC
+                LIMIT 1
             )
             SELECT count(*) as raids_count FROM grouptg_to_launched_event gtle2
-                LEFT JOIN launched_event le ON gtle2.launched_event_id = le.id
-                LEFT JOIN event e ON le.event_id = e.id
-                WHERE grouptg_id = :grouptg_id
-                AND launched_event_id > -- more id => newer event
-                    COALESCE((SELECT last_success_raid FROM last_success_raid), -1) -- all events id > 0
+                INNER JOIN launched_event le ON gtle2.launched_event_id = le.id
+                INNER JOIN event e ON le.event_id = e.id
+                WHERE gtle2.grouptg_id = :grouptg_id
+                AND gtle2.launched_event_id > -- more id => newer event
+                    COALESCE((SELECT launched_event_id FROM last_success_raid), -1) -- all events id > 0
                 AND le.status_id = :fail_id
                 AND e.type_id = :raid_id
             """;
@@ -73,12 +75,12 @@ public class GroupTgLaunchedEventDao {
     public Optional<GroupLaunchedEvent> lastEndedRaidInGroup(GroupTgId groupId) {
         final var sql = """
             SELECT gtle.* FROM grouptg_to_launched_event gtle
-            LEFT JOIN launched_event le ON gtle.launched_event_id = le.id
-            LEFT JOIN event e ON le.event_id = e.id
+            INNER JOIN launched_event le ON gtle.launched_event_id = le.id
+            INNER JOIN event e ON le.event_id = e.id
             WHERE gtle.grouptg_id = :grouptg_id
             AND le.status_id != :active_status_id
             AND e.type_id = :raid_id
-            ORDER BY le.id DESC
+            ORDER BY gtle.launched_event_id DESC
             LIMIT 1
             """;
         return jdbcClient.sql(sql)
@@ -6,12 +6,11 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
-import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.event.models.EventStatus;
-import ru.homyakin.seeker.game.event.models.EventType;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 
 @Component
@@ -19,25 +18,36 @@ public class LaunchedEventDao {
     private static final String GET_LAUNCHED_EVENT_BY_ID = """
         SELECT * FROM launched_event WHERE id = :id
         """;
+    // Текущее событие хранится в personage, поэтому читается одна секция launched_event, а не вся история персонажа
     private static final String GET_ACTIVE_EVENTS_BY_PERSONAGE_ID = """
-        SELECT * FROM personage_to_event pe
-         LEFT JOIN launched_event le on pe.launched_event_id = le.id
-         WHERE pe.personage_id = :personage_id
+        SELECT le.* FROM personage p
+         INNER JOIN launched_event le on le.id = p.active_launched_event_id
+         WHERE p.id = :personage_id
          AND le.status_id = :status_id
         """;
+    // Статус подставлен константой, иначе postgres не сможет использовать частичный индекс по активным событиям
     private static final String GET_ACTIVE_EVENTS_WITH_LESS_END_DATE = """
-        SELECT * FROM launched_event WHERE end_date <= :end_date AND status_id = :status_id;
-        """;
+        SELECT * FROM launched_event WHERE end_date <= :end_date AND status_id = %d;
+        """.formatted(EventStatus.LAUNCHED.id());
     private static final String UPDATE_STATUS = """
         update launched_event
         set status_id = :status_id
         where id = :id;
         """;
+    // Завершённое событие перестаёт быть текущим у участников
+    private static final String FINISH = """
+        WITH finished AS (
+            UPDATE launched_event SET status_id = :status_id WHERE id = :id RETURNING id
+        )
+        UPDATE personage p SET active_launched_event_id = NULL
+        FROM finished f
+        WHERE p.active_launched_event_id = f.id
+        """;
     private final JdbcClient jdbcClient;
     private final SimpleJdbcInsert jdbcInsert;
 
-    public LaunchedEventDao(DataSource dataSource) {
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
+    public LaunchedEventDao(JdbcTemplate jdbcTemplate, JdbcClient jdbcClient) {
+        jdbcInsert = new SimpleJdbcInsert(jdbcTemplate)
             .withTableName("launched_event")
             .usingColumns(
                 "event_id",
@@ -46,7 +56,7 @@ public class LaunchedEventDao {
                 "status_id"
             )
             .usingGeneratedKeyColumns("id");
-        jdbcClient = JdbcClient.create(dataSource);
+        this.jdbcClient = jdbcClient;
     }
 
     public long save(int eventId, LocalDateTime start, LocalDateTime end) {
@@ -78,48 +88,17 @@ public class LaunchedEventDao {
     public List<LaunchedEvent> getActiveEventsWithLessEndDate(LocalDateTime maxEndDate) {
         return jdbcClient.sql(GET_ACTIVE_EVENTS_WITH_LESS_END_DATE)
             .param("end_date", maxEndDate)
-            .param("status_id", EventStatus.LAUNCHED.id())
             .query(this::mapRow)
             .list();
     }
 
     public void updateStatus(Long launchedEventId, EventStatus status) {
-        jdbcClient.sql(UPDATE_STATUS)
+        jdbcClient.sql(status == EventStatus.LAUNCHED ? UPDATE_STATUS : FINISH)
             .param("id", launchedEventId)
             .param("status_id", status.id())
             .update();
     }
 
-    public int countFailedPersonalQuestsRowForPersonage(PersonageId personageId) {
-        final var sql = """
-            WITH last_success AS (
-                SELECT MAX(launched_event_id) AS last_success_raid -- could be null
-                FROM personage_to_event pte
-                LEFT JOIN public.launched_event le on pte.launched_event_id = le.id
-                LEFT JOIN event e on le.event_id = e.id
-                WHERE pte.personage_id = :personage_id
-                AND le.status_id = :success_id
-                AND e.type_id = :quest_id
-            )
-            SELECT COUNT(*) AS failed_quests_count
-            FROM personage_to_event pte
-            LEFT JOIN public.launched_event le on pte.launched_event_id = le.id
-            LEFT JOIN event e on le.event_id = e.id
-            WHERE pte.personage_id = :personage_id
-            AND le.status_id = :fail_id
-            AND e.type_id = :quest_id
-            AND le.id > -- more id => newer event
-                COALESCE((SELECT last_success_raid FROM last_success), -1) -- all events id > 0
-        """;
-        return jdbcClient.sql(sql)
-            .param("personage_id", personageId.value())
-            .param("success_id", EventStatus.SUCCESS.id())
-            .param("fail_id", EventStatus.FAILED.id())
-            .param("quest_id", EventType.PERSONAL_QUEST.id())
-            .query((rs, _) -> rs.getInt("failed_quests_count"))
-            .single();
-    }
-
     private LaunchedEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new LaunchedEvent(
             rs.getLong("id"),
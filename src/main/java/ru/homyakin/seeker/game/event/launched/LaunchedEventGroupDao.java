@@ -4,14 +4,14 @@ import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 import ru.homyakin.seeker.common.models.GroupId;
 
-import javax.sql.DataSource;
+import java.util.List;
 
 @Repository
 public class LaunchedEventGroupDao {
     private final JdbcClient jdbcClient;
 
-    public LaunchedEventGroupDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public LaunchedEventGroupDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     public void save(long launchedEventId, GroupId groupId) {
@@ -25,4 +25,13 @@ public class LaunchedEventGroupDao {
             .param("pgroup_id", groupId.value())
             .update();
     }
+
+    public List<GroupId> getGroupIds(long launchedEventId) {
+        final var sql = "SELECT pgroup_id FROM public.launched_event_to_pgroup WHERE launched_event_id = :launched_event_id";
+
+        return jdbcClient.sql(sql)
+            .param("launched_event_id", launchedEventId)
+            .query((rs, _) -> GroupId.from(rs.getLong("pgroup_id")))
+            .list();
+    }
 }
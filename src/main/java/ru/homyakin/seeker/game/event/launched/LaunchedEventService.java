@@ -12,6 +12,8 @@ import ru.homyakin.seeker.game.event.models.EventStatus;
 import ru.homyakin.seeker.game.event.personal_quest.model.PersonalQuest;
 import ru.homyakin.seeker.game.event.raid.models.Raid;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.utils.TimeUtils;
 
 @Service
@@ -19,21 +21,24 @@ public class LaunchedEventService {
     private final LaunchedEventDao launchedEventDao;
     private final LaunchedEventGroupDao launchedEventGroupDao;
     private final EventConfig config;
+    private final DeadlineQueue deadlineQueue;
 
     public LaunchedEventService(
         LaunchedEventDao launchedEventDao,
         LaunchedEventGroupDao launchedEventGroupDao,
-        EventConfig config
+        EventConfig config,
+        DeadlineQueue deadlineQueue
     ) {
         this.launchedEventDao = launchedEventDao;
         this.launchedEventGroupDao = launchedEventGroupDao;
         this.config = config;
+        this.deadlineQueue = deadlineQueue;
     }
 
     public LaunchedEvent createLaunchedEventFromRaid(Raid raid, LocalDateTime start, GroupId groupId) {
         final var id = launchedEventDao.save(raid.eventId(), start, start.plus(config.raidDuration()));
         launchedEventGroupDao.save(id, groupId);
-        return getById(id).orElseThrow(() -> new IllegalStateException("Launched event must be present after create"));
+        return getCreated(id);
     }
 
     public LaunchedEvent createFromPersonalQuest(
@@ -42,7 +47,11 @@ public class LaunchedEventService {
         LocalDateTime end
     ) {
         final var id = launchedEventDao.save(quest.eventId(), start, end);
-        return getById(id).orElseThrow(() -> new IllegalStateException("Launched event must be present after create"));
+        return getCreated(id);
+    }
+
+    public List<GroupId> getGroupIds(LaunchedEvent launchedEvent) {
+        return launchedEventGroupDao.getGroupIds(launchedEvent.id());
     }
 
     public Optional<LaunchedEvent> getById(Long launchedEventId) {
@@ -85,7 +94,14 @@ public class LaunchedEventService {
         return launchedEventDao.getActiveEventsWithLessEndDate(TimeUtils.moscowTime());
     }
 
-    public int countFailedPersonalQuestsRowForPersonage(PersonageId personageId) {
-        return launchedEventDao.countFailedPersonalQuestsRowForPersonage(personageId);
+    public List<LaunchedEvent> getActiveEventsWithLessEndDate(LocalDateTime maxEndDate) {
+        return launchedEventDao.getActiveEventsWithLessEndDate(maxEndDate);
+    }
+
+    private LaunchedEvent getCreated(long id) {
+        final var launchedEvent = getById(id)
+            .orElseThrow(() -> new IllegalStateException("Launched event must be present after create"));
+        deadlineQueue.schedule(DeadlineType.LAUNCHED_EVENT_END, launchedEvent.id(), launchedEvent.endDate());
+        return launchedEvent;
     }
 }
@@ -0,0 +1,29 @@
+package ru.homyakin.seeker.game.event.launched.partition;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Месячная секция таблиц событий: диапазон launched_event_id [fromId, toId).
+ * У секции legacy со всеми событиями до секционирования нижней границы нет
+ */
+public record EventPartition(
+    LocalDate month,
+    String suffix,
+    Optional<Long> fromId,
+    long toId,
+    boolean isArchived
+) {
+    public static final long SIZE = 100_000_000L;
+
+    public EventPartition next() {
+        final var nextMonth = month.plusMonths(1);
+        return new EventPartition(
+            nextMonth,
+            "y%04dm%02d".formatted(nextMonth.getYear(), nextMonth.getMonthValue()),
+            Optional.of(toId),
+            toId + SIZE,
+            false
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package ru.homyakin.seeker.game.event.launched.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param retentionMonths сколько полных месяцев до текущего остаются в секционированных таблицах
+ */
+@ConfigurationProperties("homyakin.seeker.event.partition")
+public record EventPartitionConfig(
+    int retentionMonths
+) {
+}
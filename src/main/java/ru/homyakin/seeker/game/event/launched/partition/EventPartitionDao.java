@@ -0,0 +1,116 @@
+package ru.homyakin.seeker.game.event.launched.partition;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.homyakin.seeker.utils.DatabaseUtils;
+
+@Component
+public class EventPartitionDao {
+    // launched_event первой, на неё ссылаются остальные таблицы
+    private static final List<String> TABLES = List.of(
+        "launched_event",
+        "personage_to_event",
+        "grouptg_to_launched_event",
+        "launched_event_to_pgroup",
+        "personage_raid_result"
+    );
+    private static final String ARCHIVE_SCHEMA = "archive";
+    private final JdbcClient jdbcClient;
+
+    public EventPartitionDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public List<EventPartition> getAll() {
+        return jdbcClient.sql("SELECT * FROM launched_event_partition ORDER BY month")
+            .query(this::mapRow)
+            .list();
+    }
+
+    @Transactional
+    public void create(EventPartition partition) {
+        final var fromId = partition.fromId()
+            .orElseThrow(() -> new IllegalArgumentException("New partition must have lower bound"));
+        for (final var table : TABLES) {
+            jdbcClient.sql(
+                "CREATE TABLE %s PARTITION OF %s FOR VALUES FROM (%d) TO (%d)"
+                    .formatted(partitionName(table, partition), table, fromId, partition.toId())
+            ).update();
+        }
+        jdbcClient.sql(SAVE_PARTITION)
+            .param("month", partition.month())
+            .param("suffix", partition.suffix())
+            .param("from_id", fromId)
+            .param("to_id", partition.toId())
+            .update();
+    }
+
+    /**
+     * Новые события текущего месяца получают id из его диапазона. Последовательность только растёт
+     */
+    public void moveSequenceTo(long id) {
+        jdbcClient.sql(MOVE_SEQUENCE)
+            .param("id", id)
+            .query(Long.class)
+            .optional();
+    }
+
+    /**
+     * Отключает секции всех таблиц и переносит их в схему archive.
+     * Внешние ключи отключённых секций на launched_event удаляются, иначе нельзя отключить секцию самой launched_event
+     */
+    @Transactional
+    public void archive(EventPartition partition) {
+        for (final var table : TABLES.reversed()) {
+            final var name = partitionName(table, partition);
+            jdbcClient.sql("ALTER TABLE %s DETACH PARTITION %s".formatted(table, name)).update();
+            final var foreignKeys = jdbcClient.sql(LAUNCHED_EVENT_FOREIGN_KEYS)
+                .param("table_name", name)
+                .query(String.class)
+                .list();
+            for (final var foreignKey : foreignKeys) {
+                jdbcClient.sql("ALTER TABLE %s DROP CONSTRAINT \"%s\"".formatted(name, foreignKey)).update();
+            }
+            jdbcClient.sql("ALTER TABLE %s SET SCHEMA %s".formatted(name, ARCHIVE_SCHEMA)).update();
+        }
+        jdbcClient.sql("UPDATE launched_event_partition SET is_archived = true WHERE month = :month")
+            .param("month", partition.month())
+            .update();
+    }
+
+    private static String partitionName(String table, EventPartition partition) {
+        return table + "_" + partition.suffix();
+    }
+
+    private EventPartition mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new EventPartition(
+            rs.getDate("month").toLocalDate(),
+            rs.getString("suffix"),
+            Optional.ofNullable(DatabaseUtils.getLongOrNull(rs, "from_id")),
+            rs.getLong("to_id"),
+            rs.getBoolean("is_archived")
+        );
+    }
+
+    private static final String SAVE_PARTITION = """
+        INSERT INTO launched_event_partition (month, suffix, from_id, to_id)
+        VALUES (:month, :suffix, :from_id, :to_id)
+        """;
+
+    private static final String MOVE_SEQUENCE = """
+        SELECT setval('launched_event_id_seq', :id, false)
+        WHERE (SELECT last_value FROM launched_event_id_seq) < :id
+        """;
+
+    private static final String LAUNCHED_EVENT_FOREIGN_KEYS = """
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = CAST(:table_name AS regclass)
+        AND confrelid = CAST('launched_event' AS regclass)
+        AND contype = 'f'
+        """;
+}
@@ -0,0 +1,53 @@
+package ru.homyakin.seeker.game.event.launched.partition;
+
+import java.util.Comparator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.utils.TimeUtils;
+
+/**
+ * Заранее создаёт секцию следующего месяца, в начале месяца переводит id событий на его диапазон
+ * и отключает секции старше срока хранения.
+ * Топы, суммарная статистика рейдов и счётчики персонажей хранятся в своих таблицах и от старых секций не зависят
+ */
+@Component
+public class EventPartitionMaintenance {
+    private static final Logger logger = LoggerFactory.getLogger(EventPartitionMaintenance.class);
+    private final EventPartitionDao eventPartitionDao;
+    private final EventPartitionConfig config;
+
+    public EventPartitionMaintenance(EventPartitionDao eventPartitionDao, EventPartitionConfig config) {
+        this.eventPartitionDao = eventPartitionDao;
+        this.config = config;
+    }
+
+    @Scheduled(fixedDelayString = "${homyakin.seeker.event.partition.maintenanceInterval}")
+    public void maintain() {
+        final var currentMonth = TimeUtils.moscowDate().withDayOfMonth(1);
+        final var partitions = eventPartitionDao.getAll();
+        var last = partitions.stream()
+            .max(Comparator.comparing(EventPartition::month))
+            .orElseThrow(() -> new IllegalStateException("Legacy partition must be created by migration"));
+        while (last.month().isBefore(currentMonth.plusMonths(1))) {
+            last = last.next();
+            eventPartitionDao.create(last);
+            logger.info("Created event partitions {} for ids from {}", last.suffix(), last.fromId().orElseThrow());
+        }
+
+        eventPartitionDao.getAll().stream()
+            .filter(it -> it.month().equals(currentMonth))
+            .findFirst()
+            .flatMap(EventPartition::fromId)
+            .ifPresent(eventPartitionDao::moveSequenceTo);
+
+        final var archiveBefore = currentMonth.minusMonths(config.retentionMonths());
+        for (final var partition : partitions) {
+            if (!partition.isArchived() && partition.month().isBefore(archiveBefore)) {
+                eventPartitionDao.archive(partition);
+                logger.info("Archived event partitions {}", partition.suffix());
+            }
+        }
+    }
+}
@@ -1,5 +0,0 @@
-package ru.homyakin.seeker.game.event.models;
-
-public enum EventLocked {
-    INSTANCE
-}
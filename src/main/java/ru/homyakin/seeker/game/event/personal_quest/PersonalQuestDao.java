@@ -6,7 +6,6 @@ import ru.homyakin.seeker.game.event.personal_quest.model.PersonalQuest;
 import ru.homyakin.seeker.infrastructure.init.saving_models.SavingPersonalQuest;
 import ru.homyakin.seeker.utils.JsonUtils;
 
-import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
@@ -16,8 +15,8 @@ public class PersonalQuestDao {
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
 
-    public PersonalQuestDao(DataSource dataSource, JsonUtils jsonUtils) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public PersonalQuestDao(JdbcClient jdbcClient, JsonUtils jsonUtils) {
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
     }
 
@@ -17,6 +17,7 @@ import ru.homyakin.seeker.game.personage.event.AddPersonageToEventRequest;
 import ru.homyakin.seeker.game.personage.event.PersonageEventService;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.infrastructure.init.saving_models.SavingPersonalQuest;
+import ru.homyakin.seeker.infrastructure.lock.LockKey;
 import ru.homyakin.seeker.infrastructure.lock.LockPrefixes;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
 import ru.homyakin.seeker.utils.RandomUtils;
@@ -63,8 +64,8 @@ public class PersonalQuestService {
 
     @Transactional
     public Either<TakeQuestError, StartedQuest> takeQuest(PersonageId personageId) {
-        return lockService.tryLockAndCalc(
-            LockPrefixes.PERSONAGE.name() + "-" + personageId.value(),
+        return lockService.lockAndCalc(
+            new LockKey(LockPrefixes.PERSONAGE, personageId.value()),
             () -> takeQuestLogic(personageId)
         )
             .fold(
@@ -118,6 +119,11 @@ public class PersonalQuestService {
         return Either.right(new StartedQuest(quest.get(), config.requiredTime()));
     }
 
+    /**
+     * Результат квеста, награда и счётчик неудач подряд записываются одной транзакцией,
+     * иначе после сбоя между ними следующий шанс посчитается по неверной серии
+     */
+    @Transactional
     public EventResult.PersonalQuestResult stopQuest(LaunchedEvent launchedEvent) {
         final var quest = personalQuestDao.getByEventId(launchedEvent.eventId())
             .orElseThrow(() -> new IllegalStateException("Event " + launchedEvent.eventId() + " is not quest"));
@@ -130,7 +136,7 @@ public class PersonalQuestService {
         }
         final var personage = participants.getFirst().personage();
 
-        final var failedRow = launchedEventService.countFailedPersonalQuestsRowForPersonage(personage.id());
+        final var failedRow = personageService.countFailedQuestsInRow(personage.id());
         // За каждый неуспешный квест подряд, добавляется 10% шанс удачной попытки
         // При базовой вероятности 80%, не может быть более двух неуспешных подряд
         // При базовой вероятности 80% итоговая вероятность равна примерно 82%
@@ -147,6 +153,7 @@ public class PersonalQuestService {
         }
 
         launchedEventService.updateResult(launchedEvent, result);
+        personageService.updateQuestStreak(personage.id(), isSuccess);
         return result;
     }
 
@@ -2,8 +2,10 @@ package ru.homyakin.seeker.game.event.raid;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Optional;
-import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
@@ -14,16 +16,9 @@ import ru.homyakin.seeker.utils.JsonUtils;
 
 @Component
 public class RaidDao {
-    // На маленьких данных работает быстро. Если понадобится ускорить - https://habr.com/ru/post/242999/
-    private static final String GET_RANDOM_RAID = """
-        SELECT r.*, e.code FROM raid r
+    private static final String GET_ALL = """
+        SELECT r.*, e.code, e.is_enabled FROM raid r
          LEFT JOIN event e ON e.id = r.event_id
-         WHERE is_enabled = true ORDER BY random() LIMIT 1
-        """;
-    private static final String GET_BY_ID = """
-        SELECT r.*, e.code FROM raid r
-         LEFT JOIN event e ON e.id = r.event_id
-         WHERE event_id = :event_id
         """;
     private static final String SAVE = """
         INSERT INTO raid (event_id, template_id, locale)
@@ -34,22 +29,24 @@ public class RaidDao {
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
 
-    public RaidDao(DataSource dataSource, JsonUtils jsonUtils) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public RaidDao(JdbcClient jdbcClient, JsonUtils jsonUtils) {
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
     }
 
-    public Optional<Raid> getRandomRaid() {
-        return jdbcClient.sql(GET_RANDOM_RAID)
-            .query(this::mapRow)
-            .optional();
-    }
-
-    public Optional<Raid> getByEventId(int eventId) {
-        return jdbcClient.sql(GET_BY_ID)
-            .param("event_id", eventId)
-            .query(this::mapRow)
-            .optional();
+    /**
+     * Все рейды для GameCatalog
+     * @return рейды, разделённые на включённые (true) и выключенные (false)
+     */
+    public Map<Boolean, List<Raid>> getAllByEnabled() {
+        final var result = new HashMap<Boolean, List<Raid>>();
+        result.put(true, new ArrayList<>());
+        result.put(false, new ArrayList<>());
+        jdbcClient.sql(GET_ALL)
+            .query(rs -> {
+                result.get(rs.getBoolean("is_enabled")).add(mapRow(rs, 0));
+            });
+        return result;
     }
 
     public void save(int eventId, SavingRaid raid) {
@@ -6,9 +6,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.homyakin.seeker.common.models.GroupId;
+import ru.homyakin.seeker.game.catalog.GameCatalog;
+import ru.homyakin.seeker.game.personage.event.AddPersonageToEventError;
 import ru.homyakin.seeker.game.personage.event.AddPersonageToEventRequest;
 import ru.homyakin.seeker.game.event.raid.models.LaunchedRaidResult;
 import ru.homyakin.seeker.game.event.raid.models.Raid;
+import ru.homyakin.seeker.game.event.launched.LaunchedEvent;
 import ru.homyakin.seeker.game.event.launched.LaunchedEventService;
 import ru.homyakin.seeker.game.event.raid.models.RaidPersonageParams;
 import ru.homyakin.seeker.game.personage.PersonageService;
@@ -26,6 +29,7 @@ import java.util.Optional;
 public class RaidService {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final RaidDao raidDao;
+    private final GameCatalog gameCatalog;
     private final PersonageService personageService;
     private final LaunchedEventService launchedEventService;
     private final PersonageEventService personageEventService;
@@ -33,12 +37,14 @@ public class RaidService {
 
     public RaidService(
         RaidDao raidDao,
+        GameCatalog gameCatalog,
         PersonageService personageService,
         LaunchedEventService launchedEventService,
         PersonageEventService personageEventService,
         RaidConfig config
     ) {
         this.raidDao = raidDao;
+        this.gameCatalog = gameCatalog;
         this.personageService = personageService;
         this.launchedEventService = launchedEventService;
         this.personageEventService = personageEventService;
@@ -46,11 +52,11 @@ public class RaidService {
     }
 
     public Optional<Raid> getRandomRaid() {
-        return raidDao.getRandomRaid();
+        return gameCatalog.getRandomRaid();
     }
 
     public Optional<Raid> getByEventId(int eventId) {
-        return raidDao.getByEventId(eventId);
+        return gameCatalog.getRaid(eventId);
     }
 
     public void save(int eventId, SavingRaid raid) {
@@ -77,16 +83,7 @@ public class RaidService {
         }
         if (launchedEvent.isInFinalStatus()) {
             logger.warn("Personage {} tried to join to ended event {} in status {}", personageId, launchedEventId, launchedEvent.status());
-            final var error = switch (launchedEvent.status()) {
-                case LAUNCHED -> throw new IllegalStateException("Ended event can't be in launched status");
-                case EXPIRED -> AddPersonageToRaidError.RaidInFinalStatus.ExpiredRaid.INSTANCE;
-                case FAILED, SUCCESS -> new AddPersonageToRaidError.RaidInFinalStatus.CompletedRaid(
-                    raid.get(),
-                    personageEventService.getRaidParticipants(launchedEventId)
-                );
-                case CREATION_ERROR -> AddPersonageToRaidError.RaidInFinalStatus.CreationErrorRaid.INSTANCE;
-            };
-            return Either.left(error);
+            return Either.left(finalStatusError(launchedEvent, raid.get()));
         }
 
         final var presentEvent = launchedEventService.getActiveEventByPersonageId(personageId);
@@ -106,7 +103,13 @@ public class RaidService {
         );
 
         return personageEventService.addPersonageToLaunchedEvent(request)
-            .<AddPersonageToRaidError>mapLeft(_ -> AddPersonageToRaidError.RaidInProcess.INSTANCE)
+            .<AddPersonageToRaidError>mapLeft(error -> switch (error) {
+                case AddPersonageToEventError.EventLocked _ -> AddPersonageToRaidError.RaidInProcess.INSTANCE;
+                case AddPersonageToEventError.EventInFinalStatus finished -> {
+                    logger.warn("Personage {} joined to event {} while it was ending", personageId, launchedEventId);
+                    yield finalStatusError(finished.launchedEvent(), raid.get());
+                }
+            })
             .map(_ -> {
                 if (checkEnergyResult.isRight()) {
                     final var reduceResult = personageService.reduceEnergy(
@@ -128,4 +131,16 @@ public class RaidService {
                 );
             });
     }
+
+    private AddPersonageToRaidError.RaidInFinalStatus finalStatusError(LaunchedEvent launchedEvent, Raid raid) {
+        return switch (launchedEvent.status()) {
+            case LAUNCHED -> throw new IllegalStateException("Ended event can't be in launched status");
+            case EXPIRED -> AddPersonageToRaidError.RaidInFinalStatus.ExpiredRaid.INSTANCE;
+            case FAILED, SUCCESS -> new AddPersonageToRaidError.RaidInFinalStatus.CompletedRaid(
+                raid,
+                personageEventService.getRaidParticipants(launchedEvent.id())
+            );
+            case CREATION_ERROR -> AddPersonageToRaidError.RaidInFinalStatus.CreationErrorRaid.INSTANCE;
+        };
+    }
 }
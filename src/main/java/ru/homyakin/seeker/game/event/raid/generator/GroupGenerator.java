@@ -11,20 +11,21 @@ import ru.homyakin.seeker.utils.RandomUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 public class GroupGenerator implements RaidBattlePersonageGenerator {
     @Override
-    public List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent) {
+    public List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent, RandomGenerator random) {
         final var totalPower = personages.stream().mapToDouble(BattlePersonage::power).sum()
             / calcPowerPenalty(personages.size()) * powerPercent;
         final var group = new ArrayList<BattlePersonage>();
         final var baseCount = personages.size() * 3;
-        final int totalCount = RandomUtils.getInInterval((int) (baseCount * 0.9), (int) (baseCount * 1.1));
+        final int totalCount = RandomUtils.getInInterval(random, (int) (baseCount * 0.9), (int) (baseCount * 1.1));
         final double averagePower = totalPower / totalCount;
 
         for (int i = 0; i < totalCount; ++i) {
-            final double power = RandomUtils.getInInterval((int) (averagePower * 0.9), (int) (averagePower * 1.1));
-            final var tempCharacteristics = Characteristics.random();
+            final double power = RandomUtils.getInInterval(random, (int) (averagePower * 0.9), (int) (averagePower * 1.1));
+            final var tempCharacteristics = Characteristics.random(random);
 
             final var tempPersonage = new BattlePersonage(
                 -1 - i,
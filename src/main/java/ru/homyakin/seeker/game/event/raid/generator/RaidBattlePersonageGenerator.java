@@ -1,13 +1,22 @@
 package ru.homyakin.seeker.game.event.raid.generator;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 import ru.homyakin.seeker.game.battle.BattlePersonage;
+import ru.homyakin.seeker.utils.RandomUtils;
 
 public interface RaidBattlePersonageGenerator {
     /**
      * @param  personages список персонажей оппонентов
      * @param  powerPercent процент от 0 до 1 обозначающий итоговую мощь рейда
      */
-    List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent);
+    default List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent) {
+        return generate(personages, powerPercent, RandomUtils.generator());
+    }
+
+    /**
+     * @param  random источник случайных чисел, нужен для воспроизводимых симуляций
+     */
+    List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent, RandomGenerator random);
 }
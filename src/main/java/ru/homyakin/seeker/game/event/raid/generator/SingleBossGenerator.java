@@ -9,12 +9,13 @@ import ru.homyakin.seeker.game.personage.models.PersonageId;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 public class SingleBossGenerator implements RaidBattlePersonageGenerator {
     @Override
-    public List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent) {
+    public List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent, RandomGenerator random) {
         final var totalPower = personages.stream().mapToDouble(BattlePersonage::power).sum() * powerPercent;
-        final var tempCharacteristics = Characteristics.random();
+        final var tempCharacteristics = Characteristics.random(random);
 
         final var tempPersonage = new BattlePersonage(
             -1,
@@ -14,9 +14,11 @@ public record JoinToRaidResult(
     boolean isExhausted,
     int raidEnergyCost
 ) {
+    /**
+     * Сообщение рейда редактируется при каждом вступлении, поэтому в нём остаются только помещающиеся участники
+     */
     public String toMessage(Language language) {
-        return raid.toStartMessage(language, launchedEvent.startDate(), launchedEvent.endDate())
-            + "\n\n"
-            + RaidLocalization.raidParticipants(language, participants);
+        final var prefix = raid.toStartMessage(language, launchedEvent.startDate(), launchedEvent.endDate()) + "\n\n";
+        return RaidLocalization.raidParticipants(language, prefix, participants).getFirst();
     }
 }
@@ -28,15 +28,18 @@ public record Raid(
         );
     }
 
-    public String toEndMessage(EventResult.RaidResult.Completed result, Language language) {
+    /**
+     * @return текст рейда со всеми участниками; если он не помещается в одно сообщение, участники продолжаются в следующих
+     */
+    public List<String> toEndMessages(EventResult.RaidResult.Completed result, Language language) {
         final var participants = result.personageResults().stream()
             .map(PersonageRaidResult::participant)
             .toList();
-        return toEndMessageWithParticipants(participants, language);
+        return toEndMessagesWithParticipants(participants, language);
     }
 
-    public String toEndMessageWithParticipants(List<RaidParticipant> participants, Language language) {
-        return toBaseMessage(language) + "\n\n" + RaidLocalization.raidParticipants(language, participants);
+    public List<String> toEndMessagesWithParticipants(List<RaidParticipant> participants, Language language) {
+        return RaidLocalization.raidParticipants(language, toBaseMessage(language) + "\n\n", participants);
     }
 
     public String toStartMessage(Language language, LocalDateTime startDate, LocalDateTime endDate) {
@@ -46,11 +49,11 @@ public record Raid(
             .orElseGet(() -> toBaseMessage(language));
     }
 
-    public String endMessage(Language language, EventResult.RaidResult.Completed result) {
+    public List<String> endMessages(Language language, EventResult.RaidResult.Completed result) {
         if (result.status() == EventResult.RaidResult.Completed.Status.SUCCESS) {
-            return RaidLocalization.successRaid(language) + "\n\n" + RaidLocalization.raidResult(language, result);
+            return RaidLocalization.raidResult(language, RaidLocalization.successRaid(language) + "\n\n", result);
         } else {
-            return RaidLocalization.failureRaid(language) + "\n\n" + RaidLocalization.raidResult(language, result);
+            return RaidLocalization.raidResult(language, RaidLocalization.failureRaid(language) + "\n\n", result);
         }
     }
 
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 import ru.homyakin.seeker.game.battle.BattlePersonage;
 import ru.homyakin.seeker.game.event.raid.generator.GroupGenerator;
@@ -40,4 +41,8 @@ public enum RaidTemplate {
     public List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent) {
         return generator.generate(personages, powerPercent);
     }
+
+    public List<BattlePersonage> generate(List<BattlePersonage> personages, double powerPercent, RandomGenerator random) {
+        return generator.generate(personages, powerPercent, random);
+    }
 }
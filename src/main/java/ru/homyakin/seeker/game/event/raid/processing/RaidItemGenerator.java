@@ -6,11 +6,15 @@ import ru.homyakin.seeker.game.item.ItemService;
 import ru.homyakin.seeker.game.item.errors.GenerateItemError;
 import ru.homyakin.seeker.game.item.models.GenerateItemParams;
 import ru.homyakin.seeker.game.personage.PersonageService;
+import ru.homyakin.seeker.game.personage.event.RaidParticipant;
 import ru.homyakin.seeker.game.personage.models.Personage;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.random.item.action.raid.PersonageNextRaidItemParams;
 import ru.homyakin.seeker.utils.RandomUtils;
 
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class RaidItemGenerator {
@@ -29,51 +33,65 @@ public class RaidItemGenerator {
     }
 
     /**
-     * Функция генерации предметов для персонажа
+     * Функция генерации предметов для участников рейда
      * В основе лежит функция:
      * Если x <= 5 => y = 2*x (нужно, потому что степенные функции в начале растут очень медленно)
      * Если x > 5 => y = 10 + ((x - 5)^2) / 2.5
      * x - количество рейдов подряд без предметов
      * y - вероятность получить предмет в процентах
+     * Счётчики рейдов, пулы случайностей и места в сумках загружаются сразу для всех участников
      */
-    public Optional<GeneratedItemResult> generateItem(
-        boolean isWin,
-        Personage personage,
-        boolean isExhausted
-    ) {
+    public Map<PersonageId, GeneratedItemResult> generateItems(boolean isWin, List<RaidParticipant> participants) {
         if (!isWin) {
-            return Optional.empty();
+            return Map.of();
         }
-        if (isExhausted) {
-            return Optional.empty();
+        final var candidates = participants.stream()
+            .filter(it -> !it.params().isExhausted())
+            .map(RaidParticipant::personage)
+            .toList();
+        if (candidates.isEmpty()) {
+            return Map.of();
         }
-        final var raidsWithoutItems = personageService.countSuccessRaidsFromLastItem(personage.id());
-        final int chance;
-        if (raidsWithoutItems <= 5) {
-            chance = raidsWithoutItems * 2;
-        } else {
-            chance = (int) (10 + Math.pow(raidsWithoutItems - 5, 2) / 2.5);
+        final var raidsWithoutItems = personageService.countSuccessRaidsFromLastItem(
+            candidates.stream().map(Personage::id).toList()
+        );
+        final var lucky = candidates.stream()
+            .filter(it -> RandomUtils.processChance(chance(raidsWithoutItems.getOrDefault(it.id(), 0))))
+            .toList();
+        if (lucky.isEmpty()) {
+            return Map.of();
         }
-        if (RandomUtils.processChance(chance)) {
-            final var itemParams = personageNextRaidItemParams.get(personage.id());
-            final var result = itemService
-                .generateItemForPersonage(
-                    personage,
-                    new GenerateItemParams(
-                        itemParams.rarity(),
-                        itemParams.slot(),
-                        itemParams.modifiersCount()
-                    )
-                )
-                .fold(
+
+        final var itemParams = new HashMap<PersonageId, GenerateItemParams>();
+        personageNextRaidItemParams.getAll(lucky.stream().map(Personage::id).toList())
+            .forEach((id, params) -> itemParams.put(
+                id,
+                new GenerateItemParams(params.rarity(), params.slot(), params.modifiersCount())
+            ));
+
+        final var generated = itemService.generateItemsForPersonages(lucky, itemParams);
+        final var result = new HashMap<PersonageId, GeneratedItemResult>();
+        for (final var personage : lucky) {
+            final var item = generated.get(personage.id());
+            result.put(
+                personage.id(),
+                item.fold(
                     error -> switch (error) {
                         case GenerateItemError.NotEnoughSpace notEnoughSpace ->
                             new GeneratedItemResult.NotEnoughSpaceInBag(personage, notEnoughSpace.item());
                     },
-                    item -> new GeneratedItemResult.Success(personage, item)
-                );
-            return Optional.of(result);
+                    it -> new GeneratedItemResult.Success(personage, it)
+                )
+            );
+        }
+        return result;
+    }
+
+    private static int chance(int raidsWithoutItems) {
+        if (raidsWithoutItems <= 5) {
+            return raidsWithoutItems * 2;
+        } else {
+            return (int) (10 + Math.pow(raidsWithoutItems - 5, 2) / 2.5);
         }
-        return Optional.empty();
     }
 }
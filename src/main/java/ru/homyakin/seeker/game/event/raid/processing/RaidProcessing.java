@@ -1,11 +1,14 @@
 package ru.homyakin.seeker.game.event.raid.processing;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.homyakin.seeker.game.battle.two_team.TwoPersonageTeamsBattle;
 import ru.homyakin.seeker.game.battle.two_team.TwoTeamBattleWinner;
 import ru.homyakin.seeker.game.event.models.EventResult;
@@ -19,8 +22,9 @@ import ru.homyakin.seeker.game.personage.PersonageService;
 import ru.homyakin.seeker.game.personage.event.PersonageEventService;
 import ru.homyakin.seeker.game.personage.event.RaidParticipant;
 import ru.homyakin.seeker.game.personage.models.Personage;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.personage.models.PersonageRaidResult;
-import ru.homyakin.seeker.utils.TimeUtils;
+import ru.homyakin.seeker.game.top.TopService;
 
 @Service
 public class RaidProcessing {
@@ -33,6 +37,7 @@ public class RaidProcessing {
     private final RaidRewardGenerator raidRewardGenerator;
     private final LaunchedEventService launchedEventService;
     private final PersonageEventService personageEventService;
+    private final TopService topService;
 
     public RaidProcessing(
         PersonageService personageService,
@@ -42,7 +47,8 @@ public class RaidProcessing {
         RaidGenerator raidGenerator,
         RaidRewardGenerator raidRewardGenerator,
         LaunchedEventService launchedEventService,
-        PersonageEventService personageEventService
+        PersonageEventService personageEventService,
+        TopService topService
     ) {
         this.personageService = personageService;
         this.twoPersonageTeamsBattle = twoPersonageTeamsBattle;
@@ -52,8 +58,14 @@ public class RaidProcessing {
         this.raidRewardGenerator = raidRewardGenerator;
         this.launchedEventService = launchedEventService;
         this.personageEventService = personageEventService;
+        this.topService = topService;
     }
 
+    /**
+     * Бой считается в памяти, дальше награды, предметы и результаты пишутся пачками в одной транзакции,
+     * поэтому число запросов к базе не зависит от количества участников
+     */
+    @Transactional
     public EventResult.RaidResult process(LaunchedEvent launchedEvent) {
         final var raid = raidService.getByEventId(launchedEvent.eventId())
             .orElseThrow(() -> new IllegalStateException("Raid must be present"));
@@ -73,34 +85,33 @@ public class RaidProcessing {
         );
         boolean doesParticipantsWin = result.winner() == TwoTeamBattleWinner.SECOND_TEAM;
 
-        final var generatedItems = new ArrayList<GeneratedItemResult>();
-
-        final var endTime = TimeUtils.moscowTime();
-        final var raidResults = result.secondTeamResults().stream()
-            .map(battleResult -> {
-                final var participant = idToParticipant.get(battleResult.personage().id());
-                final var reward = new Money(
+        final var rewards = new HashMap<PersonageId, Money>();
+        for (final var battleResult : result.secondTeamResults()) {
+            final var participant = idToParticipant.get(battleResult.personage().id());
+            rewards.put(
+                participant.personage().id(),
+                new Money(
                     raidRewardGenerator.calculateReward(
                         doesParticipantsWin,
                         battleResult,
                         participant.params().isExhausted()
                     )
-                );
-                personageService.addMoney(
-                    participant.personage(),
-                    reward,
-                    endTime
-                );
-                final var generatedItem = raidItemGenerator.generateItem(
-                    doesParticipantsWin,
-                    battleResult.personage(),
-                    participant.params().isExhausted()
-                );
+                )
+            );
+        }
+        personageService.addMoney(participants.stream().map(RaidParticipant::personage).toList(), rewards);
+        final var idToGeneratedItem = raidItemGenerator.generateItems(doesParticipantsWin, participants);
+
+        final var generatedItems = new ArrayList<GeneratedItemResult>();
+        final var raidResults = result.secondTeamResults().stream()
+            .map(battleResult -> {
+                final var participant = idToParticipant.get(battleResult.personage().id());
+                final var generatedItem = Optional.ofNullable(idToGeneratedItem.get(participant.personage().id()));
                 generatedItem.ifPresent(generatedItems::add);
                 return new PersonageRaidResult(
                     participant,
                     battleResult.stats(),
-                    reward,
+                    rewards.get(participant.personage().id()),
                     generatedItem
                         .filter(it -> it instanceof GeneratedItemResult.Success)
                         .map(it -> ((GeneratedItemResult.Success) it).item())
@@ -115,7 +126,13 @@ public class RaidProcessing {
             raidResults,
             generatedItems
         );
-        personageService.saveRaidResults(raidResult.personageResults(), launchedEvent);
+        personageService.saveRaidResults(raidResult.personageResults(), launchedEvent, doesParticipantsWin);
+        topService.addRaid(
+            launchedEvent.startDate().toLocalDate(),
+            launchedEventService.getGroupIds(launchedEvent),
+            idToParticipant.keySet(),
+            doesParticipantsWin
+        );
         launchedEventService.updateResult(launchedEvent, raidResult);
         logger.info("Raid {} status is {}", launchedEvent.id(), raidResult.status());
         return raidResult;
@@ -0,0 +1,125 @@
+package ru.homyakin.seeker.game.event.raid.simulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import ru.homyakin.seeker.game.battle.BattlePersonage;
+import ru.homyakin.seeker.game.event.raid.models.RaidTemplate;
+import ru.homyakin.seeker.game.personage.models.Characteristics;
+
+/**
+ * Запуск симуляции без поднятия бота. Параметры:
+ * --roster файл.csv - участники, в строке health,attack,defense,strength,agility,wisdom с учётом предметов
+ * --random N - вместо файла N случайных персонажей
+ * --template SINGLE_BOSS|ENEMY_GROUP - по умолчанию все шаблоны
+ * --power 1.0 - powerPercent рейда
+ * --target 0.5 - вместо --power подобрать powerPercent под нужную вероятность победы
+ * --battles 10000, --seed 0, --threads число ядер
+ */
+public class RaidSimulationCli {
+    public static void main(String[] args) throws IOException {
+        final var options = parseOptions(args);
+        final var seed = Long.parseLong(options.getOrDefault("seed", "0"));
+        final var battles = Integer.parseInt(options.getOrDefault("battles", "10000"));
+        final var threads = Integer.parseInt(
+            options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors()))
+        );
+        final var roster = options.containsKey("roster")
+            ? readRoster(Path.of(options.get("roster")))
+            : randomRoster(Integer.parseInt(options.getOrDefault("random", "5")), new SplittableRandom(seed));
+        final var templates = options.containsKey("template")
+            ? List.of(RaidTemplate.valueOf(options.get("template")))
+            : Arrays.asList(RaidTemplate.values());
+
+        try (final var pool = new ForkJoinPool(threads)) {
+            final var simulator = new RaidSimulator(pool);
+            for (final var template : templates) {
+                final var start = System.nanoTime();
+                final RaidSimulationResult result;
+                if (options.containsKey("target")) {
+                    final var target = Double.parseDouble(options.get("target"));
+                    result = simulator.solvePowerPercent(template, roster, target, battles, seed);
+                } else {
+                    final var powerPercent = Double.parseDouble(options.getOrDefault("power", "1.0"));
+                    result = simulator.simulate(template, roster, powerPercent, battles, seed);
+                }
+                print(result, roster.size(), (System.nanoTime() - start) / 1_000_000);
+            }
+        }
+    }
+
+    private static List<BattlePersonage> readRoster(Path path) throws IOException {
+        final var roster = new ArrayList<BattlePersonage>();
+        for (final var line : Files.readAllLines(path)) {
+            final var trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            final var values = Arrays.stream(trimmed.split(",")).map(String::strip).mapToInt(Integer::parseInt).toArray();
+            if (values.length != 6) {
+                throw new IllegalArgumentException("Expected 6 characteristics in line: " + line);
+            }
+            roster.add(
+                new BattlePersonage(
+                    roster.size() + 1,
+                    new Characteristics(values[0], values[1], values[2], values[3], values[4], values[5]),
+                    null
+                )
+            );
+        }
+        return roster;
+    }
+
+    private static List<BattlePersonage> randomRoster(int size, SplittableRandom random) {
+        final var roster = new ArrayList<BattlePersonage>(size);
+        for (int i = 1; i <= size; ++i) {
+            roster.add(new BattlePersonage(i, Characteristics.random(random), null));
+        }
+        return roster;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        final var options = new HashMap<String, String>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static void print(RaidSimulationResult result, int rosterSize, long elapsedMillis) {
+        System.out.printf(
+            "%s: participants=%d battles=%d powerPercent=%.3f winRate=%.4f+-%.4f (%d ms)%n",
+            result.template(),
+            rosterSize,
+            result.battles(),
+            result.powerPercent(),
+            result.winRate(),
+            result.winRateError(),
+            elapsedMillis
+        );
+        print("  damage dealt", result.damageDealt());
+        print("  damage taken", result.damageTaken());
+        print("  survivors   ", result.survivors());
+    }
+
+    private static void print(String name, ValueDistribution distribution) {
+        System.out.printf(
+            "%s: mean=%.2f p10=%.2f p50=%.2f p90=%.2f%n",
+            name,
+            distribution.mean(),
+            distribution.p10(),
+            distribution.p50(),
+            distribution.p90()
+        );
+    }
+}
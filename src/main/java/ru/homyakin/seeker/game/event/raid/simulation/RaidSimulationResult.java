@@ -0,0 +1,22 @@
+package ru.homyakin.seeker.game.event.raid.simulation;
+
+import ru.homyakin.seeker.game.event.raid.models.RaidTemplate;
+
+/**
+ * @param winRate доля рейдов, выигранных участниками
+ * @param winRateError стандартная ошибка winRate
+ * @param damageDealt суммарный урон участников за рейд
+ * @param damageTaken суммарный урон по участникам за рейд, включая уклонения
+ * @param survivors доля участников, оставшихся в живых
+ */
+public record RaidSimulationResult(
+    RaidTemplate template,
+    double powerPercent,
+    int battles,
+    double winRate,
+    double winRateError,
+    ValueDistribution damageDealt,
+    ValueDistribution damageTaken,
+    ValueDistribution survivors
+) {
+}
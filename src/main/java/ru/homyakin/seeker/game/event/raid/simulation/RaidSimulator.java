@@ -0,0 +1,180 @@
+package ru.homyakin.seeker.game.event.raid.simulation;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import ru.homyakin.seeker.game.battle.BattlePersonage;
+import ru.homyakin.seeker.game.battle.two_team.TwoPersonageTeamsBattle;
+import ru.homyakin.seeker.game.battle.two_team.TwoTeamBattleWinner;
+import ru.homyakin.seeker.game.event.raid.models.RaidTemplate;
+
+/**
+ * Монте-Карло симуляция рейдов для подбора баланса без ожидания статистики с прода.
+ * Бои раскладываются по ForkJoinPool, каждая часть получает свой SplittableRandom через split,
+ * дерево разбиения не зависит от числа потоков, поэтому при одинаковом seed результат одинаковый.
+ */
+public class RaidSimulator {
+    private final ForkJoinPool pool;
+    private final TwoPersonageTeamsBattle battle = new TwoPersonageTeamsBattle();
+
+    public RaidSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @param roster участники рейда, как в RaidProcessing
+     */
+    public RaidSimulationResult simulate(
+        RaidTemplate template,
+        List<BattlePersonage> roster,
+        double powerPercent,
+        int battles,
+        long seed
+    ) {
+        final var outcomes = new Outcomes(battles);
+        pool.invoke(new SimulationTask(template, roster, powerPercent, outcomes, 0, battles, new SplittableRandom(seed)));
+        return outcomes.toResult(template, powerPercent, roster.size());
+    }
+
+    /**
+     * Бинарный поиск powerPercent, при котором участники выигрывают с вероятностью targetWinRate.
+     * Все шаги используют один seed, поэтому шум между соседними точками минимален.
+     */
+    public RaidSimulationResult solvePowerPercent(
+        RaidTemplate template,
+        List<BattlePersonage> roster,
+        double targetWinRate,
+        int battles,
+        long seed
+    ) {
+        var low = MIN_POWER_PERCENT;
+        var high = MAX_POWER_PERCENT;
+        var best = simulate(template, roster, (low + high) / 2, battles, seed);
+        for (int i = 0; i < MAX_SOLVE_ITERATIONS && high - low > POWER_PERCENT_PRECISION; ++i) {
+            final var middle = (low + high) / 2;
+            final var result = simulate(template, roster, middle, battles, seed);
+            if (Math.abs(result.winRate() - targetWinRate) < Math.abs(best.winRate() - targetWinRate)) {
+                best = result;
+            }
+            // Чем сильнее рейд, тем реже побеждают участники
+            if (result.winRate() > targetWinRate) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return best;
+    }
+
+    // Задача живёт только внутри ForkJoinPool и никогда не сериализуется
+    @SuppressWarnings("serial")
+    private class SimulationTask extends RecursiveAction {
+        private final RaidTemplate template;
+        private final List<BattlePersonage> roster;
+        private final double powerPercent;
+        private final Outcomes outcomes;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        private SimulationTask(
+            RaidTemplate template,
+            List<BattlePersonage> roster,
+            double powerPercent,
+            Outcomes outcomes,
+            int from,
+            int to,
+            SplittableRandom random
+        ) {
+            this.template = template;
+            this.roster = roster;
+            this.powerPercent = powerPercent;
+            this.outcomes = outcomes;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATTLES_PER_TASK) {
+                for (int i = from; i < to; ++i) {
+                    simulateOne(i);
+                }
+                return;
+            }
+            final var middle = (from + to) >>> 1;
+            invokeAll(
+                new SimulationTask(template, roster, powerPercent, outcomes, from, middle, random.split()),
+                new SimulationTask(template, roster, powerPercent, outcomes, middle, to, random.split())
+            );
+        }
+
+        private void simulateOne(int index) {
+            final var enemies = template.generate(roster, powerPercent, random);
+            final var result = battle.battle(enemies, roster, random);
+            long damageDealt = 0;
+            long damageTaken = 0;
+            int survivors = 0;
+            for (final var personageResult : result.secondTeamResults()) {
+                damageDealt += personageResult.stats().damageDealt();
+                damageTaken += personageResult.stats().damageTaken();
+                if (!personageResult.stats().isDead()) {
+                    ++survivors;
+                }
+            }
+            outcomes.wins[index] = result.winner() == TwoTeamBattleWinner.SECOND_TEAM;
+            outcomes.damageDealt[index] = damageDealt;
+            outcomes.damageTaken[index] = damageTaken;
+            outcomes.survivors[index] = survivors;
+        }
+    }
+
+    /**
+     * Каждая задача пишет только в свой диапазон индексов, синхронизация не нужна
+     */
+    private static class Outcomes {
+        private final boolean[] wins;
+        private final double[] damageDealt;
+        private final double[] damageTaken;
+        private final double[] survivors;
+
+        private Outcomes(int battles) {
+            wins = new boolean[battles];
+            damageDealt = new double[battles];
+            damageTaken = new double[battles];
+            survivors = new double[battles];
+        }
+
+        private RaidSimulationResult toResult(RaidTemplate template, double powerPercent, int rosterSize) {
+            int winsCount = 0;
+            for (final var win : wins) {
+                if (win) {
+                    ++winsCount;
+                }
+            }
+            final var battles = wins.length;
+            final var winRate = battles == 0 ? 0 : (double) winsCount / battles;
+            for (int i = 0; i < battles; ++i) {
+                survivors[i] /= Math.max(rosterSize, 1);
+            }
+            return new RaidSimulationResult(
+                template,
+                powerPercent,
+                battles,
+                winRate,
+                battles == 0 ? 0 : Math.sqrt(winRate * (1 - winRate) / battles),
+                ValueDistribution.of(damageDealt),
+                ValueDistribution.of(damageTaken),
+                ValueDistribution.of(survivors)
+            );
+        }
+    }
+
+    private static final int BATTLES_PER_TASK = 64;
+    private static final double MIN_POWER_PERCENT = 0.1;
+    private static final double MAX_POWER_PERCENT = 3.0;
+    private static final double POWER_PERCENT_PRECISION = 0.005;
+    private static final int MAX_SOLVE_ITERATIONS = 20;
+}
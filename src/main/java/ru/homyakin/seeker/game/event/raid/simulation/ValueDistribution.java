@@ -0,0 +1,28 @@
+package ru.homyakin.seeker.game.event.raid.simulation;
+
+import java.util.Arrays;
+
+public record ValueDistribution(
+    double mean,
+    double p10,
+    double p50,
+    double p90
+) {
+    public static ValueDistribution of(double[] values) {
+        if (values.length == 0) {
+            return new ValueDistribution(0, 0, 0, 0);
+        }
+        final var sorted = values.clone();
+        Arrays.sort(sorted);
+        return new ValueDistribution(
+            Arrays.stream(sorted).average().orElse(0),
+            percentile(sorted, 0.1),
+            percentile(sorted, 0.5),
+            percentile(sorted, 0.9)
+        );
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        return sorted[(int) Math.min(Math.floor(percentile * sorted.length), sorted.length - 1)];
+    }
+}
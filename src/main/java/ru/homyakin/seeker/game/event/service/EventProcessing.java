@@ -7,6 +7,7 @@ import ru.homyakin.seeker.game.event.models.EventResult;
 import ru.homyakin.seeker.game.event.launched.LaunchedEvent;
 import ru.homyakin.seeker.game.event.personal_quest.PersonalQuestService;
 import ru.homyakin.seeker.game.event.raid.processing.RaidProcessing;
+import ru.homyakin.seeker.game.personage.event.PersonageEventService;
 
 @Service
 public class EventProcessing {
@@ -14,15 +15,18 @@ public class EventProcessing {
     private final EventService eventService;
     private final RaidProcessing raidProcessing;
     private final PersonalQuestService personalQuestService;
+    private final PersonageEventService personageEventService;
 
     public EventProcessing(
         EventService eventService,
         RaidProcessing raidProcessing,
-        PersonalQuestService personalQuestService
+        PersonalQuestService personalQuestService,
+        PersonageEventService personageEventService
     ) {
         this.eventService = eventService;
         this.raidProcessing = raidProcessing;
         this.personalQuestService = personalQuestService;
+        this.personageEventService = personageEventService;
     }
 
     public EventResult processEvent(LaunchedEvent launchedEvent) {
@@ -32,9 +36,11 @@ public class EventProcessing {
         final var event = eventService.getEventById(launchedEvent.eventId())
             .orElseThrow(() -> new IllegalStateException("Can't finish unknown event " + launchedEvent.eventId()));
 
-        return switch (event.type()) {
+        final var result = switch (event.type()) {
             case RAID -> raidProcessing.process(launchedEvent);
             case PERSONAL_QUEST -> personalQuestService.stopQuest(launchedEvent);
         };
+        personageEventService.invalidateParticipants(launchedEvent.id());
+        return result;
     }
 }
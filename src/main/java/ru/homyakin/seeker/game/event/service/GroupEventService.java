@@ -1,5 +1,6 @@
 package ru.homyakin.seeker.game.event.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +36,10 @@ public class GroupEventService {
         return launchedEventService.getExpiredActiveEvents();
     }
 
+    public List<LaunchedEvent> getActiveEventsWithLessEndDate(LocalDateTime maxEndDate) {
+        return launchedEventService.getActiveEventsWithLessEndDate(maxEndDate);
+    }
+
     public void creationError(LaunchedEvent launchedEvent) {
         launchedEventService.creationError(launchedEvent);
     }
@@ -7,6 +7,8 @@ import ru.homyakin.seeker.game.group.entity.GroupConfig;
 import ru.homyakin.seeker.game.group.entity.GroupSettings;
 import ru.homyakin.seeker.game.group.entity.GroupStorage;
 import ru.homyakin.seeker.infrastructure.TextConstants;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.utils.RandomUtils;
 import ru.homyakin.seeker.utils.TimeUtils;
 
@@ -16,10 +18,12 @@ import java.time.LocalDateTime;
 public class CreateGroupCommand {
     private final GroupStorage storage;
     private final GroupConfig config;
+    private final DeadlineQueue deadlineQueue;
 
-    public CreateGroupCommand(GroupStorage storage, GroupConfig config) {
+    public CreateGroupCommand(GroupStorage storage, GroupConfig config, DeadlineQueue deadlineQueue) {
         this.storage = storage;
         this.config = config;
+        this.deadlineQueue = deadlineQueue;
     }
 
     public Group execute(LocalDateTime initDate) {
@@ -35,6 +39,8 @@ public class CreateGroupCommand {
             )
         );
         final var id = storage.create(request);
+        deadlineQueue.schedule(DeadlineType.GROUP_EVENT, id.value(), request.nextEventDate());
+        deadlineQueue.schedule(DeadlineType.GROUP_RUMOR, id.value(), request.nextRumorDate());
         return storage.get(id).orElseThrow();
     }
 }
@@ -7,6 +7,7 @@ import ru.homyakin.seeker.game.group.entity.GroupStorage;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class GetGroup {
@@ -27,4 +28,12 @@ public class GetGroup {
     public List<Group> getGetGroupsWithLessNextRumorDate(LocalDateTime maxNextRumorDate) {
         return storage.getGetGroupsWithLessNextRumorDate(maxNextRumorDate);
     }
+
+    public Map<GroupId, LocalDateTime> getNextEventDates(LocalDateTime maxNextEventDate) {
+        return storage.getNextEventDates(maxNextEventDate);
+    }
+
+    public Map<GroupId, LocalDateTime> getNextRumorDates(LocalDateTime maxNextRumorDate) {
+        return storage.getNextRumorDates(maxNextRumorDate);
+    }
 }
@@ -3,22 +3,28 @@ package ru.homyakin.seeker.game.group.action;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.group.entity.GroupStorage;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 
 import java.time.LocalDateTime;
 
 @Component
 public class UpdateGroupParameters {
     private final GroupStorage storage;
+    private final DeadlineQueue deadlineQueue;
 
-    public UpdateGroupParameters(GroupStorage storage) {
+    public UpdateGroupParameters(GroupStorage storage, DeadlineQueue deadlineQueue) {
         this.storage = storage;
+        this.deadlineQueue = deadlineQueue;
     }
 
     public void updateNextRumorDate(GroupId groupId, LocalDateTime nextRumorDate) {
         storage.updateNextRumorDate(groupId, nextRumorDate);
+        deadlineQueue.schedule(DeadlineType.GROUP_RUMOR, groupId.value(), nextRumorDate);
     }
 
     public void updateNextEventDate(GroupId groupId, LocalDateTime nextEventDate) {
         storage.updateNextEventDate(groupId, nextEventDate);
+        deadlineQueue.schedule(DeadlineType.GROUP_EVENT, groupId.value(), nextEventDate);
     }
 }
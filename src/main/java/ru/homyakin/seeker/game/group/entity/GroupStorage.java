@@ -4,6 +4,7 @@ import ru.homyakin.seeker.common.models.GroupId;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface GroupStorage {
@@ -15,6 +16,10 @@ public interface GroupStorage {
 
     List<Group> getGetGroupsWithLessNextRumorDate(LocalDateTime maxNextRumorDate);
 
+    Map<GroupId, LocalDateTime> getNextEventDates(LocalDateTime maxNextEventDate);
+
+    Map<GroupId, LocalDateTime> getNextRumorDates(LocalDateTime maxNextRumorDate);
+
     void update(Group group);
 
     void updateNextEventDate(GroupId groupId, LocalDateTime nextEventDate);
@@ -6,15 +6,14 @@ import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.group.entity.personage.GroupPersonageStorage;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 
-import javax.sql.DataSource;
 import java.util.Optional;
 
 @Repository
 public class GroupPersonagePostgresDao implements GroupPersonageStorage {
     private final JdbcClient jdbcClient;
 
-    public GroupPersonagePostgresDao(DataSource dataSource) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public GroupPersonagePostgresDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     @Override
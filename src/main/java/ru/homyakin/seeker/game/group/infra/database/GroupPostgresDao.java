@@ -10,12 +10,13 @@ import ru.homyakin.seeker.game.group.entity.GroupSettings;
 import ru.homyakin.seeker.game.group.entity.GroupStorage;
 import ru.homyakin.seeker.utils.JsonUtils;
 
-import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -23,8 +24,8 @@ public class GroupPostgresDao implements GroupStorage {
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
 
-    public GroupPostgresDao(DataSource dataSource, JsonUtils jsonUtils) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public GroupPostgresDao(JdbcClient jdbcClient, JsonUtils jsonUtils) {
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
     }
 
@@ -80,6 +81,34 @@ public class GroupPostgresDao implements GroupStorage {
             .list();
     }
 
+    @Override
+    public Map<GroupId, LocalDateTime> getNextEventDates(LocalDateTime maxNextEventDate) {
+        final var sql = """
+            SELECT id, next_event_date FROM pgroup WHERE next_event_date < :next_event_date and is_active = true
+            """;
+        final var result = new HashMap<GroupId, LocalDateTime>();
+        jdbcClient.sql(sql)
+            .param("next_event_date", maxNextEventDate)
+            .query(rs -> {
+                result.put(GroupId.from(rs.getLong("id")), rs.getTimestamp("next_event_date").toLocalDateTime());
+            });
+        return result;
+    }
+
+    @Override
+    public Map<GroupId, LocalDateTime> getNextRumorDates(LocalDateTime maxNextRumorDate) {
+        final var sql = """
+            SELECT id, next_rumor_date FROM pgroup WHERE next_rumor_date < :next_rumor_date and is_active = true
+            """;
+        final var result = new HashMap<GroupId, LocalDateTime>();
+        jdbcClient.sql(sql)
+            .param("next_rumor_date", maxNextRumorDate)
+            .query(rs -> {
+                result.put(GroupId.from(rs.getLong("id")), rs.getTimestamp("next_rumor_date").toLocalDateTime());
+            });
+        return result;
+    }
+
     @Override
     public void update(Group group) {
         final var sql = """
@@ -1,11 +1,15 @@
 package ru.homyakin.seeker.game.item;
 
 import io.vavr.control.Either;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import ru.homyakin.seeker.game.catalog.GameCatalog;
 import ru.homyakin.seeker.game.item.characteristics.ItemCharacteristicService;
 import ru.homyakin.seeker.game.item.database.ItemDao;
 import ru.homyakin.seeker.game.item.database.ItemObjectDao;
@@ -17,6 +21,7 @@ import ru.homyakin.seeker.game.item.models.GenerateItemParams;
 import ru.homyakin.seeker.game.item.modifier.ItemModifierService;
 import ru.homyakin.seeker.game.item.modifier.models.GenerateModifier;
 import ru.homyakin.seeker.game.item.models.Item;
+import ru.homyakin.seeker.game.personage.PersonageService;
 import ru.homyakin.seeker.game.personage.models.Personage;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.infrastructure.init.saving_models.item.ItemObjects;
@@ -28,17 +33,23 @@ public class ItemService {
     private final ItemModifierService itemModifierService;
     private final ItemDao itemDao;
     private final ItemCharacteristicService characteristicService;
+    private final PersonageService personageService;
+    private final GameCatalog gameCatalog;
 
     public ItemService(
         ItemObjectDao itemObjectDao,
         ItemModifierService itemModifierService,
         ItemDao itemDao,
-        ItemCharacteristicService characteristicService
+        ItemCharacteristicService characteristicService,
+        PersonageService personageService,
+        GameCatalog gameCatalog
     ) {
         this.itemObjectDao = itemObjectDao;
         this.itemModifierService = itemModifierService;
         this.itemDao = itemDao;
         this.characteristicService = characteristicService;
+        this.personageService = personageService;
+        this.gameCatalog = gameCatalog;
     }
 
     public Optional<Item> getById(long id) {
@@ -50,17 +61,7 @@ public class ItemService {
     }
 
     public Either<GenerateItemError, Item> generateItemForPersonage(Personage personage, GenerateItemParams params) {
-        final var object = itemObjectDao.getRandomObject(params.rarity(), params.slot());
-        final var modifiers = itemModifierService.generate(params.rarity(), params.modifierCount());
-        final var tempItem = new Item(
-            0L,
-            object.toItemObject(),
-            params.rarity(),
-            modifiers.stream().map(GenerateModifier::toModifier).toList(),
-            Optional.of(personage.id()),
-            false,
-            characteristicService.createCharacteristics(params.rarity(), object, modifiers)
-        );
+        final var tempItem = createItem(personage.id(), params);
 
         if (!personage.hasSpaceInBag(getPersonageItems(personage.id()))) {
             // TODO возможно стоит сохранять неудачные предметы в базу
@@ -72,10 +73,54 @@ public class ItemService {
         return Either.right(getById(id).orElseThrow());
     }
 
+    /**
+     * Генерация предметов сразу для нескольких персонажей, например, по итогам рейда.
+     * Место в сумках проверяется одним запросом, предметы сохраняются пачкой
+     */
+    public Map<PersonageId, Either<GenerateItemError, Item>> generateItemsForPersonages(
+        List<Personage> personages,
+        Map<PersonageId, GenerateItemParams> params
+    ) {
+        final var itemsInBag = itemDao.countItemsInBag(personages.stream().map(Personage::id).toList());
+        final var result = new HashMap<PersonageId, Either<GenerateItemError, Item>>();
+        final var itemsToSave = new ArrayList<Item>();
+        for (final var personage : personages) {
+            final var tempItem = createItem(personage.id(), params.get(personage.id()));
+            if (personage.hasSpaceInBag(itemsInBag.getOrDefault(personage.id(), 0))) {
+                itemsToSave.add(tempItem);
+            } else {
+                logger.info("Personage '{}' has no space in bag", personage.id().value());
+                result.put(personage.id(), Either.left(new GenerateItemError.NotEnoughSpace(tempItem)));
+            }
+        }
+
+        final var ids = itemDao.saveItems(itemsToSave);
+        for (int i = 0; i < itemsToSave.size(); ++i) {
+            final var item = itemsToSave.get(i).withId(ids.get(i));
+            result.put(item.personageId().orElseThrow(), Either.right(item));
+        }
+        return result;
+    }
+
     public List<Item> getPersonageItems(PersonageId personageId) {
         return itemDao.getByPersonageId(personageId);
     }
 
+    private Item createItem(PersonageId personageId, GenerateItemParams params) {
+        final var object = gameCatalog.getRandomObject(params.rarity(), params.slot())
+            .orElseThrow(() -> new IllegalStateException("No item objects for " + params.rarity() + " " + params.slot()));
+        final var modifiers = itemModifierService.generate(params.rarity(), params.modifierCount());
+        return new Item(
+            0L,
+            object.toItemObject(),
+            params.rarity(),
+            modifiers.stream().map(GenerateModifier::toModifier).toList(),
+            Optional.of(personageId),
+            false,
+            characteristicService.createCharacteristics(params.rarity(), object, modifiers)
+        );
+    }
+
     public Either<PutOnItemError, Item> putOnItem(Personage personage, long itemId) {
         final var itemResult = itemDao.getById(itemId);
         if (itemResult.isEmpty()) {
@@ -87,7 +132,10 @@ public class ItemService {
                 getPersonageItems(personage.id()),
                 itemResult.get()
             )
-            .peek(_ -> itemDao.invertEquip(itemId))
+            .peek(_ -> {
+                itemDao.invertEquip(itemId);
+                personageService.invalidateCache(personage.id());
+            })
             .map(_ -> itemDao.getById(itemId).orElseThrow());
     }
 
@@ -102,7 +150,10 @@ public class ItemService {
                 getPersonageItems(personage.id()),
                 itemResult.get()
             )
-            .peek(_ -> itemDao.invertEquip(itemId))
+            .peek(_ -> {
+                itemDao.invertEquip(itemId);
+                personageService.invalidateCache(personage.id());
+            })
             .map(_ -> itemDao.getById(itemId).orElseThrow());
     }
 
@@ -122,7 +173,10 @@ public class ItemService {
 
     public Either<DropItemError, Item> dropItem(Personage personage, long itemId) {
         return canDropItem(personage, itemId)
-            .peek(_ -> itemDao.deletePersonageAndMakeEquipFalse(itemId))
+            .peek(_ -> {
+                itemDao.deletePersonageAndMakeEquipFalse(itemId);
+                personageService.invalidateCache(personage.id());
+            })
             .map(_ -> itemDao.getById(itemId).orElseThrow());
     }
 }
@@ -3,13 +3,18 @@ package ru.homyakin.seeker.game.item.database;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import ru.homyakin.seeker.game.item.models.Item;
@@ -24,38 +29,25 @@ import ru.homyakin.seeker.utils.JsonUtils;
 
 @Component
 public class ItemDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
 
-    public ItemDao(DataSource dataSource, JsonUtils jsonUtils) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public ItemDao(NamedParameterJdbcTemplate jdbcTemplate, JdbcClient jdbcClient, JsonUtils jsonUtils) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
     }
 
     @Transactional
     public long saveItem(Item item) {
-        final var insertItem = """
-            INSERT INTO item (item_object_id, personage_id, is_equipped, attack, health, defense, item_rarity_id)
-            VALUES (:item_object_id, :personage_id, :is_equipped, :attack, :health, :defense, :item_rarity_id)
-            RETURNING id
-            """;
-        final var id = jdbcClient.sql(insertItem)
-            .param("item_object_id", item.object().id())
-            .param("personage_id", item.personageId().map(PersonageId::value).orElse(null))
-            .param("is_equipped", item.isEquipped())
-            .param("attack", item.characteristics().attack())
-            .param("health", item.characteristics().health())
-            .param("defense", item.characteristics().defense())
-            .param("item_rarity_id", item.rarity().id)
+        final var id = jdbcClient.sql(INSERT_ITEM + " RETURNING id")
+            .paramSource(itemParams(item))
             .query((rs, _) -> rs.getLong("id"))
             .single();
 
-        final var insertModifier = """
-            INSERT INTO item_to_item_modifier (item_id, item_modifier_id)
-            VALUES (:item_id, :item_modifier_id)
-            """;
         for (final var modifier : item.modifiers()) {
-            jdbcClient.sql(insertModifier)
+            jdbcClient.sql(INSERT_MODIFIER)
                 .param("item_id", id)
                 .param("item_modifier_id", modifier.id())
                 .update();
@@ -63,6 +55,64 @@ public class ItemDao {
         return id;
     }
 
+    /**
+     * Сохраняет предметы двумя batch запросами: сами предметы и их модификаторы
+     * @return id сохранённых предметов в том же порядке
+     */
+    @Transactional
+    public List<Long> saveItems(List<Item> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        final var keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            INSERT_ITEM,
+            items.stream().map(this::itemParams).toArray(SqlParameterSource[]::new),
+            keyHolder,
+            new String[]{"id"}
+        );
+        final var ids = keyHolder.getKeyList().stream()
+            .map(keys -> ((Number) keys.get("id")).longValue())
+            .toList();
+
+        final var modifierParameters = new ArrayList<SqlParameterSource>();
+        for (int i = 0; i < items.size(); ++i) {
+            for (final var modifier : items.get(i).modifiers()) {
+                modifierParameters.add(
+                    new MapSqlParameterSource()
+                        .addValue("item_id", ids.get(i))
+                        .addValue("item_modifier_id", modifier.id())
+                );
+            }
+        }
+        if (!modifierParameters.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MODIFIER, modifierParameters.toArray(new SqlParameterSource[0]));
+        }
+        return ids;
+    }
+
+    /**
+     * @return количество неэкипированных предметов в сумке, у персонажей без предметов 0
+     */
+    public Map<PersonageId, Integer> countItemsInBag(Collection<PersonageId> personageIds) {
+        final var result = new HashMap<PersonageId, Integer>();
+        personageIds.forEach(id -> result.put(id, 0));
+        if (personageIds.isEmpty()) {
+            return result;
+        }
+        final var sql = """
+            SELECT personage_id, COUNT(*) items_count FROM item
+            WHERE personage_id IN (:id_list) AND is_equipped = false
+            GROUP BY personage_id
+            """;
+        jdbcClient.sql(sql)
+            .param("id_list", personageIds.stream().map(PersonageId::value).toList())
+            .query(rs -> {
+                result.put(PersonageId.from(rs.getLong("personage_id")), rs.getInt("items_count"));
+            });
+        return result;
+    }
+
     public Optional<Item> getById(Long id) {
         final var sql = SELECT_ITEMS + " WHERE i.id = :id";
         final var result = jdbcClient.sql(sql)
@@ -74,16 +124,17 @@ public class ItemDao {
         return Optional.of(result.getFirst());
     }
 
+    /**
+     * Вместе с предметом меняет сумму характеристик надетых предметов у персонажа
+     */
     public void invertEquip(long id) {
-        final var sql = "UPDATE item SET is_equipped = not is_equipped WHERE id = :id";
-        jdbcClient.sql(sql)
+        jdbcClient.sql(INVERT_EQUIP)
             .param("id", id)
             .update();
     }
 
     public void deletePersonageAndMakeEquipFalse(long id) {
-        final var sql = "UPDATE item SET personage_id = null, is_equipped = false WHERE id = :id";
-        jdbcClient.sql(sql)
+        jdbcClient.sql(DELETE_PERSONAGE_AND_MAKE_EQUIP_FALSE)
             .param("id", id)
             .update();
     }
@@ -95,6 +146,17 @@ public class ItemDao {
             .query(this::extractItems);
     }
 
+    private SqlParameterSource itemParams(Item item) {
+        return new MapSqlParameterSource()
+            .addValue("item_object_id", item.object().id())
+            .addValue("personage_id", item.personageId().map(PersonageId::value).orElse(null))
+            .addValue("is_equipped", item.isEquipped())
+            .addValue("attack", item.characteristics().attack())
+            .addValue("health", item.characteristics().health())
+            .addValue("defense", item.characteristics().defense())
+            .addValue("item_rarity_id", item.rarity().id);
+    }
+
     private List<Item> extractItems(ResultSet rs) throws SQLException {
         final var itemIdToItemObjectId = new HashMap<Long, Integer>();
         final var itemObjectIdToSlots = new HashMap<Integer, Set<PersonageSlot>>();
@@ -177,6 +239,44 @@ public class ItemDao {
         return items;
     }
 
+    private static final String INVERT_EQUIP = """
+        WITH changed AS (
+            UPDATE item SET is_equipped = NOT is_equipped WHERE id = :id
+            RETURNING personage_id, CASE WHEN is_equipped THEN 1 ELSE -1 END sign, attack, health, defense
+        )
+        UPDATE personage p
+        SET item_attack = p.item_attack + c.sign * c.attack,
+            item_health = p.item_health + c.sign * c.health,
+            item_defense = p.item_defense + c.sign * c.defense
+        FROM changed c
+        WHERE p.id = c.personage_id
+        """;
+
+    private static final String DELETE_PERSONAGE_AND_MAKE_EQUIP_FALSE = """
+        WITH equipped AS (
+            SELECT personage_id, attack, health, defense FROM item WHERE id = :id AND is_equipped = true
+        ),
+        changed AS (
+            UPDATE item SET personage_id = null, is_equipped = false WHERE id = :id
+        )
+        UPDATE personage p
+        SET item_attack = p.item_attack - e.attack,
+            item_health = p.item_health - e.health,
+            item_defense = p.item_defense - e.defense
+        FROM equipped e
+        WHERE p.id = e.personage_id
+        """;
+
+    private static final String INSERT_ITEM = """
+        INSERT INTO item (item_object_id, personage_id, is_equipped, attack, health, defense, item_rarity_id)
+        VALUES (:item_object_id, :personage_id, :is_equipped, :attack, :health, :defense, :item_rarity_id)
+        """;
+
+    private static final String INSERT_MODIFIER = """
+        INSERT INTO item_to_item_modifier (item_id, item_modifier_id)
+        VALUES (:item_id, :item_modifier_id)
+        """;
+
     private static final String SELECT_ITEMS = """
         SELECT *,
              i.id real_item_id, -- в item_to_item_modifier тоже item_id
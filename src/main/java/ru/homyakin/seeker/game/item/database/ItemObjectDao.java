@@ -1,10 +1,12 @@
 package ru.homyakin.seeker.game.item.database;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import javax.sql.DataSource;
 
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
@@ -23,8 +25,8 @@ public class ItemObjectDao {
     private final JsonUtils jsonUtils;
     private final ManyToManyUpdater updater;
 
-    public ItemObjectDao(DataSource dataSource, JsonUtils jsonUtils, ManyToManyUpdater updater) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public ItemObjectDao(JdbcClient jdbcClient, JsonUtils jsonUtils, ManyToManyUpdater updater) {
+        this.jdbcClient = jdbcClient;
         this.updater = updater;
         this.jsonUtils = jsonUtils;
     }
@@ -51,24 +53,57 @@ public class ItemObjectDao {
         saveObjectRarities(id, object.rarities());
     }
 
-    public GenerateItemObject getRandomObject(ItemRarity rarity, PersonageSlot slot) {
+    /**
+     * Все объекты с их слотами одним запросом, для GameCatalog
+     * @return объекты, сгруппированные по редкостям, в которых они могут выпасть
+     */
+    public Map<ItemRarity, List<GenerateItemObject>> getAllByRarity() {
         final var sql = """
-            WITH random_object AS (
-               SELECT id FROM item_object io
-                LEFT JOIN item_object_to_item_rarity iotir on io.id = iotir.item_object_id
-                LEFT JOIN item_object_to_personage_slot iotps on io.id = iotps.item_object_id
-                WHERE iotir.item_rarity_id = :item_rarity_id AND iotps.personage_slot_id = :slot_id
-               ORDER BY random() LIMIT 1
-            )
-            SELECT * FROM random_object ro
-            LEFT JOIN item_object io ON io.id = ro.id
+            SELECT io.*, iotps.personage_slot_id, iotir.item_rarity_id FROM item_object io
             LEFT JOIN item_object_to_personage_slot iotps on io.id = iotps.item_object_id
-            WHERE io.id = ro.id
+            LEFT JOIN item_object_to_item_rarity iotir on io.id = iotir.item_object_id
             """;
-        return jdbcClient.sql(sql)
-            .param("item_rarity_id", rarity.id)
-            .param("slot_id", slot.id)
-            .query(this::extractSingleObject);
+        final var objects = new LinkedHashMap<Integer, GenerateItemObject>();
+        final var slots = new HashMap<Integer, Set<PersonageSlot>>();
+        final var rarities = new HashMap<Integer, Set<ItemRarity>>();
+        jdbcClient.sql(sql)
+            .query(rs -> {
+                final var id = rs.getInt("id");
+                if (!objects.containsKey(id)) {
+                    objects.put(
+                        id,
+                        new GenerateItemObject(
+                            id,
+                            rs.getString("code"),
+                            Set.of(),
+                            jsonUtils.fromString(rs.getString("characteristics"), ObjectGenerateCharacteristics.class),
+                            jsonUtils.fromString(rs.getString("locale"), JsonUtils.ITEM_OBJECT_LOCALE)
+                        )
+                    );
+                }
+                final var slotId = rs.getInt("personage_slot_id");
+                if (!rs.wasNull()) {
+                    slots.computeIfAbsent(id, _ -> new HashSet<>()).add(PersonageSlot.findById(slotId));
+                }
+                final var rarityId = rs.getInt("item_rarity_id");
+                if (!rs.wasNull()) {
+                    rarities.computeIfAbsent(id, _ -> new HashSet<>()).add(ItemRarity.findById(rarityId));
+                }
+            });
+
+        final var result = new HashMap<ItemRarity, List<GenerateItemObject>>();
+        for (final var object : objects.values()) {
+            final var objectWithSlots = new GenerateItemObject(
+                object.id(),
+                object.code(),
+                Set.copyOf(slots.getOrDefault(object.id(), Set.of())),
+                object.characteristics(),
+                object.locales()
+            );
+            rarities.getOrDefault(object.id(), Set.of())
+                .forEach(rarity -> result.computeIfAbsent(rarity, _ -> new ArrayList<>()).add(objectWithSlots));
+        }
+        return result;
     }
 
     private void saveObjectSlots(int id, Set<PersonageSlot> slots) {
@@ -90,24 +125,4 @@ public class ItemObjectDao {
             rarities.stream().map(it -> it.id).toList()
         );
     }
-
-    private GenerateItemObject extractSingleObject(ResultSet rs) throws SQLException {
-        rs.next();
-        final var id = rs.getInt("id");
-        final var code = rs.getString("code");
-        final var locale = jsonUtils.fromString(rs.getString("locale"), JsonUtils.ITEM_OBJECT_LOCALE);
-        final var characteristics = jsonUtils.fromString(rs.getString("characteristics"), ObjectGenerateCharacteristics.class);
-        final var slots = new HashSet<PersonageSlot>();
-        do {
-            slots.add(PersonageSlot.findById(rs.getInt("personage_slot_id")));
-        } while (rs.next());
-
-        return new GenerateItemObject(
-            id,
-            code,
-            slots,
-            characteristics,
-            locale
-        );
-    }
 }
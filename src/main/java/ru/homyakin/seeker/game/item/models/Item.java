@@ -19,6 +19,10 @@ public record Item(
     boolean isEquipped,
     Characteristics characteristics
 ) {
+    public Item withId(long id) {
+        return new Item(id, object, rarity, modifiers, personageId, isEquipped, characteristics);
+    }
+
     /**
      * @param requestedLanguage запрашиваемый язык
      * @return Возвращает requestedLanguage если он присутствует во object и во всех modifiers,
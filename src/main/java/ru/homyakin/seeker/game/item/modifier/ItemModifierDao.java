@@ -2,8 +2,11 @@ package ru.homyakin.seeker.game.item.modifier;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import javax.sql.DataSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.item.characteristics.models.ModifierGenerateCharacteristics;
@@ -20,8 +23,8 @@ public class ItemModifierDao {
     private final JsonUtils jsonUtils;
     private final ManyToManyUpdater updater;
 
-    public ItemModifierDao(DataSource dataSource, JsonUtils jsonUtils, ManyToManyUpdater updater) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public ItemModifierDao(JdbcClient jdbcClient, JsonUtils jsonUtils, ManyToManyUpdater updater) {
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
         this.updater = updater;
     }
@@ -48,51 +51,27 @@ public class ItemModifierDao {
         saveModifierRarities(id, modifier.rarities());
     }
 
-    public GenerateModifier getRandomModifier(ItemRarity rarity) {
+    /**
+     * Все модификаторы одним запросом, для GameCatalog
+     * @return модификаторы, сгруппированные по редкостям, в которых они могут выпасть
+     */
+    public Map<ItemRarity, List<GenerateModifier>> getAllByRarity() {
         final var sql = """
             SELECT * FROM item_modifier im
-             LEFT JOIN item_modifier_to_item_rarity imtir on im.id = imtir.item_modifier_id
-             WHERE imtir.item_rarity_id = :item_rarity_id
-            ORDER BY random() LIMIT 1
+             INNER JOIN item_modifier_to_item_rarity imtir on im.id = imtir.item_modifier_id
             """;
-
-        return jdbcClient.sql(sql)
-            .param("item_rarity_id", rarity.id)
-            .query(this::mapRow)
-            .optional()
-            .orElseThrow();
-    }
-
-    public GenerateModifier getRandomModifierExcludeId(int id, ItemRarity rarity) {
-        final var sql = """
-            SELECT * FROM item_modifier im
-             LEFT JOIN item_modifier_to_item_rarity imtir on im.id = imtir.item_modifier_id
-            WHERE id != :id
-            AND imtir.item_rarity_id = :item_rarity_id
-            ORDER BY random() LIMIT 1
-            """;
-
-        return jdbcClient.sql(sql)
-            .param("id", id)
-            .param("item_rarity_id", rarity.id)
-            .query(this::mapRow)
-            .single();
-    }
-
-    public GenerateModifier getRandomModifierWithType(ModifierType type, ItemRarity rarity) {
-        final var sql = """
-            SELECT * FROM item_modifier im
-             LEFT JOIN item_modifier_to_item_rarity imtir on im.id = imtir.item_modifier_id
-            WHERE item_modifier_type_id = :item_modifier_type_id
-            AND imtir.item_rarity_id = :item_rarity_id
-            ORDER BY random() LIMIT 1
-            """;
-
-        return jdbcClient.sql(sql)
-            .param("item_modifier_type_id", type.id)
-            .param("item_rarity_id", rarity.id)
-            .query(this::mapRow)
-            .single();
+        final var modifiers = new HashMap<Integer, GenerateModifier>();
+        final var result = new HashMap<ItemRarity, List<GenerateModifier>>();
+        jdbcClient.sql(sql)
+            .query(rs -> {
+                final var id = rs.getInt("id");
+                if (!modifiers.containsKey(id)) {
+                    modifiers.put(id, mapRow(rs, 0));
+                }
+                result.computeIfAbsent(ItemRarity.findById(rs.getInt("item_rarity_id")), _ -> new ArrayList<>())
+                    .add(modifiers.get(id));
+            });
+        return result;
     }
 
     private void saveModifierRarities(int id, Set<ItemRarity> rarities) {
@@ -1,6 +1,7 @@
 package ru.homyakin.seeker.game.item.modifier;
 
 import org.springframework.stereotype.Service;
+import ru.homyakin.seeker.game.catalog.GameCatalog;
 import ru.homyakin.seeker.game.item.modifier.models.GenerateModifier;
 import ru.homyakin.seeker.game.item.modifier.models.ModifierType;
 import ru.homyakin.seeker.game.item.models.ItemRarity;
@@ -12,24 +13,26 @@ import java.util.List;
 @Service
 public class ItemModifierService {
     private final ItemModifierDao itemModifierDao;
+    private final GameCatalog gameCatalog;
 
-    public ItemModifierService(ItemModifierDao itemModifierDao) {
+    public ItemModifierService(ItemModifierDao itemModifierDao, GameCatalog gameCatalog) {
         this.itemModifierDao = itemModifierDao;
+        this.gameCatalog = gameCatalog;
     }
 
     public List<GenerateModifier> generate(ItemRarity rarity, int modifiersCount) {
         return switch (modifiersCount) {
             case 0 -> List.of();
-            case 1 -> List.of(itemModifierDao.getRandomModifier(rarity));
+            case 1 -> List.of(gameCatalog.getRandomModifier(rarity).orElseThrow());
             case 2 -> {
                 final var modifiers = new ArrayList<GenerateModifier>();
-                final var modifier = itemModifierDao.getRandomModifier(rarity);
+                final var modifier = gameCatalog.getRandomModifier(rarity).orElseThrow();
                 modifiers.add(modifier);
                 // Может быть либо 2 префиксных, либо 1 суффикс и 1 префикс
                 if (modifier.type() == ModifierType.SUFFIX) {
-                    modifiers.add(itemModifierDao.getRandomModifierWithType(ModifierType.PREFIX, rarity));
+                    modifiers.add(gameCatalog.getRandomModifierWithType(ModifierType.PREFIX, rarity).orElseThrow());
                 } else {
-                    modifiers.add(itemModifierDao.getRandomModifierExcludeId(modifier.id(), rarity));
+                    modifiers.add(gameCatalog.getRandomModifierExcludeId(modifier.id(), rarity).orElseThrow());
                 }
                 yield modifiers;
             }
@@ -0,0 +1,228 @@
+package ru.homyakin.seeker.game.personage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.homyakin.seeker.game.personage.models.Personage;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+
+/**
+ * Кэш персонажей поверх PersonageDao.
+ * Изменения игрового состояния (деньги, характеристики, имя) записываются в базу сразу.
+ * Фоновое восстановление энергии и истечение эффектов помечаются грязными и записываются пачкой раз в несколько секунд.
+ * Поля, которые вычисляются из других таблиц (предметы, значок, текущее событие), берутся только из базы,
+ * поэтому при их изменении нужно вызывать invalidate.
+ */
+@Component
+public class PersonageCache {
+    private static final Logger logger = LoggerFactory.getLogger(PersonageCache.class);
+    private final PersonageDao personageDao;
+    private final Cache<PersonageId, Personage> cache;
+    private final Map<PersonageId, Personage> dirty = new ConcurrentHashMap<>();
+    // Запись напрямую и сброс грязных не должны перемешиваться, иначе старое состояние затрёт новое
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final boolean enabled;
+
+    public PersonageCache(PersonageDao personageDao, PersonageCacheConfig config) {
+        this.personageDao = personageDao;
+        this.enabled = config.enabled();
+        // Выключенный кэш вытесняет значения сразу же в вызывающем потоке
+        this.cache = enabled
+            ? Caffeine.newBuilder().maximumSize(config.maxSize()).expireAfterWrite(config.expireAfterWrite()).build()
+            : Caffeine.newBuilder().maximumSize(0).executor(Runnable::run).build();
+    }
+
+    public Optional<Personage> get(PersonageId id, Function<PersonageId, Optional<Personage>> loader) {
+        final var cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).map(this::withPending).orElse(null)));
+    }
+
+    public Map<PersonageId, Personage> getAllPresent(Collection<PersonageId> ids) {
+        return cache.getAllPresent(ids);
+    }
+
+    /**
+     * Кладёт загруженных из базы персонажей в кэш
+     * @return персонажи с учётом ещё не записанных изменений
+     */
+    public List<Personage> putAll(Collection<Personage> personages) {
+        final var result = new ArrayList<Personage>(personages.size());
+        for (final var loaded : personages) {
+            final var personage = withPending(loaded);
+            cache.put(personage.id(), personage);
+            result.add(personage);
+        }
+        return result;
+    }
+
+    /**
+     * Записывает персонажа в базу сразу.
+     * Если запись идёт внутри транзакции и она откатится, персонаж выкидывается из кэша
+     */
+    public void save(Personage personage) {
+        flushLock.readLock().lock();
+        try {
+            personageDao.update(personage);
+            refresh(personage);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+        invalidateOnRollback(List.of(personage.id()));
+    }
+
+    /**
+     * Записывает персонажей в базу одним batch запросом.
+     * Если запись идёт внутри транзакции и она откатится, персонажи выкидываются из кэша, чтобы не отдавать незаписанное
+     */
+    public void saveAll(Collection<Personage> personages) {
+        if (personages.isEmpty()) {
+            return;
+        }
+        flushLock.readLock().lock();
+        try {
+            personageDao.updateBatch(personages);
+            personages.forEach(this::refresh);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+        invalidateOnRollback(personages.stream().map(Personage::id).toList());
+    }
+
+    /**
+     * Восстанавливает энергию и снимает истёкшие эффекты, запись в базу откладывается до следующего flush.
+     * Изменение применяется к актуальному значению из кэша, а не к переданному снимку,
+     * иначе можно затереть то, что успели записать параллельно.
+     * Если кэш выключен, то персонаж записывается в базу сразу
+     */
+    public Personage updateStateLater(Personage personage, LocalDateTime now) {
+        final var changed = personage.updateStateIfNeed(now);
+        if (changed.isLeft()) {
+            return personage;
+        }
+        if (!enabled) {
+            save(changed.get());
+            return changed.get();
+        }
+        final var result = new AtomicReference<>(personage);
+        cache.asMap().compute(personage.id(), (id, cached) -> {
+            final var current = cached != null ? cached : withPending(personage);
+            final var updated = current.updateStateIfNeed(now).getOrElse(current);
+            if (updated != current) {
+                dirty.put(id, updated);
+            }
+            result.set(updated);
+            return cached != null ? updated : null;
+        });
+        return result.get();
+    }
+
+    /**
+     * Выкидывает персонажей из кэша, чтобы вычисляемые поля перечитались из базы.
+     * Незаписанные изменения остаются до flush и накладываются на загруженного персонажа
+     */
+    public void invalidate(PersonageId id) {
+        invalidateAll(List.of(id));
+    }
+
+    public void invalidateAll(Collection<PersonageId> ids) {
+        cache.invalidateAll(ids);
+        // Пока транзакция не завершилась, из базы могут прочитать и закэшировать старые вычисляемые поля
+        invalidateAfterCompletion(List.copyOf(ids), false);
+    }
+
+    @Scheduled(fixedDelayString = "${homyakin.seeker.personage.cache.flushInterval}")
+    public void flush() {
+        flushLock.writeLock().lock();
+        try {
+            if (dirty.isEmpty()) {
+                return;
+            }
+            final var batch = new ArrayList<Personage>(dirty.size());
+            for (final var entry : dirty.entrySet()) {
+                batch.add(entry.getValue());
+            }
+            personageDao.updateBatch(batch);
+            // Если за время записи персонаж снова изменился, то он останется грязным до следующего flush
+            batch.forEach(personage -> dirty.remove(personage.id(), personage));
+            logger.debug("Flushed {} personages", batch.size());
+        } catch (Exception e) {
+            logger.error("Unable to flush dirty personages", e);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void invalidateOnRollback(List<PersonageId> ids) {
+        invalidateAfterCompletion(ids, true);
+    }
+
+    private void invalidateAfterCompletion(List<PersonageId> ids, boolean onlyOnRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (!onlyOnRollback || status != STATUS_COMMITTED) {
+                    cache.invalidateAll(ids);
+                }
+            }
+        });
+    }
+
+    private Personage withPending(Personage loaded) {
+        final var pending = dirty.get(loaded.id());
+        return pending != null ? merge(pending, loaded) : loaded;
+    }
+
+    /**
+     * Обновляет сохраняемые поля закэшированного персонажа. Вычисляемые поля остаются из кэша,
+     * потому что у переданного персонажа они могли устареть.
+     * Грязная версия убирается под той же блокировкой ключа, чтобы параллельный updateStateLater её не вернул
+     */
+    private void refresh(Personage personage) {
+        cache.asMap().compute(personage.id(), (id, cached) -> {
+            dirty.remove(id);
+            return cached != null ? merge(personage, cached) : null;
+        });
+    }
+
+    private static Personage merge(Personage stored, Personage computed) {
+        return new Personage(
+            stored.id(),
+            stored.name(),
+            stored.money(),
+            stored.characteristics(),
+            stored.energy(),
+            computed.badge(),
+            computed.itemCharacteristics(),
+            stored.effects(),
+            computed.currentEvent()
+        );
+    }
+}
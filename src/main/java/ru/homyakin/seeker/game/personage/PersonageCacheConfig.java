@@ -0,0 +1,13 @@
+package ru.homyakin.seeker.game.personage;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("homyakin.seeker.personage.cache")
+public record PersonageCacheConfig(
+    // Выключается, когда запущено несколько реплик: кэш одной реплики не видит записей других
+    boolean enabled,
+    int maxSize,
+    Duration expireAfterWrite
+) {
+}
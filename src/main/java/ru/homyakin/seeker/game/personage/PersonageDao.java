@@ -3,6 +3,9 @@ package ru.homyakin.seeker.game.personage;
 import io.vavr.CheckedFunction0;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Component;
@@ -20,11 +23,11 @@ import ru.homyakin.seeker.game.personage.models.PersonageId;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import javax.sql.DataSource;
 
 import ru.homyakin.seeker.infrastructure.TextConstants;
 import ru.homyakin.seeker.utils.DatabaseUtils;
@@ -34,37 +37,50 @@ import ru.homyakin.seeker.utils.TimeUtils;
 @Component
 public class PersonageDao {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    // Характеристики предметов и текущее событие лежат в самом personage, см. ItemDao, PersonageEventDao, LaunchedEventDao.
+    // Событие перепроверяется по статусу, поэтому устаревший active_launched_event_id не даст ложного занятого персонажа
     private static final String GET_BY_ID = """
-        WITH item_characteristics AS (
-            SELECT personage_id,
-                SUM(attack) item_attack,
-                SUM(health) item_health,
-                SUM(defense) item_defense
-            FROM item WHERE personage_id in (:id_list) AND is_equipped = true
-            GROUP BY personage_id
-        ),
-        active_launched_event AS (
-            SELECT pte.personage_id,
-                le.end_date as launched_event_end_date,
-                e.type_id as event_type,
-                ROW_NUMBER() OVER (PARTITION BY pte.personage_id) AS rn
-            FROM personage_to_event pte
-                LEFT JOIN launched_event le ON pte.launched_event_id = le.id
-                LEFT JOIN event e ON le.event_id = e.id
-            WHERE le.status_id = :active_status_id AND personage_id in (:id_list)
-        )
         SELECT p.*,
             b.code as badge_code,
-            ic.*,
-            ale.launched_event_end_date,
-            ale.event_type
+            le.end_date as launched_event_end_date,
+            e.type_id as event_type
         FROM personage p
         LEFT JOIN personage_available_badge pab ON p.id = pab.personage_id AND pab.is_active = true
         LEFT JOIN badge b ON pab.badge_id = b.id
-        LEFT JOIN item_characteristics ic on p.id = ic.personage_id
-        LEFT JOIN active_launched_event ale ON p.id = ale.personage_id AND ale.rn = 1
+        LEFT JOIN launched_event le ON le.id = p.active_launched_event_id AND le.status_id = %d
+        LEFT JOIN event e ON le.event_id = e.id
         WHERE p.id in (:id_list)
-        """;
+        """.formatted(EventStatus.LAUNCHED.id());
+
+    // Пересчёт денормализованных полей по item и personage_to_event, возвращает исправленных персонажей
+    private static final String REBUILD_DERIVED_DATA = """
+        WITH expected AS (
+            SELECT p.id,
+                COALESCE(SUM(i.attack), 0) item_attack,
+                COALESCE(SUM(i.health), 0) item_health,
+                COALESCE(SUM(i.defense), 0) item_defense
+            FROM personage p
+            LEFT JOIN item i ON i.personage_id = p.id AND i.is_equipped = true
+            GROUP BY p.id
+        ),
+        active AS (
+            SELECT DISTINCT ON (pte.personage_id) pte.personage_id, pte.launched_event_id
+            FROM personage_to_event pte
+            INNER JOIN launched_event le ON le.id = pte.launched_event_id
+            WHERE le.status_id = %d
+            ORDER BY pte.personage_id, pte.launched_event_id DESC
+        )
+        UPDATE personage p
+        SET item_attack = e.item_attack, item_health = e.item_health, item_defense = e.item_defense,
+            active_launched_event_id = a.launched_event_id
+        FROM expected e
+        LEFT JOIN active a ON a.personage_id = e.id
+        WHERE p.id = e.id AND (
+            p.item_attack <> e.item_attack OR p.item_health <> e.item_health OR p.item_defense <> e.item_defense
+            OR p.active_launched_event_id IS DISTINCT FROM a.launched_event_id
+        )
+        RETURNING p.id
+        """.formatted(EventStatus.LAUNCHED.id());
 
     private static final String UPDATE = """
         UPDATE personage
@@ -75,12 +91,13 @@ public class PersonageDao {
         """;
 
     private final SimpleJdbcInsert jdbcInsert;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
     private final PersonageConfig config;
 
-    public PersonageDao(DataSource dataSource, JsonUtils jsonUtils, PersonageConfig config) {
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
+    public PersonageDao(NamedParameterJdbcTemplate jdbcTemplate, JdbcClient jdbcClient, JsonUtils jsonUtils, PersonageConfig config) {
+        jdbcInsert = new SimpleJdbcInsert(jdbcTemplate.getJdbcTemplate())
             .withTableName("personage")
             .usingColumns(
                 "name",
@@ -99,7 +116,8 @@ public class PersonageDao {
         this.config = config;
         jdbcInsert.setGeneratedKeyName("id");
 
-        this.jdbcClient = JdbcClient.create(dataSource);
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
     }
 
     public PersonageId createDefault(String name) {
@@ -126,38 +144,32 @@ public class PersonageDao {
 
     public void update(Personage personage) {
         jdbcClient.sql(UPDATE)
-            .param("id", personage.id().value())
-            .param("name", personage.name())
-            .param("strength", personage.characteristics().strength())
-            .param("agility", personage.characteristics().agility())
-            .param("wisdom", personage.characteristics().wisdom())
-            .param("health", personage.characteristics().health())
-            .param("last_energy_change", personage.energy().lastChange())
-            .param("energy", personage.energy().value())
-            .param("money", personage.money().value())
-            .param("effects", jsonUtils.mapToPostgresJson(personage.effects()))
-            .param("energy_recovery_notification_time", personage.energy().energyRecoveryTime().orElse(null))
+            .paramSource(updateParams(personage))
             .update();
     }
 
+    public void updateBatch(Collection<Personage> personages) {
+        if (personages.isEmpty()) {
+            return;
+        }
+        final var parameters = personages.stream().map(this::updateParams).toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE, parameters);
+    }
+
     public Optional<Personage> getById(PersonageId id) {
         return jdbcClient.sql(GET_BY_ID)
             .param("id_list", List.of(id.value()))
-            .param("active_status_id", EventStatus.LAUNCHED.id())
             .query(this::mapRow)
             .optional();
     }
 
     public List<Personage> getByIds(Set<PersonageId> ids) {
-        // TODO Эффективность неизвестна, данный запрос написан просто чтобы работали предметы.
-        // на 02.09.24 проблем с производительностью нет
         final var now = System.currentTimeMillis();
         if (ids.isEmpty()) {
             return List.of();
         }
         final var result = jdbcClient.sql(GET_BY_ID)
             .param("id_list", ids.stream().map(PersonageId::value).toList())
-            .param("active_status_id", EventStatus.LAUNCHED.id())
             .query(this::mapRow)
             .list();
         if (logger.isDebugEnabled()) {
@@ -166,6 +178,16 @@ public class PersonageDao {
         return result;
     }
 
+    /**
+     * Сверяет суммы предметов и текущее событие с исходными таблицами и исправляет расхождения
+     * @return персонажи, у которых данные разошлись
+     */
+    public List<PersonageId> rebuildDerivedData() {
+        return jdbcClient.sql(REBUILD_DERIVED_DATA)
+            .query((rs, _) -> PersonageId.from(rs.getLong("id")))
+            .list();
+    }
+
     public boolean toggleIsHidden(PersonageId id) {
         final var sql = "UPDATE personage SET is_hidden = NOT is_hidden WHERE id = :id RETURNING is_hidden";
         return jdbcClient.sql(sql)
@@ -186,6 +208,21 @@ public class PersonageDao {
             .single();
     }
 
+    private SqlParameterSource updateParams(Personage personage) {
+        return new MapSqlParameterSource()
+            .addValue("id", personage.id().value())
+            .addValue("name", personage.name())
+            .addValue("strength", personage.characteristics().strength())
+            .addValue("agility", personage.characteristics().agility())
+            .addValue("wisdom", personage.characteristics().wisdom())
+            .addValue("health", personage.characteristics().health())
+            .addValue("last_energy_change", personage.energy().lastChange())
+            .addValue("energy", personage.energy().value())
+            .addValue("money", personage.money().value())
+            .addValue("effects", jsonUtils.mapToPostgresJson(personage.effects()))
+            .addValue("energy_recovery_notification_time", personage.energy().energyRecoveryTime().orElse(null));
+    }
+
     private Personage mapRow(ResultSet rs, int rowNum) throws SQLException {
         final var eventType = Optional.ofNullable(DatabaseUtils.getIntOrNull(rs, "event_type")).map(EventType::get);
         return new Personage(
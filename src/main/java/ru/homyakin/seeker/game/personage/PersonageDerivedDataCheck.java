@@ -0,0 +1,36 @@
+package ru.homyakin.seeker.game.personage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Суммы надетых предметов и текущее событие в personage поддерживаются в тех же запросах, что меняют предметы и события.
+ * Периодическая сверка с исходными таблицами исправляет расхождения, например после ручных правок в базе
+ */
+@Component
+public class PersonageDerivedDataCheck {
+    private static final Logger logger = LoggerFactory.getLogger(PersonageDerivedDataCheck.class);
+    private final PersonageDao personageDao;
+    private final PersonageCache personageCache;
+
+    public PersonageDerivedDataCheck(PersonageDao personageDao, PersonageCache personageCache) {
+        this.personageDao = personageDao;
+        this.personageCache = personageCache;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${homyakin.seeker.personage.derivedDataCheckInterval}",
+        initialDelayString = "${homyakin.seeker.personage.derivedDataCheckInterval}"
+    )
+    public void check() {
+        final var fixed = personageDao.rebuildDerivedData();
+        if (fixed.isEmpty()) {
+            logger.debug("Personage derived data is consistent");
+            return;
+        }
+        logger.warn("Fixed derived data of {} personages: {}", fixed.size(), fixed);
+        personageCache.invalidateAll(fixed);
+    }
+}
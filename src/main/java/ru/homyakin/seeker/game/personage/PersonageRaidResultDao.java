@@ -3,9 +3,12 @@ package ru.homyakin.seeker.game.personage;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import javax.sql.DataSource;
+import java.util.stream.Stream;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -16,6 +19,8 @@ import ru.homyakin.seeker.game.event.models.EventStatus;
 import ru.homyakin.seeker.game.event.launched.LaunchedEvent;
 import ru.homyakin.seeker.game.item.models.Item;
 import ru.homyakin.seeker.game.models.Money;
+import ru.homyakin.seeker.game.personage.models.Characteristics;
+import ru.homyakin.seeker.game.personage.models.LifetimeRaidStats;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.personage.models.PersonageRaidResult;
 import ru.homyakin.seeker.game.personage.models.PersonageRaidSavedResult;
@@ -24,28 +29,72 @@ import ru.homyakin.seeker.utils.JsonUtils;
 
 @Component
 public class PersonageRaidResultDao {
+    private static final int HISTORY_PAGE_SIZE = 500;
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
 
-    public PersonageRaidResultDao(DataSource dataSource, JsonUtils jsonUtils) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcClient = JdbcClient.create(jdbcTemplate);
+    public PersonageRaidResultDao(NamedParameterJdbcTemplate jdbcTemplate, JdbcClient jdbcClient, JsonUtils jsonUtils) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
     }
 
+    /**
+     * Вместе с результатами обновляет суммарную статистику персонажей в personage_raid_lifetime_stats
+     */
     public void saveBatch(List<PersonageRaidResult> results, LaunchedEvent launchedEvent) {
         final var parameters = new ArrayList<SqlParameterSource>();
+        final var lifetimeParameters = new ArrayList<SqlParameterSource>();
         for (PersonageRaidResult result : results) {
             MapSqlParameterSource paramSource = new MapSqlParameterSource()
                 .addValue("personage_id", result.participant().personage().id().value())
                 .addValue("launched_event_id", launchedEvent.id())
-                .addValue("stats", jsonUtils.mapToPostgresJson(result.stats()))
                 .addValue("reward", result.reward().value())
                 .addValue("generated_item_id", result.generatedItem().map(Item::id).orElse(null));
+            addStats(paramSource, result.stats());
             parameters.add(paramSource);
+            lifetimeParameters.add(
+                new MapSqlParameterSource()
+                    .addValue("personage_id", result.participant().personage().id().value())
+                    .addValue("items_count", result.generatedItem().isPresent() ? 1 : 0)
+                    .addValue("reward", result.reward().value())
+                    .addValue("normal_damage_dealt", result.stats().normalDamageDealt())
+                    .addValue("normal_attack_count", result.stats().normalAttackCount())
+                    .addValue("crit_damage_dealt", result.stats().critDamageDealt())
+                    .addValue("crits_count", result.stats().critsCount())
+                    .addValue("damage_blocked", result.stats().damageBlocked())
+                    .addValue("block_count", result.stats().blockCount())
+                    .addValue("damage_dodged", result.stats().damageDodged())
+                    .addValue("dodges_count", result.stats().dodgesCount())
+                    .addValue("misses_count", result.stats().missesCount())
+            );
         }
         jdbcTemplate.batchUpdate(SAVE_RESULT, parameters.toArray(new SqlParameterSource[0]));
+        jdbcTemplate.batchUpdate(ADD_LIFETIME_STATS, lifetimeParameters.toArray(new SqlParameterSource[0]));
+    }
+
+    public Optional<LifetimeRaidStats> getLifetimeStats(PersonageId personageId) {
+        return jdbcClient.sql(SELECT_LIFETIME_STATS)
+            .param("personage_id", personageId.value())
+            .query(this::mapLifetimeStats)
+            .optional();
+    }
+
+    /**
+     * Вся история рейдов персонажа от новых к старым.
+     * Читается страницами по launched_event_id: следующая страница запрашивается только когда поток дошёл до её начала,
+     * поэтому в памяти одновременно не больше одной страницы
+     */
+    public Stream<PersonageRaidSavedResult> streamByPersonage(PersonageId personageId) {
+        return Stream.iterate(
+                getPageBefore(personageId, Long.MAX_VALUE),
+                page -> !page.isEmpty(),
+                page -> page.size() < HISTORY_PAGE_SIZE
+                    ? List.of()
+                    : getPageBefore(personageId, page.getLast().launchedEventId())
+            )
+            .flatMap(List::stream);
     }
 
     public Optional<PersonageRaidSavedResult> getLastByPersonage(PersonageId personageId) {
@@ -63,35 +112,108 @@ public class PersonageRaidResultDao {
             .optional();
     }
 
-    public int countSuccessRaidsFromLastItem(PersonageId personageId) {
+    /**
+     * Количество успешных рейдов без предмета с момента последнего выпавшего предмета,
+     * у персонажей без таких рейдов в результате 0.
+     * Считается по всей истории, нужно только для сверки со счётчиком из PersonageStreakDao
+     */
+    public Map<PersonageId, Integer> countSuccessRaidsFromLastItem(Collection<PersonageId> personageIds) {
+        if (personageIds.isEmpty()) {
+            return Map.of();
+        }
         final var sql = """
             WITH last_non_null_item AS (
-                SELECT MAX(launched_event_id) AS last_event_with_item -- could be null
+                SELECT personage_id, MAX(launched_event_id) AS last_event_with_item
                 FROM personage_raid_result
-                WHERE personage_id = :personage_id AND generated_item_id IS NOT NULL
+                WHERE personage_id IN (:id_list) AND generated_item_id IS NOT NULL
+                GROUP BY personage_id
             )
-            SELECT SUM(
+            SELECT prr.personage_id, SUM(
                 CASE WHEN COALESCE((pte.personage_params->>'isExhausted')::boolean, false) = false THEN 1 ELSE 0 END
             ) AS raids_count
             FROM personage_raid_result prr
+            LEFT JOIN last_non_null_item lnni ON lnni.personage_id = prr.personage_id
             LEFT JOIN personage_to_event pte ON pte.personage_id = prr.personage_id AND pte.launched_event_id = prr.launched_event_id
             LEFT JOIN launched_event le on le.id = pte.launched_event_id
-            WHERE prr.personage_id = :personage_id
+            WHERE prr.personage_id IN (:id_list)
             AND prr.launched_event_id > -- more id => newer event
-                COALESCE((SELECT last_event_with_item FROM last_non_null_item), -1) -- all events id > 0
+                COALESCE(lnni.last_event_with_item, -1) -- all events id > 0
             AND le.status_id = :success_status_id
             AND generated_item_id IS NULL
+            GROUP BY prr.personage_id
             """;
-        return jdbcClient.sql(sql)
-            .param("personage_id", personageId.value())
+        final var result = new HashMap<PersonageId, Integer>();
+        personageIds.forEach(id -> result.put(id, 0));
+        jdbcClient.sql(sql)
+            .param("id_list", personageIds.stream().map(PersonageId::value).toList())
             .param("success_status_id", EventStatus.SUCCESS.id())
-            .query((rs, _) -> rs.getInt("raids_count"))
-            .single();
+            .query(rs -> {
+                result.put(PersonageId.from(rs.getLong("personage_id")), rs.getInt("raids_count"));
+            });
+        return result;
+    }
+
+    /**
+     * Переносит статистику из JSON в колонки для следующей порции строк
+     * @return количество перенесённых строк, 0 - переносить больше нечего
+     */
+    public int convertJsonStats(int batchSize) {
+        return jdbcClient.sql(CONVERT_JSON_STATS)
+            .param("batch_size", batchSize)
+            .update();
+    }
+
+    private List<PersonageRaidSavedResult> getPageBefore(PersonageId personageId, long launchedEventId) {
+        return jdbcClient.sql(SELECT_PAGE_BEFORE_EVENT)
+            .param("personage_id", personageId.value())
+            .param("launched_event_id", launchedEventId)
+            .param("limit", HISTORY_PAGE_SIZE)
+            .query(this::mapRow)
+            .list();
     }
 
     private static final String SAVE_RESULT = """
-        INSERT INTO personage_raid_result (personage_id, launched_event_id, stats, reward, generated_item_id)
-        VALUES (:personage_id, :launched_event_id, CAST(:stats AS JSON), :reward, :generated_item_id)
+        INSERT INTO personage_raid_result (
+            personage_id, launched_event_id, reward, generated_item_id,
+            remain_health, normal_damage_dealt, normal_attack_count, crit_damage_dealt, crits_count,
+            damage_blocked, block_count, damage_dodged, dodges_count, misses_count,
+            health, attack, defense, strength, agility, wisdom
+        )
+        VALUES (
+            :personage_id, :launched_event_id, :reward, :generated_item_id,
+            :remain_health, :normal_damage_dealt, :normal_attack_count, :crit_damage_dealt, :crits_count,
+            :damage_blocked, :block_count, :damage_dodged, :dodges_count, :misses_count,
+            :health, :attack, :defense, :strength, :agility, :wisdom
+        )
+        """;
+
+    private static final String CONVERT_JSON_STATS = """
+        UPDATE personage_raid_result prr SET
+            remain_health = (prr.stats->>'remainHealth')::int,
+            normal_damage_dealt = (prr.stats->>'normalDamageDealt')::bigint,
+            normal_attack_count = (prr.stats->>'normalAttackCount')::bigint,
+            crit_damage_dealt = (prr.stats->>'critDamageDealt')::bigint,
+            crits_count = (prr.stats->>'critsCount')::bigint,
+            damage_blocked = (prr.stats->>'damageBlocked')::bigint,
+            block_count = (prr.stats->>'blockCount')::bigint,
+            damage_dodged = (prr.stats->>'damageDodged')::bigint,
+            dodges_count = (prr.stats->>'dodgesCount')::bigint,
+            misses_count = (prr.stats->>'missesCount')::bigint,
+            health = (prr.stats->'characteristics'->>'health')::int,
+            attack = (prr.stats->'characteristics'->>'attack')::int,
+            defense = (prr.stats->'characteristics'->>'defense')::int,
+            strength = (prr.stats->'characteristics'->>'strength')::int,
+            agility = (prr.stats->'characteristics'->>'agility')::int,
+            wisdom = (prr.stats->'characteristics'->>'wisdom')::int,
+            stats = NULL
+        FROM (
+            SELECT personage_id, launched_event_id
+            FROM personage_raid_result
+            WHERE stats IS NOT NULL
+            LIMIT :batch_size
+            FOR UPDATE SKIP LOCKED
+        ) batch
+        WHERE prr.personage_id = batch.personage_id AND prr.launched_event_id = batch.launched_event_id
         """;
 
     private static final String SELECT_LAST_RESULT = """
@@ -109,13 +231,119 @@ public class PersonageRaidResultDao {
         and launched_event_id = :launched_event_id
         """;
 
+    private static final String SELECT_PAGE_BEFORE_EVENT = """
+        SELECT *
+        FROM personage_raid_result
+        WHERE personage_id = :personage_id
+        AND launched_event_id < :launched_event_id
+        ORDER BY launched_event_id DESC
+        LIMIT :limit
+        """;
+
+    private static final String ADD_LIFETIME_STATS = """
+        INSERT INTO personage_raid_lifetime_stats AS s (
+            personage_id, raids_count, items_count, reward,
+            normal_damage_dealt, normal_attack_count, crit_damage_dealt, crits_count,
+            damage_blocked, block_count, damage_dodged, dodges_count, misses_count
+        )
+        VALUES (
+            :personage_id, 1, :items_count, :reward,
+            :normal_damage_dealt, :normal_attack_count, :crit_damage_dealt, :crits_count,
+            :damage_blocked, :block_count, :damage_dodged, :dodges_count, :misses_count
+        )
+        ON CONFLICT (personage_id) DO UPDATE SET
+            raids_count = s.raids_count + EXCLUDED.raids_count,
+            items_count = s.items_count + EXCLUDED.items_count,
+            reward = s.reward + EXCLUDED.reward,
+            normal_damage_dealt = s.normal_damage_dealt + EXCLUDED.normal_damage_dealt,
+            normal_attack_count = s.normal_attack_count + EXCLUDED.normal_attack_count,
+            crit_damage_dealt = s.crit_damage_dealt + EXCLUDED.crit_damage_dealt,
+            crits_count = s.crits_count + EXCLUDED.crits_count,
+            damage_blocked = s.damage_blocked + EXCLUDED.damage_blocked,
+            block_count = s.block_count + EXCLUDED.block_count,
+            damage_dodged = s.damage_dodged + EXCLUDED.damage_dodged,
+            dodges_count = s.dodges_count + EXCLUDED.dodges_count,
+            misses_count = s.misses_count + EXCLUDED.misses_count
+        """;
+
+    private static final String SELECT_LIFETIME_STATS = """
+        SELECT * FROM personage_raid_lifetime_stats WHERE personage_id = :personage_id
+        """;
+
+    private LifetimeRaidStats mapLifetimeStats(ResultSet rs, int rowNum) throws SQLException {
+        return new LifetimeRaidStats(
+            rs.getInt("raids_count"),
+            rs.getInt("items_count"),
+            rs.getLong("reward"),
+            rs.getLong("normal_damage_dealt"),
+            rs.getLong("normal_attack_count"),
+            rs.getLong("crit_damage_dealt"),
+            rs.getLong("crits_count"),
+            rs.getLong("damage_blocked"),
+            rs.getLong("block_count"),
+            rs.getLong("damage_dodged"),
+            rs.getLong("dodges_count"),
+            rs.getLong("misses_count")
+        );
+    }
+
     private PersonageRaidSavedResult mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new PersonageRaidSavedResult(
             PersonageId.from(rs.getLong("personage_id")),
             rs.getLong("launched_event_id"),
-            jsonUtils.fromString(rs.getString("stats"), PersonageBattleStats.class),
+            mapStats(rs),
             Money.from(rs.getInt("reward")),
             Optional.ofNullable(DatabaseUtils.getLongOrNull(rs, "generated_item_id"))
         );
     }
+
+    /**
+     * Строки, которые ещё не перенесены из JSON, читаются по-старому
+     */
+    private PersonageBattleStats mapStats(ResultSet rs) throws SQLException {
+        final var json = rs.getString("stats");
+        if (json != null) {
+            return jsonUtils.fromString(json, PersonageBattleStats.class);
+        }
+        return new PersonageBattleStats(
+            rs.getInt("remain_health"),
+            rs.getLong("normal_damage_dealt"),
+            rs.getLong("normal_attack_count"),
+            rs.getLong("crit_damage_dealt"),
+            rs.getLong("crits_count"),
+            rs.getLong("damage_blocked"),
+            rs.getLong("block_count"),
+            rs.getLong("damage_dodged"),
+            rs.getLong("dodges_count"),
+            rs.getLong("misses_count"),
+            new Characteristics(
+                rs.getInt("health"),
+                rs.getInt("attack"),
+                rs.getInt("defense"),
+                rs.getInt("strength"),
+                rs.getInt("agility"),
+                rs.getInt("wisdom")
+            )
+        );
+    }
+
+    private static void addStats(MapSqlParameterSource paramSource, PersonageBattleStats stats) {
+        paramSource
+            .addValue("remain_health", stats.remainHealth())
+            .addValue("normal_damage_dealt", stats.normalDamageDealt())
+            .addValue("normal_attack_count", stats.normalAttackCount())
+            .addValue("crit_damage_dealt", stats.critDamageDealt())
+            .addValue("crits_count", stats.critsCount())
+            .addValue("damage_blocked", stats.damageBlocked())
+            .addValue("block_count", stats.blockCount())
+            .addValue("damage_dodged", stats.damageDodged())
+            .addValue("dodges_count", stats.dodgesCount())
+            .addValue("misses_count", stats.missesCount())
+            .addValue("health", stats.characteristics().health())
+            .addValue("attack", stats.characteristics().attack())
+            .addValue("defense", stats.characteristics().defense())
+            .addValue("strength", stats.characteristics().strength())
+            .addValue("agility", stats.characteristics().agility())
+            .addValue("wisdom", stats.characteristics().wisdom());
+    }
 }
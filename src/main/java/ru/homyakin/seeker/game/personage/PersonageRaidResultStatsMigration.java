@@ -0,0 +1,40 @@
+package ru.homyakin.seeker.game.personage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Переносит статистику старых результатов рейдов из JSON в колонки небольшими порциями,
+ * чтобы не блокировать таблицу надолго. Каждая порция - отдельная короткая транзакция
+ */
+@Component
+public class PersonageRaidResultStatsMigration {
+    private static final Logger logger = LoggerFactory.getLogger(PersonageRaidResultStatsMigration.class);
+    private final PersonageRaidResultDao personageRaidResultDao;
+    private final RaidResultStatsMigrationConfig config;
+    private volatile boolean finished = false;
+
+    public PersonageRaidResultStatsMigration(
+        PersonageRaidResultDao personageRaidResultDao,
+        RaidResultStatsMigrationConfig config
+    ) {
+        this.personageRaidResultDao = personageRaidResultDao;
+        this.config = config;
+    }
+
+    @Scheduled(fixedDelayString = "${homyakin.seeker.personage.raid-result-stats-migration.interval}")
+    public void convertNextBatch() {
+        if (finished) {
+            return;
+        }
+        final var converted = personageRaidResultDao.convertJsonStats(config.batchSize());
+        if (converted == 0) {
+            logger.info("All raid results stats are stored in columns");
+            finished = true;
+            return;
+        }
+        logger.debug("Converted {} raid results stats from json", converted);
+    }
+}
@@ -3,9 +3,13 @@ package ru.homyakin.seeker.game.personage;
 import io.vavr.control.Either;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +20,7 @@ import ru.homyakin.seeker.game.personage.models.effect.PersonageEffect;
 import ru.homyakin.seeker.game.personage.models.effect.PersonageEffectType;
 import ru.homyakin.seeker.game.personage.models.PersonageRaidResult;
 import ru.homyakin.seeker.game.models.Money;
+import ru.homyakin.seeker.game.personage.models.LifetimeRaidStats;
 import ru.homyakin.seeker.game.personage.models.Personage;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.personage.models.PersonageRaidSavedResult;
@@ -24,23 +29,41 @@ import ru.homyakin.seeker.game.personage.models.errors.NotEnoughEnergy;
 import ru.homyakin.seeker.game.personage.models.errors.NotEnoughLevelingPoints;
 import ru.homyakin.seeker.game.personage.models.errors.NotEnoughMoney;
 import ru.homyakin.seeker.game.utils.NameValidator;
+import ru.homyakin.seeker.game.top.TopService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.utils.TimeUtils;
 
 @Service
 public class PersonageService {
     private static final Logger logger = LoggerFactory.getLogger(PersonageService.class);
     private final PersonageDao personageDao;
+    private final PersonageCache personageCache;
     private final PersonageRaidResultDao personageRaidResultDao;
+    private final PersonageStreakDao personageStreakDao;
+    private final PersonageStreakConfig streakConfig;
     private final BadgeService badgeService;
+    private final DeadlineQueue deadlineQueue;
+    private final TopService topService;
 
     public PersonageService(
         PersonageDao personageDao,
+        PersonageCache personageCache,
         PersonageRaidResultDao personageRaidResultDao,
-        BadgeService badgeService
+        PersonageStreakDao personageStreakDao,
+        PersonageStreakConfig streakConfig,
+        BadgeService badgeService,
+        DeadlineQueue deadlineQueue,
+        TopService topService
     ) {
         this.personageDao = personageDao;
+        this.personageCache = personageCache;
         this.personageRaidResultDao = personageRaidResultDao;
+        this.personageStreakDao = personageStreakDao;
+        this.streakConfig = streakConfig;
         this.badgeService = badgeService;
+        this.deadlineQueue = deadlineQueue;
+        this.topService = topService;
     }
 
     public Personage createPersonage() {
@@ -59,12 +82,8 @@ public class PersonageService {
     }
 
     public Optional<Personage> getById(PersonageId personageId) {
-        return personageDao.getById(personageId)
-            .map(personage ->
-                personage.updateStateIfNeed(TimeUtils.moscowTime())
-                    .peek(personageDao::update)
-                    .getOrElse(personage)
-            );
+        return personageCache.get(personageId, personageDao::getById)
+            .map(personage -> personageCache.updateStateLater(personage, TimeUtils.moscowTime()));
     }
 
     public Personage getByIdForce(PersonageId personageId) {
@@ -72,33 +91,63 @@ public class PersonageService {
             .orElseThrow(() -> new IllegalStateException("Personage must be present with id " + personageId));
     }
 
+    /**
+     * Как getByIdForce, но восстановленное состояние записывается в базу сразу, а не при следующем сбросе кэша
+     */
+    public Personage refreshStateForce(PersonageId personageId) {
+        final var personage = personageCache.get(personageId, personageDao::getById)
+            .orElseThrow(() -> new IllegalStateException("Personage must be present with id " + personageId));
+        final var updated = personage.updateStateIfNeed(TimeUtils.moscowTime()).getOrElse(personage);
+        personageCache.save(updated);
+        return updated;
+    }
+
     public List<Personage> getByIds(Set<PersonageId> ids) {
         final var now = TimeUtils.moscowTime();
-        return personageDao.getByIds(ids)
-            .stream()
-            .map(
-                personage -> personage.updateStateIfNeed(now)
-                    .peek(personageDao::update)
-                    .getOrElse(personage)
-            )
+        final var cached = personageCache.getAllPresent(ids);
+        final var missing = ids.stream().filter(id -> !cached.containsKey(id)).collect(Collectors.toSet());
+        final var loaded = personageCache.putAll(personageDao.getByIds(missing));
+        return Stream.concat(cached.values().stream(), loaded.stream())
+            .map(personage -> personageCache.updateStateLater(personage, now))
             .toList();
     }
 
+    /**
+     * Нужно вызывать после изменения предметов, значков или событий персонажа
+     */
+    public void invalidateCache(PersonageId personageId) {
+        personageCache.invalidate(personageId);
+    }
+
+    public void invalidateCache(Collection<PersonageId> personageIds) {
+        personageCache.invalidateAll(personageIds);
+    }
+
     public Personage addMoney(Personage personage, Money money) {
         final var updatedPersonage = personage.addMoney(money);
-        personageDao.update(updatedPersonage);
+        personageCache.save(updatedPersonage);
         return updatedPersonage;
     }
 
-    public Personage addMoney(Personage personage, Money money, LocalDateTime energyChangeTime) {
-        final var updatedPersonage = personage
-            .addMoney(money);
-        personageDao.update(updatedPersonage);
-        return updatedPersonage;
+    /**
+     * Начисляет деньги сразу нескольким персонажам, в базу уходит один batch запрос
+     */
+    public List<Personage> addMoney(Collection<Personage> personages, Map<PersonageId, Money> money) {
+        final var updatedPersonages = personages.stream()
+            .map(personage -> personage.addMoney(money.getOrDefault(personage.id(), Money.zero())))
+            .toList();
+        personageCache.saveAll(updatedPersonages);
+        return updatedPersonages;
     }
 
-    public void saveRaidResults(List<PersonageRaidResult> results, LaunchedEvent launchedEvent) {
+    /**
+     * Вместе с результатами обновляет счётчик успешных рейдов без предмета
+     */
+    public void saveRaidResults(List<PersonageRaidResult> results, LaunchedEvent launchedEvent, boolean isSuccess) {
         personageRaidResultDao.saveBatch(results, launchedEvent);
+        if (isSuccess) {
+            personageStreakDao.updateAfterSuccessRaid(results);
+        }
     }
 
     public Optional<PersonageRaidSavedResult> getLastRaidResult(PersonageId personageId) {
@@ -109,50 +158,83 @@ public class PersonageService {
         return personageRaidResultDao.getByPersonageAndEvent(personageId, launchedEventId);
     }
 
+    public LifetimeRaidStats getLifetimeRaidStats(PersonageId personageId) {
+        return personageRaidResultDao.getLifetimeStats(personageId).orElseGet(LifetimeRaidStats::empty);
+    }
+
+    /**
+     * История от новых рейдов к старым, страницы читаются из базы по мере прохода по потоку
+     */
+    public Stream<PersonageRaidSavedResult> streamRaidHistory(PersonageId personageId) {
+        return personageRaidResultDao.streamByPersonage(personageId);
+    }
+
     public Personage takeMoney(Personage personage, Money money) {
         return addMoney(personage, money.negative());
     }
 
     public Either<NotEnoughLevelingPoints, Personage> incrementStrength(Personage personage) {
-        return personage.incrementStrength().peek(personageDao::update);
+        return personage.incrementStrength().peek(personageCache::save);
     }
 
     public Either<NotEnoughLevelingPoints, Personage> incrementAgility(Personage personage) {
-        return personage.incrementAgility().peek(personageDao::update);
+        return personage.incrementAgility().peek(personageCache::save);
     }
 
     public Either<NotEnoughLevelingPoints, Personage> incrementWisdom(Personage personage) {
-        return personage.incrementWisdom().peek(personageDao::update);
+        return personage.incrementWisdom().peek(personageCache::save);
     }
 
     public Either<NameError, Personage> changeName(Personage personage, String name) {
-        return personage.changeName(name).peek(personageDao::update);
+        return personage.changeName(name).peek(personageCache::save);
+    }
+
+    public Map<PersonageId, Integer> countSuccessRaidsFromLastItem(Collection<PersonageId> personageIds) {
+        final var result = personageStreakDao.getRaidsWithoutItem(personageIds);
+        if (streakConfig.verify()) {
+            final var fromHistory = personageRaidResultDao.countSuccessRaidsFromLastItem(personageIds);
+            if (!fromHistory.equals(result)) {
+                logger.warn("Raids without item streak {} differs from history {}", result, fromHistory);
+            }
+        }
+        return result;
     }
 
-    public int countSuccessRaidsFromLastItem(PersonageId personageId) {
-        return personageRaidResultDao.countSuccessRaidsFromLastItem(personageId);
+    public int countFailedQuestsInRow(PersonageId personageId) {
+        final var result = personageStreakDao.getFailedQuestsInRow(personageId);
+        if (streakConfig.verify()) {
+            final var fromHistory = personageStreakDao.countFailedQuestsInRowFromHistory(personageId);
+            if (fromHistory != result) {
+                logger.warn("Failed quests streak {} of personage {} differs from history {}", result, personageId, fromHistory);
+            }
+        }
+        return result;
+    }
+
+    public void updateQuestStreak(PersonageId personageId, boolean isSuccess) {
+        personageStreakDao.updateAfterQuest(personageId, isSuccess);
     }
 
     public Either<NotEnoughMoney, Personage> resetStats(Personage personage) {
         return personage
             .resetStats()
-            .peek(personageDao::update);
+            .peek(personageCache::save);
     }
 
     /**
      * @return Either.Left если денег недостаточно, Either.Right - количество успешно списанных денег
      */
     public Either<NotEnoughMoney, Money> initChangeName(PersonageId id) {
-        return getByIdForce(id).initChangeName().peek(personageDao::update).map(_ -> Personage.CHANGE_NAME_COST);
+        return getByIdForce(id).initChangeName().peek(personageCache::save).map(_ -> Personage.CHANGE_NAME_COST);
     }
 
     public void cancelChangeName(PersonageId id) {
-        getByIdForce(id).cancelChangeName().peek(personageDao::update);
+        getByIdForce(id).cancelChangeName().peek(personageCache::save);
     }
 
     public Personage addEffect(Personage personage, PersonageEffectType type, PersonageEffect effect) {
         final var updatedPersonage = personage.addEffect(type, effect);
-        personageDao.update(updatedPersonage);
+        personageCache.save(updatedPersonage);
         return updatedPersonage;
     }
 
@@ -165,11 +247,19 @@ public class PersonageService {
     }
 
     public Either<NotEnoughEnergy, Personage> reduceEnergy(Personage personage, int requiredEnergy, LocalDateTime time) {
-        return personage.reduceEnergy(time, requiredEnergy).peek(personageDao::update);
+        return personage.reduceEnergy(time, requiredEnergy)
+            .peek(personageCache::save)
+            .peek(
+                updated -> updated.energy().energyRecoveryTime().ifPresent(
+                    recoveryTime -> deadlineQueue.schedule(DeadlineType.ENERGY_RECOVERY, updated.id().value(), recoveryTime)
+                )
+            );
     }
 
     public boolean toggleIsHidden(PersonageId personageId) {
-        return personageDao.toggleIsHidden(personageId);
+        final var isHidden = personageDao.toggleIsHidden(personageId);
+        topService.onPersonageHiddenChanged();
+        return isHidden;
     }
 
     public long getActivePersonagesCount(LocalDateTime start) {
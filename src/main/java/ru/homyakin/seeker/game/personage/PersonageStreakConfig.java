@@ -0,0 +1,12 @@
+package ru.homyakin.seeker.game.personage;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param verify сверять счётчики с подсчётом по истории и писать расхождения в лог
+ */
+@ConfigurationProperties("homyakin.seeker.personage.streak")
+public record PersonageStreakConfig(
+    boolean verify
+) {
+}
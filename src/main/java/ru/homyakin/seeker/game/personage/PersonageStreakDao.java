@@ -0,0 +1,128 @@
+package ru.homyakin.seeker.game.personage;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.game.event.models.EventStatus;
+import ru.homyakin.seeker.game.event.models.EventType;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.personage.models.PersonageRaidResult;
+
+/**
+ * Счётчики personage_streak: успешные рейды без предмета и проваленные квесты подряд.
+ * Персонаж без строки в таблице считается с нулевыми счётчиками
+ */
+@Component
+public class PersonageStreakDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcClient jdbcClient;
+
+    public PersonageStreakDao(NamedParameterJdbcTemplate jdbcTemplate, JdbcClient jdbcClient) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
+    }
+
+    public Map<PersonageId, Integer> getRaidsWithoutItem(Collection<PersonageId> personageIds) {
+        if (personageIds.isEmpty()) {
+            return Map.of();
+        }
+        final var result = new HashMap<PersonageId, Integer>();
+        personageIds.forEach(id -> result.put(id, 0));
+        jdbcClient.sql(SELECT_RAIDS_WITHOUT_ITEM)
+            .param("id_list", personageIds.stream().map(PersonageId::value).toList())
+            .query(rs -> {
+                result.put(PersonageId.from(rs.getLong("personage_id")), rs.getInt("raids_without_item"));
+            });
+        return result;
+    }
+
+    public int getFailedQuestsInRow(PersonageId personageId) {
+        return jdbcClient.sql(SELECT_FAILED_QUESTS_IN_ROW)
+            .param("personage_id", personageId.value())
+            .query(Integer.class)
+            .optional()
+            .orElse(0);
+    }
+
+    /**
+     * Вызывается только для успешного рейда: выпавший предмет сбрасывает счётчик,
+     * уставшим участникам рейд не засчитывается, остальным счётчик увеличивается
+     */
+    public void updateAfterSuccessRaid(List<PersonageRaidResult> results) {
+        final var parameters = results.stream()
+            .filter(it -> it.generatedItem().isPresent() || !it.participant().params().isExhausted())
+            .map(it -> new MapSqlParameterSource()
+                .addValue("personage_id", it.participant().personage().id().value())
+                .addValue("has_item", it.generatedItem().isPresent())
+            )
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_RAIDS_WITHOUT_ITEM, parameters);
+    }
+
+    public void updateAfterQuest(PersonageId personageId, boolean isSuccess) {
+        jdbcClient.sql(UPDATE_FAILED_QUESTS_IN_ROW)
+            .param("personage_id", personageId.value())
+            .param("is_success", isSuccess)
+            .update();
+    }
+
+    /**
+     * Подсчёт по всей истории квестов, нужен только для сверки со счётчиком
+     */
+    public int countFailedQuestsInRowFromHistory(PersonageId personageId) {
+        // Последний успех ищется с новых секций, а условие на launched_event_id отсекает секции до него
+        final var sql = """
+            WITH last_success AS (
+                SELECT pte.launched_event_id
+                FROM personage_to_event pte
+                INNER JOIN launched_event le on pte.launched_event_id = le.id
+                INNER JOIN event e on le.event_id = e.id
+                WHERE pte.personage_id = :personage_id
+                AND le.status_id = :success_id
+                AND e.type_id = :quest_id
+                ORDER BY pte.launched_event_id DESC
+                LIMIT 1
+            )
+            SELECT COUNT(*) AS failed_quests_count
+            FROM personage_to_event pte
+            INNER JOIN launched_event le on pte.launched_event_id = le.id
+            INNER JOIN event e on le.event_id = e.id
+            WHERE pte.personage_id = :personage_id
+            AND le.status_id = :fail_id
+            AND e.type_id = :quest_id
+            AND pte.launched_event_id > -- more id => newer event
+                COALESCE((SELECT launched_event_id FROM last_success), -1) -- all events id > 0
+        """;
+        return jdbcClient.sql(sql)
+            .param("personage_id", personageId.value())
+            .param("success_id", EventStatus.SUCCESS.id())
+            .param("fail_id", EventStatus.FAILED.id())
+            .param("quest_id", EventType.PERSONAL_QUEST.id())
+            .query((rs, _) -> rs.getInt("failed_quests_count"))
+            .single();
+    }
+
+    private static final String SELECT_RAIDS_WITHOUT_ITEM = """
+        SELECT personage_id, raids_without_item FROM personage_streak WHERE personage_id IN (:id_list)""";
+
+    private static final String SELECT_FAILED_QUESTS_IN_ROW = """
+        SELECT failed_quests_in_row FROM personage_streak WHERE personage_id = :personage_id""";
+
+    private static final String UPDATE_RAIDS_WITHOUT_ITEM = """
+        INSERT INTO personage_streak (personage_id, raids_without_item)
+        VALUES (:personage_id, CASE WHEN :has_item THEN 0 ELSE 1 END)
+        ON CONFLICT (personage_id) DO UPDATE SET raids_without_item =
+            CASE WHEN :has_item THEN 0 ELSE personage_streak.raids_without_item + 1 END""";
+
+    private static final String UPDATE_FAILED_QUESTS_IN_ROW = """
+        INSERT INTO personage_streak (personage_id, failed_quests_in_row)
+        VALUES (:personage_id, CASE WHEN :is_success THEN 0 ELSE 1 END)
+        ON CONFLICT (personage_id) DO UPDATE SET failed_quests_in_row =
+            CASE WHEN :is_success THEN 0 ELSE personage_streak.failed_quests_in_row + 1 END""";
+}
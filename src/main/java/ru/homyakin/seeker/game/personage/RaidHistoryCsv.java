@@ -0,0 +1,82 @@
+package ru.homyakin.seeker.game.personage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import ru.homyakin.seeker.game.personage.models.LifetimeRaidStats;
+import ru.homyakin.seeker.game.personage.models.PersonageRaidSavedResult;
+
+/**
+ * Выгрузка истории рейдов персонажа в CSV. Строки пишутся по мере чтения потока, вся история в памяти не держится
+ */
+public class RaidHistoryCsv {
+    private static final String SEPARATOR = ",";
+    private static final String HEADER = String.join(
+        SEPARATOR,
+        "launched_event_id",
+        "reward",
+        "generated_item_id",
+        "remain_health",
+        "normal_damage_dealt",
+        "normal_attack_count",
+        "crit_damage_dealt",
+        "crits_count",
+        "damage_blocked",
+        "block_count",
+        "damage_dodged",
+        "dodges_count",
+        "misses_count",
+        "attack",
+        "defense",
+        "health",
+        "strength",
+        "agility",
+        "wisdom"
+    );
+
+    /**
+     * @return суммарная статистика по записанным строкам
+     */
+    public static LifetimeRaidStats write(Stream<PersonageRaidSavedResult> history, Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        var total = LifetimeRaidStats.empty();
+        final Iterator<PersonageRaidSavedResult> iterator = history.iterator();
+        while (iterator.hasNext()) {
+            final var result = iterator.next();
+            writer.write(row(result));
+            writer.write('\n');
+            total = total.add(result);
+        }
+        writer.flush();
+        return total;
+    }
+
+    private static String row(PersonageRaidSavedResult result) {
+        final var stats = result.stats();
+        final var characteristics = stats.characteristics();
+        return String.join(
+            SEPARATOR,
+            String.valueOf(result.launchedEventId()),
+            String.valueOf(result.reward().value()),
+            result.generatedItemId().map(String::valueOf).orElse(""),
+            String.valueOf(stats.remainHealth()),
+            String.valueOf(stats.normalDamageDealt()),
+            String.valueOf(stats.normalAttackCount()),
+            String.valueOf(stats.critDamageDealt()),
+            String.valueOf(stats.critsCount()),
+            String.valueOf(stats.damageBlocked()),
+            String.valueOf(stats.blockCount()),
+            String.valueOf(stats.damageDodged()),
+            String.valueOf(stats.dodgesCount()),
+            String.valueOf(stats.missesCount()),
+            String.valueOf(characteristics.attack()),
+            String.valueOf(characteristics.defense()),
+            String.valueOf(characteristics.health()),
+            String.valueOf(characteristics.strength()),
+            String.valueOf(characteristics.agility()),
+            String.valueOf(characteristics.wisdom())
+        );
+    }
+}
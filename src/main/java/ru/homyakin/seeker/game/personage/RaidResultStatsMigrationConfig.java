@@ -0,0 +1,9 @@
+package ru.homyakin.seeker.game.personage;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("homyakin.seeker.personage.raid-result-stats-migration")
+public record RaidResultStatsMigrationConfig(
+    int batchSize
+) {
+}
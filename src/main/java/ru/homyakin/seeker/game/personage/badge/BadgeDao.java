@@ -5,7 +5,6 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import javax.sql.DataSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,8 +16,8 @@ import ru.homyakin.seeker.locale.Language;
 public class BadgeDao {
     private final JdbcClient jdbcClient;
 
-    public BadgeDao(DataSource dataSource) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public BadgeDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     @Transactional
@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import ru.homyakin.seeker.game.personage.PersonageCache;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.infrastructure.init.saving_models.SavingBadge;
 import ru.homyakin.seeker.utils.models.Success;
@@ -13,10 +14,12 @@ import ru.homyakin.seeker.utils.models.Success;
 @Service
 public class BadgeService {
     private final BadgeDao badgeDao;
+    private final PersonageCache personageCache;
 
     @Autowired
-    public BadgeService(BadgeDao badgeDao) {
+    public BadgeService(BadgeDao badgeDao, PersonageCache personageCache) {
         this.badgeDao = badgeDao;
+        this.personageCache = personageCache;
     }
 
     public void save(SavingBadge badge) {
@@ -43,6 +46,7 @@ public class BadgeService {
                     return Either.left(ActivatePersonageBadgeError.AlreadyActivated.INSTANCE);
                 } else {
                     badgeDao.activatePersonageBadge(personageId, badge);
+                    personageCache.invalidate(personageId);
                     return Either.right(Success.INSTANCE);
                 }
             })
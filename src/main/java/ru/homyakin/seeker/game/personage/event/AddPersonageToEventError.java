@@ -0,0 +1,10 @@
+package ru.homyakin.seeker.game.personage.event;
+
+import ru.homyakin.seeker.game.event.launched.LaunchedEvent;
+
+public sealed interface AddPersonageToEventError {
+    enum EventLocked implements AddPersonageToEventError { INSTANCE }
+
+    record EventInFinalStatus(LaunchedEvent launchedEvent) implements AddPersonageToEventError {
+    }
+}
@@ -1,7 +1,5 @@
 package ru.homyakin.seeker.game.personage.event;
 
-import javax.sql.DataSource;
-
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.event.launched.EventPersonageParams;
@@ -17,16 +15,23 @@ import java.util.stream.Collectors;
 
 @Component
 public class PersonageEventDao {
+    // Персонажа добавляют только в запущенное событие, поэтому оно сразу становится текущим
     private static final String SAVE_USER_EVENT = """
-        INSERT INTO personage_to_event (personage_id, launched_event_id, personage_params)
-        VALUES (:personage_id, :launched_event_id, :personage_params);
+        WITH inserted AS (
+            INSERT INTO personage_to_event (personage_id, launched_event_id, personage_params)
+            VALUES (:personage_id, :launched_event_id, :personage_params)
+            RETURNING personage_id, launched_event_id
+        )
+        UPDATE personage p SET active_launched_event_id = i.launched_event_id
+        FROM inserted i
+        WHERE p.id = i.personage_id
         """;
 
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
 
-    public PersonageEventDao(DataSource dataSource, JsonUtils jsonUtils) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public PersonageEventDao(JdbcClient jdbcClient, JsonUtils jsonUtils) {
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
     }
 
@@ -2,9 +2,10 @@ package ru.homyakin.seeker.game.personage.event;
 
 import io.vavr.control.Either;
 import org.springframework.stereotype.Service;
-import ru.homyakin.seeker.game.event.models.EventLocked;
+import ru.homyakin.seeker.game.event.launched.LaunchedEventDao;
 import ru.homyakin.seeker.game.event.raid.models.RaidPersonageParams;
 import ru.homyakin.seeker.game.personage.PersonageService;
+import ru.homyakin.seeker.infrastructure.lock.LockKey;
 import ru.homyakin.seeker.infrastructure.lock.LockPrefixes;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
 import ru.homyakin.seeker.utils.models.Success;
@@ -14,24 +15,47 @@ import java.util.List;
 @Service
 public class PersonageEventService {
     private final PersonageEventDao personageEventDao;
+    private final LaunchedEventDao launchedEventDao;
     private final PersonageService personageService;
     private final LockService lockService;
 
     public PersonageEventService(
         PersonageEventDao personageEventDao,
+        LaunchedEventDao launchedEventDao,
         PersonageService personageService,
         LockService lockService
     ) {
         this.personageEventDao = personageEventDao;
+        this.launchedEventDao = launchedEventDao;
         this.personageService = personageService;
         this.lockService = lockService;
     }
 
-    public Either<EventLocked, Success> addPersonageToLaunchedEvent(AddPersonageToEventRequest request) {
-        return lockService.tryLockAndExecute(
-            LockPrefixes.LAUNCHED_EVENT.name() + request.launchedEventId(),
-            () -> personageEventDao.save(request)
-        ).mapLeft(_ -> EventLocked.INSTANCE);
+    public Either<AddPersonageToEventError, Success> addPersonageToLaunchedEvent(AddPersonageToEventRequest request) {
+        // Вступление в событие может совпасть с его запуском или остановкой, поэтому ждём освобождения ключа
+        return lockService.<Either<AddPersonageToEventError, Success>>lockAndCalc(
+            new LockKey(LockPrefixes.LAUNCHED_EVENT, request.launchedEventId()),
+            () -> {
+                // Пока ждали блокировку, событие могло завершиться, поэтому статус перечитываем
+                final var launchedEvent = launchedEventDao.getById(request.launchedEventId());
+                if (launchedEvent.isPresent() && launchedEvent.get().isInFinalStatus()) {
+                    return Either.left(new AddPersonageToEventError.EventInFinalStatus(launchedEvent.get()));
+                }
+                personageEventDao.save(request);
+                personageService.invalidateCache(request.personageId());
+                return Either.right(Success.INSTANCE);
+            }
+        ).fold(
+            _ -> Either.left(AddPersonageToEventError.EventLocked.INSTANCE),
+            either -> either
+        );
+    }
+
+    /**
+     * Участники события хранят его в текущем, поэтому после смены статуса события их нужно перечитать
+     */
+    public void invalidateParticipants(long launchedEventId) {
+        personageService.invalidateCache(personageEventDao.getPersonageParamsByLaunchedEvent(launchedEventId).keySet());
     }
 
     public List<RaidParticipant> getRaidParticipants(long launchedEventId) {
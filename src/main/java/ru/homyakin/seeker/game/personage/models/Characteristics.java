@@ -8,6 +8,8 @@ import ru.homyakin.seeker.game.personage.models.effect.PersonageEffects;
 import ru.homyakin.seeker.game.personage.models.errors.NotEnoughLevelingPoints;
 import ru.homyakin.seeker.utils.RandomUtils;
 
+import java.util.random.RandomGenerator;
+
 public record Characteristics(
     int health,
     int attack,
@@ -36,12 +38,15 @@ public record Characteristics(
     }
 
     public static Characteristics random() {
+        return random(RandomUtils.generator());
+    }
+
+    public static Characteristics random(RandomGenerator random) {
         int strength = 1;
         int agility = 1;
         int wisdom = 1;
         for (int i = 0; i < MAX_LEVELING_POINTS; ++i) {
-            final var random = RandomUtils.getInInterval(1, 3);
-            switch (random) {
+            switch (RandomUtils.getInInterval(random, 1, 3)) {
                 case 1 -> ++strength;
                 case 2 -> ++agility;
                 default -> ++wisdom;
@@ -0,0 +1,68 @@
+package ru.homyakin.seeker.game.personage.models;
+
+/**
+ * Суммарная статистика персонажа по всем рейдам
+ */
+public record LifetimeRaidStats(
+    int raidsCount,
+    int itemsCount,
+    long reward,
+    long normalDamageDealt,
+    long normalAttackCount,
+    long critDamageDealt,
+    long critsCount,
+    long damageBlocked,
+    long blockCount,
+    long damageDodged,
+    long dodgesCount,
+    long missesCount
+) {
+    public static LifetimeRaidStats empty() {
+        return EMPTY;
+    }
+
+    public LifetimeRaidStats add(PersonageRaidSavedResult result) {
+        final var stats = result.stats();
+        return new LifetimeRaidStats(
+            raidsCount + 1,
+            itemsCount + (result.generatedItemId().isPresent() ? 1 : 0),
+            reward + result.reward().value(),
+            normalDamageDealt + stats.normalDamageDealt(),
+            normalAttackCount + stats.normalAttackCount(),
+            critDamageDealt + stats.critDamageDealt(),
+            critsCount + stats.critsCount(),
+            damageBlocked + stats.damageBlocked(),
+            blockCount + stats.blockCount(),
+            damageDodged + stats.damageDodged(),
+            dodgesCount + stats.dodgesCount(),
+            missesCount + stats.missesCount()
+        );
+    }
+
+    public long damageDealt() {
+        return normalDamageDealt + critDamageDealt;
+    }
+
+    /**
+     * Доля критических ударов среди всех попаданий в процентах
+     */
+    public int critPercent() {
+        return percent(critsCount, normalAttackCount + critsCount);
+    }
+
+    /**
+     * Доля уклонений среди всех атак по персонажу в процентах
+     */
+    public int dodgePercent() {
+        return percent(dodgesCount, dodgesCount + blockCount);
+    }
+
+    private static int percent(long part, long total) {
+        if (total == 0) {
+            return 0;
+        }
+        return (int) (part * 100 / total);
+    }
+
+    private static final LifetimeRaidStats EMPTY = new LifetimeRaidStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+}
@@ -153,7 +153,11 @@ public record Personage(
     }
 
     public boolean hasSpaceInBag(List<Item> items) {
-        return items.stream().filter(it -> !it.isEquipped()).count() < maxBagSize();
+        return hasSpaceInBag((int) items.stream().filter(it -> !it.isEquipped()).count());
+    }
+
+    public boolean hasSpaceInBag(int itemsInBag) {
+        return itemsInBag < maxBagSize();
     }
 
     @Override
@@ -1,8 +1,12 @@
 package ru.homyakin.seeker.game.random.item.action.raid;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.random.item.entity.pool.FullItemParams;
+import ru.homyakin.seeker.game.random.item.entity.pool.FullItemRandomPool;
 import ru.homyakin.seeker.game.random.item.action.pool.ItemRandomPoolRenew;
 import ru.homyakin.seeker.game.random.item.entity.raid.RaidItemRandomPoolRepository;
 
@@ -25,4 +29,23 @@ public class PersonageNextRaidItemParams {
 
         return params;
     }
+
+    /**
+     * То же, что и get для одного персонажа, но пулы читаются и сохраняются одним запросом
+     */
+    public Map<PersonageId, FullItemParams> getAll(Collection<PersonageId> personageIds) {
+        final var raidItemRandomPools = repository.getAll(personageIds);
+        final var updatedPools = new HashMap<PersonageId, FullItemRandomPool>();
+        final var params = new HashMap<PersonageId, FullItemParams>();
+        for (final var personageId : personageIds) {
+            final var updatedRaidItemRandomPool = randomPoolRenew.fullRenewIfEmpty(
+                raidItemRandomPools.getOrDefault(personageId, FullItemRandomPool.EMPTY)
+            );
+            params.put(personageId, updatedRaidItemRandomPool.next());
+            updatedPools.put(personageId, updatedRaidItemRandomPool);
+        }
+        repository.saveAll(updatedPools);
+
+        return params;
+    }
 }
@@ -1,5 +1,7 @@
 package ru.homyakin.seeker.game.random.item.entity.raid;
 
+import java.util.Collection;
+import java.util.Map;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.random.item.entity.pool.FullItemRandomPool;
 
@@ -7,4 +9,11 @@ public interface RaidItemRandomPoolRepository {
     FullItemRandomPool get(PersonageId personageId);
 
     void save(PersonageId personageId, FullItemRandomPool raidItemRandomPool);
+
+    /**
+     * @return пулы персонажей, у кого пула ещё нет, получат FullItemRandomPool.EMPTY
+     */
+    Map<PersonageId, FullItemRandomPool> getAll(Collection<PersonageId> personageIds);
+
+    void saveAll(Map<PersonageId, FullItemRandomPool> raidItemRandomPools);
 }
@@ -1,5 +1,8 @@
 package ru.homyakin.seeker.game.random.item.infra.database.raid;
 
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
@@ -8,17 +11,21 @@ import ru.homyakin.seeker.game.random.item.entity.raid.RaidItemRandomPoolReposit
 import ru.homyakin.seeker.game.random.item.infra.database.JsonItemRandomPool;
 import ru.homyakin.seeker.utils.JsonUtils;
 
-import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 @Repository
 public class RaidItemRandomPoolPostgresRepository implements RaidItemRandomPoolRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
 
-    public RaidItemRandomPoolPostgresRepository(DataSource dataSource, JsonUtils jsonUtils) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public RaidItemRandomPoolPostgresRepository(NamedParameterJdbcTemplate jdbcTemplate, JdbcClient jdbcClient, JsonUtils jsonUtils) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
     }
 
@@ -34,12 +41,7 @@ public class RaidItemRandomPoolPostgresRepository implements RaidItemRandomPoolR
 
     @Override
     public void save(PersonageId personageId, FullItemRandomPool raidItemRandomPool) {
-        final var sql = """
-            INSERT INTO personage_random (personage_id, raid_item_random_pool)
-            VALUES (:personage_id, :raid_item_random_pool)
-            ON CONFLICT (personage_id) DO UPDATE SET raid_item_random_pool = :raid_item_random_pool
-            """;
-        jdbcClient.sql(sql)
+        jdbcClient.sql(SAVE)
             .param("personage_id", personageId.value())
             .param(
                 "raid_item_random_pool",
@@ -48,8 +50,48 @@ public class RaidItemRandomPoolPostgresRepository implements RaidItemRandomPoolR
             .update();
     }
 
+    @Override
+    public Map<PersonageId, FullItemRandomPool> getAll(Collection<PersonageId> personageIds) {
+        final var result = new HashMap<PersonageId, FullItemRandomPool>();
+        personageIds.forEach(id -> result.put(id, FullItemRandomPool.EMPTY));
+        if (personageIds.isEmpty()) {
+            return result;
+        }
+        final var sql = """
+            SELECT personage_id, raid_item_random_pool FROM personage_random WHERE personage_id IN (:id_list)
+            """;
+        jdbcClient.sql(sql)
+            .param("id_list", personageIds.stream().map(PersonageId::value).toList())
+            .query(rs -> {
+                result.put(PersonageId.from(rs.getLong("personage_id")), mapRow(rs, 0));
+            });
+        return result;
+    }
+
+    @Override
+    public void saveAll(Map<PersonageId, FullItemRandomPool> raidItemRandomPools) {
+        if (raidItemRandomPools.isEmpty()) {
+            return;
+        }
+        final var parameters = raidItemRandomPools.entrySet().stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("personage_id", entry.getKey().value())
+                .addValue(
+                    "raid_item_random_pool",
+                    jsonUtils.mapToPostgresJson(JsonItemRandomPool.fromDomain(entry.getValue()))
+                )
+            )
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(SAVE, parameters);
+    }
+
     private FullItemRandomPool mapRow(ResultSet rs, int rowNum) throws SQLException {
         return jsonUtils.fromString(rs.getString("raid_item_random_pool"), JsonItemRandomPool.class).toDomain();
     }
 
+    private static final String SAVE = """
+        INSERT INTO personage_random (personage_id, raid_item_random_pool)
+        VALUES (:personage_id, :raid_item_random_pool)
+        ON CONFLICT (personage_id) DO UPDATE SET raid_item_random_pool = :raid_item_random_pool
+        """;
 }
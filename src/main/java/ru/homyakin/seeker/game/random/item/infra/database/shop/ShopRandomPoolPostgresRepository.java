@@ -13,16 +13,13 @@ import ru.homyakin.seeker.game.random.item.infra.database.JsonItemRandomPoolWith
 import ru.homyakin.seeker.utils.JsonUtils;
 import ru.homyakin.seeker.utils.StringNamedTemplate;
 
-import javax.sql.DataSource;
-import java.util.Collections;
-
 @Repository
 public class ShopRandomPoolPostgresRepository implements ShopRandomPoolRepository {
     private final JdbcClient jdbcClient;
     private final JsonUtils jsonUtils;
 
-    public ShopRandomPoolPostgresRepository(DataSource dataSource, JsonUtils jsonUtils) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public ShopRandomPoolPostgresRepository(JdbcClient jdbcClient, JsonUtils jsonUtils) {
+        this.jdbcClient = jdbcClient;
         this.jsonUtils = jsonUtils;
     }
 
@@ -55,7 +52,7 @@ public class ShopRandomPoolPostgresRepository implements ShopRandomPoolRepositor
     public ItemRandomPoolWithoutRarity getRarityPool(PersonageId personageId, ItemRarity rarity) {
         @Language("SQL")
         final var sql = "SELECT ${column} as random_pool FROM personage_random WHERE personage_id = :personage_id";
-        return jdbcClient.sql(StringNamedTemplate.format(sql, Collections.singletonMap("column", rarityToColumn(rarity))))
+        return jdbcClient.sql(StringNamedTemplate.compile(sql).param("column", rarityToColumn(rarity)).format())
             .param("personage_id", personageId.value())
             .query((rs, _) -> jsonUtils.fromString(rs.getString("random_pool"), JsonItemRandomPoolWithoutRarity.class).toDomain())
             .optional()
@@ -70,7 +67,7 @@ public class ShopRandomPoolPostgresRepository implements ShopRandomPoolRepositor
             VALUES (:personage_id, :random_pool)
             ON CONFLICT (personage_id) DO UPDATE SET ${column} = :random_pool
             """;
-        jdbcClient.sql(StringNamedTemplate.format(sql, Collections.singletonMap("column", rarityToColumn(rarity))))
+        jdbcClient.sql(StringNamedTemplate.compile(sql).param("column", rarityToColumn(rarity)).format())
             .param("personage_id", personageId.value())
             .param("random_pool", jsonUtils.mapToPostgresJson(JsonItemRandomPoolWithoutRarity.fromDomain(itemRandomPool)))
             .update();
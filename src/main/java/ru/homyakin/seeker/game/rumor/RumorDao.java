@@ -1,25 +1,20 @@
 package ru.homyakin.seeker.game.rumor;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import ru.homyakin.seeker.locale.Language;
 
-import javax.sql.DataSource;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.Optional;
-
 @Repository
 public class RumorDao {
-    private static final String GET_RANDOM = """
-        SELECT * FROM rumor WHERE is_available = true ORDER BY random() LIMIT 1
-        """;
-    private static final String GET_RUMOR_LOCALES = """
-        SELECT rl.* FROM rumor_locale rl
-        LEFT JOIN public.rumor r on r.id = rl.rumor_id
-        WHERE r.code = :code
+    private static final String GET_AVAILABLE_WITH_LOCALES = """
+        SELECT r.id, r.code, r.is_available, rl.language_id, rl.text FROM rumor r
+        LEFT JOIN rumor_locale rl on r.id = rl.rumor_id
+        WHERE r.is_available = true
         """;
     private static final String SAVE_RUMOR = """
         INSERT INTO rumor (code, is_available)
@@ -36,24 +31,31 @@ public class RumorDao {
         """;
     private final JdbcClient jdbcClient;
 
-    public RumorDao(DataSource dataSource) {
-        this.jdbcClient = JdbcClient.create(dataSource);
-    }
-
-    public Optional<Rumor> getRandomAvailableRumor() {
-        return jdbcClient.sql(GET_RANDOM)
-            .query(this::mapRumor)
-            .optional()
-            .map(it -> it.toRumor(getRumorLocales(it.code())));
+    public RumorDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<Language, RumorLocale> getRumorLocales(String code) {
-        final var list = jdbcClient.sql(GET_RUMOR_LOCALES)
-            .param("code", code)
-            .query(this::mapRumorLocale)
-            .list();
-        return Map.ofEntries(list.toArray(new Map.Entry[0]));
+    /**
+     * Все доступные слухи с локализациями одним запросом, для GameCatalog
+     */
+    public List<Rumor> getAllAvailable() {
+        final var codes = new LinkedHashMap<Integer, RumorWithoutLocale>();
+        final var locales = new HashMap<Integer, Map<Language, RumorLocale>>();
+        jdbcClient.sql(GET_AVAILABLE_WITH_LOCALES)
+            .query(rs -> {
+                final var id = rs.getInt("id");
+                if (!codes.containsKey(id)) {
+                    codes.put(id, new RumorWithoutLocale(rs.getString("code"), rs.getBoolean("is_available")));
+                }
+                final var rumorLocales = locales.computeIfAbsent(id, _ -> new HashMap<>());
+                final var languageId = rs.getInt("language_id");
+                if (!rs.wasNull()) {
+                    rumorLocales.put(Language.getOrDefault(languageId), new RumorLocale(rs.getString("text")));
+                }
+            });
+        return codes.entrySet().stream()
+            .map(entry -> entry.getValue().toRumor(Map.copyOf(locales.get(entry.getKey()))))
+            .toList();
     }
 
     @Transactional
@@ -74,20 +76,6 @@ public class RumorDao {
             .update();
     }
 
-    private RumorWithoutLocale mapRumor(ResultSet rs, int rowNum) throws SQLException {
-        return new RumorWithoutLocale(
-            rs.getString("code"),
-            rs.getBoolean("is_available")
-        );
-    }
-
-    private Map.Entry<Language, RumorLocale> mapRumorLocale(ResultSet rs, int rowNum) throws SQLException {
-        return Map.entry(
-            Language.getOrDefault(rs.getInt("language_id")),
-            new RumorLocale(rs.getString("text"))
-        );
-    }
-
     private record RumorWithoutLocale(
         String code,
         boolean isAvailable
@@ -2,20 +2,23 @@ package ru.homyakin.seeker.game.rumor;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import ru.homyakin.seeker.game.catalog.GameCatalog;
 
 import java.util.Optional;
 
 @Service
 public class RumorService {
     private final RumorDao rumorDao;
+    private final GameCatalog gameCatalog;
 
     @Autowired
-    public RumorService(RumorDao rumorDao) {
+    public RumorService(RumorDao rumorDao, GameCatalog gameCatalog) {
         this.rumorDao = rumorDao;
+        this.gameCatalog = gameCatalog;
     }
 
     public Optional<Rumor> getRandomAvailableRumor() {
-        return rumorDao.getRandomAvailableRumor();
+        return gameCatalog.getRandomRumor();
     }
 
     public void save(Rumor rumor) {
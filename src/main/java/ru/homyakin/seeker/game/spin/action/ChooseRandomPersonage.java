@@ -11,6 +11,7 @@ import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.spin.entity.EverydaySpinConfig;
 import ru.homyakin.seeker.game.spin.entity.EverydaySpinStorage;
 import ru.homyakin.seeker.game.spin.entity.GroupPersonageStatsClient;
+import ru.homyakin.seeker.game.spin.entity.SpinTopClient;
 import ru.homyakin.seeker.game.spin.error.SpinError;
 import ru.homyakin.seeker.utils.TimeUtils;
 
@@ -22,19 +23,22 @@ public class ChooseRandomPersonage {
     private final GroupPersonageStatsClient groupPersonageStatsClient;
     private final EverydaySpinConfig config;
     private final EverydaySpinStorage storage;
+    private final SpinTopClient spinTopClient;
 
     public ChooseRandomPersonage(
         RandomGroupPersonage randomGroupPersonage,
         CountPersonagesInGroup countPersonagesInGroup,
         GroupPersonageStatsClient groupPersonageStatsClient,
         EverydaySpinConfig config,
-        EverydaySpinStorage storage
+        EverydaySpinStorage storage,
+        SpinTopClient spinTopClient
     ) {
         this.randomGroupPersonage = randomGroupPersonage;
         this.countPersonagesInGroup = countPersonagesInGroup;
         this.groupPersonageStatsClient = groupPersonageStatsClient;
         this.config = config;
         this.storage = storage;
+        this.spinTopClient = spinTopClient;
     }
 
     public Either<SpinError, PersonageId> chooseInGroup(GroupId groupId) {
@@ -58,7 +62,8 @@ public class ChooseRandomPersonage {
         final var personageId = result.get().get();
         logger.info("Personage {} was selected in group {} spin", personageId.value(), groupId.value());
         storage.save(groupId, personageId, date);
-        groupPersonageStatsClient.addPersonageSpinWin(groupId, personageId);
+        final var spinWinsCount = groupPersonageStatsClient.addPersonageSpinWin(groupId, personageId);
+        spinTopClient.updateSpinWins(groupId, personageId, spinWinsCount);
         return Either.right(personageId);
     }
 }
@@ -4,5 +4,8 @@ import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 
 public interface GroupPersonageStatsClient {
-    void addPersonageSpinWin(GroupId groupId, PersonageId personageId);
+    /**
+     * @return количество побед персонажа в спине группы с учётом этой
+     */
+    int addPersonageSpinWin(GroupId groupId, PersonageId personageId);
 }
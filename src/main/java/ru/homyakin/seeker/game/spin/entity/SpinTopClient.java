@@ -0,0 +1,8 @@
+package ru.homyakin.seeker.game.spin.entity;
+
+import ru.homyakin.seeker.common.models.GroupId;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+
+public interface SpinTopClient {
+    void updateSpinWins(GroupId groupId, PersonageId personageId, int spinWinsCount);
+}
@@ -6,7 +6,6 @@ import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.spin.entity.EverydaySpinStorage;
 
-import javax.sql.DataSource;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -14,8 +13,8 @@ import java.util.Optional;
 public class EverydaySpinPostgresDao implements EverydaySpinStorage {
     private final JdbcClient jdbcClient;
 
-    public EverydaySpinPostgresDao(DataSource dataSource) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public EverydaySpinPostgresDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     @Override
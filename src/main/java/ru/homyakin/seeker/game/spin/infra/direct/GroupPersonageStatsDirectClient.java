@@ -15,7 +15,7 @@ public class GroupPersonageStatsDirectClient implements GroupPersonageStatsClien
     }
 
     @Override
-    public void addPersonageSpinWin(GroupId groupId, PersonageId personageId) {
-        groupPersonageStatsService.addPersonageSpinWin(groupId, personageId);
+    public int addPersonageSpinWin(GroupId groupId, PersonageId personageId) {
+        return groupPersonageStatsService.addPersonageSpinWin(groupId, personageId).spinWinsCount();
     }
 }
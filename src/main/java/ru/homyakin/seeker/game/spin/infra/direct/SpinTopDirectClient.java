@@ -0,0 +1,21 @@
+package ru.homyakin.seeker.game.spin.infra.direct;
+
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.common.models.GroupId;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.spin.entity.SpinTopClient;
+import ru.homyakin.seeker.game.top.TopService;
+
+@Component
+public class SpinTopDirectClient implements SpinTopClient {
+    private final TopService topService;
+
+    public SpinTopDirectClient(TopService topService) {
+        this.topService = topService;
+    }
+
+    @Override
+    public void updateSpinWins(GroupId groupId, PersonageId personageId, int spinWinsCount) {
+        topService.updateSpinWins(groupId, personageId, spinWinsCount);
+    }
+}
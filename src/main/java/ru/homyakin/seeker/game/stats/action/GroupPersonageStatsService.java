@@ -1,5 +1,8 @@
 package ru.homyakin.seeker.game.stats.action;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.models.Money;
@@ -28,6 +31,25 @@ public class GroupPersonageStatsService {
             );
     }
 
+    /**
+     * Засчитывает рейд сразу нескольким участникам: одно чтение, создание недостающих записей и batch обновление
+     */
+    public void addRaids(GroupId groupId, Collection<PersonageId> personageIds, boolean isSuccess) {
+        final var existing = storage.get(groupId, personageIds);
+        final var stats = new ArrayList<GroupPersonageStats>(existing);
+        if (existing.size() < personageIds.size()) {
+            final var existingIds = existing.stream().map(GroupPersonageStats::personageId).collect(Collectors.toSet());
+            personageIds.stream()
+                .filter(it -> !existingIds.contains(it))
+                .forEach(it -> stats.add(getOrCreate(groupId, it)));
+        }
+        storage.updateBatch(
+            stats.stream()
+                .map(it -> isSuccess ? it.addSuccessRaid() : it.addFailedRaid())
+                .toList()
+        );
+    }
+
     public void addWinDuel(GroupId groupId, PersonageId personageId) {
         storage.update(getOrCreate(groupId, personageId).addWinDuel());
     }
@@ -50,7 +72,9 @@ public class GroupPersonageStatsService {
         );
     }
 
-    public void addPersonageSpinWin(GroupId groupId, PersonageId personageId) {
-        storage.update(getOrCreate(groupId, personageId).addSpinWin());
+    public GroupPersonageStats addPersonageSpinWin(GroupId groupId, PersonageId personageId) {
+        final var stats = getOrCreate(groupId, personageId).addSpinWin();
+        storage.update(stats);
+        return stats;
     }
 }
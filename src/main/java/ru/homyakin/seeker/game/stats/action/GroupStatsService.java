@@ -1,6 +1,7 @@
 package ru.homyakin.seeker.game.stats.action;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.event.models.EventResult;
 import ru.homyakin.seeker.game.models.Money;
@@ -22,18 +23,16 @@ public class GroupStatsService {
         return storage.get(groupId).orElseThrow(() -> new IllegalArgumentException("Group not found"));
     }
 
+    @Transactional
     public void updateRaidStats(GroupId groupId, EventResult.RaidResult.Completed raidResult) {
-        if (raidResult.status() == EventResult.RaidResult.Completed.Status.SUCCESS) {
+        final var isSuccess = raidResult.status() == EventResult.RaidResult.Completed.Status.SUCCESS;
+        if (isSuccess) {
             storage.increaseRaidsComplete(groupId, 1);
         }
-        raidResult.personageResults().forEach(
-            personageResult -> {
-                if (raidResult.status() == EventResult.RaidResult.Completed.Status.SUCCESS) {
-                    groupPersonageStatsService.addSuccessRaid(groupId, personageResult.participant().personage().id());
-                } else {
-                    groupPersonageStatsService.addFailedRaid(groupId, personageResult.participant().personage().id());
-                }
-            }
+        groupPersonageStatsService.addRaids(
+            groupId,
+            raidResult.personageResults().stream().map(it -> it.participant().personage().id()).toList(),
+            isSuccess
         );
     }
 
@@ -1,5 +1,8 @@
 package ru.homyakin.seeker.game.stats.infra.database;
 
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 import ru.homyakin.seeker.common.models.GroupId;
@@ -7,43 +10,40 @@ import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.stats.entity.GroupPersonageStats;
 import ru.homyakin.seeker.game.stats.entity.GroupPersonageStatsStorage;
 
-import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public class GroupPersonageStatsPostgresRepository implements GroupPersonageStatsStorage {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
     private final JdbcClient jdbcClient;
 
-    public GroupPersonageStatsPostgresRepository(DataSource dataSource) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public GroupPersonageStatsPostgresRepository(NamedParameterJdbcTemplate jdbcTemplate, JdbcClient jdbcClient) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
     }
 
     @Override
     public void update(GroupPersonageStats groupPersonageStats) {
-        final var sql = """
-            UPDATE pgroup_to_personage SET
-                raids_success = :raids_success,
-                raids_total = :raids_total,
-                duels_wins = :duels_wins,
-                duels_total = :duels_total,
-                tavern_money_spent = :tavern_money_spent,
-                spin_wins_count = :spin_wins_count
-            WHERE pgroup_id = :pgroup_id AND personage_id = :personage_id
-            """;
-        jdbcClient.sql(sql)
-            .param("pgroup_id", groupPersonageStats.groupId().value())
-            .param("personage_id", groupPersonageStats.personageId().value())
-            .param("raids_success", groupPersonageStats.raidsSuccess())
-            .param("raids_total", groupPersonageStats.raidsTotal())
-            .param("duels_wins", groupPersonageStats.duelsWins())
-            .param("duels_total", groupPersonageStats.duelsTotal())
-            .param("tavern_money_spent", groupPersonageStats.tavernMoneySpent())
-            .param("spin_wins_count", groupPersonageStats.spinWinsCount())
+        jdbcClient.sql(UPDATE)
+            .paramSource(updateParams(groupPersonageStats))
             .update();
     }
 
+    @Override
+    public void updateBatch(Collection<GroupPersonageStats> groupPersonageStats) {
+        if (groupPersonageStats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            UPDATE,
+            groupPersonageStats.stream().map(this::updateParams).toArray(SqlParameterSource[]::new)
+        );
+    }
+
     @Override
     public Optional<GroupPersonageStats> get(GroupId groupId, PersonageId personageId) {
         final var sql = """
@@ -56,6 +56,33 @@ public class GroupPersonageStatsPostgresRepository implements GroupPersonageStat
             .optional();
     }
 
+    @Override
+    public List<GroupPersonageStats> get(GroupId groupId, Collection<PersonageId> personageIds) {
+        if (personageIds.isEmpty()) {
+            return List.of();
+        }
+        final var sql = """
+            SELECT * FROM pgroup_to_personage WHERE pgroup_id = :pgroup_id AND personage_id IN (:id_list)
+            """;
+        return jdbcClient.sql(sql)
+            .param("pgroup_id", groupId.value())
+            .param("id_list", personageIds.stream().map(PersonageId::value).toList())
+            .query(this::mapRow)
+            .list();
+    }
+
+    private SqlParameterSource updateParams(GroupPersonageStats groupPersonageStats) {
+        return new MapSqlParameterSource()
+            .addValue("pgroup_id", groupPersonageStats.groupId().value())
+            .addValue("personage_id", groupPersonageStats.personageId().value())
+            .addValue("raids_success", groupPersonageStats.raidsSuccess())
+            .addValue("raids_total", groupPersonageStats.raidsTotal())
+            .addValue("duels_wins", groupPersonageStats.duelsWins())
+            .addValue("duels_total", groupPersonageStats.duelsTotal())
+            .addValue("tavern_money_spent", groupPersonageStats.tavernMoneySpent())
+            .addValue("spin_wins_count", groupPersonageStats.spinWinsCount());
+    }
+
     private GroupPersonageStats mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new GroupPersonageStats(
             GroupId.from(rs.getLong("pgroup_id")),
@@ -68,4 +95,15 @@ public class GroupPersonageStatsPostgresRepository implements GroupPersonageStat
             rs.getInt("spin_wins_count")
         );
     }
+
+    private static final String UPDATE = """
+        UPDATE pgroup_to_personage SET
+            raids_success = :raids_success,
+            raids_total = :raids_total,
+            duels_wins = :duels_wins,
+            duels_total = :duels_total,
+            tavern_money_spent = :tavern_money_spent,
+            spin_wins_count = :spin_wins_count
+        WHERE pgroup_id = :pgroup_id AND personage_id = :personage_id
+        """;
 }
@@ -6,7 +6,6 @@ import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.stats.entity.GroupStats;
 import ru.homyakin.seeker.game.stats.entity.GroupStatsStorage;
 
-import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
@@ -15,8 +14,8 @@ import java.util.Optional;
 public class GroupStatsPostgresRepository implements GroupStatsStorage {
     private final JdbcClient jdbcClient;
 
-    public GroupStatsPostgresRepository(DataSource dataSource) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public GroupStatsPostgresRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     @Override
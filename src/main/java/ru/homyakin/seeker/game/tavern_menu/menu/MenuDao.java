@@ -2,10 +2,9 @@ package ru.homyakin.seeker.game.tavern_menu.menu;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import javax.sql.DataSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,11 +20,8 @@ import ru.homyakin.seeker.locale.Language;
 
 @Component
 public class MenuDao {
-    private static final String GET_AVAILABLE_MENU = "SELECT * FROM menu_item WHERE is_available = true";
-    private static final String GET_MENU_ITEM_BY_CODE = "SELECT * FROM menu_item WHERE code = :code";
-    private static final String GET_MENU_ITEM_BY_ID = "SELECT * FROM menu_item WHERE id = :id";
-
-    private static final String GET_MENU_ITEM_LOCALES = "SELECT * FROM menu_item_locale WHERE menu_item_id = :menu_item_id";
+    private static final String GET_ALL_MENU = "SELECT * FROM menu_item";
+    private static final String GET_ALL_LOCALES = "SELECT * FROM menu_item_locale";
     private static final String SAVE_ITEM = """
         INSERT INTO menu_item (is_available, category_id, code, rarity_id, effect_characteristic)
         VALUES (:is_available, :category_id, :code, :rarity_id, :effect_characteristic)
@@ -44,36 +40,30 @@ public class MenuDao {
     private final JdbcClient jdbcClient;
     private final MenuConfig config;
 
-    public MenuDao(DataSource dataSource, MenuConfig config) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public MenuDao(JdbcClient jdbcClient, MenuConfig config) {
+        this.jdbcClient = jdbcClient;
         this.config = config;
     }
 
-    public List<MenuItem> getAvailableMenu() {
-        return jdbcClient.sql(GET_AVAILABLE_MENU)
+    /**
+     * Всё меню, включая недоступные позиции, для GameCatalog. Локализации читаются одним запросом
+     */
+    public List<MenuItem> getAll() {
+        final var locales = new HashMap<Integer, Map<Language, MenuItemLocale>>();
+        jdbcClient.sql(GET_ALL_LOCALES)
+            .query(rs -> {
+                final var locale = mapLocale(rs, 0);
+                locales.computeIfAbsent(rs.getInt("menu_item_id"), _ -> new HashMap<>())
+                    .put(locale.getKey(), locale.getValue());
+            });
+        return jdbcClient.sql(GET_ALL_MENU)
             .query(this::mapMenuItem)
             .list()
             .stream()
-            .map(it -> it.toMenuItem(getMenuItemLocales(it.id)))
+            .map(it -> it.toMenuItem(Map.copyOf(locales.getOrDefault(it.id, Map.of()))))
             .toList();
     }
 
-    public Optional<MenuItem> getMenuItem(int id) {
-        return jdbcClient.sql(GET_MENU_ITEM_BY_ID)
-            .param("id", id)
-            .query(this::mapMenuItem)
-            .optional()
-            .map(it -> it.toMenuItem(getMenuItemLocales(it.id)));
-    }
-
-    public Optional<MenuItem> getMenuItem(String code) {
-        return jdbcClient.sql(GET_MENU_ITEM_BY_CODE)
-            .param("code", code)
-            .query(this::mapMenuItem)
-            .optional()
-            .map(it -> it.toMenuItem(getMenuItemLocales(it.id)));
-    }
-
     @Transactional
     public void saveItem(SavingMenuItem menuItem) {
         final int id = jdbcClient.sql(SAVE_ITEM)
@@ -98,15 +88,6 @@ public class MenuDao {
             .update();
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<Language, MenuItemLocale> getMenuItemLocales(int menuItemId) {
-        final var list = jdbcClient.sql(GET_MENU_ITEM_LOCALES)
-            .param("menu_item_id", menuItemId)
-            .query(this::mapLocale)
-            .list();
-        return Map.ofEntries(list.toArray(new Map.Entry[0]));
-    }
-
     private MenuItemWithoutLocale mapMenuItem(ResultSet rs, int rowNum) throws SQLException {
         final var effectCharacteristic = EffectCharacteristic.valueOf(rs.getString("effect_characteristic"));
         final var rarity = MenuItemRarity.findById(rs.getInt("rarity_id"));
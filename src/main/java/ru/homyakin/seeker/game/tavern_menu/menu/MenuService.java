@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.game.catalog.GameCatalog;
 import ru.homyakin.seeker.game.tavern_menu.menu.models.Category;
 import ru.homyakin.seeker.game.tavern_menu.menu.models.TavernMenu;
 import ru.homyakin.seeker.game.tavern_menu.menu.models.MenuItem;
@@ -13,15 +14,16 @@ import ru.homyakin.seeker.infrastructure.init.saving_models.SavingMenuItem;
 @Component
 public class MenuService {
     private final MenuDao menuDao;
+    private final GameCatalog gameCatalog;
 
-    public MenuService(MenuDao menuDao) {
+    public MenuService(MenuDao menuDao, GameCatalog gameCatalog) {
         this.menuDao = menuDao;
+        this.gameCatalog = gameCatalog;
     }
 
     public TavernMenu getAvailableMenu() {
-        //TODO кэш
         final var map = new HashMap<Category, List<MenuItem>>();
-        final var items = menuDao.getAvailableMenu();
+        final var items = gameCatalog.getAvailableMenu();
         for (final var item: items) {
             if (map.containsKey(item.category())) {
                 map.get(item.category()).add(item);
@@ -33,7 +35,7 @@ public class MenuService {
     }
 
     public Optional<MenuItem> getAvailableMenuItem(String code) {
-        return menuDao.getMenuItem(code).filter(MenuItem::isAvailable);
+        return gameCatalog.getMenuItem(code).filter(MenuItem::isAvailable);
     }
 
     public void saveItem(SavingMenuItem menuItem) {
@@ -41,7 +43,7 @@ public class MenuService {
     }
 
     public Optional<MenuItem> getMenuItem(int id) {
-        return menuDao.getMenuItem(id);
+        return gameCatalog.getMenuItem(id);
     }
 }
 
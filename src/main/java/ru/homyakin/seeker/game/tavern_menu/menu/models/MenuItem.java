@@ -1,6 +1,5 @@
 package ru.homyakin.seeker.game.tavern_menu.menu.models;
 
-import java.util.Collections;
 import java.util.Map;
 
 import ru.homyakin.seeker.game.effect.Effect;
@@ -12,7 +11,6 @@ import ru.homyakin.seeker.locale.Language;
 import ru.homyakin.seeker.locale.Localized;
 import ru.homyakin.seeker.telegram.command.type.CommandType;
 import ru.homyakin.seeker.utils.RandomUtils;
-import ru.homyakin.seeker.utils.StringNamedTemplate;
 
 public record MenuItem(
     int id,
@@ -35,9 +33,8 @@ public record MenuItem(
 
     public String consumeText(Language language, Personage personage) {
         final var locale = getLocaleOrDefault(language);
-        return StringNamedTemplate.format(
-            RandomUtils.getRandomElement(locale.consumeTemplate()),
-            Collections.singletonMap("personage_badge_with_name", personage.badgeWithName())
-        );
+        return RandomUtils.getRandomElement(locale.consumeTemplates())
+            .param("personage_badge_with_name", personage.badgeWithName())
+            .format();
     }
 }
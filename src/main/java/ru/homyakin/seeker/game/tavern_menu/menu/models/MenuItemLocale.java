@@ -1,7 +1,22 @@
 package ru.homyakin.seeker.game.tavern_menu.menu.models;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import ru.homyakin.seeker.utils.StringNamedTemplate;
+
+/**
+ * @param consumeTemplates consumeTemplate, разобранные один раз при загрузке
+ */
 public record MenuItemLocale(
     String name,
-    String[] consumeTemplate
+    String[] consumeTemplate,
+    @JsonIgnore
+    StringNamedTemplate[] consumeTemplates
 ) {
+    @JsonCreator
+    public MenuItemLocale(@JsonProperty("name") String name, @JsonProperty("consumeTemplate") String[] consumeTemplate) {
+        this(name, consumeTemplate, Arrays.stream(consumeTemplate).map(StringNamedTemplate::compile).toArray(StringNamedTemplate[]::new));
+    }
 }
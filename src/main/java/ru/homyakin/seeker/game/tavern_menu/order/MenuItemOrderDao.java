@@ -9,7 +9,6 @@ import ru.homyakin.seeker.game.tavern_menu.order.models.MenuItemOrder;
 import ru.homyakin.seeker.game.tavern_menu.order.models.OrderStatus;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowResult;
 
-import javax.sql.DataSource;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -17,8 +16,8 @@ import java.util.Optional;
 public class MenuItemOrderDao {
     private final JdbcClient jdbcClient;
 
-    public MenuItemOrderDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public MenuItemOrderDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     public long createOrder(
@@ -20,8 +20,11 @@ import ru.homyakin.seeker.game.tavern_menu.order.models.OrderError;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowOrderError;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowResult;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowTarget;
+import ru.homyakin.seeker.infrastructure.lock.LockKey;
 import ru.homyakin.seeker.infrastructure.lock.LockPrefixes;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.utils.TimeUtils;
 
 import java.util.List;
@@ -34,19 +37,22 @@ public class OrderService {
     private final MenuService menuService;
     private final LockService lockService;
     private final OrderConfig config;
+    private final DeadlineQueue deadlineQueue;
 
     public OrderService(
         PersonageService personageService,
         MenuItemOrderDao menuItemOrderDao,
         MenuService menuService,
         LockService lockService,
-        OrderConfig config
+        OrderConfig config,
+        DeadlineQueue deadlineQueue
     ) {
         this.personageService = personageService;
         this.menuItemOrderDao = menuItemOrderDao;
         this.menuService = menuService;
         this.lockService = lockService;
         this.config = config;
+        this.deadlineQueue = deadlineQueue;
     }
 
     public Either<OrderError, Long> orderMenuItem(
@@ -63,15 +69,16 @@ public class OrderService {
         }
 
         personageService.takeMoney(giver, menuItem.price());
-        return Either.right(
-            menuItemOrderDao.createOrder(
-                menuItem.id(),
-                giver.id(),
-                acceptor.id(),
-                groupId,
-                TimeUtils.moscowTime().plus(config.orderTtl())
-            )
+        final var expireDateTime = TimeUtils.moscowTime().plus(config.orderTtl());
+        final var orderId = menuItemOrderDao.createOrder(
+            menuItem.id(),
+            giver.id(),
+            acceptor.id(),
+            groupId,
+            expireDateTime
         );
+        deadlineQueue.schedule(DeadlineType.ORDER_EXPIRE, orderId, expireDateTime);
+        return Either.right(orderId);
     }
 
     public Optional<MenuItemOrder> getById(long orderId) {
@@ -80,7 +87,7 @@ public class OrderService {
 
     @Transactional
     public Either<ConsumeOrderError, ConsumeResult> consume(long orderId, Personage consumer) {
-        return lockService.tryLockAndCalc(
+        return lockService.lockAndCalc(
             lockOrderKey(orderId),
             () -> consumeLogic(orderId, consumer)
         ).fold(
@@ -226,7 +233,7 @@ public class OrderService {
             .peek(menuItemOrderDao::update);
     }
 
-    private String lockOrderKey(long orderId) {
-        return LockPrefixes.MENU_ITEM_ORDER.name() + "-" + orderId;
+    private LockKey lockOrderKey(long orderId) {
+        return new LockKey(LockPrefixes.MENU_ITEM_ORDER, orderId);
     }
 }
@@ -0,0 +1,60 @@
+package ru.homyakin.seeker.game.top;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.top.leaderboard.Leaderboard;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardBackend;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardEntry;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardKey;
+
+/**
+ * Таблицы лидеров в ограниченном кэше. Таблица, которой нет в памяти (после рестарта или вытеснения),
+ * восстанавливается из накопительной таблицы
+ */
+@Component
+@ConditionalOnProperty(name = "homyakin.seeker.top.leaderboardType", havingValue = "IN_MEMORY", matchIfMissing = true)
+public class InMemoryLeaderboardBackend implements LeaderboardBackend {
+    private final LoadingCache<LeaderboardKey, Leaderboard> leaderboards;
+
+    public InMemoryLeaderboardBackend(TopDao topDao, TopConfig config) {
+        this.leaderboards = Caffeine.newBuilder()
+            .maximumSize(config.leaderboardsMaxSize())
+            .expireAfterAccess(config.leaderboardsExpireAfterAccess())
+            .build(key -> new Leaderboard(topDao.getScores(key)));
+    }
+
+    @Override
+    public List<LeaderboardEntry> range(LeaderboardKey key, int offset, int limit) {
+        return leaderboards.get(key).range(offset, limit);
+    }
+
+    @Override
+    public Optional<Integer> rank(LeaderboardKey key, PersonageId personageId) {
+        return leaderboards.get(key).rank(personageId);
+    }
+
+    @Override
+    public int size(LeaderboardKey key) {
+        return leaderboards.get(key).size();
+    }
+
+    /**
+     * Таблица загружается, даже если её не было в памяти: загрузка могла прочитать базу до коммита,
+     * а raise по итоговым очкам не даст посчитать изменение дважды
+     */
+    @Override
+    public void update(LeaderboardKey key, List<LeaderboardEntry> entries) {
+        final var leaderboard = leaderboards.get(key);
+        entries.forEach(entry -> leaderboard.raise(entry.personageId(), entry.score()));
+    }
+
+    @Override
+    public void reset(LeaderboardKey key) {
+        leaderboards.invalidate(key);
+    }
+}
@@ -0,0 +1,48 @@
+package ru.homyakin.seeker.game.top;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardBackend;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardEntry;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardKey;
+
+/**
+ * Места считаются в базе по накопительным таблицам, состояние между репликами не расходится
+ */
+@Component
+@ConditionalOnProperty(name = "homyakin.seeker.top.leaderboardType", havingValue = "POSTGRES")
+public class PostgresLeaderboardBackend implements LeaderboardBackend {
+    private final TopDao topDao;
+
+    public PostgresLeaderboardBackend(TopDao topDao) {
+        this.topDao = topDao;
+    }
+
+    @Override
+    public List<LeaderboardEntry> range(LeaderboardKey key, int offset, int limit) {
+        return topDao.getScores(key, offset, limit);
+    }
+
+    @Override
+    public Optional<Integer> rank(LeaderboardKey key, PersonageId personageId) {
+        return topDao.getRank(key, personageId);
+    }
+
+    @Override
+    public int size(LeaderboardKey key) {
+        return topDao.countScores(key);
+    }
+
+    @Override
+    public void update(LeaderboardKey key, List<LeaderboardEntry> entries) {
+        // Накопительные таблицы уже обновлены в транзакции
+    }
+
+    @Override
+    public void reset(LeaderboardKey key) {
+        // Нечего сбрасывать, каждый запрос читает базу
+    }
+}
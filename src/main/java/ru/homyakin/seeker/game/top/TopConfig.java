@@ -0,0 +1,13 @@
+package ru.homyakin.seeker.game.top;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardType;
+
+@ConfigurationProperties("homyakin.seeker.top")
+public record TopConfig(
+    LeaderboardType leaderboardType,
+    int leaderboardsMaxSize,
+    Duration leaderboardsExpireAfterAccess
+) {
+}
@@ -3,58 +3,181 @@ package ru.homyakin.seeker.game.top;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
-import ru.homyakin.seeker.game.event.models.EventStatus;
-import ru.homyakin.seeker.game.event.models.EventType;
+import ru.homyakin.seeker.common.models.GroupId;
 import ru.homyakin.seeker.game.personage.badge.BadgeView;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardEntry;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardKey;
 import ru.homyakin.seeker.game.top.models.TopRaidPosition;
 import ru.homyakin.seeker.game.top.models.TopSpinPosition;
-import ru.homyakin.seeker.telegram.group.models.GroupTgId;
 
+/**
+ * Накопительные таблицы топов: top_raid_week и top_raid_week_pgroup обновляются при завершении рейда,
+ * топ спинов берётся из pgroup_to_personage.spin_wins_count.
+ * По ним считаются места в PostgresLeaderboardBackend и восстанавливаются таблицы лидеров в памяти после рестарта
+ */
 @Component
 public class TopDao {
     private final JdbcClient jdbcClient;
 
-    public TopDao(DataSource dataSource) {
-        this.jdbcClient = JdbcClient.create(dataSource);
+    public TopDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
-    public List<TopRaidPosition> getUnsortedTopRaid(LocalDate start, LocalDate end) {
-        final var sql = GLOBAL_RAIDS_COUNT + RAIDS_PERSONAGE_INFO + " AND p.is_hidden = false";
+    public List<LeaderboardEntry> getScores(LeaderboardKey key) {
+        final var source = source(key);
+        return jdbcClient.sql(source.sql())
+            .params(source.params())
+            .query(this::mapScore)
+            .list();
+    }
+
+    public List<LeaderboardEntry> getScores(LeaderboardKey key, int offset, int limit) {
+        final var source = source(key);
+        final var sql = "SELECT * FROM (" + source.sql() + ") s ORDER BY score DESC, personage_id LIMIT :limit OFFSET :offset";
+        return jdbcClient.sql(sql)
+            .params(source.params())
+            .param("limit", limit)
+            .param("offset", offset)
+            .query(this::mapScore)
+            .list();
+    }
+
+    public Optional<Integer> getRank(LeaderboardKey key, PersonageId personageId) {
+        final var source = source(key);
+        final var sql = """
+            WITH ranked AS (
+                SELECT personage_id, ROW_NUMBER() OVER (ORDER BY score DESC, personage_id) - 1 AS rank
+                FROM (%s) s
+            )
+            SELECT rank FROM ranked WHERE personage_id = :personage_id""".formatted(source.sql());
         return jdbcClient.sql(sql)
-            .param("success_id", EventStatus.SUCCESS.id())
-            .param("fail_id", EventStatus.FAILED.id())
-            .param("start_date", start)
-            .param("end_date", end)
-            .param("raid_id", EventType.RAID.id())
+            .params(source.params())
+            .param("personage_id", personageId.value())
+            .query((rs, _) -> rs.getInt("rank"))
+            .optional();
+    }
+
+    public int countScores(LeaderboardKey key) {
+        final var source = source(key);
+        return jdbcClient.sql("SELECT COUNT(*) FROM (" + source.sql() + ") s")
+            .params(source.params())
+            .query(Integer.class)
+            .single();
+    }
+
+    /**
+     * @return итоговые очки участников за неделю
+     */
+    public List<LeaderboardEntry> addRaids(LocalDate weekStart, Collection<PersonageId> personageIds, boolean isSuccess) {
+        return jdbcClient.sql(ADD_RAIDS)
+            .param("week_start", weekStart)
+            .param("personage_ids", personageIds.stream().map(PersonageId::value).toList())
+            .param("success_count", isSuccess ? 1 : 0)
+            .param("fail_count", isSuccess ? 0 : 1)
+            .query(this::mapRaidScore)
+            .list();
+    }
+
+    /**
+     * @return итоговые очки участников за неделю в группе
+     */
+    public List<LeaderboardEntry> addGroupRaids(
+        GroupId groupId,
+        LocalDate weekStart,
+        Collection<PersonageId> personageIds,
+        boolean isSuccess
+    ) {
+        return jdbcClient.sql(ADD_GROUP_RAIDS)
+            .param("week_start", weekStart)
+            .param("pgroup_id", groupId.value())
+            .param("personage_ids", personageIds.stream().map(PersonageId::value).toList())
+            .param("success_count", isSuccess ? 1 : 0)
+            .param("fail_count", isSuccess ? 0 : 1)
+            .query(this::mapRaidScore)
+            .list();
+    }
+
+    public List<TopRaidPosition> getRaidPositions(LocalDate weekStart, Collection<PersonageId> personageIds) {
+        if (personageIds.isEmpty()) {
+            return List.of();
+        }
+        final var sql = RAID_POSITIONS.formatted("top_raid_week", "") + " AND p.is_hidden = false";
+        return jdbcClient.sql(sql)
+            .param("week_start", weekStart)
+            .param("personage_ids", personageIds.stream().map(PersonageId::value).toList())
             .query(this::mapRaidPosition)
             .list();
     }
 
-    public List<TopRaidPosition> getUnsortedTopRaidGroup(LocalDate start, LocalDate end, GroupTgId groupId) {
-        final var sql = GROUP_TG_RAIDS_COUNT + RAIDS_PERSONAGE_INFO;
+    public List<TopRaidPosition> getGroupRaidPositions(
+        GroupId groupId,
+        LocalDate weekStart,
+        Collection<PersonageId> personageIds
+    ) {
+        if (personageIds.isEmpty()) {
+            return List.of();
+        }
+        final var sql = RAID_POSITIONS.formatted("top_raid_week_pgroup", "AND t.pgroup_id = :pgroup_id");
         return jdbcClient.sql(sql)
-            .param("success_id", EventStatus.SUCCESS.id())
-            .param("fail_id", EventStatus.FAILED.id())
-            .param("start_date", start)
-            .param("end_date", end)
-            .param("grouptg_id", groupId.value())
-            .param("raid_id", EventType.RAID.id())
+            .param("week_start", weekStart)
+            .param("pgroup_id", groupId.value())
+            .param("personage_ids", personageIds.stream().map(PersonageId::value).toList())
             .query(this::mapRaidPosition)
             .list();
     }
 
-    public List<TopSpinPosition> getUnsortedTopSpinGroup(GroupTgId groupId) {
-        return jdbcClient.sql(TOP_SPIN_GROUP)
-            .param("grouptg_id", groupId.value())
+    public List<TopSpinPosition> getGroupSpinPositions(GroupId groupId, Collection<PersonageId> personageIds) {
+        if (personageIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql(SPIN_POSITIONS)
+            .param("pgroup_id", groupId.value())
+            .param("personage_ids", personageIds.stream().map(PersonageId::value).toList())
             .query(this::mapSpinPosition)
             .list();
     }
 
+    /**
+     * Очки персонажей топа, score считается так же, как TopPosition.score
+     */
+    private static ScoreSource source(LeaderboardKey key) {
+        return switch (key) {
+            case LeaderboardKey.RaidWeek raidWeek -> new ScoreSource(
+                RAID_WEEK_SCORES,
+                Map.of("week_start", raidWeek.weekStart())
+            );
+            case LeaderboardKey.GroupRaidWeek groupRaidWeek -> new ScoreSource(
+                GROUP_RAID_WEEK_SCORES,
+                Map.of("week_start", groupRaidWeek.weekStart(), "pgroup_id", groupRaidWeek.groupId().value())
+            );
+            case LeaderboardKey.GroupSpin groupSpin -> new ScoreSource(
+                GROUP_SPIN_SCORES,
+                Map.of("pgroup_id", groupSpin.groupId().value())
+            );
+        };
+    }
+
+    private LeaderboardEntry mapScore(ResultSet rs, int rowNum) throws SQLException {
+        return new LeaderboardEntry(
+            PersonageId.from(rs.getLong("personage_id")),
+            rs.getInt("score")
+        );
+    }
+
+    private LeaderboardEntry mapRaidScore(ResultSet rs, int rowNum) throws SQLException {
+        return new LeaderboardEntry(
+            PersonageId.from(rs.getLong("personage_id")),
+            TopRaidPosition.score(rs.getInt("success_count"), rs.getInt("fail_count"))
+        );
+    }
+
     private TopRaidPosition mapRaidPosition(ResultSet rs, int rowNum) throws SQLException {
         return new TopRaidPosition(
             PersonageId.from(rs.getLong("personage_id")),
@@ -70,56 +193,66 @@ public class TopDao {
             PersonageId.from(rs.getLong("personage_id")),
             rs.getString("personage_name"),
             BadgeView.findByCode(rs.getString("badge_code")),
-            rs.getInt("count")
+            rs.getInt("spin_wins_count")
         );
     }
 
-    private static String GLOBAL_RAIDS_COUNT = """
-        WITH event_points AS (
-        SELECT
-            pte.personage_id,
-            SUM(CASE WHEN le.status_id = :success_id THEN 1 ELSE 0 END) AS success_count,
-            SUM(CASE WHEN le.status_id = :fail_id THEN 1 ELSE 0 END) AS fail_count
-        FROM personage_to_event pte
-        LEFT JOIN launched_event le on le.id = pte.launched_event_id
-        INNER JOIN event e on le.event_id = e.id AND e.type_id = :raid_id
-        WHERE le.start_date::date >= :start_date AND le.start_date::date <= :end_date
-        GROUP BY pte.personage_id
-        )""";
-
-    private static String GROUP_TG_RAIDS_COUNT = """
-        WITH event_points AS (
-        SELECT
-            pte.personage_id,
-            SUM(CASE WHEN le.status_id = :success_id THEN 1 ELSE 0 END) AS success_count,
-            SUM(CASE WHEN le.status_id = :fail_id THEN 1 ELSE 0 END) AS fail_count
-        FROM personage_to_event pte
-        LEFT JOIN launched_event le on le.id = pte.launched_event_id
-        LEFT JOIN grouptg_to_launched_event gtle on le.id = gtle.launched_event_id
-        INNER JOIN event e on le.event_id = e.id AND e.type_id = :raid_id
-        WHERE le.start_date::date >= :start_date AND le.start_date::date <= :end_date
-        AND gtle.grouptg_id = :grouptg_id
-        GROUP BY pte.personage_id
-        )""";
-
-    private static String RAIDS_PERSONAGE_INFO = """
-        SELECT p.id personage_id, p.name personage_name, b.code badge_code, success_count, fail_count FROM personage p
-        INNER JOIN event_points ep ON p.id = ep.personage_id
+    private record ScoreSource(String sql, Map<String, Object> params) {
+    }
+
+    private static final String RAID_WEEK_SCORES = """
+        SELECT t.personage_id, t.success_count * 2 + t.fail_count AS score
+        FROM top_raid_week t
+        INNER JOIN personage p ON p.id = t.personage_id
+        WHERE t.week_start = :week_start AND p.is_hidden = false""";
+
+    private static final String GROUP_RAID_WEEK_SCORES = """
+        SELECT personage_id, success_count * 2 + fail_count AS score
+        FROM top_raid_week_pgroup
+        WHERE week_start = :week_start AND pgroup_id = :pgroup_id""";
+
+    private static final String GROUP_SPIN_SCORES = """
+        SELECT personage_id, spin_wins_count AS score
+        FROM pgroup_to_personage
+        WHERE pgroup_id = :pgroup_id AND spin_wins_count > 0""";
+
+    // Скрытые персонажи не попадают в общий топ, поэтому их очки не возвращаем
+    private static final String ADD_RAIDS = """
+        WITH upserted AS (
+            INSERT INTO top_raid_week (week_start, personage_id, success_count, fail_count)
+            SELECT :week_start, p.id, :success_count, :fail_count FROM personage p WHERE p.id IN (:personage_ids)
+            ON CONFLICT (week_start, personage_id) DO UPDATE SET
+                success_count = top_raid_week.success_count + EXCLUDED.success_count,
+                fail_count = top_raid_week.fail_count + EXCLUDED.fail_count
+            RETURNING personage_id, success_count, fail_count
+        )
+        SELECT u.personage_id, u.success_count, u.fail_count FROM upserted u
+        INNER JOIN personage p ON p.id = u.personage_id
+        WHERE p.is_hidden = false""";
+
+    private static final String ADD_GROUP_RAIDS = """
+        INSERT INTO top_raid_week_pgroup (week_start, pgroup_id, personage_id, success_count, fail_count)
+        SELECT :week_start, :pgroup_id, p.id, :success_count, :fail_count FROM personage p WHERE p.id IN (:personage_ids)
+        ON CONFLICT (week_start, pgroup_id, personage_id) DO UPDATE SET
+            success_count = top_raid_week_pgroup.success_count + EXCLUDED.success_count,
+            fail_count = top_raid_week_pgroup.fail_count + EXCLUDED.fail_count
+        RETURNING personage_id, success_count, fail_count""";
+
+    private static final String RAID_POSITIONS = """
+        SELECT p.id personage_id, p.name personage_name, b.code badge_code, t.success_count, t.fail_count
+        FROM %s t
+        INNER JOIN personage p ON p.id = t.personage_id
         LEFT JOIN public.personage_available_badge pab on p.id = pab.personage_id
         LEFT JOIN public.badge b on b.id = pab.badge_id
-        WHERE pab.is_active = true""";
-
-    private static String TOP_SPIN_GROUP = """
-        WITH personage_count
-        AS (
-            SELECT personage_id, COUNT(*) as count
-            FROM everyday_spin_tg
-            WHERE grouptg_id = :grouptg_id
-            GROUP BY personage_id
-        )
-        SELECT p.id personage_id, p.name personage_name, b.code badge_code, pc.count FROM personage p
-        INNER JOIN personage_count pc ON p.id = pc.personage_id
+        WHERE t.week_start = :week_start %s AND t.personage_id IN (:personage_ids)
+        AND pab.is_active = true""";
+
+    private static final String SPIN_POSITIONS = """
+        SELECT p.id personage_id, p.name personage_name, b.code badge_code, ptp.spin_wins_count
+        FROM pgroup_to_personage ptp
+        INNER JOIN personage p ON p.id = ptp.personage_id
         LEFT JOIN public.personage_available_badge pab on p.id = pab.personage_id
         LEFT JOIN public.badge b on b.id = pab.badge_id
-        WHERE pab.is_active = true""";
+        WHERE ptp.pgroup_id = :pgroup_id AND ptp.personage_id IN (:personage_ids)
+        AND pab.is_active = true""";
 }
@@ -1,43 +1,198 @@
 package ru.homyakin.seeker.game.top;
 
-import java.util.Comparator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.homyakin.seeker.common.models.GroupId;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardBackend;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardEntry;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardKey;
 import ru.homyakin.seeker.game.top.models.TopPosition;
 import ru.homyakin.seeker.game.top.models.TopRaidPosition;
 import ru.homyakin.seeker.game.top.models.TopRaidResult;
+import ru.homyakin.seeker.game.top.models.TopRequest;
 import ru.homyakin.seeker.game.top.models.TopResult;
+import ru.homyakin.seeker.game.top.models.TopSlice;
 import ru.homyakin.seeker.game.top.models.TopSpinPosition;
 import ru.homyakin.seeker.game.top.models.TopSpinResult;
-import ru.homyakin.seeker.telegram.group.models.GroupTgId;
 import ru.homyakin.seeker.utils.TimeUtils;
 
+/**
+ * Топы считаются инкрементально: результат рейда или спина сразу пишется в накопительную таблицу,
+ * а после коммита итоговые очки уходят в LeaderboardBackend.
+ * Для ответа загружаются только нужная страница и соседи запросившего персонажа, а не весь топ
+ */
 @Service
 public class TopService {
     private final TopDao topDao;
+    private final LeaderboardBackend leaderboardBackend;
 
-    public TopService(TopDao topDao) {
+    public TopService(TopDao topDao, LeaderboardBackend leaderboardBackend) {
         this.topDao = topDao;
+        this.leaderboardBackend = leaderboardBackend;
     }
 
-    public TopResult<TopRaidPosition> getTopRaidWeek() {
+    public TopResult<TopRaidPosition> getTopRaidWeek(TopRequest request) {
         final var start = TimeUtils.thisWeekMonday();
         final var end = TimeUtils.thisWeekSunday();
-        final var top = topDao.getUnsortedTopRaid(start, end);
-        top.sort(Comparator.comparingInt(TopPosition::score).reversed());
-        return new TopRaidResult(start, end, top, TopRaidResult.Type.WEEK);
+        final var page = page(
+            new LeaderboardKey.RaidWeek(start),
+            request,
+            ids -> topDao.getRaidPositions(start, ids)
+        );
+        return new TopRaidResult(start, end, page.top(), page.personageWindow(), page.totalCount(), TopRaidResult.Type.WEEK);
     }
 
-    public TopResult<TopRaidPosition> getTopRaidWeekGroup(GroupTgId groupId) {
+    public TopResult<TopRaidPosition> getTopRaidWeekGroup(GroupId groupId, TopRequest request) {
         final var start = TimeUtils.thisWeekMonday();
         final var end = TimeUtils.thisWeekSunday();
-        final var top = topDao.getUnsortedTopRaidGroup(start, end, groupId);
-        top.sort(Comparator.comparingInt(TopPosition::score).reversed());
-        return new TopRaidResult(start, end, top, TopRaidResult.Type.WEEK_GROUP);
+        final var page = page(
+            new LeaderboardKey.GroupRaidWeek(groupId, start),
+            request,
+            ids -> topDao.getGroupRaidPositions(groupId, start, ids)
+        );
+        return new TopRaidResult(
+            start,
+            end,
+            page.top(),
+            page.personageWindow(),
+            page.totalCount(),
+            TopRaidResult.Type.WEEK_GROUP
+        );
     }
 
-    public TopResult<TopSpinPosition> getTopSpinGroup(GroupTgId groupId) {
-        final var top = topDao.getUnsortedTopSpinGroup(groupId);
-        top.sort(Comparator.comparingInt(TopPosition::score).reversed());
-        return new TopSpinResult(top, TopSpinResult.Type.GROUP);
+    public TopResult<TopSpinPosition> getTopSpinGroup(GroupId groupId, TopRequest request) {
+        final var page = page(
+            new LeaderboardKey.GroupSpin(groupId),
+            request,
+            ids -> topDao.getGroupSpinPositions(groupId, ids)
+        );
+        return new TopSpinResult(page.top(), page.personageWindow(), page.totalCount(), TopSpinResult.Type.GROUP);
+    }
+
+    /**
+     * Засчитывает рейд участникам в общий недельный топ и в топы групп, где рейд был запущен.
+     * Вызывается внутри транзакции завершения рейда
+     */
+    public void addRaid(
+        LocalDate raidDate,
+        Collection<GroupId> groupIds,
+        Collection<PersonageId> personageIds,
+        boolean isSuccess
+    ) {
+        if (personageIds.isEmpty()) {
+            return;
+        }
+        final var weekStart = TimeUtils.weekMonday(raidDate);
+        updateAfterCommit(
+            new LeaderboardKey.RaidWeek(weekStart),
+            topDao.addRaids(weekStart, personageIds, isSuccess)
+        );
+        for (final var groupId : groupIds) {
+            updateAfterCommit(
+                new LeaderboardKey.GroupRaidWeek(groupId, weekStart),
+                topDao.addGroupRaids(groupId, weekStart, personageIds, isSuccess)
+            );
+        }
+    }
+
+    /**
+     * @param spinWinsCount итоговое количество побед в спине, уже сохранённое в статистике группы
+     */
+    public void updateSpinWins(GroupId groupId, PersonageId personageId, int spinWinsCount) {
+        updateAfterCommit(
+            new LeaderboardKey.GroupSpin(groupId),
+            List.of(new LeaderboardEntry(personageId, spinWinsCount))
+        );
+    }
+
+    /**
+     * Скрытые персонажи не показываются в общем топе, поэтому после смены видимости топ текущей недели пересобирается
+     */
+    public void onPersonageHiddenChanged() {
+        leaderboardBackend.reset(new LeaderboardKey.RaidWeek(TimeUtils.thisWeekMonday()));
+    }
+
+    private <T extends TopPosition> Page<T> page(
+        LeaderboardKey key,
+        TopRequest request,
+        Function<List<PersonageId>, List<T>> positionsLoader
+    ) {
+        final var top = new EntrySlice(request.offset(), leaderboardBackend.range(key, request.offset(), request.limit()));
+        final var window = personageWindow(key, request, top.end());
+        final var ids = new ArrayList<PersonageId>(top.entries().size() + window.entries().size());
+        top.entries().forEach(it -> ids.add(it.personageId()));
+        window.entries().forEach(it -> ids.add(it.personageId()));
+        final var positions = ids.isEmpty()
+            ? Map.<PersonageId, T>of()
+            : positionsLoader.apply(ids).stream().collect(Collectors.toMap(TopPosition::personageId, Function.identity()));
+        return new Page<>(top.toSlice(positions), window.toSlice(positions), leaderboardBackend.size(key));
+    }
+
+    /**
+     * Сам персонаж, если он сразу после страницы, иначе персонаж с соседями сверху и снизу
+     */
+    private EntrySlice personageWindow(LeaderboardKey key, TopRequest request, int topEnd) {
+        final var rank = leaderboardBackend.rank(key, request.personageId()).orElse(-1);
+        if (rank < 0 || (rank >= request.offset() && rank < topEnd)) {
+            return new EntrySlice(0, List.of());
+        }
+        final int start;
+        final int end;
+        if (rank == topEnd) {
+            start = rank;
+            end = rank + 1;
+        } else if (rank < request.offset()) {
+            start = Math.max(rank - 1, 0);
+            end = Math.min(rank + 2, request.offset());
+        } else {
+            start = rank - 1;
+            end = rank + 2;
+        }
+        return new EntrySlice(start, leaderboardBackend.range(key, start, end - start));
+    }
+
+    private void updateAfterCommit(LeaderboardKey key, List<LeaderboardEntry> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            leaderboardBackend.update(key, entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                leaderboardBackend.update(key, entries);
+            }
+        });
+    }
+
+    private record EntrySlice(int offset, List<LeaderboardEntry> entries) {
+        private int end() {
+            return offset + entries.size();
+        }
+
+        /**
+         * Персонажей без данных (например, только что скрытых) пропускаем
+         */
+        private <T extends TopPosition> TopSlice<T> toSlice(Map<PersonageId, T> positions) {
+            return new TopSlice<>(
+                offset,
+                entries.stream()
+                    .map(entry -> positions.get(entry.personageId()))
+                    .filter(Objects::nonNull)
+                    .toList()
+            );
+        }
+    }
+
+    private record Page<T extends TopPosition>(TopSlice<T> top, TopSlice<T> personageWindow, int totalCount) {
     }
 }
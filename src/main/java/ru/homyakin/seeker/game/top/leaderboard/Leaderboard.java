@@ -0,0 +1,242 @@
+package ru.homyakin.seeker.game.top.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+
+/**
+ * Таблица лидеров на индексируемом skip list: порядок по убыванию очков, при равенстве по id.
+ * В каждом узле хранится длина перехода по уровню, поэтому место персонажа и срез топа ищутся за O(log n),
+ * без сортировки всего списка.
+ * Очки в топах только растут, поэтому raise идемпотентен и его можно применять в любом порядке
+ */
+public final class Leaderboard {
+    private static final int MAX_LEVEL = 32;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SplittableRandom random = new SplittableRandom();
+    private final Map<Long, Integer> scores = new HashMap<>();
+    private final Node head = new Node(0, 0, MAX_LEVEL);
+    private int level = 1;
+
+    public Leaderboard() {
+    }
+
+    public Leaderboard(List<LeaderboardEntry> entries) {
+        entries.forEach(entry -> raise(entry.personageId(), entry.score()));
+    }
+
+    /**
+     * Поднимает очки персонажа до score. Если текущие очки не меньше, ничего не меняется
+     * @return true, если очки изменились
+     */
+    public boolean raise(PersonageId personageId, int score) {
+        lock.writeLock().lock();
+        try {
+            final var id = personageId.value();
+            final var current = scores.get(id);
+            if (current != null) {
+                if (current >= score) {
+                    return false;
+                }
+                delete(id, current);
+            }
+            insert(id, score);
+            scores.put(id, score);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(PersonageId personageId) {
+        lock.writeLock().lock();
+        try {
+            final var score = scores.remove(personageId.value());
+            if (score == null) {
+                return false;
+            }
+            delete(personageId.value(), score);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Integer> score(PersonageId personageId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(scores.get(personageId.value()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return место персонажа, начиная с 0
+     */
+    public Optional<Integer> rank(PersonageId personageId) {
+        lock.readLock().lock();
+        try {
+            final var id = personageId.value();
+            final var score = scores.get(id);
+            if (score == null) {
+                return Optional.empty();
+            }
+            var rank = 0;
+            var node = head;
+            for (int i = level - 1; i >= 0; --i) {
+                while (node.next[i] != null && notAfter(node.next[i], score, id)) {
+                    rank += node.span[i];
+                    node = node.next[i];
+                }
+                if (node != head && node.id == id) {
+                    return Optional.of(rank - 1);
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Срез топа с места offset (начиная с 0) длиной не больше limit
+     */
+    public List<LeaderboardEntry> range(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (offset < 0 || limit <= 0 || offset >= scores.size()) {
+                return List.of();
+            }
+            final var result = new ArrayList<LeaderboardEntry>(Math.min(limit, scores.size() - offset));
+            var node = byRank(offset + 1);
+            while (node != null && result.size() < limit) {
+                result.add(new LeaderboardEntry(PersonageId.from(node.id), node.score));
+                node = node.next[0];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(long id, int score) {
+        final var update = new Node[MAX_LEVEL];
+        final var rank = new int[MAX_LEVEL];
+        var node = head;
+        for (int i = level - 1; i >= 0; --i) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (node.next[i] != null && before(node.next[i], score, id)) {
+                rank[i] += node.span[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        final var nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; ++i) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = scores.size();
+            }
+            level = nodeLevel;
+        }
+        final var inserted = new Node(id, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; ++i) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+            inserted.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; ++i) {
+            ++update[i].span[i];
+        }
+    }
+
+    private void delete(long id, int score) {
+        final var update = new Node[MAX_LEVEL];
+        var node = head;
+        for (int i = level - 1; i >= 0; --i) {
+            while (node.next[i] != null && before(node.next[i], score, id)) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        final var deleted = node.next[0];
+        for (int i = 0; i < level; ++i) {
+            if (update[i].next[i] == deleted) {
+                update[i].span[i] += deleted.span[i] - 1;
+                update[i].next[i] = deleted.next[i];
+            } else {
+                --update[i].span[i];
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            --level;
+        }
+    }
+
+    /**
+     * @param rank место, начиная с 1
+     */
+    private Node byRank(int rank) {
+        var traversed = 0;
+        var node = head;
+        for (int i = level - 1; i >= 0; --i) {
+            while (node.next[i] != null && traversed + node.span[i] <= rank) {
+                traversed += node.span[i];
+                node = node.next[i];
+            }
+            if (traversed == rank) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private int randomLevel() {
+        var nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && random.nextInt(4) == 0) {
+            ++nodeLevel;
+        }
+        return nodeLevel;
+    }
+
+    private static boolean before(Node node, int score, long id) {
+        return node.score > score || (node.score == score && node.id < id);
+    }
+
+    private static boolean notAfter(Node node, int score, long id) {
+        return before(node, score, id) || (node.score == score && node.id == id);
+    }
+
+    private static class Node {
+        private final long id;
+        private final int score;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(long id, int score, int level) {
+            this.id = id;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
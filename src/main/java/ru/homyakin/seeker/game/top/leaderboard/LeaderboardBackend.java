@@ -0,0 +1,27 @@
+package ru.homyakin.seeker.game.top.leaderboard;
+
+import java.util.List;
+import java.util.Optional;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+
+/**
+ * Запросы к топу без загрузки его целиком. Места считаются с 0,
+ * порядок по убыванию очков, при равенстве по id персонажа
+ */
+public interface LeaderboardBackend {
+    List<LeaderboardEntry> range(LeaderboardKey key, int offset, int limit);
+
+    Optional<Integer> rank(LeaderboardKey key, PersonageId personageId);
+
+    int size(LeaderboardKey key);
+
+    /**
+     * Итоговые очки после коммита изменений в накопительных таблицах
+     */
+    void update(LeaderboardKey key, List<LeaderboardEntry> entries);
+
+    /**
+     * Состав топа поменялся в обход update, например, персонаж скрылся из общего топа
+     */
+    void reset(LeaderboardKey key);
+}
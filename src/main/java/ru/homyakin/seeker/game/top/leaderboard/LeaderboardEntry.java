@@ -0,0 +1,9 @@
+package ru.homyakin.seeker.game.top.leaderboard;
+
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+
+public record LeaderboardEntry(
+    PersonageId personageId,
+    int score
+) {
+}
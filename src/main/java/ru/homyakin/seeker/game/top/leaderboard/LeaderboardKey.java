@@ -0,0 +1,15 @@
+package ru.homyakin.seeker.game.top.leaderboard;
+
+import java.time.LocalDate;
+import ru.homyakin.seeker.common.models.GroupId;
+
+public sealed interface LeaderboardKey {
+    record RaidWeek(LocalDate weekStart) implements LeaderboardKey {
+    }
+
+    record GroupRaidWeek(GroupId groupId, LocalDate weekStart) implements LeaderboardKey {
+    }
+
+    record GroupSpin(GroupId groupId) implements LeaderboardKey {
+    }
+}
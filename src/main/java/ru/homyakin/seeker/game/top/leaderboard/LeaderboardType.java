@@ -0,0 +1,8 @@
+package ru.homyakin.seeker.game.top.leaderboard;
+
+public enum LeaderboardType {
+    // Таблицы лидеров в памяти, восстанавливаются из накопительных таблиц. Подходит только для одной реплики бота
+    IN_MEMORY,
+    // Каждый запрос считается оконными функциями в PostgreSQL
+    POSTGRES,
+}
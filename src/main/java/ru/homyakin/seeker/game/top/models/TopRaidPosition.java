@@ -14,6 +14,10 @@ public record TopRaidPosition(
 ) implements TopPosition {
     @Override
     public int score() {
+        return score(successRaids, failedRaids);
+    }
+
+    public static int score(int successRaids, int failedRaids) {
         return successRaids * 2 + failedRaids;
     }
 
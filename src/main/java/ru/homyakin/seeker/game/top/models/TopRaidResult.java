@@ -1,25 +1,25 @@
 package ru.homyakin.seeker.game.top.models;
 
 import java.time.LocalDate;
-import java.util.List;
-import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.locale.Language;
 import ru.homyakin.seeker.locale.top.TopLocalization;
 
 public record TopRaidResult(
     LocalDate startDate,
     LocalDate endDate,
-    List<TopRaidPosition> positions,
+    TopSlice<TopRaidPosition> top,
+    TopSlice<TopRaidPosition> personageWindow,
+    int totalCount,
     Type type
 ) implements TopResult<TopRaidPosition> {
     @Override
-    public String toLocalizedString(Language language, PersonageId requestedPersonageId) {
-        if (positions.isEmpty()) {
+    public String toLocalizedString(Language language) {
+        if (isEmpty()) {
             return TopLocalization.topRaidEmpty(language);
         } else {
             return switch (type) {
-                case WEEK -> TopLocalization.topRaidWeek(language, requestedPersonageId, this);
-                case WEEK_GROUP -> TopLocalization.topRaidWeekGroup(language, requestedPersonageId, this);
+                case WEEK -> TopLocalization.topRaidWeek(language, this);
+                case WEEK_GROUP -> TopLocalization.topRaidWeekGroup(language, this);
             };
         }
     }
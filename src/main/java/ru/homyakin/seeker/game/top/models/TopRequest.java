@@ -0,0 +1,23 @@
+package ru.homyakin.seeker.game.top.models;
+
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+
+/**
+ * @param personageId персонаж, запросивший топ. Если он не попал на страницу, вместе с ней вернутся его место и соседи
+ * @param offset первое место страницы, начиная с 0
+ */
+public record TopRequest(
+    PersonageId personageId,
+    int offset,
+    int limit
+) {
+    public static TopRequest firstPage(PersonageId personageId) {
+        return new TopRequest(personageId, 0, PAGE_SIZE);
+    }
+
+    public TopRequest page(int page) {
+        return new TopRequest(personageId, page * limit, limit);
+    }
+
+    private static final int PAGE_SIZE = 10;
+}
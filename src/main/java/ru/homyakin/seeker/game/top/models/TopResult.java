@@ -1,21 +1,20 @@
 package ru.homyakin.seeker.game.top.models;
 
-import java.util.List;
-import java.util.Optional;
-import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.locale.Language;
 
 public interface TopResult<T extends TopPosition> {
-    List<T> positions();
+    TopSlice<T> top();
 
-    default Optional<Integer> findPersonageIndex(PersonageId personageId) {
-        for (int i = 0; i < positions().size(); ++i) {
-            if (positions().get(i).personageId().equals(personageId)) {
-                return Optional.of(i);
-            }
-        }
-        return Optional.empty();
+    /**
+     * Запросивший персонаж и его соседи, если персонаж не попал в top
+     */
+    TopSlice<T> personageWindow();
+
+    int totalCount();
+
+    default boolean isEmpty() {
+        return totalCount() == 0;
     }
 
-    String toLocalizedString(Language language, PersonageId requestedPersonageId);
+    String toLocalizedString(Language language);
 }
@@ -0,0 +1,20 @@
+package ru.homyakin.seeker.game.top.models;
+
+import java.util.List;
+
+/**
+ * Подряд идущие места топа
+ * @param offset место первой позиции, начиная с 0
+ */
+public record TopSlice<T extends TopPosition>(
+    int offset,
+    List<T> positions
+) {
+    public int end() {
+        return offset + positions.size();
+    }
+
+    public static <T extends TopPosition> TopSlice<T> empty() {
+        return new TopSlice<>(0, List.of());
+    }
+}
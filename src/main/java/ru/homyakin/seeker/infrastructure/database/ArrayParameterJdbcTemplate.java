@@ -0,0 +1,126 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+
+/**
+ * Список чисел в IN (:ids) передаётся одним параметром-массивом: условие заменяется на = ANY(:ids), NOT IN на <> ALL.
+ * Текст запроса перестаёт зависеть от размера списка, поэтому postgres переиспользует подготовленный запрос,
+ * а пустой список не ломает синтаксис
+ */
+public class ArrayParameterJdbcTemplate extends NamedParameterJdbcTemplate {
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\b(NOT\\s+)?IN\\s*\\(\\s*:(\\w+)\\s*\\)");
+
+    public ArrayParameterJdbcTemplate(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected PreparedStatementCreator getPreparedStatementCreator(
+        String sql,
+        SqlParameterSource paramSource,
+        Consumer<PreparedStatementCreatorFactory> customizer
+    ) {
+        final var rewritten = rewrite(sql, paramSource);
+        return super.getPreparedStatementCreator(rewritten.sql(), rewritten.params(), customizer);
+    }
+
+    static Rewritten rewrite(String sql, SqlParameterSource params) {
+        final var matcher = IN_LIST.matcher(sql);
+        if (!matcher.find()) {
+            return new Rewritten(sql, params);
+        }
+        final var arrays = new HashMap<String, Object>();
+        final var result = new StringBuilder(sql.length());
+        do {
+            final var name = matcher.group(2);
+            final var array = params.hasValue(name) ? toBigintArray(params.getValue(name)) : null;
+            if (array == null) {
+                matcher.appendReplacement(result, "$0");
+            } else {
+                arrays.put(name, new BigintArray(array));
+                matcher.appendReplacement(result, matcher.group(1) == null ? "= ANY(:$2)" : "<> ALL(:$2)");
+            }
+        } while (matcher.find());
+        matcher.appendTail(result);
+        if (arrays.isEmpty()) {
+            return new Rewritten(sql, params);
+        }
+        return new Rewritten(result.toString(), new ArrayParameterSource(params, arrays));
+    }
+
+    private static Long[] toBigintArray(Object value) {
+        if (!(value instanceof Collection<?> collection)) {
+            return null;
+        }
+        final var result = new Long[collection.size()];
+        var i = 0;
+        for (final var element : collection) {
+            if (element instanceof Long || element instanceof Integer || element instanceof Short) {
+                result[i++] = ((Number) element).longValue();
+            } else {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    record Rewritten(String sql, SqlParameterSource params) {
+    }
+
+    static class BigintArray extends AbstractSqlTypeValue {
+        private final Long[] values;
+
+        private BigintArray(Long[] values) {
+            this.values = values;
+        }
+
+        Long[] values() {
+            return values;
+        }
+
+        @Override
+        protected Object createTypeValue(Connection connection, int sqlType, String typeName) throws SQLException {
+            return connection.createArrayOf("bigint", values);
+        }
+    }
+
+    private record ArrayParameterSource(SqlParameterSource delegate, Map<String, Object> arrays) implements SqlParameterSource {
+        @Override
+        public boolean hasValue(String paramName) {
+            return arrays.containsKey(paramName) || delegate.hasValue(paramName);
+        }
+
+        @Override
+        public Object getValue(String paramName) {
+            final var array = arrays.get(paramName);
+            return array != null ? array : delegate.getValue(paramName);
+        }
+
+        @Override
+        public int getSqlType(String paramName) {
+            return arrays.containsKey(paramName) ? TYPE_UNKNOWN : delegate.getSqlType(paramName);
+        }
+
+        @Override
+        public String getTypeName(String paramName) {
+            return arrays.containsKey(paramName) ? null : delegate.getTypeName(paramName);
+        }
+
+        @Override
+        public String[] getParameterNames() {
+            return delegate.getParameterNames();
+        }
+    }
+}
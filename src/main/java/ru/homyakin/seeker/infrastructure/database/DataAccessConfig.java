@@ -0,0 +1,38 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Общий доступ к базе для всех Dao и PostgresRepository: они получают готовые JdbcClient и шаблоны,
+ * а не создают свои поверх DataSource
+ */
+@Configuration
+public class DataAccessConfig {
+
+    @Bean
+    public StatementMetrics statementMetrics(DatabaseConfig config) {
+        return new StatementMetrics(config.slowStatementThreshold());
+    }
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, StatementMetrics statementMetrics, DatabaseConfig config) {
+        final var jdbcTemplate = new MeasuredJdbcTemplate(dataSource, statementMetrics);
+        jdbcTemplate.setFetchSize(config.fetchSize());
+        return jdbcTemplate;
+    }
+
+    @Bean
+    public NamedParameterJdbcTemplate namedParameterJdbcTemplate(JdbcTemplate jdbcTemplate) {
+        return new ArrayParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Bean
+    public JdbcClient jdbcClient(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        return JdbcClient.create(namedParameterJdbcTemplate);
+    }
+}
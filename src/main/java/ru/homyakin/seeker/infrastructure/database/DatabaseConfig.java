@@ -0,0 +1,13 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("homyakin.seeker.database")
+public record DatabaseConfig(
+    // Сколько строк драйвер забирает за один запрос к серверу, чтобы большие выборки не читались в память целиком
+    int fetchSize,
+    // Запросы дольше этого пишутся в лог
+    Duration slowStatementThreshold
+) {
+}
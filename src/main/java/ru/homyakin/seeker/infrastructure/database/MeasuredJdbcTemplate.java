@@ -0,0 +1,102 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import javax.sql.DataSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Замеряет каждый запрос в StatementMetrics.
+ * Все query и update с PreparedStatementCreator, через которые работают NamedParameterJdbcTemplate и JdbcClient,
+ * сходятся в переопределённых здесь методах. Batch запросы и запросы без параметров идут в JdbcTemplate
+ * через execute(String, ...), query(String, ...) и update(String), поэтому они переопределены отдельно
+ */
+public class MeasuredJdbcTemplate extends JdbcTemplate {
+    private final StatementMetrics metrics;
+
+    public MeasuredJdbcTemplate(DataSource dataSource, StatementMetrics metrics) {
+        super(dataSource);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+        return measure(sql(psc), () -> super.query(psc, pss, rse), MeasuredJdbcTemplate::rows);
+    }
+
+    @Override
+    public <T> T query(String sql, ResultSetExtractor<T> rse) {
+        return measure(sql, () -> super.query(sql, rse), MeasuredJdbcTemplate::rows);
+    }
+
+    @Override
+    protected int update(PreparedStatementCreator psc, PreparedStatementSetter pss) {
+        return measure(sql(psc), () -> super.update(psc, pss), Integer::longValue);
+    }
+
+    @Override
+    public int update(PreparedStatementCreator psc, KeyHolder generatedKeyHolder) {
+        return measure(sql(psc), () -> super.update(psc, generatedKeyHolder), Integer::longValue);
+    }
+
+    @Override
+    public int update(String sql) {
+        return measure(sql, () -> super.update(sql), Integer::longValue);
+    }
+
+    @Override
+    public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action) {
+        return measure(sql(psc), () -> super.execute(psc, action), MeasuredJdbcTemplate::updatedRows);
+    }
+
+    @Override
+    public <T> T execute(String sql, PreparedStatementCallback<T> action) {
+        return measure(sql, () -> super.execute(sql, action), MeasuredJdbcTemplate::updatedRows);
+    }
+
+    private <T> T measure(String sql, Supplier<T> statement, ToLongFunction<T> rows) {
+        final var start = System.nanoTime();
+        final T result;
+        try {
+            result = statement.get();
+        } catch (DataAccessException e) {
+            metrics.recordError(sql, System.nanoTime() - start);
+            throw e;
+        }
+        metrics.record(sql, System.nanoTime() - start, rows.applyAsLong(result));
+        return result;
+    }
+
+    private static String sql(PreparedStatementCreator psc) {
+        return psc instanceof SqlProvider provider ? provider.getSql() : psc.getClass().getName();
+    }
+
+    /**
+     * Через execute идут batch запросы, они возвращают количество строк по каждому набору параметров
+     */
+    private static long updatedRows(Object result) {
+        return switch (result) {
+            case Integer count -> count;
+            case int[] counts -> Arrays.stream(counts).filter(count -> count > 0).asLongStream().sum();
+            case int[][] counts -> Arrays.stream(counts).mapToLong(MeasuredJdbcTemplate::updatedRows).sum();
+            case null, default -> 0;
+        };
+    }
+
+    private static long rows(Object result) {
+        return switch (result) {
+            case null -> 0;
+            case Collection<?> collection -> collection.size();
+            default -> 1;
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Время и количество строк по каждому тексту запроса.
+ * Списки передаются массивами, поэтому текст запроса не зависит от параметров и ключей здесь немного
+ */
+public class StatementMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(StatementMetrics.class);
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final long slowThresholdNanos;
+
+    public StatementMetrics(Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    public void record(String sql, long nanos, long rows) {
+        final var statement = counters.computeIfAbsent(sql, _ -> new Counters());
+        statement.calls.increment();
+        statement.rows.add(rows);
+        statement.add(nanos);
+        if (nanos >= slowThresholdNanos) {
+            logger.warn("Slow statement: {} ms, {} rows\n{}", Duration.ofNanos(nanos).toMillis(), rows, sql);
+        }
+    }
+
+    public void recordError(String sql, long nanos) {
+        final var statement = counters.computeIfAbsent(sql, _ -> new Counters());
+        statement.calls.increment();
+        statement.errors.increment();
+        statement.add(nanos);
+    }
+
+    public Map<String, StatementStats> snapshot() {
+        final var result = new HashMap<String, StatementStats>(counters.size());
+        counters.forEach((sql, statement) -> result.put(
+            sql,
+            new StatementStats(
+                statement.calls.sum(),
+                statement.errors.sum(),
+                statement.rows.sum(),
+                Duration.ofNanos(statement.totalNanos.sum()),
+                Duration.ofNanos(statement.maxNanos.get())
+            )
+        ));
+        return result;
+    }
+
+    private static class Counters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(long nanos) {
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+    }
+}
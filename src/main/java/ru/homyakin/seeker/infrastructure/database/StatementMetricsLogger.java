@@ -0,0 +1,36 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import java.util.Comparator;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодически пишет в лог самые тяжёлые по суммарному времени запросы с момента запуска
+ */
+@Component
+public class StatementMetricsLogger {
+    private static final Logger logger = LoggerFactory.getLogger(StatementMetricsLogger.class);
+    private static final int TOP_SIZE = 10;
+    private final StatementMetrics metrics;
+
+    public StatementMetricsLogger(StatementMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Scheduled(fixedRateString = "${homyakin.seeker.database.statsLogInterval}")
+    public void logTopStatements() {
+        final var snapshot = metrics.snapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        final var top = new StringBuilder();
+        snapshot.entrySet().stream()
+            .sorted(Map.Entry.<String, StatementStats>comparingByValue(Comparator.comparing(StatementStats::totalTime)).reversed())
+            .limit(TOP_SIZE)
+            .forEach(entry -> top.append("\n").append(entry.getValue()).append("\n").append(entry.getKey().strip()));
+        logger.info("Top {} of {} statements by total time:{}", Math.min(TOP_SIZE, snapshot.size()), snapshot.size(), top);
+    }
+}
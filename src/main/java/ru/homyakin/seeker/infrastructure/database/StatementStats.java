@@ -0,0 +1,13 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import java.time.Duration;
+
+public record StatementStats(
+    long calls,
+    long errors,
+    // Для выборок количество прочитанных строк, для изменений количество затронутых
+    long rows,
+    Duration totalTime,
+    Duration maxTime
+) {
+}
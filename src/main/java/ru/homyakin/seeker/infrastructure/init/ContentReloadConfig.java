@@ -0,0 +1,18 @@
+package ru.homyakin.seeker.infrastructure.init;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param directory папка с тем же устройством, что resources: localization и game-data. Если не задана, контент берётся из сборки
+ * @param watch перезагружать контент при изменении файлов в directory
+ * @param debounce сколько ждать после изменения файла, чтобы правка нескольких файлов дала одну перезагрузку
+ */
+@ConfigurationProperties("homyakin.seeker.content")
+public record ContentReloadConfig(
+    Path directory,
+    boolean watch,
+    Duration debounce
+) {
+}
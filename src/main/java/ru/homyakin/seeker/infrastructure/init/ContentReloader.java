@@ -0,0 +1,129 @@
+package ru.homyakin.seeker.infrastructure.init;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.locale.LocalizationInitializer;
+import ru.homyakin.seeker.utils.ResourceUtils;
+
+/**
+ * Перезагружает локализацию и игровые данные без рестарта.
+ * Перезагрузка идёт в отдельном потоке: сначала все файлы читаются и проверяются, затем игровые данные записываются
+ * в одной транзакции и GameCatalog подменяет снимок, и только после этого подменяется локализация.
+ * Если что-то не разобралось или не записалось, остаются прежние данные и прежняя локализация.
+ * Уже начатые ответы дорабатывают со старыми ресурсами
+ */
+@Component
+public class ContentReloader {
+    private static final Logger logger = LoggerFactory.getLogger(ContentReloader.class);
+    private final InitGameData initGameData;
+    private final ContentReloadConfig config;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        Thread.ofVirtual().name("content-reload").factory()
+    );
+    private final AtomicBoolean reloadPending = new AtomicBoolean(false);
+    private WatchService watchService;
+    private Thread watcher;
+
+    public ContentReloader(InitGameData initGameData, ContentReloadConfig config) {
+        this.initGameData = initGameData;
+        this.config = config;
+        if (config.directory() != null) {
+            ResourceUtils.setContentDirectory(config.directory());
+            // Локализация уже загружена из сборки в main, а игровые данные InitGameData прочитает уже из папки
+            LocalizationInitializer.initLocale();
+            logger.info("Content directory is {}", config.directory());
+        }
+    }
+
+    /**
+     * Запросы, пришедшие до начала перезагрузки, схлопываются в одну
+     */
+    public void reload() {
+        if (reloadPending.compareAndSet(false, true)) {
+            executor.execute(this::doReload);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWatching() throws IOException {
+        if (config.directory() == null || !config.watch()) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        try (final var directories = Files.walk(config.directory())) {
+            for (final var directory : directories.filter(Files::isDirectory).toList()) {
+                register(directory);
+            }
+        }
+        watcher = Thread.ofVirtual().name("content-watcher").start(this::watch);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (watcher != null) {
+            watcher.interrupt();
+            watchService.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void doReload() {
+        reloadPending.set(false);
+        try {
+            final var localization = LocalizationInitializer.read();
+            final var gameData = initGameData.read();
+            initGameData.save(gameData);
+            LocalizationInitializer.publish(localization);
+            logger.info("Content reloaded");
+        } catch (Exception e) {
+            logger.error("Can't reload content", e);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                var key = watchService.take();
+                Thread.sleep(config.debounce());
+                while (key != null) {
+                    final var directory = (Path) key.watchable();
+                    for (final var event : key.pollEvents()) {
+                        if (event.context() instanceof Path path && Files.isDirectory(directory.resolve(path))) {
+                            register(directory.resolve(path));
+                        }
+                    }
+                    key.reset();
+                    key = watchService.poll();
+                }
+                reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException _) {
+            logger.info("Content watcher stopped");
+        } catch (IOException e) {
+            logger.error("Content watcher failed", e);
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        directory.register(
+            watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE
+        );
+    }
+}
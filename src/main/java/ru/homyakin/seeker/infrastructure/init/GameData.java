@@ -0,0 +1,23 @@
+package ru.homyakin.seeker.infrastructure.init;
+
+import ru.homyakin.seeker.infrastructure.init.saving_models.Badges;
+import ru.homyakin.seeker.infrastructure.init.saving_models.Items;
+import ru.homyakin.seeker.infrastructure.init.saving_models.PersonalQuests;
+import ru.homyakin.seeker.infrastructure.init.saving_models.Raids;
+import ru.homyakin.seeker.infrastructure.init.saving_models.Rumors;
+import ru.homyakin.seeker.infrastructure.init.saving_models.item.ItemModifiers;
+import ru.homyakin.seeker.infrastructure.init.saving_models.item.ItemObjects;
+
+/**
+ * Все игровые данные из toml, уже разобранные и проверенные, но ещё не записанные в базу
+ */
+public record GameData(
+    Raids raids,
+    PersonalQuests personalQuests,
+    Items menuItems,
+    Rumors rumors,
+    Badges badges,
+    ItemObjects itemObjects,
+    ItemModifiers itemModifiers
+) {
+}
@@ -0,0 +1,7 @@
+package ru.homyakin.seeker.infrastructure.init;
+
+/**
+ * Публикуется, когда InitGameData записал все игровые данные в базу
+ */
+public record GameDataLoaded() {
+}
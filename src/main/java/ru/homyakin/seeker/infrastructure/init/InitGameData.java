@@ -9,8 +9,10 @@ import java.io.InputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.homyakin.seeker.game.event.service.EventService;
 import ru.homyakin.seeker.game.item.ItemService;
 import ru.homyakin.seeker.game.item.modifier.ItemModifierService;
@@ -48,6 +50,8 @@ public class InitGameData {
     private final ItemService itemService;
     private final ItemModifierService itemModifierService;
     private final InitGameDataConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public InitGameData(
         EventService eventService,
@@ -56,7 +60,9 @@ public class InitGameData {
         BadgeService badgeService,
         ItemService itemService,
         ItemModifierService itemModifierService,
-        InitGameDataConfig config
+        InitGameDataConfig config,
+        ApplicationEventPublisher eventPublisher,
+        TransactionTemplate transactionTemplate
     ) {
         this.eventService = eventService;
         this.menuService = menuService;
@@ -65,106 +71,105 @@ public class InitGameData {
         this.itemService = itemService;
         this.itemModifierService = itemModifierService;
         this.config = config;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
+    /**
+     * Загружает все игровые данные и сообщает об этом, чтобы GameCatalog собрал снимок уже по полным данным
+     */
     @EventListener(ApplicationStartedEvent.class)
-    public void loadRaids() {
-        logger.info("loading raids");
-        ResourceUtils.doAction(
-            raidsPath(),
-            stream -> {
-                final var raids = extractClass(stream, Raids.class);
-                LocalizationCoverage.addRaidsInfo(raids);
-                raids.raid().forEach(SavingRaid::validateLocale);
-                raids.raid().forEach(eventService::saveRaid);
-            }
-        );
-        logger.info("loaded raids");
+    public void loadAll() {
+        save(read());
     }
 
-    @EventListener(ApplicationStartedEvent.class)
-    public void loadPersonalQuests() {
-        logger.info("loading personal quests");
-        ResourceUtils.doAction(
-            personalQuestsPath(),
-            stream -> {
-                final var personalQuests = extractClass(stream, PersonalQuests.class);
-                LocalizationCoverage.addPersonalQuestsInfo(personalQuests);
-                personalQuests.quest().forEach(SavingPersonalQuest::validateLocale);
-                personalQuests.quest().forEach(eventService::savePersonalQuest);
-            }
+    /**
+     * Читает и проверяет все файлы, ничего не записывая. Если хоть один файл не разобрался, бросается исключение
+     */
+    public GameData read() {
+        return new GameData(
+            readRaids(),
+            readPersonalQuests(),
+            readMenuItems(),
+            readRumors(),
+            readBadges(),
+            readItemObjects(),
+            readItemModifiers()
         );
-        logger.info("loaded personal quests");
     }
 
-    @EventListener(ApplicationStartedEvent.class)
-    public void loadMenuItems() {
-        logger.info("loading menu items");
-        ResourceUtils.doAction(
-            menuItemsPath(),
-            stream -> {
-                final var items = extractClass(stream, Items.class);
-                LocalizationCoverage.addMenuItemsInfo(items);
-                items.item().forEach(SavingMenuItem::validateLocale);
-                items.item().forEach(menuService::saveItem);
-            }
-        );
-        logger.info("loaded menu items");
+    /**
+     * Записывает все игровые данные в одной транзакции и только после коммита публикует GameDataLoaded
+     */
+    public void save(GameData data) {
+        logger.info("saving game data");
+        transactionTemplate.executeWithoutResult(_ -> {
+            data.raids().raid().forEach(eventService::saveRaid);
+            data.personalQuests().quest().forEach(eventService::savePersonalQuest);
+            data.menuItems().item().forEach(menuService::saveItem);
+            data.rumors().rumor().forEach(rumorService::save);
+            data.badges().badge().forEach(badgeService::save);
+            itemService.saveObjects(data.itemObjects());
+            itemModifierService.saveModifiers(data.itemModifiers());
+        });
+        LocalizationCoverage.addRaidsInfo(data.raids());
+        LocalizationCoverage.addPersonalQuestsInfo(data.personalQuests());
+        LocalizationCoverage.addMenuItemsInfo(data.menuItems());
+        LocalizationCoverage.addRumorsInfo(data.rumors());
+        LocalizationCoverage.addBadgesInfo(data.badges());
+        LocalizationCoverage.addItemObjectsInfo(data.itemObjects());
+        LocalizationCoverage.addIteModifiersInfo(data.itemModifiers());
+        logger.info("saved game data");
+        eventPublisher.publishEvent(new GameDataLoaded());
     }
 
-    @EventListener(ApplicationStartedEvent.class)
-    public void loadRumors() {
-        logger.info("loading rumors");
-        ResourceUtils.doAction(
-            rumorsPath(),
-            stream -> {
-                final var rumors = extractClass(stream, Rumors.class);
-                LocalizationCoverage.addRumorsInfo(rumors);
-                rumors.rumor().forEach(Rumor::validateLocale);
-                rumors.rumor().forEach(rumorService::save);
-            }
-        );
-        logger.info("loaded rumors");
+    public Raids readRaids() {
+        final var raids = read(raidsPath(), Raids.class);
+        raids.raid().forEach(SavingRaid::validateLocale);
+        return raids;
     }
 
-    @EventListener(ApplicationStartedEvent.class)
-    public void loadBadges() {
-        logger.info("loading badges");
-        ResourceUtils.doAction(
-            BADGES,
-            stream -> {
-                final var badges = extractClass(stream, Badges.class);
-                LocalizationCoverage.addBadgesInfo(badges);
-                badges.badge().forEach(SavingBadge::validateLocale);
-                badges.badge().forEach(badgeService::save);
-            }
-        );
-        logger.info("loaded badges");
+    public PersonalQuests readPersonalQuests() {
+        final var personalQuests = read(personalQuestsPath(), PersonalQuests.class);
+        personalQuests.quest().forEach(SavingPersonalQuest::validateLocale);
+        return personalQuests;
     }
 
-    @EventListener(ApplicationStartedEvent.class)
-    public void loadItems() {
-        logger.info("loading items");
-        ResourceUtils.doAction(
-            ITEM_OBJECTS,
-            stream -> {
-                final var itemObjects = extractClass(stream, ItemObjects.class);
-                LocalizationCoverage.addItemObjectsInfo(itemObjects);
-                itemObjects.object().forEach(SavingItemObject::validateLocale);
-                itemService.saveObjects(itemObjects);
-            }
-        );
-        ResourceUtils.doAction(
-            ITEM_MODIFIERS,
-            stream -> {
-                final var itemModifiers = extractClass(stream, ItemModifiers.class);
-                LocalizationCoverage.addIteModifiersInfo(itemModifiers);
-                itemModifiers.modifier().forEach(SavingModifier::validateLocale);
-                itemModifiers.modifier().forEach(SavingModifier::validateWordForms);
-                itemModifierService.saveModifiers(itemModifiers);
-            }
-        );
-        logger.info("loaded items");
+    public Items readMenuItems() {
+        final var items = read(menuItemsPath(), Items.class);
+        items.item().forEach(SavingMenuItem::validateLocale);
+        return items;
+    }
+
+    public Rumors readRumors() {
+        final var rumors = read(rumorsPath(), Rumors.class);
+        rumors.rumor().forEach(Rumor::validateLocale);
+        return rumors;
+    }
+
+    public Badges readBadges() {
+        final var badges = read(BADGES, Badges.class);
+        badges.badge().forEach(SavingBadge::validateLocale);
+        return badges;
+    }
+
+    public ItemObjects readItemObjects() {
+        final var itemObjects = read(ITEM_OBJECTS, ItemObjects.class);
+        itemObjects.object().forEach(SavingItemObject::validateLocale);
+        return itemObjects;
+    }
+
+    public ItemModifiers readItemModifiers() {
+        final var itemModifiers = read(ITEM_MODIFIERS, ItemModifiers.class);
+        itemModifiers.modifier().forEach(SavingModifier::validateLocale);
+        itemModifiers.modifier().forEach(SavingModifier::validateWordForms);
+        return itemModifiers;
+    }
+
+    private <T> T read(String path, Class<T> clazz) {
+        logger.info("reading {}", path);
+        return ResourceUtils.calc(path, stream -> extractClass(stream, clazz))
+            .orElseThrow(() -> new IllegalStateException("Can't read " + path));
     }
 
     private <T> T extractClass(InputStream stream, Class<T> clazz) {
@@ -0,0 +1,12 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+enum LockAttempt {
+    ACQUIRED,
+    ACQUIRED_AFTER_WAIT,
+    LOCKED,
+    ;
+
+    boolean isAcquired() {
+        return this != LOCKED;
+    }
+}
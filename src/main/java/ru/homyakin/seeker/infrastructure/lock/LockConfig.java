@@ -0,0 +1,18 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("homyakin.seeker.lock")
+public record LockConfig(
+    LockType type,
+    int stripes,
+    // Сколько ждать занятый ключ в lockAndCalc
+    Duration waitTimeout,
+    // Если держатель блокировки завис дольше, postgres закроет сессию и отпустит блокировку
+    Duration lease,
+    // Сколько соединений из пула можно занять под удерживаемые блокировки
+    int maxConnections,
+    Duration connectionWait
+) {
+}
@@ -0,0 +1,43 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+class LockCounters {
+    private final LongAdder[] acquired = adders();
+    private final LongAdder[] contended = adders();
+    private final LongAdder[] failed = adders();
+
+    void record(LockPrefixes prefix, LockAttempt attempt) {
+        final var index = prefix.ordinal();
+        switch (attempt) {
+            case ACQUIRED -> acquired[index].increment();
+            case ACQUIRED_AFTER_WAIT -> {
+                acquired[index].increment();
+                contended[index].increment();
+            }
+            case LOCKED -> {
+                contended[index].increment();
+                failed[index].increment();
+            }
+        }
+    }
+
+    Map<LockPrefixes, LockStats> snapshot() {
+        final var result = new EnumMap<LockPrefixes, LockStats>(LockPrefixes.class);
+        for (final var prefix : LockPrefixes.values()) {
+            final var index = prefix.ordinal();
+            result.put(prefix, new LockStats(acquired[index].sum(), contended[index].sum(), failed[index].sum()));
+        }
+        return result;
+    }
+
+    private static LongAdder[] adders() {
+        final var result = new LongAdder[LockPrefixes.values().length];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+public record LockKey(
+    LockPrefixes prefix,
+    long id
+) {
+    /**
+     * Префикс в старших 8 битах, id в остальных. Для id меньше 2^56 разные ключи не пересекаются
+     */
+    public long toLong() {
+        return ((long) prefix.ordinal() << ID_BITS) | (id & ID_MASK);
+    }
+
+    int stripeHash() {
+        // Финализатор SplitMix64, чтобы последовательные id попадали в разные страйпы
+        var hash = toLong();
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return (int) (hash ^ (hash >>> 31));
+    }
+
+    private static final int ID_BITS = 56;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+}
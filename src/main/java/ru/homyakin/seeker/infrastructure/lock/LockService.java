@@ -1,21 +1,36 @@
 package ru.homyakin.seeker.infrastructure.lock;
 
 import io.vavr.control.Either;
-import ru.homyakin.seeker.utils.models.Success;
-
+import java.time.Duration;
+import java.util.Map;
 import java.util.function.Supplier;
+import ru.homyakin.seeker.utils.models.Success;
 
 public interface LockService {
-    boolean tryLock(String key);
+    boolean tryLock(LockKey key);
 
-    void unlock(String key);
+    void unlock(LockKey key);
 
-    default Either<KeyLocked, Success> tryLockAndExecute(String key, Runnable action) {
+    default Either<KeyLocked, Success> tryLockAndExecute(LockKey key, Runnable action) {
         return tryLockAndCalc(key, () -> {
             action.run();
             return Success.INSTANCE;
         });
     }
 
-    <T> Either<KeyLocked, T> tryLockAndCalc(String key, Supplier<T> supplier);
+    /**
+     * Не ждёт, если ключ занят. Подходит для фоновых задач, где повторная обработка не нужна
+     */
+    default <T> Either<KeyLocked, T> tryLockAndCalc(LockKey key, Supplier<T> supplier) {
+        return lockAndCalc(key, Duration.ZERO, supplier);
+    }
+
+    /**
+     * Ждёт освобождения ключа не дольше настроенного waitTimeout
+     */
+    <T> Either<KeyLocked, T> lockAndCalc(LockKey key, Supplier<T> supplier);
+
+    <T> Either<KeyLocked, T> lockAndCalc(LockKey key, Duration timeout, Supplier<T> supplier);
+
+    Map<LockPrefixes, LockStats> stats();
 }
@@ -0,0 +1,9 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+public record LockStats(
+    long acquired,
+    // Ключ уже был занят: пришлось ждать или не дождались
+    long contended,
+    long failed
+) {
+}
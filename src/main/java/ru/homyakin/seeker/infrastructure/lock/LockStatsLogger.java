@@ -0,0 +1,39 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодически пишет в лог счётчики блокировок с момента запуска по префиксам, которые использовались.
+ * Если кто-то не дождался ключа, пишет предупреждение
+ */
+@Component
+public class LockStatsLogger {
+    private static final Logger logger = LoggerFactory.getLogger(LockStatsLogger.class);
+    private final LockService lockService;
+
+    public LockStatsLogger(LockService lockService) {
+        this.lockService = lockService;
+    }
+
+    @Scheduled(fixedRateString = "${homyakin.seeker.lock.statsLogInterval}")
+    public void logStats() {
+        final var used = lockService.stats().entrySet().stream()
+            .filter(entry -> entry.getValue().acquired() > 0 || entry.getValue().contended() > 0)
+            .toList();
+        if (used.isEmpty()) {
+            return;
+        }
+        final var text = used.stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue())
+            .collect(Collectors.joining(", "));
+        if (used.stream().anyMatch(entry -> entry.getValue().failed() > 0)) {
+            logger.warn("Lock stats: {}", text);
+        } else {
+            logger.info("Lock stats: {}", text);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+public enum LockType {
+    // Блокировки внутри одного процесса, подходит только для одной реплики бота
+    IN_MEMORY,
+    // Advisory блокировки в PostgreSQL, общие для всех реплик
+    POSTGRES,
+}
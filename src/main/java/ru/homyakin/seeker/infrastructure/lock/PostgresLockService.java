@@ -0,0 +1,212 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+import io.vavr.control.Either;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Блокировки через session-level advisory locks в PostgreSQL, чтобы несколько реплик бота не обрабатывали одно и то же.
+ * Сначала ключ блокируется внутри процесса, и только если это удалось, идём в базу.
+ * Блокировка в базе держится на отдельном соединении, пока выполняется действие,
+ * у соединения выставлен idle_session_timeout, поэтому зависший держатель отпустит блокировку через lease.
+ */
+@Service
+@ConditionalOnProperty(name = "homyakin.seeker.lock.type", havingValue = "POSTGRES")
+public class PostgresLockService implements LockService {
+    private static final Logger logger = LoggerFactory.getLogger(PostgresLockService.class);
+    private final DataSource dataSource;
+    private final LockConfig config;
+    private final StripedLockService localLocks;
+    private final LockCounters counters = new LockCounters();
+    private final Semaphore connections;
+    private final Map<LockKey, Connection> heldConnections = new ConcurrentHashMap<>();
+
+    public PostgresLockService(DataSource dataSource, LockConfig config) {
+        this.dataSource = dataSource;
+        this.config = config;
+        this.localLocks = new StripedLockService(config.stripes(), config.waitTimeout());
+        this.connections = new Semaphore(config.maxConnections());
+    }
+
+    @Override
+    public boolean tryLock(LockKey key) {
+        final var connection = acquire(key, 0);
+        if (connection == null) {
+            return false;
+        }
+        heldConnections.put(key, connection);
+        return true;
+    }
+
+    @Override
+    public void unlock(LockKey key) {
+        final var connection = heldConnections.remove(key);
+        if (connection != null) {
+            unlockInDatabase(key, connection);
+        }
+        localLocks.release(key);
+    }
+
+    @Override
+    public <T> Either<KeyLocked, T> lockAndCalc(LockKey key, Supplier<T> supplier) {
+        return lockAndCalc(key, config.waitTimeout(), supplier);
+    }
+
+    @Override
+    public <T> Either<KeyLocked, T> lockAndCalc(LockKey key, Duration timeout, Supplier<T> supplier) {
+        final var connection = acquire(key, timeout.toNanos());
+        if (connection == null) {
+            return Either.left(KeyLocked.INSTANCE);
+        }
+        try {
+            return Either.right(supplier.get());
+        } finally {
+            unlockInDatabase(key, connection);
+            localLocks.release(key);
+        }
+    }
+
+    @Override
+    public Map<LockPrefixes, LockStats> stats() {
+        return counters.snapshot();
+    }
+
+    /**
+     * @return соединение, на котором держится блокировка, или null, если заблокировать не удалось
+     */
+    private Connection acquire(LockKey key, long timeoutNanos) {
+        final var deadline = System.nanoTime() + timeoutNanos;
+        final var localAttempt = localLocks.acquire(key, timeoutNanos);
+        if (!localAttempt.isAcquired()) {
+            logger.debug("key already locked locally {}", key);
+            counters.record(key.prefix(), LockAttempt.LOCKED);
+            return null;
+        }
+        final var databaseAttempt = tryLockInDatabase(key, Math.max(deadline - System.nanoTime(), 0));
+        if (databaseAttempt.attempt().isAcquired()) {
+            final var waited = localAttempt == LockAttempt.ACQUIRED_AFTER_WAIT
+                || databaseAttempt.attempt() == LockAttempt.ACQUIRED_AFTER_WAIT;
+            counters.record(key.prefix(), waited ? LockAttempt.ACQUIRED_AFTER_WAIT : LockAttempt.ACQUIRED);
+            return databaseAttempt.connection();
+        }
+        counters.record(key.prefix(), LockAttempt.LOCKED);
+        localLocks.release(key);
+        return null;
+    }
+
+    private DatabaseAttempt tryLockInDatabase(LockKey key, long timeoutNanos) {
+        try {
+            if (!connections.tryAcquire(config.connectionWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("No free connections for lock {}", key);
+                return DatabaseAttempt.LOCKED;
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return DatabaseAttempt.LOCKED;
+        }
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+            setConfig(connection, IDLE_SESSION_TIMEOUT, config.lease().toMillis());
+            if (queryBoolean(connection, TRY_LOCK, key.toLong())) {
+                logger.debug("success lock {}", key);
+                return new DatabaseAttempt(LockAttempt.ACQUIRED, connection);
+            }
+            final var timeoutMillis = TimeUnit.NANOSECONDS.toMillis(timeoutNanos);
+            if (timeoutMillis > 0 && waitLockInDatabase(connection, key, timeoutMillis)) {
+                logger.debug("success lock {} after wait", key);
+                return new DatabaseAttempt(LockAttempt.ACQUIRED_AFTER_WAIT, connection);
+            }
+            logger.debug("key already locked in database {}", key);
+        } catch (SQLException e) {
+            logger.error("Can't lock {} in database", key, e);
+        }
+        release(connection);
+        return DatabaseAttempt.LOCKED;
+    }
+
+    private boolean waitLockInDatabase(Connection connection, LockKey key, long timeoutMillis) throws SQLException {
+        setConfig(connection, LOCK_TIMEOUT, timeoutMillis);
+        try (final var statement = connection.prepareStatement(LOCK)) {
+            statement.setLong(1, key.toLong());
+            statement.execute();
+            return true;
+        } catch (SQLException e) {
+            if (LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void unlockInDatabase(LockKey key, Connection connection) {
+        try {
+            if (!queryBoolean(connection, UNLOCK, key.toLong())) {
+                logger.warn("Lock {} was not held on unlock", key);
+            }
+            logger.debug("free lock {}", key);
+        } catch (SQLException e) {
+            // Скорее всего сессию закрыл postgres после истечения lease, блокировка уже отпущена
+            logger.warn("Can't unlock {} in database, lease {} probably expired", key, config.lease(), e);
+        }
+        release(connection);
+    }
+
+    private void release(Connection connection) {
+        try {
+            if (connection != null) {
+                try {
+                    setConfig(connection, IDLE_SESSION_TIMEOUT, 0);
+                    setConfig(connection, LOCK_TIMEOUT, 0);
+                } finally {
+                    connection.close();
+                }
+            }
+        } catch (SQLException e) {
+            logger.warn("Can't release lock connection", e);
+        } finally {
+            connections.release();
+        }
+    }
+
+    private static void setConfig(Connection connection, String parameter, long millis) throws SQLException {
+        try (final var statement = connection.prepareStatement(SET_CONFIG)) {
+            statement.setString(1, parameter);
+            statement.setString(2, Long.toString(millis));
+            statement.execute();
+        }
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql, long advisoryKey) throws SQLException {
+        try (final var statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, advisoryKey);
+            try (final var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private record DatabaseAttempt(LockAttempt attempt, Connection connection) {
+        private static final DatabaseAttempt LOCKED = new DatabaseAttempt(LockAttempt.LOCKED, null);
+    }
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(?)";
+    private static final String LOCK = "SELECT pg_advisory_lock(?)";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(?)";
+    private static final String SET_CONFIG = "SELECT set_config(?, ?, false)";
+    private static final String IDLE_SESSION_TIMEOUT = "idle_session_timeout";
+    private static final String LOCK_TIMEOUT = "lock_timeout";
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+}
@@ -0,0 +1,163 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+import io.vavr.control.Either;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Блокировки внутри процесса. Ключи раскладываются по фиксированному массиву страйпов,
+ * каждый страйп хранит занятые в нём ключи, поэтому разные ключи в одном страйпе друг друга не блокируют.
+ */
+@Service
+@ConditionalOnProperty(name = "homyakin.seeker.lock.type", havingValue = "IN_MEMORY", matchIfMissing = true)
+public class StripedLockService implements LockService {
+    private static final Logger logger = LoggerFactory.getLogger(StripedLockService.class);
+    private final Stripe[] stripes;
+    private final int mask;
+    private final Duration waitTimeout;
+    private final LockCounters counters = new LockCounters();
+
+    @Autowired
+    public StripedLockService(LockConfig config) {
+        this(config.stripes(), config.waitTimeout());
+    }
+
+    public StripedLockService(int stripes, Duration waitTimeout) {
+        final var size = Integer.highestOneBit(Math.max(stripes - 1, 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; ++i) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    public boolean tryLock(LockKey key) {
+        final var attempt = acquire(key, 0);
+        counters.record(key.prefix(), attempt);
+        return attempt.isAcquired();
+    }
+
+    @Override
+    public void unlock(LockKey key) {
+        release(key);
+    }
+
+    @Override
+    public <T> Either<KeyLocked, T> lockAndCalc(LockKey key, Supplier<T> supplier) {
+        return lockAndCalc(key, waitTimeout, supplier);
+    }
+
+    @Override
+    public <T> Either<KeyLocked, T> lockAndCalc(LockKey key, Duration timeout, Supplier<T> supplier) {
+        final var attempt = acquire(key, timeout.toNanos());
+        counters.record(key.prefix(), attempt);
+        if (!attempt.isAcquired()) {
+            logger.debug("key already locked {}", key);
+            return Either.left(KeyLocked.INSTANCE);
+        }
+        try {
+            return Either.right(supplier.get());
+        } finally {
+            release(key);
+        }
+    }
+
+    @Override
+    public Map<LockPrefixes, LockStats> stats() {
+        return counters.snapshot();
+    }
+
+    LockAttempt acquire(LockKey key, long timeoutNanos) {
+        final var stripe = stripes[key.stripeHash() & mask];
+        stripe.lock.lock();
+        try {
+            if (stripe.tryAdd(key)) {
+                return LockAttempt.ACQUIRED;
+            }
+            var nanos = timeoutNanos;
+            while (nanos > 0) {
+                nanos = stripe.released.awaitNanos(nanos);
+                if (stripe.tryAdd(key)) {
+                    return LockAttempt.ACQUIRED_AFTER_WAIT;
+                }
+            }
+            return LockAttempt.LOCKED;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return LockAttempt.LOCKED;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    void release(LockKey key) {
+        final var stripe = stripes[key.stripeHash() & mask];
+        stripe.lock.lock();
+        try {
+            if (stripe.remove(key)) {
+                stripe.released.signalAll();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Занятые ключи хранятся в массивах без упаковки, обычно в страйпе их не больше одного
+     */
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition released = lock.newCondition();
+        private LockPrefixes[] prefixes = new LockPrefixes[INITIAL_CAPACITY];
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        private boolean tryAdd(LockKey key) {
+            if (indexOf(key) >= 0) {
+                return false;
+            }
+            if (size == ids.length) {
+                prefixes = Arrays.copyOf(prefixes, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            prefixes[size] = key.prefix();
+            ids[size] = key.id();
+            ++size;
+            return true;
+        }
+
+        private boolean remove(LockKey key) {
+            final var index = indexOf(key);
+            if (index < 0) {
+                return false;
+            }
+            --size;
+            prefixes[index] = prefixes[size];
+            ids[index] = ids[size];
+            prefixes[size] = null;
+            return true;
+        }
+
+        private int indexOf(LockKey key) {
+            for (int i = 0; i < size; ++i) {
+                if (ids[i] == key.id() && prefixes[i] == key.prefix()) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final int INITIAL_CAPACITY = 2;
+}
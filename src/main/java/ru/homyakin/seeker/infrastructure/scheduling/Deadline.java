@@ -0,0 +1,20 @@
+package ru.homyakin.seeker.infrastructure.scheduling;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+record Deadline(
+    DeadlineType type,
+    long id,
+    long dueMillis
+) implements Delayed {
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(dueMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+    }
+}
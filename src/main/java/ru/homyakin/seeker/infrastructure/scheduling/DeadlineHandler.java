@@ -0,0 +1,18 @@
+package ru.homyakin.seeker.infrastructure.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface DeadlineHandler {
+    DeadlineType type();
+
+    /**
+     * Дедлайны из базы, которые наступают раньше until, включая уже прошедшие. Ключ - id сущности
+     */
+    Map<Long, LocalDateTime> loadDeadlines(LocalDateTime until);
+
+    /**
+     * Обработать всё, что уже наступило. Вызовы для одного типа не пересекаются
+     */
+    void processDue();
+}
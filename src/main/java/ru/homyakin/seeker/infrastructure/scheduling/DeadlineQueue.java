@@ -0,0 +1,60 @@
+package ru.homyakin.seeker.infrastructure.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.utils.TimeUtils;
+
+/**
+ * Дедлайны в памяти. Для каждой сущности актуален только последний запланированный дедлайн,
+ * предыдущие остаются в очереди и пропускаются при извлечении.
+ */
+@Component
+public class DeadlineQueue {
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private final Map<Key, Deadline> actual = new ConcurrentHashMap<>();
+
+    public void schedule(DeadlineType type, long id, LocalDateTime time) {
+        final var deadline = deadline(type, id, time);
+        final var previous = actual.put(new Key(type, id), deadline);
+        if (!deadline.equals(previous)) {
+            queue.put(deadline);
+        }
+    }
+
+    /**
+     * Повторное срабатывание для дедлайна, который не удалось обработать.
+     * Если сущности уже назначен новый дедлайн, он не перезаписывается.
+     */
+    public void retry(DeadlineType type, long id, LocalDateTime time) {
+        final var deadline = deadline(type, id, time);
+        if (actual.putIfAbsent(new Key(type, id), deadline) == null) {
+            queue.put(deadline);
+        }
+    }
+
+    public int size() {
+        return actual.size();
+    }
+
+    Deadline take() throws InterruptedException {
+        while (true) {
+            final var deadline = queue.take();
+            if (actual.remove(new Key(deadline.type(), deadline.id()), deadline)) {
+                return deadline;
+            }
+        }
+    }
+
+    // Округление вверх до миллисекунды, иначе дедлайн сработает раньше времени из базы и не будет обработан
+    private static Deadline deadline(DeadlineType type, long id, LocalDateTime time) {
+        final var instant = time.atZone(TimeUtils.moscowZone()).toInstant();
+        final var millis = instant.toEpochMilli() + (instant.getNano() % 1_000_000 == 0 ? 0 : 1);
+        return new Deadline(type, id, millis);
+    }
+
+    private record Key(DeadlineType type, long id) {
+    }
+}
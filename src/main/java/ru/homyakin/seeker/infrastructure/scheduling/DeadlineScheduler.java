@@ -0,0 +1,169 @@
+package ru.homyakin.seeker.infrastructure.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.utils.TimeUtils;
+
+/**
+ * Срабатывает ровно в момент наступления дедлайна вместо постоянного опроса базы.
+ * Сервисы сами кладут новые дедлайны в DeadlineQueue, а раз в resyncInterval дедлайны перечитываются из базы,
+ * чтобы подхватить то, что было изменено в обход очереди.
+ */
+@Component
+public class DeadlineScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineScheduler.class);
+    private final DeadlineQueue queue;
+    private final DeadlineSchedulerConfig config;
+    private final Map<DeadlineType, Worker> workers = new EnumMap<>(DeadlineType.class);
+    private Thread timer;
+
+    public DeadlineScheduler(DeadlineQueue queue, DeadlineSchedulerConfig config, List<DeadlineHandler> handlers) {
+        this.queue = queue;
+        this.config = config;
+        for (final var handler : handlers) {
+            if (workers.put(handler.type(), new Worker(handler)) != null) {
+                throw new IllegalStateException("Duplicate deadline handler for " + handler.type());
+            }
+        }
+    }
+
+    // Запуск только после готовности приложения, иначе локализация ещё не загружена
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        resync();
+        workers.values().forEach(Worker::start);
+        timer = Thread.ofVirtual().name("deadline-timer").start(this::runTimer);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${homyakin.seeker.deadlines.resyncInterval}",
+        initialDelayString = "${homyakin.seeker.deadlines.resyncInterval}"
+    )
+    public void resync() {
+        final var until = TimeUtils.moscowTime().plus(config.horizon());
+        for (final var worker : workers.values()) {
+            final var type = worker.handler.type();
+            try {
+                worker.handler.loadDeadlines(until).forEach((id, time) -> queue.schedule(type, id, time));
+            } catch (Exception e) {
+                logger.error("Can't load {} deadlines", type, e);
+            }
+        }
+        logger.debug("Deadlines resynced, {} scheduled", queue.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (timer != null) {
+            timer.interrupt();
+        }
+        workers.values().forEach(Worker::stop);
+        for (final var worker : workers.values()) {
+            worker.join(SHUTDOWN_TIMEOUT);
+        }
+    }
+
+    private void runTimer() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                final var deadline = queue.take();
+                final var worker = workers.get(deadline.type());
+                if (worker == null) {
+                    logger.warn("No handler for {} deadline", deadline.type());
+                } else {
+                    worker.signal(deadline.id());
+                }
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Обработка одного типа дедлайнов в отдельном потоке.
+     * Несколько дедлайнов, наступивших во время обработки, схлопываются в один вызов.
+     * Сработавшие дедлайны, которые после обработки всё ещё просрочены в базе, повторяются через retryDelay.
+     */
+    private class Worker {
+        private final DeadlineHandler handler;
+        private final Semaphore due = new Semaphore(0);
+        private final Set<Long> fired = ConcurrentHashMap.newKeySet();
+        private volatile boolean stopped = false;
+        private Thread thread;
+
+        private Worker(DeadlineHandler handler) {
+            this.handler = handler;
+        }
+
+        private void start() {
+            thread = Thread.ofVirtual().name("deadline-" + handler.type().name().toLowerCase()).start(this::run);
+        }
+
+        private void signal(long id) {
+            fired.add(id);
+            due.release();
+        }
+
+        private void stop() {
+            stopped = true;
+            due.release();
+        }
+
+        private void join(Duration timeout) throws InterruptedException {
+            if (thread != null) {
+                thread.join(timeout);
+            }
+        }
+
+        private void run() {
+            while (true) {
+                try {
+                    due.acquire();
+                } catch (InterruptedException _) {
+                    return;
+                }
+                due.drainPermits();
+                if (stopped) {
+                    return;
+                }
+                final var ids = Set.copyOf(fired);
+                fired.removeAll(ids);
+                try {
+                    handler.processDue();
+                } catch (Exception e) {
+                    logger.error("Error during processing {} deadlines", handler.type(), e);
+                }
+                retryUnprocessed(ids);
+            }
+        }
+
+        private void retryUnprocessed(Set<Long> ids) {
+            final var now = TimeUtils.moscowTime();
+            try {
+                final var unprocessed = handler.loadDeadlines(now).keySet().stream().filter(ids::contains).toList();
+                for (final var id : unprocessed) {
+                    queue.retry(handler.type(), id, now.plus(config.retryDelay()));
+                }
+                if (!unprocessed.isEmpty()) {
+                    logger.debug("{} {} deadlines are still due, retry in {}", unprocessed.size(), handler.type(), config.retryDelay());
+                }
+            } catch (Exception e) {
+                logger.error("Can't check unprocessed {} deadlines", handler.type(), e);
+            }
+        }
+    }
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+}
@@ -0,0 +1,13 @@
+package ru.homyakin.seeker.infrastructure.scheduling;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("homyakin.seeker.deadlines")
+public record DeadlineSchedulerConfig(
+    // Как далеко вперёд загружать дедлайны из базы, должно быть больше интервала пересинхронизации
+    Duration horizon,
+    // Через сколько повторить дедлайн, который наступил, но остался необработанным (например, сущность была залочена)
+    Duration retryDelay
+) {
+}
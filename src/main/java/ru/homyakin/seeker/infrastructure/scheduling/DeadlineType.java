@@ -0,0 +1,10 @@
+package ru.homyakin.seeker.infrastructure.scheduling;
+
+public enum DeadlineType {
+    GROUP_EVENT,
+    GROUP_RUMOR,
+    LAUNCHED_EVENT_END,
+    DUEL_EXPIRE,
+    ORDER_EXPIRE,
+    ENERGY_RECOVERY,
+}
@@ -0,0 +1,71 @@
+package ru.homyakin.seeker.locale;
+
+import ru.homyakin.seeker.locale.common.CommonResource;
+import ru.homyakin.seeker.locale.duel.DuelResource;
+import ru.homyakin.seeker.locale.feedback.FeedbackResource;
+import ru.homyakin.seeker.locale.group_settings.GroupSettingsResource;
+import ru.homyakin.seeker.locale.help.HelpResource;
+import ru.homyakin.seeker.locale.item.ItemResource;
+import ru.homyakin.seeker.locale.personal.BadgeResource;
+import ru.homyakin.seeker.locale.personal.ChangeNameResource;
+import ru.homyakin.seeker.locale.personal.CharacteristicResource;
+import ru.homyakin.seeker.locale.personal.MenuResource;
+import ru.homyakin.seeker.locale.personal.PersonalQuestResource;
+import ru.homyakin.seeker.locale.personal.SettingsResource;
+import ru.homyakin.seeker.locale.raid.RaidResource;
+import ru.homyakin.seeker.locale.shop.ShopResource;
+import ru.homyakin.seeker.locale.spin.EverydaySpinResource;
+import ru.homyakin.seeker.locale.tavern_menu.TavernMenuResource;
+import ru.homyakin.seeker.locale.top.TopResource;
+
+/**
+ * Вся локализация одним снимком. Перезагрузка подменяет снимок целиком одной записью в volatile поле,
+ * поэтому ответ не может собраться из частей старой и новой локализации
+ */
+public record LocalizationBundle(
+    Resources<CommonResource> common,
+    Resources<DuelResource> duel,
+    Resources<ChangeNameResource> changeName,
+    Resources<CharacteristicResource> characteristic,
+    Resources<MenuResource> menu,
+    Resources<BadgeResource> badge,
+    Resources<PersonalQuestResource> personalQuest,
+    Resources<SettingsResource> settings,
+    Resources<RaidResource> raid,
+    Resources<TavernMenuResource> tavernMenu,
+    Resources<HelpResource> help,
+    Resources<EverydaySpinResource> everydaySpin,
+    Resources<GroupSettingsResource> groupSettings,
+    Resources<TopResource> top,
+    Resources<ItemResource> item,
+    Resources<ShopResource> shop,
+    Resources<FeedbackResource> feedback
+) {
+    private static volatile LocalizationBundle current = new LocalizationBundle(
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>(),
+        new Resources<>()
+    );
+
+    public static LocalizationBundle current() {
+        return current;
+    }
+
+    static void publish(LocalizationBundle bundle) {
+        current = bundle;
+    }
+}
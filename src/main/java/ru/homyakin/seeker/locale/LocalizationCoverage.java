@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import ru.homyakin.seeker.infrastructure.init.saving_models.Badges;
 import ru.homyakin.seeker.infrastructure.init.saving_models.PersonalQuests;
 import ru.homyakin.seeker.infrastructure.init.saving_models.Raids;
@@ -17,8 +18,9 @@ import ru.homyakin.seeker.infrastructure.init.saving_models.Rumors;
 import ru.homyakin.seeker.utils.ResourceUtils;
 
 public class LocalizationCoverage {
-    private static final HashMap<TranslateType, TranslatedData> translateInfo = new HashMap<>();
-    private static final HashMap<Language, Double> translateCoverage = new HashMap<>();
+    // Данные обновляются при перезагрузке контента, посчитанное покрытие при этом сбрасывается
+    private static final Map<TranslateType, TranslatedData> translateInfo = new ConcurrentHashMap<>();
+    private static final Map<Language, Double> translateCoverage = new ConcurrentHashMap<>();
 
     public static double coverage(Language language) {
         return translateCoverage.computeIfAbsent(
@@ -57,6 +59,7 @@ public class LocalizationCoverage {
             TranslateType.COMMON,
             new TranslatedData(allKeys.size(), translatedKeys)
         );
+        translateCoverage.clear();
     }
 
     public static void addRaidsInfo(Raids raids) {
@@ -103,6 +106,7 @@ public class LocalizationCoverage {
                 translatedLocales
             )
         );
+        translateCoverage.clear();
     }
 
     private static void fillMap(Map<String, String> targetMap, Map<String, Object> sourceMap, String keyPrefix) {
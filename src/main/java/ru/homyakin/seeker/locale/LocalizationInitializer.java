@@ -4,36 +4,27 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.toml.TomlMapper;
 import java.io.File;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import ru.homyakin.seeker.locale.common.CommonLocalization;
 import ru.homyakin.seeker.locale.common.CommonResource;
-import ru.homyakin.seeker.locale.duel.DuelLocalization;
 import ru.homyakin.seeker.locale.duel.DuelResource;
-import ru.homyakin.seeker.locale.feedback.FeedbackLocalization;
 import ru.homyakin.seeker.locale.feedback.FeedbackResource;
-import ru.homyakin.seeker.locale.group_settings.GroupSettingsLocalization;
 import ru.homyakin.seeker.locale.group_settings.GroupSettingsResource;
-import ru.homyakin.seeker.locale.help.HelpLocalization;
 import ru.homyakin.seeker.locale.help.HelpResource;
-import ru.homyakin.seeker.locale.item.ItemLocalization;
 import ru.homyakin.seeker.locale.item.ItemResource;
-import ru.homyakin.seeker.locale.personal.BadgeLocalization;
-import ru.homyakin.seeker.locale.personal.ChangeNameLocalization;
-import ru.homyakin.seeker.locale.personal.CharacteristicLocalization;
-import ru.homyakin.seeker.locale.personal.MenuLocalization;
-import ru.homyakin.seeker.locale.personal.PersonalQuestLocalization;
+import ru.homyakin.seeker.locale.personal.BadgeResource;
+import ru.homyakin.seeker.locale.personal.ChangeNameResource;
+import ru.homyakin.seeker.locale.personal.CharacteristicResource;
+import ru.homyakin.seeker.locale.personal.MenuResource;
+import ru.homyakin.seeker.locale.personal.PersonalQuestResource;
 import ru.homyakin.seeker.locale.personal.PersonalResource;
-import ru.homyakin.seeker.locale.personal.SettingsLocalization;
-import ru.homyakin.seeker.locale.raid.RaidLocalization;
+import ru.homyakin.seeker.locale.personal.SettingsResource;
 import ru.homyakin.seeker.locale.raid.RaidResource;
-import ru.homyakin.seeker.locale.shop.ShopLocalization;
 import ru.homyakin.seeker.locale.shop.ShopResource;
-import ru.homyakin.seeker.locale.spin.EverydaySpinLocalization;
 import ru.homyakin.seeker.locale.spin.EverydaySpinResource;
-import ru.homyakin.seeker.locale.tavern_menu.TavernMenuLocalization;
 import ru.homyakin.seeker.locale.tavern_menu.TavernMenuResource;
-import ru.homyakin.seeker.locale.top.TopLocalization;
 import ru.homyakin.seeker.locale.top.TopResource;
 import ru.homyakin.seeker.telegram.command.type.ChangeNameCommandType;
 import ru.homyakin.seeker.telegram.command.type.CommandType;
@@ -57,90 +48,162 @@ public class LocalizationInitializer {
     private static final String FEEDBACK_PATH = File.separator + "feedback.toml";
     private static final Logger logger = LoggerFactory.getLogger(LocalizationInitializer.class);
 
-    public static void initLocale() {
-        logger.info("Filling localization");
-        final var mapper = TomlMapper.builder().build();
-        final var languages = Language.values();
-        LocalizationCoverage.fillLocalizationData(mapper, LOCALIZATION_PATH);
+    /**
+     * Читает, проверяет и сразу подменяет локализацию.
+     * Если какой-то файл не разобрался или не прошёл проверку, бросается исключение и остаётся прежняя локализация
+     */
+    public static synchronized void initLocale() {
+        publish(read());
+    }
 
-        for (final var language : languages) {
+    /**
+     * Читает и проверяет локализацию всех языков в новые Resources, ничего не подменяя
+     */
+    public static LoadedLocalization read() {
+        logger.info("Reading localization");
+        final var mapper = TomlMapper.builder().build();
+        final var common = new Resources<CommonResource>();
+        final var duel = new Resources<DuelResource>();
+        final var changeName = new Resources<ChangeNameResource>();
+        final var characteristic = new Resources<CharacteristicResource>();
+        final var menu = new Resources<MenuResource>();
+        final var badge = new Resources<BadgeResource>();
+        final var personalQuest = new Resources<PersonalQuestResource>();
+        final var settings = new Resources<SettingsResource>();
+        final var raid = new Resources<RaidResource>();
+        final var tavernMenu = new Resources<TavernMenuResource>();
+        final var help = new Resources<HelpResource>();
+        final var everydaySpin = new Resources<EverydaySpinResource>();
+        final var groupSettings = new Resources<GroupSettingsResource>();
+        final var top = new Resources<TopResource>();
+        final var item = new Resources<ItemResource>();
+        final var shop = new Resources<ShopResource>();
+        final var feedback = new Resources<FeedbackResource>();
+        final var menuButtons = new ArrayList<MenuResource>();
+        final var changeNameButtons = new ArrayList<ChangeNameResource>();
+        final var feedbackButtons = new ArrayList<FeedbackResource>();
+
+        for (final var language : Language.values()) {
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + COMMON_PATH,
-                it -> CommonLocalization.add(language, extractClass(mapper, it, CommonResource.class))
+                it -> common.add(language, extractClass(mapper, it, CommonResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + DUEL_PATH,
-                it -> DuelLocalization.add(language, extractClass(mapper, it, DuelResource.class))
+                it -> duel.add(language, extractClass(mapper, it, DuelResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + PERSONAL_PATH,
                 it -> {
                     final var resource = extractClass(mapper, it, PersonalResource.class);
-                    ChangeNameLocalization.add(language, resource.changeName());
-                    CharacteristicLocalization.add(language, resource.characteristics());
-                    MenuLocalization.add(language, resource.menu());
-                    BadgeLocalization.add(language, resource.badges());
-                    PersonalQuestLocalization.add(language, resource.personalQuest());
-                    SettingsLocalization.add(language, resource.settings());
-                    CommandType.fillLocaleMap(resource.menu());
-                    ChangeNameCommandType.fillLocaleMap(resource.changeName());
+                    changeName.add(language, resource.changeName());
+                    characteristic.add(language, resource.characteristics());
+                    menu.add(language, resource.menu());
+                    badge.add(language, resource.badges());
+                    personalQuest.add(language, resource.personalQuest());
+                    settings.add(language, resource.settings());
+                    menuButtons.add(resource.menu());
+                    changeNameButtons.add(resource.changeName());
                 }
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + RAID_PATH,
-                it -> RaidLocalization.add(language, extractClass(mapper, it, RaidResource.class))
+                it -> raid.add(language, extractClass(mapper, it, RaidResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + TAVERN_MENU_PATH,
-                it -> TavernMenuLocalization.add(language, extractClass(mapper, it, TavernMenuResource.class))
+                it -> tavernMenu.add(language, extractClass(mapper, it, TavernMenuResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + HELP_PATH,
-                it -> HelpLocalization.add(language, extractClass(mapper, it, HelpResource.class))
+                it -> help.add(language, extractClass(mapper, it, HelpResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + EVERYDAY_SPIN_PATH,
-                it -> EverydaySpinLocalization.add(language, extractClass(mapper, it, EverydaySpinResource.class))
+                it -> everydaySpin.add(language, extractClass(mapper, it, EverydaySpinResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + GROUP_SETTINGS_PATH,
-                it -> GroupSettingsLocalization.add(language, extractClass(mapper, it, GroupSettingsResource.class))
+                it -> groupSettings.add(language, extractClass(mapper, it, GroupSettingsResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + TOP_PATH,
-                it -> TopLocalization.add(language, extractClass(mapper, it, TopResource.class))
+                it -> top.add(language, extractClass(mapper, it, TopResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + ITEM_PATH,
-                it -> ItemLocalization.add(language, extractClass(mapper, it, ItemResource.class))
+                it -> item.add(language, extractClass(mapper, it, ItemResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + SHOP_PATH,
-                it -> ShopLocalization.add(language, extractClass(mapper, it, ShopResource.class))
+                it -> shop.add(language, extractClass(mapper, it, ShopResource.class))
             );
 
             ResourceUtils.doAction(
                 LOCALIZATION_PATH + language.value() + FEEDBACK_PATH,
                 it -> {
                     final var resource = extractClass(mapper, it, FeedbackResource.class);
-                    FeedbackLocalization.add(language, resource);
-                    FeedbackCommandType.fillLocaleMap(resource);
+                    feedback.add(language, resource);
+                    feedbackButtons.add(resource);
                 }
             );
         }
+        return new LoadedLocalization(
+            new LocalizationBundle(
+                common,
+                duel,
+                changeName,
+                characteristic,
+                menu,
+                badge,
+                personalQuest,
+                settings,
+                raid,
+                tavernMenu,
+                help,
+                everydaySpin,
+                groupSettings,
+                top,
+                item,
+                shop,
+                feedback
+            ),
+            menuButtons,
+            changeNameButtons,
+            feedbackButtons
+        );
+    }
+
+    /**
+     * Подменяет всю локализацию одной записью и дополняет тексты кнопок
+     */
+    public static synchronized void publish(LoadedLocalization localization) {
+        LocalizationBundle.publish(localization.bundle());
+        localization.menuButtons().forEach(CommandType::fillLocaleMap);
+        localization.changeNameButtons().forEach(ChangeNameCommandType::fillLocaleMap);
+        localization.feedbackButtons().forEach(FeedbackCommandType::fillLocaleMap);
+        LocalizationCoverage.fillLocalizationData(TomlMapper.builder().build(), LOCALIZATION_PATH);
         logger.info("Localization loaded");
     }
 
+    public record LoadedLocalization(
+        LocalizationBundle bundle,
+        List<MenuResource> menuButtons,
+        List<ChangeNameResource> changeNameButtons,
+        List<FeedbackResource> feedbackButtons
+    ) {
+    }
+
     private static <T> T extractClass(ObjectMapper mapper, InputStream stream, Class<T> clazz) {
         try {
             return mapper.readValue(stream, clazz);
@@ -1,15 +1,35 @@
 package ru.homyakin.seeker.locale;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import ru.homyakin.seeker.utils.RandomUtils;
+import ru.homyakin.seeker.utils.StringNamedTemplate;
 
+/**
+ * Ресурсы хранятся в массиве по Language.ordinal().
+ * При добавлении все строки ресурса сразу разбираются в StringNamedTemplate,
+ * а их параметры сверяются с объявленными в {@link TemplateParams}
+ */
 public class Resources<T> {
-    private final Map<Language, T> resources = new HashMap<>();
+    private final Object[] resources = new Object[Language.values().length];
+    private final Map<Language, Map<String, StringNamedTemplate>> templates = new EnumMap<>(Language.class);
 
     public void add(Language language, T resource) {
-        resources.put(language, resource);
+        final var compiled = new HashMap<String, StringNamedTemplate>();
+        final var strings = new HashMap<String, List<String>>();
+        collect("", resource, strings);
+        strings.values().forEach(list -> list.forEach(it -> compiled.computeIfAbsent(it, StringNamedTemplate::compile)));
+        if (resource != null) {
+            checkParams(language, strings, compiled, declaredParams("", resource.getClass()));
+        }
+        resources[language.ordinal()] = resource;
+        templates.put(language, compiled);
     }
 
     /**
@@ -30,19 +50,125 @@ public class Resources<T> {
         return RandomUtils.getRandomElement(getOrDefaultTemplate(language, function));
     }
 
+    /**
+     * Как getOrDefault, но возвращает шаблон, разобранный при загрузке локализации
+     */
+    public StringNamedTemplate template(Language language, Function<T, String> function) {
+        final var resource = resource(language);
+        if (resource != null) {
+            final var result = function.apply(resource);
+            if (result != null) {
+                return compiled(language, result);
+            }
+        }
+        return compiled(Language.DEFAULT, function.apply(resource(Language.DEFAULT)));
+    }
+
+    /**
+     * Как getOrDefaultRandom, но возвращает шаблон, разобранный при загрузке локализации
+     */
+    public StringNamedTemplate randomTemplate(Language language, Function<T, String[]> function) {
+        final var resource = resource(language);
+        if (resource != null) {
+            final var result = function.apply(resource);
+            if (result != null) {
+                return compiled(language, RandomUtils.getRandomElement(result));
+            }
+        }
+        return compiled(Language.DEFAULT, RandomUtils.getRandomElement(function.apply(resource(Language.DEFAULT))));
+    }
+
     /**
      * @param language Запрашиваемый язык. Если в resources нет нужного языка, возвращает <code>Language.DEFAULT</code>
      * @param function Функция, которая возвращает нужный какое-то значение из ресурса. Считается, что в resources всегда
      *                 присутствует <code>Language.DEFAULT</code>
      */
     private <K> K getOrDefaultTemplate(Language language, Function<T, K> function) {
-        final var resource = resources.get(language);
+        final var resource = resource(language);
         if (resource != null) {
             final var result = function.apply(resource);
             if (result != null) {
                 return result;
             }
         }
-        return function.apply(resources.get(Language.DEFAULT));
+        return function.apply(resource(Language.DEFAULT));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T resource(Language language) {
+        return (T) resources[language.ordinal()];
+    }
+
+    private StringNamedTemplate compiled(Language language, String template) {
+        final var result = templates.get(language).get(template);
+        if (result != null) {
+            return result;
+        }
+        return StringNamedTemplate.compile(template);
+    }
+
+    /**
+     * Шаблон может использовать только параметры, которые передаёт код, иначе параметр попал бы к пользователю как ${name}
+     */
+    private static void checkParams(
+        Language language,
+        Map<String, List<String>> strings,
+        Map<String, StringNamedTemplate> compiled,
+        Map<String, Set<String>> declared
+    ) {
+        for (final var entry : strings.entrySet()) {
+            final var allowed = declared.getOrDefault(entry.getKey(), Set.of());
+            final var unknown = new HashSet<String>();
+            entry.getValue().forEach(it -> unknown.addAll(compiled.get(it).params()));
+            unknown.removeAll(allowed);
+            if (!unknown.isEmpty()) {
+                throw new IllegalStateException(
+                    "Localization " + language.value() + " has unknown params " + unknown + " in " + entry.getKey()
+                );
+            }
+        }
+    }
+
+    /**
+     * Ключ - путь до поля, как в collect, значение - параметры из {@link TemplateParams}
+     */
+    private static Map<String, Set<String>> declaredParams(String path, Class<?> type) {
+        final var result = new HashMap<String, Set<String>>();
+        if (!type.isRecord()) {
+            return result;
+        }
+        for (final var component : type.getRecordComponents()) {
+            final var componentPath = path.isEmpty() ? component.getName() : path + "." + component.getName();
+            final var params = component.getAnnotation(TemplateParams.class);
+            if (params != null) {
+                result.put(componentPath, Set.of(params.value()));
+            }
+            result.putAll(declaredParams(componentPath, component.getType()));
+        }
+        return result;
+    }
+
+    /**
+     * Обходит строки, массивы строк и вложенные записи ресурса.
+     * В result ключ - путь до строки, например <code>menu.profileButton</code>, значение - строка или все варианты массива
+     */
+    private static void collect(String path, Object value, Map<String, List<String>> result) {
+        switch (value) {
+            case null -> {
+            }
+            case String string -> result.put(path, List.of(string));
+            case String[] strings -> result.put(path, List.of(strings));
+            case Record record -> {
+                for (final var component : record.getClass().getRecordComponents()) {
+                    try {
+                        final var prefix = path.isEmpty() ? "" : path + ".";
+                        collect(prefix + component.getName(), component.getAccessor().invoke(record), result);
+                    } catch (IllegalAccessException | InvocationTargetException e) {
+                        throw new IllegalStateException("Can't read localization " + path, e);
+                    }
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected localization value in " + path + ": " + value.getClass());
+        }
     }
 }
@@ -0,0 +1,17 @@
+package ru.homyakin.seeker.locale;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Параметры, которые код передаёт в шаблон из этого поля ресурса.
+ * При загрузке локализации шаблон любого языка может использовать только их, иначе параметр попал бы к пользователю как ${name}.
+ * Поле без аннотации не должно содержать параметров
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface TemplateParams {
+    String[] value();
+}
@@ -10,6 +10,7 @@ import ru.homyakin.seeker.infrastructure.Icons;
 import ru.homyakin.seeker.infrastructure.TextConstants;
 import ru.homyakin.seeker.locale.Language;
 import ru.homyakin.seeker.locale.LocaleUtils;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
 import ru.homyakin.seeker.locale.item.ItemLocalization;
 import ru.homyakin.seeker.telegram.TelegramBotConfig;
@@ -22,111 +23,95 @@ import ru.homyakin.seeker.utils.TimeUtils;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.HashMap;
 
 public class CommonLocalization {
-    private static final Resources<CommonResource> resources = new Resources<>();
-
-    public static void add(Language language, CommonResource resource) {
-        resources.add(language, resource);
+    private static Resources<CommonResource> resources() {
+        return LocalizationBundle.current().common();
     }
 
     public static String welcomeGroup(Language language) {
-        final var params = new HashMap<String, Object>();
-        params.put("settings_command", CommandType.SETTINGS.getText());
-        params.put("menu_command", CommandType.TAVERN_MENU.getText());
-        params.put("help_command", CommandType.SHOW_HELP.getText());
-        params.put("duel_command", CommandType.START_DUEL.getText());
-        params.put("spin_command", CommandType.SPIN.getText());
-        params.put("top_command", CommandType.TOP.getText());
-        params.put("bot_username", TelegramBotConfig.username());
-        params.put("news_channel_username", TextConstants.TELEGRAM_CHANNEL_USERNAME);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::welcomeGroup),
-            params
-        );
+        return resources().template(language, CommonResource::welcomeGroup)
+            .param("settings_command", CommandType.SETTINGS.getText())
+            .param("menu_command", CommandType.TAVERN_MENU.getText())
+            .param("help_command", CommandType.SHOW_HELP.getText())
+            .param("duel_command", CommandType.START_DUEL.getText())
+            .param("spin_command", CommandType.SPIN.getText())
+            .param("top_command", CommandType.TOP.getText())
+            .param("bot_username", TelegramBotConfig.username())
+            .param("news_channel_username", TextConstants.TELEGRAM_CHANNEL_USERNAME)
+            .format();
     }
 
     public static String welcomeUser(Language language) {
-        final var params = new HashMap<String, Object>();
-        params.put("help_command", CommandType.SHOW_HELP.getText());
-        params.put("news_channel_username", TextConstants.TELEGRAM_CHANNEL_USERNAME);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::welcomeUser),
-            params
-        );
+        return resources().template(language, CommonResource::welcomeUser)
+            .param("help_command", CommandType.SHOW_HELP.getText())
+            .param("news_channel_username", TextConstants.TELEGRAM_CHANNEL_USERNAME)
+            .format();
     }
 
     public static String chooseLanguage(Language language) {
-        return resources.getOrDefault(language, CommonResource::chooseLanguage);
+        return resources().getOrDefault(language, CommonResource::chooseLanguage);
     }
 
     public static String onlyAdminAction(Language language) {
-        return resources.getOrDefault(language, CommonResource::onlyAdminAction);
+        return resources().getOrDefault(language, CommonResource::onlyAdminAction);
     }
 
     public static String internalError(Language language) {
-        return resources.getOrDefault(language, CommonResource::internalError);
+        return resources().getOrDefault(language, CommonResource::internalError);
     }
 
     public static String fullProfile(Language language, Personage personage) {
-        final var params = profileParams(personage);
+        final var params = profileParams(resources().template(language, CommonResource::fullProfile), personage);
 
-        params.put("item_characteristics", ItemLocalization.characteristics(language, personage.itemCharacteristics()));
+        params.param("item_characteristics", ItemLocalization.characteristics(language, personage.itemCharacteristics()));
         if (personage.energy().isFull()) {
-            params.put("time_icon", "");
-            params.put("remain_duration_for_full_regen", "");
+            params.param("time_icon", "");
+            params.param("remain_duration_for_full_regen", "");
         } else {
-            params.put("time_icon", Icons.TIME);
-            params.put(
+            params.param("time_icon", Icons.TIME);
+            params.param(
                 "remain_duration_for_full_regen",
                 duration(language, personage.energy().remainTimeForFullRegen(TimeUtils.moscowTime()))
             );
         }
         if (personage.effects().isEmpty()) {
-            params.put("personage_effects", "");
+            params.param("personage_effects", "");
         } else {
-            params.put("personage_effects", personageEffects(language, personage.effects()));
+            params.param("personage_effects", personageEffects(language, personage.effects()));
         }
         if (personage.currentEvent().isEmpty()) {
-            params.put("current_event", "");
+            params.param("current_event", "");
         } else {
-            params.put("current_event", personageInEvent(language, personage.currentEvent().get()));
+            params.param("current_event", personageInEvent(language, personage.currentEvent().get()));
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::fullProfile),
-            params
-        );
+        return params.format();
     }
 
     public static String shortProfile(Language language, Personage personage) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::shortProfile),
-            profileParams(personage)
-        );
+        return profileParams(resources().template(language, CommonResource::shortProfile), personage).format();
     }
 
-    private static HashMap<String, Object> profileParams(Personage personage) {
+    private static StringNamedTemplate.Binder profileParams(StringNamedTemplate template, Personage personage) {
         final var characteristics = personage.calcTotalCharacteristicsWithEffects();
-        final var params = new HashMap<String, Object>();
-        params.put("money_icon", Icons.MONEY);
-        params.put("energy_icon", Icons.ENERGY);
-        params.put("personage_badge_with_name", personage.badgeWithName());
-        params.put("personage_money", personage.money().value());
-        params.put("energy_value", personage.energy().value());
-        params.put("attack_icon", Icons.ATTACK);
-        params.put("attack_value", characteristics.attack());
-        params.put("defense_icon", Icons.DEFENSE);
-        params.put("defense_value", characteristics.defense());
-        params.put("strength_icon", Icons.STRENGTH);
-        params.put("strength_value", characteristics.strength());
-        params.put("agility_icon", Icons.AGILITY);
-        params.put("agility_value", characteristics.agility());
-        params.put("wisdom_icon", Icons.WISDOM);
-        params.put("wisdom_value", characteristics.wisdom());
-        params.put("health_icon", Icons.HEALTH);
-        params.put("health_value", characteristics.health());
+        final var params = template.bind();
+        params.param("money_icon", Icons.MONEY);
+        params.param("energy_icon", Icons.ENERGY);
+        params.param("personage_badge_with_name", personage.badgeWithName());
+        params.param("personage_money", personage.money().value());
+        params.param("energy_value", personage.energy().value());
+        params.param("attack_icon", Icons.ATTACK);
+        params.param("attack_value", characteristics.attack());
+        params.param("defense_icon", Icons.DEFENSE);
+        params.param("defense_value", characteristics.defense());
+        params.param("strength_icon", Icons.STRENGTH);
+        params.param("strength_value", characteristics.strength());
+        params.param("agility_icon", Icons.AGILITY);
+        params.param("agility_value", characteristics.agility());
+        params.param("wisdom_icon", Icons.WISDOM);
+        params.param("wisdom_value", characteristics.wisdom());
+        params.param("health_icon", Icons.HEALTH);
+        params.param("health_value", characteristics.health());
 
         return params;
     }
@@ -143,32 +128,25 @@ public class CommonLocalization {
             };
             effectsText.append(text);
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::personageEffects),
-            Collections.singletonMap("personage_effects", effectsText.toString())
-        );
+        return resources().template(language, CommonResource::personageEffects)
+            .param("personage_effects", effectsText.toString())
+            .format();
     }
 
     private static String menuItemEffect(Language language, PersonageEffect effect) {
-        final var params = new HashMap<String, Object>();
-        params.put("effect", effect(language, effect.effect()));
-        params.put("time_icon", Icons.TIME);
-        params.put("duration", duration(language, TimeUtils.moscowTime(), effect.expireDateTime()));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::menuItemEffect),
-            params
-        );
+        return resources().template(language, CommonResource::menuItemEffect)
+            .param("effect", effect(language, effect.effect()))
+            .param("time_icon", Icons.TIME)
+            .param("duration", duration(language, TimeUtils.moscowTime(), effect.expireDateTime()))
+            .format();
     }
 
     private static String throwOrderEffect(Language language, PersonageEffect effect) {
-        final var params = new HashMap<String, Object>();
-        params.put("effect", effect(language, effect.effect()));
-        params.put("time_icon", Icons.TIME);
-        params.put("duration", duration(language, TimeUtils.moscowTime(), effect.expireDateTime()));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::throwOrderEffect),
-            params
-        );
+        return resources().template(language, CommonResource::throwOrderEffect)
+            .param("effect", effect(language, effect.effect()))
+            .param("time_icon", Icons.TIME)
+            .param("duration", duration(language, TimeUtils.moscowTime(), effect.expireDateTime()))
+            .format();
     }
 
     public static String duration(Language language, LocalDateTime start, LocalDateTime end) {
@@ -197,41 +175,32 @@ public class CommonLocalization {
     }
 
     private static String hoursShort(Language language) {
-        return resources.getOrDefault(language, CommonResource::hoursShort);
+        return resources().getOrDefault(language, CommonResource::hoursShort);
     }
 
     private static String minutesShort(Language language) {
-        return resources.getOrDefault(language, CommonResource::minutesShort);
+        return resources().getOrDefault(language, CommonResource::minutesShort);
     }
 
     public static String effect(Language language, Effect effect) {
         return switch (effect) {
             case Effect.Add add -> {
-                final var params = new HashMap<String, Object>();
-                params.put("value", add.value());
-                params.put("characteristic_icon", add.characteristic().icon());
-                yield StringNamedTemplate.format(
-                    resources.getOrDefault(language, CommonResource::addValueEffect),
-                    params
-                );
+                yield resources().template(language, CommonResource::addValueEffect)
+                    .param("value", add.value())
+                    .param("characteristic_icon", add.characteristic().icon())
+                    .format();
             }
             case Effect.Multiplier multiplier -> {
-                final var params = new HashMap<String, Object>();
-                params.put("value", multiplier.percent());
-                params.put("characteristic_icon", multiplier.characteristic().icon());
-                yield StringNamedTemplate.format(
-                    resources.getOrDefault(language, CommonResource::multiplyPercentEffect),
-                    params
-                );
+                yield resources().template(language, CommonResource::multiplyPercentEffect)
+                    .param("value", multiplier.percent())
+                    .param("characteristic_icon", multiplier.characteristic().icon())
+                    .format();
             }
             case Effect.MinusMultiplier minusMultiplier -> {
-                final var params = new HashMap<String, Object>();
-                params.put("value", minusMultiplier.percent());
-                params.put("characteristic_icon", minusMultiplier.characteristic().icon());
-                yield StringNamedTemplate.format(
-                    resources.getOrDefault(language, CommonResource::minusMultiplyPercentEffect),
-                    params
-                );
+                yield resources().template(language, CommonResource::minusMultiplyPercentEffect)
+                    .param("value", minusMultiplier.percent())
+                    .param("characteristic_icon", minusMultiplier.characteristic().icon())
+                    .format();
             }
         };
     }
@@ -244,68 +213,53 @@ public class CommonLocalization {
     }
 
     private static String personageInRaid(Language language, LocalDateTime end) {
-        final var params = new HashMap<String, Object>();
-        params.put("time_icon", Icons.TIME);
-        params.put("duration", CommonLocalization.duration(language, TimeUtils.moscowTime(), end));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::personageInRaid),
-            params
-        );
+        return resources().template(language, CommonResource::personageInRaid)
+            .param("time_icon", Icons.TIME)
+            .param("duration", CommonLocalization.duration(language, TimeUtils.moscowTime(), end))
+            .format();
     }
 
     private static String personageInQuest(Language language, LocalDateTime end) {
-        final var params = new HashMap<String, Object>();
-        params.put("time_icon", Icons.TIME);
-        params.put("duration", CommonLocalization.duration(language, TimeUtils.moscowTime(), end));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::personageInQuest),
-            params
-        );
+        return resources().template(language, CommonResource::personageInQuest)
+            .param("time_icon", Icons.TIME)
+            .param("duration", CommonLocalization.duration(language, TimeUtils.moscowTime(), end))
+            .format();
     }
 
     public static String receptionDesk(Language language, Statistic statistic) {
-        final var params = new HashMap<String, Object>();
-        params.put("active_personages_count", statistic.activePersonages());
-        params.put("active_groups_count", statistic.activeGroups());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::receptionDesk),
-            params
-        );
+        return resources().template(language, CommonResource::receptionDesk)
+            .param("active_personages_count", statistic.activePersonages())
+            .param("active_groups_count", statistic.activeGroups())
+            .format();
     }
 
     public static String groupStats(Language language, GroupStats groupStats, Group group) {
-        final var params = new HashMap<String, Object>();
-        params.put("raids_count", groupStats.raidsComplete());
-        params.put("duels_count", groupStats.duelsComplete());
-        params.put("money_icon", Icons.MONEY);
-        params.put("tavern_money_spent", groupStats.tavernMoneySpent());
-        params.put("group_name_with_badge", LocaleUtils.groupNameWithBadge(group));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::groupStats),
-            params
-        );
+        return resources().template(language, CommonResource::groupStats)
+            .param("raids_count", groupStats.raidsComplete())
+            .param("duels_count", groupStats.duelsComplete())
+            .param("money_icon", Icons.MONEY)
+            .param("tavern_money_spent", groupStats.tavernMoneySpent())
+            .param("group_name_with_badge", LocaleUtils.groupNameWithBadge(group))
+            .format();
     }
 
     public static String personageGroupStats(Language language, GroupPersonageStats stats) {
-        final var params = new HashMap<String, Object>();
-        params.put("raids_success", stats.raidsSuccess());
-        params.put("raids_total", stats.raidsTotal());
-        params.put("duels_wins", stats.duelsWins());
-        params.put("duels_total", stats.duelsTotal());
-        params.put("money_icon", Icons.MONEY);
-        params.put("tavern_money_spent", stats.tavernMoneySpent());
-        params.put("spin_wins_count", stats.spinWinsCount());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, CommonResource::personageGroupStats),
-            params
-        );
+        return resources().template(language, CommonResource::personageGroupStats)
+            .param("raids_success", stats.raidsSuccess())
+            .param("raids_total", stats.raidsTotal())
+            .param("duels_wins", stats.duelsWins())
+            .param("duels_total", stats.duelsTotal())
+            .param("money_icon", Icons.MONEY)
+            .param("tavern_money_spent", stats.tavernMoneySpent())
+            .param("spin_wins_count", stats.spinWinsCount())
+            .format();
     }
 
     public static String migrateGroup(Language language) {
-        return resources.getOrDefault(language, CommonResource::migrateGroup);
+        return resources().getOrDefault(language, CommonResource::migrateGroup);
     }
 
     public static String energyRecovered(Language language) {
-        return resources.getOrDefaultRandom(language, CommonResource::energyRecovered);
+        return resources().getOrDefaultRandom(language, CommonResource::energyRecovered);
     }
 }
@@ -1,27 +1,59 @@
 package ru.homyakin.seeker.locale.common;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record CommonResource(
+    @TemplateParams({
+        "settings_command", "menu_command", "duel_command", "spin_command", "top_command", "bot_username",
+        "help_command", "news_channel_username"
+    })
     String welcomeGroup,
+    @TemplateParams({"help_command", "news_channel_username"})
     String welcomeUser,
     String chooseLanguage,
     String onlyAdminAction,
     String internalError,
+    @TemplateParams({
+        "personage_badge_with_name", "money_icon", "personage_money", "energy_icon", "energy_value", "time_icon",
+        "remain_duration_for_full_regen", "health_icon", "health_value", "attack_icon", "attack_value", "defense_icon",
+        "defense_value", "strength_icon", "strength_value", "agility_icon", "agility_value", "wisdom_icon",
+        "wisdom_value", "current_event", "personage_effects", "item_characteristics"
+    })
     String fullProfile,
+    @TemplateParams({
+        "personage_badge_with_name", "money_icon", "personage_money", "energy_icon", "energy_value", "health_icon",
+        "health_value", "attack_icon", "attack_value", "defense_icon", "defense_value", "strength_icon",
+        "strength_value", "agility_icon", "agility_value", "wisdom_icon", "wisdom_value"
+    })
     String shortProfile,
+    @TemplateParams({"personage_effects"})
     String personageEffects,
+    @TemplateParams({"effect", "time_icon", "duration"})
     String menuItemEffect,
+    @TemplateParams({"value", "characteristic_icon"})
     String addValueEffect,
+    @TemplateParams({"value", "characteristic_icon"})
     String multiplyPercentEffect,
+    @TemplateParams({"time_icon", "duration"})
     String personageInRaid,
+    @TemplateParams({"time_icon", "duration"})
     String personageInQuest,
+    @TemplateParams({"active_personages_count", "active_groups_count"})
     String receptionDesk,
     String hoursShort,
     String minutesShort,
+    @TemplateParams({"group_name_with_badge", "raids_count", "duels_count", "money_icon", "tavern_money_spent"})
     String groupStats,
+    @TemplateParams({
+        "raids_success", "raids_total", "duels_wins", "duels_total", "money_icon", "tavern_money_spent",
+        "spin_wins_count"
+    })
     String personageGroupStats,
     String migrateGroup,
     String[] energyRecovered,
+    @TemplateParams({"value", "characteristic_icon"})
     String minusMultiplyPercentEffect,
+    @TemplateParams({"effect", "time_icon", "duration"})
     String throwOrderEffect
 ) {
 }
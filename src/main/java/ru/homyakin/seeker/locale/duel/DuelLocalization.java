@@ -1,146 +1,119 @@
 package ru.homyakin.seeker.locale.duel;
 
-import java.util.Collections;
-import java.util.HashMap;
 import ru.homyakin.seeker.game.battle.PersonageBattleResult;
 import ru.homyakin.seeker.game.models.Money;
 import ru.homyakin.seeker.infrastructure.Icons;
 import ru.homyakin.seeker.infrastructure.PersonageMention;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
 import ru.homyakin.seeker.telegram.command.type.CommandType;
 import ru.homyakin.seeker.telegram.group.duel.CreateDuelTgResult;
-import ru.homyakin.seeker.utils.StringNamedTemplate;
 
 public class DuelLocalization {
-    private static final Resources<DuelResource> resources = new Resources<>();
-
-    public static void add(Language language, DuelResource resource) {
-        resources.add(language, resource);
+    private static Resources<DuelResource> resources() {
+        return LocalizationBundle.current().duel();
     }
 
     public static String duelMustContainsMention(Language language) {
-        final var param = Collections.<String, Object>singletonMap("duel_command", CommandType.START_DUEL.getText());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, DuelResource::duelMustContainsMention),
-            param
-        );
+        return resources().template(language, DuelResource::duelMustContainsMention)
+            .param("duel_command", CommandType.START_DUEL.getText())
+            .format();
     }
 
     public static String duelWithDifferentBot(Language language) {
-        return resources.getOrDefaultRandom(language, DuelResource::duelWithDifferentBot);
+        return resources().getOrDefaultRandom(language, DuelResource::duelWithDifferentBot);
     }
 
     public static String duelWithThisBot(Language language) {
-        return resources.getOrDefaultRandom(language, DuelResource::duelWithThisBot);
+        return resources().getOrDefaultRandom(language, DuelResource::duelWithThisBot);
     }
 
     public static String duelWithYourself(Language language) {
-        return resources.getOrDefault(language, DuelResource::duelWithYourself);
+        return resources().getOrDefault(language, DuelResource::duelWithYourself);
     }
 
     public static String duelWithInitiatorNotEnoughMoney(Language language, Money money) {
-        final var params = new HashMap<String, Object>();
-        params.put("money_icon", Icons.MONEY);
-        params.put("money_count", money.value());
-        return StringNamedTemplate.format(
-            resources.getOrDefaultRandom(language, DuelResource::duelWithInitiatorNotEnoughMoney),
-            params
-        );
+        return resources().randomTemplate(language, DuelResource::duelWithInitiatorNotEnoughMoney)
+            .param("money_icon", Icons.MONEY)
+            .param("money_count", money.value())
+            .format();
     }
 
     public static String personageAlreadyStartDuel(Language language) {
-        return resources.getOrDefault(language, DuelResource::personageAlreadyStartDuel);
+        return resources().getOrDefault(language, DuelResource::personageAlreadyStartDuel);
     }
 
     public static String initDuel(Language language, CreateDuelTgResult result) {
-        final var params = new HashMap<String, Object>();
-        params.put("init_duel_variation", initDuelVariation(language, result.initiator(), result.acceptor()));
-        params.put("duel_cost", result.cost().value());
-        params.put("money_icon", Icons.MONEY);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, DuelResource::initDuel),
-            params
-        );
+        return resources().template(language, DuelResource::initDuel)
+            .param("init_duel_variation", initDuelVariation(language, result.initiator(), result.acceptor()))
+            .param("duel_cost", result.cost().value())
+            .param("money_icon", Icons.MONEY)
+            .format();
     }
 
     private static String initDuelVariation(Language language, PersonageMention initiator, PersonageMention acceptor) {
-        final var params = new HashMap<String, Object>();
-        params.put("mention_initiator_icon_with_name", initiator.value());
-        params.put("mention_acceptor_icon_with_name", acceptor.value());
-        return StringNamedTemplate.format(
-            resources.getOrDefaultRandom(language, DuelResource::initDuelVariation),
-            params
-        );
+        return resources().randomTemplate(language, DuelResource::initDuelVariation)
+            .param("mention_initiator_icon_with_name", initiator.value())
+            .param("mention_acceptor_icon_with_name", acceptor.value())
+            .format();
     }
 
     public static String notDuelAcceptingPersonage(Language language) {
-        return resources.getOrDefault(language, DuelResource::notDuelAcceptingPersonage);
+        return resources().getOrDefault(language, DuelResource::notDuelAcceptingPersonage);
     }
 
     public static String expiredDuel(Language language, PersonageMention acceptorMention) {
-        final var params = new HashMap<String, Object>();
-        params.put("mention_acceptor_icon_with_name", acceptorMention.value());
-        return StringNamedTemplate.format(
-            resources.getOrDefaultRandom(language, DuelResource::expiredDuel),
-            params
-        );
+        return resources().randomTemplate(language, DuelResource::expiredDuel)
+            .param("mention_acceptor_icon_with_name", acceptorMention.value())
+            .format();
     }
 
     public static String declinedDuel(Language language, PersonageMention initiatorMention) {
-        final var params = new HashMap<String, Object>();
-        params.put("mention_initiator_icon_with_name", initiatorMention.value());
-        return StringNamedTemplate.format(
-            resources.getOrDefaultRandom(language, DuelResource::declinedDuel),
-            params
-        );
+        return resources().randomTemplate(language, DuelResource::declinedDuel)
+            .param("mention_initiator_icon_with_name", initiatorMention.value())
+            .format();
     }
 
     public static String finishedDuel(Language language, PersonageMention winnerMention, PersonageMention loserMention) {
-        final var params = new HashMap<String, Object>();
-        params.put("mention_winner_icon_with_name", winnerMention.value());
-        params.put("mention_loser_icon_with_name", loserMention.value());
-        return StringNamedTemplate.format(
-            resources.getOrDefaultRandom(language, DuelResource::finishedDuel),
-            params
-        );
+        return resources().randomTemplate(language, DuelResource::finishedDuel)
+            .param("mention_winner_icon_with_name", winnerMention.value())
+            .param("mention_loser_icon_with_name", loserMention.value())
+            .format();
     }
 
     public static String acceptDuelButton(Language language) {
-        return resources.getOrDefault(language, DuelResource::acceptDuelButton);
+        return resources().getOrDefault(language, DuelResource::acceptDuelButton);
     }
 
     public static String declineDuelButton(Language language) {
-        return resources.getOrDefault(language, DuelResource::declineDuelButton);
+        return resources().getOrDefault(language, DuelResource::declineDuelButton);
     }
 
     public static String duelWithUnknownUser(Language language) {
-        return resources.getOrDefaultRandom(language, DuelResource::duelWithUnknownUser);
+        return resources().getOrDefaultRandom(language, DuelResource::duelWithUnknownUser);
     }
 
     public static String duelIsLocked(Language language) {
-        return resources.getOrDefault(language, DuelResource::duelIsLocked);
+        return resources().getOrDefault(language, DuelResource::duelIsLocked);
     }
 
     public static String personageDuelResult(Language language, PersonageBattleResult result, boolean isWinner) {
-        final var params = new HashMap<String, Object>();
-        params.put("winner_or_loser_icon", isWinner ? Icons.DUEL_WINNER : Icons.DUEL_LOSER);
-        params.put("personage_badge_with_name", result.personage().badgeWithName());
-        params.put("damage_dealt", result.stats().damageDealt());
-        params.put("remain_health", result.stats().remainHealth());
-        params.put("crits_count", result.stats().critsCount());
-        params.put("dodges_count", result.stats().dodgesCount());
-        params.put("health_icon", Icons.HEALTH);
-        params.put("attack_icon", Icons.ATTACK);
-        params.put("crit_icon", Icons.CRIT_ATTACK);
-        params.put("dodge_icon", Icons.DODGE);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, DuelResource::personageDuelResult),
-            params
-        );
+        return resources().template(language, DuelResource::personageDuelResult)
+            .param("winner_or_loser_icon", isWinner ? Icons.DUEL_WINNER : Icons.DUEL_LOSER)
+            .param("personage_badge_with_name", result.personage().badgeWithName())
+            .param("damage_dealt", result.stats().damageDealt())
+            .param("remain_health", result.stats().remainHealth())
+            .param("crits_count", result.stats().critsCount())
+            .param("dodges_count", result.stats().dodgesCount())
+            .param("health_icon", Icons.HEALTH)
+            .param("attack_icon", Icons.ATTACK)
+            .param("crit_icon", Icons.CRIT_ATTACK)
+            .param("dodge_icon", Icons.DODGE)
+            .format();
     }
 
     public static String duelAlreadyFinished(Language language) {
-        return resources.getOrDefault(language, DuelResource::duelAlreadyFinished);
+        return resources().getOrDefault(language, DuelResource::duelAlreadyFinished);
     }
 }
@@ -1,22 +1,35 @@
 package ru.homyakin.seeker.locale.duel;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record DuelResource(
+    @TemplateParams({"duel_command"})
     String duelMustContainsMention,
     String[] duelWithDifferentBot,
     String[] duelWithThisBot,
     String duelWithYourself,
+    @TemplateParams({"money_icon", "money_count"})
     String[] duelWithInitiatorNotEnoughMoney,
     String personageAlreadyStartDuel,
+    @TemplateParams({"init_duel_variation", "duel_cost", "money_icon"})
     String initDuel,
+    @TemplateParams({"mention_initiator_icon_with_name", "mention_acceptor_icon_with_name"})
     String[] initDuelVariation,
     String notDuelAcceptingPersonage,
+    @TemplateParams({"mention_acceptor_icon_with_name"})
     String[] expiredDuel,
+    @TemplateParams({"mention_initiator_icon_with_name"})
     String[] declinedDuel,
+    @TemplateParams({"mention_winner_icon_with_name", "mention_loser_icon_with_name"})
     String[] finishedDuel,
     String acceptDuelButton,
     String declineDuelButton,
     String[] duelWithUnknownUser,
     String duelIsLocked,
+    @TemplateParams({
+        "winner_or_loser_icon", "personage_badge_with_name", "remain_health", "health_icon", "damage_dealt",
+        "attack_icon", "crits_count", "crit_icon", "dodges_count", "dodge_icon"
+    })
     String personageDuelResult,
     String duelAlreadyFinished
 ) {
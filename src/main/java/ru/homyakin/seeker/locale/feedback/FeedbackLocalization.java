@@ -3,77 +3,67 @@ package ru.homyakin.seeker.locale.feedback;
 import ru.homyakin.seeker.game.personage.models.Personage;
 import ru.homyakin.seeker.infrastructure.TextConstants;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
 import ru.homyakin.seeker.telegram.command.user.feedback.InputFeedback;
-import ru.homyakin.seeker.utils.StringNamedTemplate;
-
-import java.util.HashMap;
 
 public class FeedbackLocalization {
-    private static final Resources<FeedbackResource> resources = new Resources<>();
-
-    public static void add(Language language, FeedbackResource resource) {
-        resources.add(language, resource);
+    private static Resources<FeedbackResource> resources() {
+        return LocalizationBundle.current().feedback();
     }
 
     public static String initFeedback(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::initFeedback);
+        return resources().getOrDefault(language, FeedbackResource::initFeedback);
     }
 
     public static String errorButton(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::errorButton);
+        return resources().getOrDefault(language, FeedbackResource::errorButton);
     }
 
     public static String improvementButton(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::improvementButton);
+        return resources().getOrDefault(language, FeedbackResource::improvementButton);
     }
 
     public static String textButton(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::textButton);
+        return resources().getOrDefault(language, FeedbackResource::textButton);
     }
 
     public static String otherButton(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::otherButton);
+        return resources().getOrDefault(language, FeedbackResource::otherButton);
     }
 
     public static String inputTextSuggestion(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::inputTextSuggestion);
+        return resources().getOrDefault(language, FeedbackResource::inputTextSuggestion);
     }
 
     public static String inputFeedback(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::inputFeedback);
+        return resources().getOrDefault(language, FeedbackResource::inputFeedback);
     }
 
     public static String cancelFeedback(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::cancelFeedback);
+        return resources().getOrDefault(language, FeedbackResource::cancelFeedback);
     }
 
     public static String invalidTheme(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::invalidTheme);
+        return resources().getOrDefault(language, FeedbackResource::invalidTheme);
     }
 
     public static String feedback(Language language, Personage personage, InputFeedback inputFeedback) {
-        final var params = new HashMap<String, Object>();
-        params.put("personage_badge_with_name", personage.badgeWithName());
-        params.put("personage_id", personage.id().value());
-        params.put("feedback_theme", inputFeedback.theme());
-        params.put("feedback_text", inputFeedback.feedback());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, FeedbackResource::feedback),
-            params
-        );
+        return resources().template(language, FeedbackResource::feedback)
+            .param("personage_badge_with_name", personage.badgeWithName())
+            .param("personage_id", personage.id().value())
+            .param("feedback_theme", inputFeedback.theme())
+            .param("feedback_text", inputFeedback.feedback())
+            .format();
     }
 
     public static String feedbackSent(Language language) {
-        final var params = new HashMap<String, Object>();
-        params.put("feedback_channel", TextConstants.FEEDBACK_TG_CHANNEL);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, FeedbackResource::feedbackSent),
-            params
-        );
+        return resources().template(language, FeedbackResource::feedbackSent)
+            .param("feedback_channel", TextConstants.FEEDBACK_TG_CHANNEL)
+            .format();
     }
 
     public static String feedbackErrorSent(Language language) {
-        return resources.getOrDefault(language, FeedbackResource::feedbackErrorSent);
+        return resources().getOrDefault(language, FeedbackResource::feedbackErrorSent);
     }
 }
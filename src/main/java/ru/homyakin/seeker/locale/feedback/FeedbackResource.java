@@ -1,5 +1,7 @@
 package ru.homyakin.seeker.locale.feedback;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record FeedbackResource(
     String initFeedback,
     String errorButton,
@@ -9,7 +11,9 @@ public record FeedbackResource(
     String backButton,
     String inputTextSuggestion,
     String inputFeedback,
+    @TemplateParams({"feedback_channel"})
     String feedbackSent,
+    @TemplateParams({"personage_id", "personage_badge_with_name", "feedback_theme", "feedback_text"})
     String feedback,
     String cancelFeedback,
     String invalidTheme,
@@ -1,15 +1,24 @@
 package ru.homyakin.seeker.locale.group_settings;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record GroupSettingsResource(
+    @TemplateParams({"group_name_with_badge", "change_group_name_command", "time_zone", "set_time_zone_command"})
     String groupSettings,
+    @TemplateParams({"start_hour", "end_hour", "enabled_icon"})
     String eventIntervalButton,
+    @TemplateParams({"min_time_zone", "max_time_zone"})
     String incorrectTimeZone,
     String zeroEnabledEventIntervals,
+    @TemplateParams({"set_time_zone_command"})
     String incorrectSetTimeZoneCommand,
     String successChangeTimeZone,
+    @TemplateParams({"change_group_name_command"})
     String changeNameInvalidFormat,
     String changeNameInvalidSymbols,
+    @TemplateParams({"min_name_length", "max_name_length"})
     String changeNameInvalidLength,
+    @TemplateParams({"name"})
     String successChangeName
 ) {
 }
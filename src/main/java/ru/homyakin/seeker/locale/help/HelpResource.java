@@ -1,12 +1,23 @@
 package ru.homyakin.seeker.locale.help;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record HelpResource(
     String main,
+    @TemplateParams({"settings_command", "energy_icon"})
     String raids,
+    @TemplateParams({"duel_command"})
     String duels,
+    @TemplateParams({"menu_command", "order_command", "throw_command"})
     String menu,
+    @TemplateParams({"bot_username"})
     String personage,
+    @TemplateParams({"news_channel_username", "source_code_link"})
     String info,
+    @TemplateParams({
+        "health_icon", "attack_icon", "defense_icon", "strength_icon", "agility_icon", "wisdom_icon",
+        "normal_attack_icon", "dodge_icon", "crit_attack_icon"
+    })
     String battleSystem,
     String raidsButton,
     String duelsButton,
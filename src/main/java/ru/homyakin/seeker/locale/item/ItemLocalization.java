@@ -1,8 +1,6 @@
 package ru.homyakin.seeker.locale.item;
 
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 import ru.homyakin.seeker.game.item.models.Item;
@@ -13,63 +11,52 @@ import ru.homyakin.seeker.game.personage.models.Personage;
 import ru.homyakin.seeker.game.personage.models.PersonageSlot;
 import ru.homyakin.seeker.infrastructure.Icons;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
-import ru.homyakin.seeker.utils.StringNamedTemplate;
 
 public class ItemLocalization {
-    private static final Resources<ItemResource> resources = new Resources<>();
-
-    public static void add(Language language, ItemResource resource) {
-        resources.add(language, resource);
+    private static Resources<ItemResource> resources() {
+        return LocalizationBundle.current().item();
     }
 
     public static String fullItem(Language requestedlanguage, Item item) {
         final var itemLanguage = item.getItemLanguage(requestedlanguage);
-        final var params = new HashMap<String, Object>();
-        params.put("rarity_icon", item.rarity().icon);
-        params.put("item", itemText(itemLanguage, item));
-        params.put("characteristics", characteristics(itemLanguage, item.characteristics()));
-        params.put(
-            "slots",
-            item.object()
-                .slots()
-                .stream()
-                .sorted(Comparator.comparingInt(it -> it.id))
-                .map(it -> it.icon)
-                .collect(Collectors.joining())
-        );
-        return StringNamedTemplate.format(
-            resources.getOrDefault(itemLanguage, ItemResource::fullItem),
-            params
-        );
+        return resources().template(itemLanguage, ItemResource::fullItem)
+            .param("rarity_icon", item.rarity().icon)
+            .param("item", itemText(itemLanguage, item))
+            .param("characteristics", characteristics(itemLanguage, item.characteristics()))
+            .param(
+                "slots",
+                item.object()
+                    .slots()
+                    .stream()
+                    .sorted(Comparator.comparingInt(it -> it.id))
+                    .map(it -> it.icon)
+                    .collect(Collectors.joining())
+            )
+            .format();
     }
 
     public static String shortItem(Language requestedlanguage, Item item) {
         final var itemLanguage = item.getItemLanguage(requestedlanguage);
-        final var params = new HashMap<String, Object>();
-        params.put("rarity_icon", item.rarity().icon);
-        params.put("item", itemText(itemLanguage, item));
-        params.put("characteristics", characteristics(itemLanguage, item.characteristics()));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(itemLanguage, ItemResource::shortItem),
-            params
-        );
+        return resources().template(itemLanguage, ItemResource::shortItem)
+            .param("rarity_icon", item.rarity().icon)
+            .param("item", itemText(itemLanguage, item))
+            .param("characteristics", characteristics(itemLanguage, item.characteristics()))
+            .format();
     }
 
     public static String shortItemWithoutCharacteristics(Language requestedlanguage, Item item) {
         final var itemLanguage = item.getItemLanguage(requestedlanguage);
-        final var params = new HashMap<String, Object>();
-        params.put("rarity_icon", item.rarity().icon);
-        params.put("item", itemText(itemLanguage, item));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(itemLanguage, ItemResource::shortItemWithoutCharacteristics),
-            params
-        );
+        return resources().template(itemLanguage, ItemResource::shortItemWithoutCharacteristics)
+            .param("rarity_icon", item.rarity().icon)
+            .param("item", itemText(itemLanguage, item))
+            .format();
     }
 
     public static String inventory(Language language, Personage personage, List<Item> items) {
-        final var params = new HashMap<String, Object>();
-        params.put("max_items_in_bag", personage.maxBagSize());
+        final var params = resources().template(language, ItemResource::inventory).bind();
+        params.param("max_items_in_bag", personage.maxBagSize());
         final var itemsInBagBuilder = new StringBuilder();
         final var equippedItemsBuilder = new StringBuilder();
         int itemsInBagCount = 0;
@@ -91,34 +78,31 @@ public class ItemLocalization {
             .map(slot -> personageFreeSlot(language, slot))
             .collect(Collectors.joining("\n"));
         if (equippedItemsBuilder.isEmpty()) {
-            params.put("equipped_items_and_free_slots", freeSlots);
+            params.param("equipped_items_and_free_slots", freeSlots);
         } else if (freeSlots.isEmpty()) {
-            params.put("equipped_items_and_free_slots", equippedItemsBuilder.toString());
+            params.param("equipped_items_and_free_slots", equippedItemsBuilder.toString());
         } else {
-            params.put("equipped_items_and_free_slots", equippedItemsBuilder.append("\n").append(freeSlots).toString());
+            params.param("equipped_items_and_free_slots", equippedItemsBuilder.append("\n").append(freeSlots).toString());
         }
-        params.put("items_in_bag_count", itemsInBagCount);
-        params.put("items_in_bag", itemsInBagBuilder.toString());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::inventory),
-            params
-        );
+        params.param("items_in_bag_count", itemsInBagCount);
+        params.param("items_in_bag", itemsInBagBuilder.toString());
+        return params.format();
     }
 
     public static String personageMissingItem(Language language) {
-        return resources.getOrDefault(language, ItemResource::personageMissingItem);
+        return resources().getOrDefault(language, ItemResource::personageMissingItem);
     }
 
     public static String alreadyEquipped(Language language) {
-        return resources.getOrDefault(language, ItemResource::alreadyEquipped);
+        return resources().getOrDefault(language, ItemResource::alreadyEquipped);
     }
 
     public static String alreadyTakenOff(Language language) {
-        return resources.getOrDefault(language, ItemResource::alreadyTakenOff);
+        return resources().getOrDefault(language, ItemResource::alreadyTakenOff);
     }
 
     public static String notEnoughSpaceInBag(Language language) {
-        return resources.getOrDefault(language, ItemResource::notEnoughSpaceInBag);
+        return resources().getOrDefault(language, ItemResource::notEnoughSpaceInBag);
     }
 
     public static String requiredFreeSlots(Language language, List<PersonageSlot> slots) {
@@ -126,189 +110,152 @@ public class ItemLocalization {
         for (final var slot : slots) {
             builder.append(slot.icon);
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::requiredFreeSlots),
-            Collections.singletonMap("busy_slots", builder.toString())
-        );
+        return resources().template(language, ItemResource::requiredFreeSlots)
+            .param("busy_slots", builder.toString())
+            .format();
     }
 
     public static String successPutOn(Language language, Item item) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::successPutOn),
-            Collections.singletonMap("item", fullItem(language, item))
-        );
+        return resources().template(language, ItemResource::successPutOn)
+            .param("item", fullItem(language, item))
+            .format();
     }
 
     public static String successTakeOff(Language language, Item item) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::successTakeOff),
-            Collections.singletonMap("item", fullItem(language, item))
-        );
+        return resources().template(language, ItemResource::successTakeOff)
+            .param("item", fullItem(language, item))
+            .format();
     }
 
     public static String confirmDrop(Language language, Item item) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::confirmDrop),
-            Collections.singletonMap("item", fullItem(language, item))
-        );
+        return resources().template(language, ItemResource::confirmDrop)
+            .param("item", fullItem(language, item))
+            .format();
     }
 
     public static String confirmDropButton(Language language) {
-        return resources.getOrDefault(language, ItemResource::confirmDropButton);
+        return resources().getOrDefault(language, ItemResource::confirmDropButton);
     }
 
     public static String rejectDropButton(Language language) {
-        return resources.getOrDefault(language, ItemResource::rejectDropButton);
+        return resources().getOrDefault(language, ItemResource::rejectDropButton);
     }
 
     public static String successDrop(Language language, Item item) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::successDrop),
-            Collections.singletonMap("item", fullItem(language, item))
-        );
+        return resources().template(language, ItemResource::successDrop)
+            .param("item", fullItem(language, item))
+            .format();
     }
 
     public static String rejectedDrop(Language language) {
-        return resources.getOrDefault(language, ItemResource::rejectedDrop);
+        return resources().getOrDefault(language, ItemResource::rejectedDrop);
     }
 
     private static String itemInBag(Language language, Item item) {
-        final var params = new HashMap<String, Object>();
-        params.put("full_item", fullItem(language, item));
-        params.put("put_on_command", item.putOnCommand());
-        params.put("drop_command", item.dropCommand());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::itemInBag),
-            params
-        );
+        return resources().template(language, ItemResource::itemInBag)
+            .param("full_item", fullItem(language, item))
+            .param("put_on_command", item.putOnCommand())
+            .param("drop_command", item.dropCommand())
+            .format();
     }
 
     private static String equippedItem(Language language, Item item) {
-        final var params = new HashMap<String, Object>();
-        params.put("full_item", fullItem(language, item));
-        params.put("take_off_command", item.takeOffCommand());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::equippedItem),
-            params
-        );
+        return resources().template(language, ItemResource::equippedItem)
+            .param("full_item", fullItem(language, item))
+            .param("take_off_command", item.takeOffCommand())
+            .format();
     }
 
     private static String personageFreeSlot(Language language, PersonageSlot slot) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::personageFreeSlot),
-            Collections.singletonMap("slot", slot.icon)
-        );
+        return resources().template(language, ItemResource::personageFreeSlot)
+            .param("slot", slot.icon)
+            .format();
     }
 
     private static String itemWithoutModifiers(Language language, Item item) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::itemWithoutModifiers),
-            Collections.singletonMap("object", item.object().getLocaleOrDefault(language).text())
-        );
+        return resources().template(language, ItemResource::itemWithoutModifiers)
+            .param("object", item.object().getLocaleOrDefault(language).text())
+            .format();
     }
 
     private static String itemWithPrefixModifier(Language language, Item item, Modifier modifier) {
-        final var params = new HashMap<String, Object>();
+        final var params = resources().template(language, ItemResource::itemWithPrefixModifier).bind();
         final var objectLocale = item.object().getLocaleOrDefault(language);
-        params.put("object", objectLocale.text());
-        params.put("prefix_modifier", modifier.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::itemWithPrefixModifier),
-            params
-        );
+        params.param("object", objectLocale.text());
+        params.param("prefix_modifier", modifier.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
+        return params.format();
     }
 
     private static String itemWithSuffixModifier(Language language, Item item, Modifier modifier) {
-        final var params = new HashMap<String, Object>();
+        final var params = resources().template(language, ItemResource::itemWithSuffixModifier).bind();
         final var objectLocale = item.object().getLocaleOrDefault(language);
-        params.put("object", objectLocale.text());
-        params.put("suffix_modifier", modifier.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::itemWithSuffixModifier),
-            params
-        );
+        params.param("object", objectLocale.text());
+        params.param("suffix_modifier", modifier.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
+        return params.format();
     }
 
     private static String itemWithPrefixAndSuffixModifier(Language language, Item item, Modifier prefix, Modifier suffix) {
-        final var params = new HashMap<String, Object>();
+        final var params = resources().template(language, ItemResource::itemWithPrefixAndSuffixModifier).bind();
         final var objectLocale = item.object().getLocaleOrDefault(language);
-        params.put("object", objectLocale.text());
-        params.put("prefix_modifier", prefix.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
-        params.put("suffix_modifier", suffix.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::itemWithPrefixAndSuffixModifier),
-            params
-        );
+        params.param("object", objectLocale.text());
+        params.param("prefix_modifier", prefix.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
+        params.param("suffix_modifier", suffix.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
+        return params.format();
     }
 
     private static String itemWithTwoPrefixModifiers(Language language, Item item, Modifier modifier1, Modifier modifier2) {
-        final var params = new HashMap<String, Object>();
+        final var params = resources().template(language, ItemResource::itemWithTwoPrefixModifiers).bind();
         final var objectLocale = item.object().getLocaleOrDefault(language);
-        params.put("object", objectLocale.text());
+        params.param("object", objectLocale.text());
         if (modifier1.id() > modifier2.id()) {
-            params.put("prefix_modifier_one", modifier1.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
-            params.put("prefix_modifier_two", modifier2.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
+            params.param("prefix_modifier_one", modifier1.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
+            params.param("prefix_modifier_two", modifier2.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
         } else {
-            params.put("prefix_modifier_one", modifier2.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
-            params.put("prefix_modifier_two", modifier1.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
+            params.param("prefix_modifier_one", modifier2.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
+            params.param("prefix_modifier_two", modifier1.getLocaleOrDefault(language).getFormOrWithout(objectLocale.form()));
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::itemWithTwoPrefixModifiers),
-            params
-        );
+        return params.format();
     }
 
     public static String characteristics(Language language, Characteristics characteristics) {
-        final var params = new HashMap<String, Object>();
+        final var params = resources().template(language, ItemResource::characteristics).bind();
         if (characteristics.attack() != 0) {
-            params.put("not_zero_attack", attack(language, characteristics.attack()));
+            params.param("not_zero_attack", attack(language, characteristics.attack()));
         } else {
-            params.put("not_zero_attack", "");
+            params.param("not_zero_attack", "");
         }
         if (characteristics.health() != 0) {
-            params.put("not_zero_health", health(language, characteristics.health()));
+            params.param("not_zero_health", health(language, characteristics.health()));
         } else {
-            params.put("not_zero_health", "");
+            params.param("not_zero_health", "");
         }
         if (characteristics.defense() != 0) {
-            params.put("not_zero_defense", defense(language, characteristics.defense()));
+            params.param("not_zero_defense", defense(language, characteristics.defense()));
         } else {
-            params.put("not_zero_defense", "");
+            params.param("not_zero_defense", "");
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::characteristics),
-            params
-        );
+        return params.format();
     }
 
     private static String attack(Language language, int attack) {
-        final var params = new HashMap<String, Object>();
-        params.put("attack_icon", Icons.ATTACK);
-        params.put("attack_value", attack);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::attack),
-            params
-        );
+        return resources().template(language, ItemResource::attack)
+            .param("attack_icon", Icons.ATTACK)
+            .param("attack_value", attack)
+            .format();
     }
 
     private static String health(Language language, int attack) {
-        final var params = new HashMap<String, Object>();
-        params.put("health_icon", Icons.HEALTH);
-        params.put("health_value", attack);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::health),
-            params
-        );
+        return resources().template(language, ItemResource::health)
+            .param("health_icon", Icons.HEALTH)
+            .param("health_value", attack)
+            .format();
     }
 
     private static String defense(Language language, int attack) {
-        final var params = new HashMap<String, Object>();
-        params.put("defense_icon", Icons.DEFENSE);
-        params.put("defense_value", attack);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ItemResource::defense),
-            params
-        );
+        return resources().template(language, ItemResource::defense)
+            .param("defense_icon", Icons.DEFENSE)
+            .param("defense_value", attack)
+            .format();
     }
 
     private static String itemText(Language itemLanguage, Item item) {
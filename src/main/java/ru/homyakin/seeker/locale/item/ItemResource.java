@@ -1,32 +1,55 @@
 package ru.homyakin.seeker.locale.item;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record ItemResource(
+    @TemplateParams({"object"})
     String itemWithoutModifiers,
+    @TemplateParams({"prefix_modifier", "object"})
     String itemWithPrefixModifier,
+    @TemplateParams({"object", "suffix_modifier"})
     String itemWithSuffixModifier,
+    @TemplateParams({"prefix_modifier", "object", "suffix_modifier"})
     String itemWithPrefixAndSuffixModifier,
+    @TemplateParams({"prefix_modifier_one", "prefix_modifier_two", "object"})
     String itemWithTwoPrefixModifiers,
+    @TemplateParams({"slots", "rarity_icon", "item", "characteristics"})
     String fullItem,
+    @TemplateParams({"rarity_icon", "item", "characteristics"})
     String shortItem,
+    @TemplateParams({"rarity_icon", "item"})
     String shortItemWithoutCharacteristics,
+    @TemplateParams({"not_zero_health", "not_zero_attack", "not_zero_defense"})
     String characteristics,
+    @TemplateParams({"attack_icon", "attack_value"})
     String attack,
+    @TemplateParams({"health_icon", "health_value"})
     String health,
+    @TemplateParams({"defense_icon", "defense_value"})
     String defense,
+    @TemplateParams({"full_item", "put_on_command", "drop_command"})
     String itemInBag,
+    @TemplateParams({"full_item", "take_off_command"})
     String equippedItem,
+    @TemplateParams({"slot"})
     String personageFreeSlot,
+    @TemplateParams({"equipped_items_and_free_slots", "items_in_bag_count", "max_items_in_bag", "items_in_bag"})
     String inventory,
     String personageMissingItem,
     String alreadyEquipped,
     String alreadyTakenOff,
     String notEnoughSpaceInBag,
+    @TemplateParams({"busy_slots"})
     String requiredFreeSlots,
+    @TemplateParams({"item"})
     String successPutOn,
+    @TemplateParams({"item"})
     String successTakeOff,
+    @TemplateParams({"item"})
     String confirmDrop,
     String confirmDropButton,
     String rejectDropButton,
+    @TemplateParams({"item"})
     String successDrop,
     String rejectedDrop
 ) {
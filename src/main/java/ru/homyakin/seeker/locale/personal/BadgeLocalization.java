@@ -1,19 +1,15 @@
 package ru.homyakin.seeker.locale.personal;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import ru.homyakin.seeker.game.personage.badge.Badge;
 import ru.homyakin.seeker.game.personage.badge.PersonageAvailableBadge;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
-import ru.homyakin.seeker.utils.StringNamedTemplate;
 
 public class BadgeLocalization {
-    private static final Resources<BadgeResource> resources = new Resources<>();
-
-    public static void add(Language language, BadgeResource resource) {
-        resources.add(language, resource);
+    private static Resources<BadgeResource> resources() {
+        return LocalizationBundle.current().badge();
     }
 
     public static String availableBadges(Language language, List<PersonageAvailableBadge> badges) {
@@ -21,24 +17,20 @@ public class BadgeLocalization {
             .map(badge -> badge(language, badge.badge()))
             .toList();
         final var badgeList = String.join("\n", showBadges);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, BadgeResource::availableBadges),
-            Collections.singletonMap("badge_list", badgeList)
-        );
+        return resources().template(language, BadgeResource::availableBadges)
+            .param("badge_list", badgeList)
+            .format();
     }
 
     private static String badge(Language language, Badge badge) {
         final var badgeLocale = badge.getLocaleOrDefault(language);
-        final var params = new HashMap<String, Object>();
-        params.put("badge_icon", badge.view().icon());
-        params.put("badge_description", badgeLocale.description());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, BadgeResource::badge),
-            params
-        );
+        return resources().template(language, BadgeResource::badge)
+            .param("badge_icon", badge.view().icon())
+            .param("badge_description", badgeLocale.description())
+            .format();
     }
 
     public static String badgeIsNotAvailable(Language language) {
-        return resources.getOrDefault(language, BadgeResource::badgeIsNotAvailable);
+        return resources().getOrDefault(language, BadgeResource::badgeIsNotAvailable);
     }
 }
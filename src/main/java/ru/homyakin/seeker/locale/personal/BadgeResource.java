@@ -1,7 +1,11 @@
 package ru.homyakin.seeker.locale.personal;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record BadgeResource(
+    @TemplateParams({"badge_list"})
     String availableBadges,
+    @TemplateParams({"badge_icon", "badge_description"})
     String badge,
     String badgeIsNotAvailable
 ) {
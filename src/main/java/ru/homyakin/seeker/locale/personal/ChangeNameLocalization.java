@@ -1,91 +1,76 @@
 package ru.homyakin.seeker.locale.personal;
 
-import java.util.Collections;
-import java.util.HashMap;
-
 import ru.homyakin.seeker.game.models.Money;
 import ru.homyakin.seeker.infrastructure.Icons;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
-import ru.homyakin.seeker.utils.StringNamedTemplate;
 
 public class ChangeNameLocalization {
-    private static final Resources<ChangeNameResource> resources = new Resources<>();
-
-    public static void add(Language language, ChangeNameResource resource) {
-        resources.add(language, resource);
+    private static Resources<ChangeNameResource> resources() {
+        return LocalizationBundle.current().changeName();
     }
 
     public static String changeNameWithoutName(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::changeNameWithoutName);
+        return resources().getOrDefault(language, ChangeNameResource::changeNameWithoutName);
     }
 
     public static String initChangeName(Language language, Money cost) {
-        final var params = new HashMap<String, Object>();
-        params.put("change_name_cost", cost.value());
-        params.put("money_icon", Icons.MONEY);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ChangeNameResource::initChangeName),
-            params
-        );
+        return resources().template(language, ChangeNameResource::initChangeName)
+            .param("change_name_cost", cost.value())
+            .param("money_icon", Icons.MONEY)
+            .format();
     }
 
     public static String notEnoughMoney(Language language, Money cost) {
-        final var params = new HashMap<String, Object>();
-        params.put("change_name_cost", cost.value());
-        params.put("money_icon", Icons.MONEY);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ChangeNameResource::notEnoughMoney),
-            params
-        );
+        return resources().template(language, ChangeNameResource::notEnoughMoney)
+            .param("change_name_cost", cost.value())
+            .param("money_icon", Icons.MONEY)
+            .format();
     }
 
     public static String repeatChangeName(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::repeatChangeName);
+        return resources().getOrDefault(language, ChangeNameResource::repeatChangeName);
     }
 
     public static String cancelChangeName(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::cancelChangeName);
+        return resources().getOrDefault(language, ChangeNameResource::cancelChangeName);
     }
 
     public static String confirmName(Language language, String name) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ChangeNameResource::confirmName),
-            Collections.singletonMap("name", name)
-        );
+        return resources().template(language, ChangeNameResource::confirmName)
+            .param("name", name)
+            .format();
     }
 
     public static String cancelButton(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::cancelButton);
+        return resources().getOrDefault(language, ChangeNameResource::cancelButton);
     }
 
     public static String confirmButton(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::confirmButton);
+        return resources().getOrDefault(language, ChangeNameResource::confirmButton);
     }
 
     public static String repeatButton(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::repeatButton);
+        return resources().getOrDefault(language, ChangeNameResource::repeatButton);
     }
 
     public static String personageNameInvalidLength(Language language, int minNameLength, int maxNameLength) {
-        final var params = new HashMap<String, Object>();
-        params.put("max_name_length", maxNameLength);
-        params.put("min_name_length", minNameLength);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ChangeNameResource::personageNameInvalidLength),
-            params
-        );
+        return resources().template(language, ChangeNameResource::personageNameInvalidLength)
+            .param("max_name_length", maxNameLength)
+            .param("min_name_length", minNameLength)
+            .format();
     }
 
     public static String personageNameInvalidSymbols(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::personageNameInvalidSymbols);
+        return resources().getOrDefault(language, ChangeNameResource::personageNameInvalidSymbols);
     }
 
     public static String successNameChange(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::successNameChange);
+        return resources().getOrDefault(language, ChangeNameResource::successNameChange);
     }
 
     public static String internalError(Language language) {
-        return resources.getOrDefault(language, ChangeNameResource::internalError);
+        return resources().getOrDefault(language, ChangeNameResource::internalError);
     }
 }
@@ -1,15 +1,21 @@
 package ru.homyakin.seeker.locale.personal;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record ChangeNameResource(
     String changeNameWithoutName,
+    @TemplateParams({"change_name_cost", "money_icon"})
     String initChangeName,
+    @TemplateParams({"change_name_cost", "money_icon"})
     String notEnoughMoney,
     String repeatChangeName,
     String cancelChangeName,
+    @TemplateParams({"name"})
     String confirmName,
     String cancelButton,
     String confirmButton,
     String repeatButton,
+    @TemplateParams({"min_name_length", "max_name_length"})
     String personageNameInvalidLength,
     String personageNameInvalidSymbols,
     String successNameChange,
@@ -1,21 +1,32 @@
 package ru.homyakin.seeker.locale.personal;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record CharacteristicResource(
+    @TemplateParams({"money_icon", "money_count"})
     String resetConfirmation,
     String successReset,
     String canceledReset,
+    @TemplateParams({"increased_value", "increased_icon"})
     String increasedCharacteristic,
+    @TemplateParams({"strength_value", "strength_icon", "agility_value", "agility_icon", "wisdom_value", "wisdom_icon"})
     String currentCharacteristics,
+    @TemplateParams({"strength_icon", "agility_icon", "wisdom_icon"})
     String chooseCharacteristic,
 
     String notEnoughCharacteristicPoints,
 
+    @TemplateParams({"money_icon", "money_count"})
     String notEnoughMoney,
+    @TemplateParams({"level_up_command"})
     String profileLevelUp,
     String confirmButton,
     String cancelButton,
+    @TemplateParams({"strength_icon"})
     String strengthButton,
+    @TemplateParams({"agility_icon"})
     String agilityButton,
+    @TemplateParams({"wisdom_icon"})
     String wisdomButton
 ) {
 }
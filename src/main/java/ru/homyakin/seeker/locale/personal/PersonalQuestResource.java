@@ -1,11 +1,18 @@
 package ru.homyakin.seeker.locale.personal;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record PersonalQuestResource(
+    @TemplateParams({"energy_icon", "required_energy", "time_icon", "duration"})
     String bulletinBoard,
+    @TemplateParams({"energy_icon", "required_energy"})
     String notEnoughEnergy,
     String personageInAnotherEvent,
+    @TemplateParams({"quest_intro", "time_icon", "duration"})
     String startedQuest,
+    @TemplateParams({"quest_failure"})
     String failedQuest,
+    @TemplateParams({"quest_success", "money_icon", "money_value"})
     String successQuest
 ) {
 }
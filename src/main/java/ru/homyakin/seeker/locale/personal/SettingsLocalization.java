@@ -1,20 +1,19 @@
 package ru.homyakin.seeker.locale.personal;
 
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
 
 public class SettingsLocalization {
-    private static final Resources<SettingsResource> resources = new Resources<>();
-
-    public static void add(Language language, SettingsResource resource) {
-        resources.add(language, resource);
+    private static Resources<SettingsResource> resources() {
+        return LocalizationBundle.current().settings();
     }
 
     public static String personageIsHidden(Language language) {
-        return resources.getOrDefault(language, SettingsResource::personageIsHidden);
+        return resources().getOrDefault(language, SettingsResource::personageIsHidden);
     }
 
     public static String personageIsUnhidden(Language language) {
-        return resources.getOrDefault(language, SettingsResource::personageIsUnhidden);
+        return resources().getOrDefault(language, SettingsResource::personageIsUnhidden);
     }
 }
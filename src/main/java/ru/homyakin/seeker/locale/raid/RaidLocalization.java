@@ -1,87 +1,88 @@
 package ru.homyakin.seeker.locale.raid;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import ru.homyakin.seeker.game.event.models.EventResult;
 import ru.homyakin.seeker.game.event.launched.LaunchedEvent;
 import ru.homyakin.seeker.game.event.raid.models.GeneratedItemResult;
 import ru.homyakin.seeker.game.item.models.Item;
 import ru.homyakin.seeker.game.personage.event.RaidParticipant;
+import ru.homyakin.seeker.game.personage.models.LifetimeRaidStats;
 import ru.homyakin.seeker.game.personage.models.PersonageRaidResult;
 import ru.homyakin.seeker.game.personage.models.Personage;
 import ru.homyakin.seeker.game.personage.models.PersonageRaidSavedResult;
 import ru.homyakin.seeker.infrastructure.Icons;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
 import ru.homyakin.seeker.locale.item.ItemLocalization;
 import ru.homyakin.seeker.telegram.command.type.CommandType;
+import ru.homyakin.seeker.utils.MessageChunks;
 import ru.homyakin.seeker.utils.StringNamedTemplate;
 import ru.homyakin.seeker.utils.TimeUtils;
 
 public class RaidLocalization {
-    private static final Resources<RaidResource> resources = new Resources<>();
+    private static final String ITEMS_INDENT = "\n\n";
 
-    public static void add(Language language, RaidResource resource) {
-        resources.add(language, resource);
+    private static Resources<RaidResource> resources() {
+        return LocalizationBundle.current().raid();
     }
 
     public static String joinRaidEvent(Language language, int energyCost) {
-        final var params = new HashMap<String, Object>();
-        params.put("energy_cost", energyCost);
-        params.put("energy_icon", Icons.ENERGY);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, RaidResource::joinRaidEvent),
-            params
-        );
+        return resources().template(language, RaidResource::joinRaidEvent)
+            .param("energy_cost", energyCost)
+            .param("energy_icon", Icons.ENERGY)
+            .format();
     }
 
     public static String raidStartsPrefix(Language language) {
-        return resources.getOrDefault(language, RaidResource::raidStartsPrefix);
+        return resources().getOrDefault(language, RaidResource::raidStartsPrefix);
     }
 
     public static String userAlreadyInThisRaid(Language language) {
-        return resources.getOrDefault(language, RaidResource::userAlreadyInThisRaid);
+        return resources().getOrDefault(language, RaidResource::userAlreadyInThisRaid);
     }
 
     public static String exhaustedAlert(Language language) {
-        return resources.getOrDefault(language, RaidResource::exhaustedAlert);
+        return resources().getOrDefault(language, RaidResource::exhaustedAlert);
     }
 
     public static String userAlreadyInOtherEvent(Language language) {
-        return resources.getOrDefault(language, RaidResource::userAlreadyInOtherEvent);
+        return resources().getOrDefault(language, RaidResource::userAlreadyInOtherEvent);
     }
 
     public static String expiredRaid(Language language) {
-        return resources.getOrDefault(language, RaidResource::expiredRaid);
+        return resources().getOrDefault(language, RaidResource::expiredRaid);
     }
 
     public static String raidInProcess(Language language) {
-        return resources.getOrDefault(language, RaidResource::raidInProcess);
+        return resources().getOrDefault(language, RaidResource::raidInProcess);
     }
 
     public static String successJoinRaid(Language language) {
-        return resources.getOrDefault(language, RaidResource::successJoinRaid);
+        return resources().getOrDefault(language, RaidResource::successJoinRaid);
     }
 
     public static String successRaid(Language language) {
-        return resources.getOrDefaultRandom(language, RaidResource::successRaid);
+        return resources().getOrDefaultRandom(language, RaidResource::successRaid);
     }
 
     public static String failureRaid(Language language) {
-        return resources.getOrDefaultRandom(language, RaidResource::failureRaid);
+        return resources().getOrDefaultRandom(language, RaidResource::failureRaid);
     }
 
     public static String zeroParticipants(Language language) {
-        return resources.getOrDefaultRandom(language, RaidResource::zeroParticipants);
+        return resources().getOrDefaultRandom(language, RaidResource::zeroParticipants);
     }
 
-    public static String raidResult(Language language, EventResult.RaidResult.Completed result) {
+    /**
+     * Итог рейда, разложенный по сообщениям: в первое попадают prefix, шаблон raidResult и помещающиеся предметы,
+     * остальные предметы идут следующими сообщениями
+     */
+    public static List<String> raidResult(Language language, String prefix, EventResult.RaidResult.Completed result) {
         final var sortedPersonages = new ArrayList<>(result.personageResults());
         sortedPersonages.sort(resultComparator);
         final var topPersonages = new StringBuilder();
@@ -95,15 +96,24 @@ public class RaidLocalization {
                 topPersonages.append("\n");
             }
         }
-        final var params = paramsForRaidResult(language, result, topPersonages);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, RaidResource::raidResult),
-            params
+        final var params = paramsForRaidResult(resources().template(language, RaidResource::raidResult), result, topPersonages)
+            .param("from_new_line_items_for_personages", "");
+        final var chunks = new MessageChunks(
+            MessageChunks.TELEGRAM_MESSAGE_LIMIT - prefix.length() - params.format().length() - ITEMS_INDENT.length(),
+            MessageChunks.TELEGRAM_MESSAGE_LIMIT,
+            "\n"
         );
+        result.generatedItemResults().forEach(it -> chunks.add(itemResult(language, it)));
+        final var messages = new ArrayList<>(chunks.build());
+        if (!messages.getFirst().isEmpty()) {
+            params.param("from_new_line_items_for_personages", ITEMS_INDENT + messages.getFirst());
+        }
+        messages.set(0, prefix + params.format());
+        return messages;
     }
 
-    private static HashMap<String, Object> paramsForRaidResult(
-        Language language,
+    private static StringNamedTemplate.Binder paramsForRaidResult(
+        StringNamedTemplate template,
         EventResult.RaidResult.Completed raidResult,
         StringBuilder topPersonages
     ) {
@@ -117,82 +127,69 @@ public class RaidLocalization {
                 ++remainingEnemies;
             }
         }
-        final var params = new HashMap<String, Object>();
-        params.put("remain_enemies_health", remainEnemiesHealth);
-        params.put("total_enemies_health", totalEnemiesHealth);
-        params.put("remain_enemies_count", remainingEnemies);
-        params.put("total_enemies_count", raidResult.raidNpcResults().size());
-        params.put("top_participants_list", topPersonages.toString());
-        params.put("raid_report_command", CommandType.RAID_REPORT.getText());
-        if (raidResult.generatedItemResults().isEmpty()) {
-            params.put("from_new_line_items_for_personages", "");
-        } else {
-            final var builder = new StringBuilder("\n\n");
-            final var items = raidResult.generatedItemResults();
-            for (int i = 0; i < items.size(); ++i) {
-                builder.append(itemResult(language, items.get(i)));
-                if (i < items.size() - 1) {
-                    builder.append("\n");
-                }
-            }
-            params.put("from_new_line_items_for_personages", builder.toString());
-        }
+        final var params = template.bind();
+        params.param("remain_enemies_health", remainEnemiesHealth);
+        params.param("total_enemies_health", totalEnemiesHealth);
+        params.param("remain_enemies_count", remainingEnemies);
+        params.param("total_enemies_count", raidResult.raidNpcResults().size());
+        params.param("top_participants_list", topPersonages.toString());
+        params.param("raid_report_command", CommandType.RAID_REPORT.getText());
         return params;
     }
 
     public static String itemResult(Language language, GeneratedItemResult generatedItemResult) {
-        final var params = new HashMap<String, Object>();
-        final var text = switch (generatedItemResult) {
-            case GeneratedItemResult.Success success -> {
-                params.put("personage_badge_with_name", success.personage().badgeWithName());
-                params.put("short_item", ItemLocalization.shortItem(language, success.item()));
-                yield resources.getOrDefaultRandom(language, RaidResource::successItemForPersonage);
-            }
-            case GeneratedItemResult.NotEnoughSpaceInBag notEnoughSpaceInBag -> {
-                params.put("personage_badge_with_name", notEnoughSpaceInBag.personage().badgeWithName());
-                params.put("short_item", ItemLocalization.shortItem(language, notEnoughSpaceInBag.item()));
-                yield resources.getOrDefaultRandom(language, RaidResource::notEnoughSpaceInBagForItem);
-            }
+        return switch (generatedItemResult) {
+            case GeneratedItemResult.Success success -> resources()
+                .randomTemplate(language, RaidResource::successItemForPersonage)
+                .param("personage_badge_with_name", success.personage().badgeWithName())
+                .param("short_item", ItemLocalization.shortItem(language, success.item()))
+                .format();
+            case GeneratedItemResult.NotEnoughSpaceInBag notEnoughSpaceInBag -> resources()
+                .randomTemplate(language, RaidResource::notEnoughSpaceInBagForItem)
+                .param("personage_badge_with_name", notEnoughSpaceInBag.personage().badgeWithName())
+                .param("short_item", ItemLocalization.shortItem(language, notEnoughSpaceInBag.item()))
+                .format();
         };
-        return StringNamedTemplate.format(text, params);
     }
 
     public static String personageRaidResult(Language language, PersonageRaidResult result) {
-        final var params = new HashMap<String, Object>();
-        params.put("dead_icon_or_empty", result.stats().isDead() ? Icons.DEAD : "");
-        params.put("raid_participant", raidParticipant(language, result.participant()));
-        params.put("damage_dealt", result.stats().damageDealt());
-        params.put("damage_taken", result.stats().damageTaken());
-        params.put("money", result.reward().value());
-        params.put("money_icon", Icons.MONEY);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, RaidResource::personageRaidResult),
-            params
-        );
+        return resources().template(language, RaidResource::personageRaidResult)
+            .param("dead_icon_or_empty", result.stats().isDead() ? Icons.DEAD : "")
+            .param("raid_participant", raidParticipant(language, result.participant()))
+            .param("damage_dealt", result.stats().damageDealt())
+            .param("damage_taken", result.stats().damageTaken())
+            .param("money", result.reward().value())
+            .param("money_icon", Icons.MONEY)
+            .format();
     }
 
-    public static String raidParticipants(Language language, List<RaidParticipant> participants) {
-        final var participantsList = participants.stream()
-            .map(it -> raidParticipant(language, it))
-            .collect(Collectors.joining(", "));
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, RaidResource::raidParticipants),
-            Collections.singletonMap("raid_participants_list", participantsList)
+    /**
+     * Список участников, разложенный по сообщениям: в первое попадают prefix и шаблон raidParticipants
+     * с помещающимися участниками, остальные участники идут следующими сообщениями через запятую
+     */
+    public static List<String> raidParticipants(Language language, String prefix, List<RaidParticipant> participants) {
+        final var params = resources().template(language, RaidResource::raidParticipants)
+            .param("raid_participants_list", "");
+        final var chunks = new MessageChunks(
+            MessageChunks.TELEGRAM_MESSAGE_LIMIT - prefix.length() - params.format().length(),
+            MessageChunks.TELEGRAM_MESSAGE_LIMIT,
+            ", "
         );
+        participants.forEach(it -> chunks.add(raidParticipant(language, it)));
+        final var messages = new ArrayList<>(chunks.build());
+        messages.set(0, prefix + params.param("raid_participants_list", messages.getFirst()).format());
+        return messages;
     }
 
     public static String raidParticipant(Language language, RaidParticipant participant) {
-        final var params = new HashMap<String, Object>();
-        params.put("personage_badge_with_name", participant.personage().badgeWithName());
+        final var params = resources().template(language, RaidResource::raidParticipant).bind();
+        params.param("personage_badge_with_name", participant.personage().badgeWithName());
         if (participant.params().isExhausted()) {
-            params.put("exhausted_icon_or_empty", Icons.EXHAUSTED);
+            params.param("exhausted_icon_or_empty", Icons.EXHAUSTED);
         } else {
-            params.put("exhausted_icon_or_empty", "");
+            params.param("exhausted_icon_or_empty", "");
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, RaidResource::raidParticipant),
-            params
-        );
+        return params.format();
     }
 
     public static String report(
@@ -201,17 +198,14 @@ public class RaidLocalization {
         LaunchedEvent event,
         Optional<Item> item
     ) {
-        final var params = paramsForRaidReport(result);
-        params.put("raid_date_time", TimeUtils.toString(event.endDate()));
+        final var params = paramsForRaidReport(resources().template(language, RaidResource::report), result);
+        params.param("raid_date_time", TimeUtils.toString(event.endDate()));
         if (item.isEmpty()) {
-            params.put("optional_full_item", "");
+            params.param("optional_full_item", "");
         } else {
-            params.put("optional_full_item", ItemLocalization.fullItem(language, item.get()));
+            params.param("optional_full_item", ItemLocalization.fullItem(language, item.get()));
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, RaidResource::report),
-            params
-        );
+        return params.format();
     }
 
     public static String shortPersonageReport(
@@ -220,61 +214,84 @@ public class RaidLocalization {
         Personage personage,
         Optional<Item> item
     ) {
-        final var params = paramsForRaidReport(result);
-        params.put("personage_badge_with_name", personage.badgeWithName());
+        final var params = paramsForRaidReport(resources().template(language, RaidResource::shortPersonageReport), result);
+        params.param("personage_badge_with_name", personage.badgeWithName());
         if (item.isEmpty()) {
-            params.put("optional_short_item_without_characteristics", "");
+            params.param("optional_short_item_without_characteristics", "");
         } else {
-            params.put(
+            params.param(
                 "optional_short_item_without_characteristics",
                 ItemLocalization.shortItemWithoutCharacteristics(language, item.get())
             );
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, RaidResource::shortPersonageReport),
-            params
-        );
+        return params.format();
     }
 
     public static String reportNotPresentForPersonage(Language language) {
-        return resources.getOrDefault(language, RaidResource::reportNotPresentForPersonage);
+        return resources().getOrDefault(language, RaidResource::reportNotPresentForPersonage);
     }
 
     public static String lastGroupRaidReportNotFound(Language language) {
-        return resources.getOrDefault(language, RaidResource::lastGroupRaidReportNotFound);
+        return resources().getOrDefault(language, RaidResource::lastGroupRaidReportNotFound);
+    }
+
+    public static String lifetimeStats(Language language, LifetimeRaidStats stats) {
+        return resources().template(language, RaidResource::lifetimeStats)
+            .param("raids_count", stats.raidsCount())
+            .param("items_count", stats.itemsCount())
+            .param("normal_attack_icon", Icons.NORMAL_ATTACK)
+            .param("normal_damage_value", stats.normalDamageDealt())
+            .param("normal_damage_count", stats.normalAttackCount())
+            .param("crit_attack_icon", Icons.CRIT_ATTACK)
+            .param("crit_damage_value", stats.critDamageDealt())
+            .param("crit_damage_count", stats.critsCount())
+            .param("crit_percent", stats.critPercent())
+            .param("miss_icon", Icons.MISS)
+            .param("misses_count", stats.missesCount())
+            .param("damage_blocked_icon", Icons.BLOCKED_DAMAGE)
+            .param("damage_blocked_value", stats.damageBlocked())
+            .param("damage_blocked_count", stats.blockCount())
+            .param("dodge_icon", Icons.DODGE)
+            .param("dodged_damage_value", stats.damageDodged())
+            .param("dodged_damage_count", stats.dodgesCount())
+            .param("dodge_percent", stats.dodgePercent())
+            .param("money_icon", Icons.MONEY)
+            .param("reward_value", stats.reward())
+            .param("raid_report_command", CommandType.RAID_REPORT.getText())
+            .format();
     }
 
-    private static HashMap<String, Object> paramsForRaidReport(PersonageRaidSavedResult result) {
-        final var params = new HashMap<String, Object>();
-        params.put("attack_icon", Icons.ATTACK);
-        params.put("attack_value", result.stats().characteristics().attack());
-        params.put("defense_icon", Icons.DEFENSE);
-        params.put("defense_value", result.stats().characteristics().defense());
-        params.put("strength_icon", Icons.STRENGTH);
-        params.put("strength_value", result.stats().characteristics().strength());
-        params.put("agility_icon", Icons.AGILITY);
-        params.put("agility_value", result.stats().characteristics().agility());
-        params.put("wisdom_icon", Icons.WISDOM);
-        params.put("wisdom_value", result.stats().characteristics().wisdom());
-        params.put("normal_damage_value", result.stats().normalDamageDealt());
-        params.put("normal_damage_count", result.stats().normalAttackCount());
-        params.put("crit_damage_value", result.stats().critDamageDealt());
-        params.put("crit_damage_count", result.stats().critsCount());
-        params.put("misses_count", result.stats().missesCount());
-        params.put("damage_blocked_value", result.stats().damageBlocked());
-        params.put("damage_blocked_count", result.stats().blockCount());
-        params.put("dodged_damage_value", result.stats().damageDodged());
-        params.put("dodged_damage_count", result.stats().dodgesCount());
-        params.put("remain_health", result.stats().remainHealth());
-        params.put("max_health", result.stats().characteristics().health());
-        params.put("money_icon", Icons.MONEY);
-        params.put("reward_value", result.reward().value());
-        params.put("normal_attack_icon", Icons.NORMAL_ATTACK);
-        params.put("crit_attack_icon", Icons.CRIT_ATTACK);
-        params.put("miss_icon", Icons.MISS);
-        params.put("damage_blocked_icon", Icons.BLOCKED_DAMAGE);
-        params.put("dodge_icon", Icons.DODGE);
-        params.put("health_icon", Icons.HEALTH);
+    private static StringNamedTemplate.Binder paramsForRaidReport(StringNamedTemplate template, PersonageRaidSavedResult result) {
+        final var params = template.bind();
+        params.param("attack_icon", Icons.ATTACK);
+        params.param("attack_value", result.stats().characteristics().attack());
+        params.param("defense_icon", Icons.DEFENSE);
+        params.param("defense_value", result.stats().characteristics().defense());
+        params.param("strength_icon", Icons.STRENGTH);
+        params.param("strength_value", result.stats().characteristics().strength());
+        params.param("agility_icon", Icons.AGILITY);
+        params.param("agility_value", result.stats().characteristics().agility());
+        params.param("wisdom_icon", Icons.WISDOM);
+        params.param("wisdom_value", result.stats().characteristics().wisdom());
+        params.param("normal_damage_value", result.stats().normalDamageDealt());
+        params.param("normal_damage_count", result.stats().normalAttackCount());
+        params.param("crit_damage_value", result.stats().critDamageDealt());
+        params.param("crit_damage_count", result.stats().critsCount());
+        params.param("misses_count", result.stats().missesCount());
+        params.param("damage_blocked_value", result.stats().damageBlocked());
+        params.param("damage_blocked_count", result.stats().blockCount());
+        params.param("dodged_damage_value", result.stats().damageDodged());
+        params.param("dodged_damage_count", result.stats().dodgesCount());
+        params.param("remain_health", result.stats().remainHealth());
+        params.param("max_health", result.stats().characteristics().health());
+        params.param("money_icon", Icons.MONEY);
+        params.param("reward_value", result.reward().value());
+        params.param("normal_attack_icon", Icons.NORMAL_ATTACK);
+        params.param("crit_attack_icon", Icons.CRIT_ATTACK);
+        params.param("miss_icon", Icons.MISS);
+        params.param("damage_blocked_icon", Icons.BLOCKED_DAMAGE);
+        params.param("dodge_icon", Icons.DODGE);
+        params.param("health_icon", Icons.HEALTH);
         return params;
     }
 
@@ -1,6 +1,9 @@
 package ru.homyakin.seeker.locale.raid;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record RaidResource(
+    @TemplateParams({"energy_icon", "energy_cost"})
     String joinRaidEvent,
     String raidStartsPrefix,
     String hoursShort,
@@ -14,15 +17,45 @@ public record RaidResource(
     String[] successRaid,
     String[] failureRaid,
     String[] zeroParticipants,
+    @TemplateParams({
+        "remain_enemies_health", "total_enemies_health", "remain_enemies_count", "total_enemies_count",
+        "top_participants_list", "from_new_line_items_for_personages", "raid_report_command"
+    })
     String raidResult,
+    @TemplateParams({"personage_badge_with_name", "short_item"})
     String[] successItemForPersonage,
+    @TemplateParams({"personage_badge_with_name", "short_item"})
     String[] notEnoughSpaceInBagForItem,
+    @TemplateParams({"dead_icon_or_empty", "raid_participant", "damage_dealt", "damage_taken", "money", "money_icon"})
     String personageRaidResult,
+    @TemplateParams({"raid_participants_list"})
     String raidParticipants,
+    @TemplateParams({"personage_badge_with_name", "exhausted_icon_or_empty"})
     String raidParticipant,
+    @TemplateParams({
+        "raid_date_time", "attack_icon", "attack_value", "defense_icon", "defense_value", "strength_icon",
+        "strength_value", "agility_icon", "agility_value", "wisdom_icon", "wisdom_value", "normal_attack_icon",
+        "normal_damage_value", "normal_damage_count", "crit_attack_icon", "crit_damage_value", "crit_damage_count",
+        "miss_icon", "misses_count", "damage_blocked_icon", "damage_blocked_value", "damage_blocked_count",
+        "dodge_icon", "dodged_damage_value", "dodged_damage_count", "health_icon", "remain_health", "max_health",
+        "money_icon", "reward_value", "optional_full_item"
+    })
     String report,
     String reportNotPresentForPersonage,
+    @TemplateParams({
+        "personage_badge_with_name", "health_icon", "remain_health", "normal_attack_icon", "normal_damage_value",
+        "normal_damage_count", "crit_attack_icon", "crit_damage_value", "crit_damage_count", "damage_blocked_icon",
+        "damage_blocked_value", "damage_blocked_count", "dodge_icon", "dodged_damage_value", "dodged_damage_count",
+        "reward_value", "money_icon", "optional_short_item_without_characteristics"
+    })
     String shortPersonageReport,
-    String lastGroupRaidReportNotFound
+    String lastGroupRaidReportNotFound,
+    @TemplateParams({
+        "raids_count", "items_count", "normal_attack_icon", "normal_damage_value", "normal_damage_count",
+        "crit_attack_icon", "crit_damage_value", "crit_damage_count", "crit_percent", "miss_icon", "misses_count",
+        "damage_blocked_icon", "damage_blocked_value", "damage_blocked_count", "dodge_icon", "dodged_damage_value",
+        "dodged_damage_count", "dodge_percent", "money_icon", "reward_value", "raid_report_command"
+    })
+    String lifetimeStats
 ) {
 }
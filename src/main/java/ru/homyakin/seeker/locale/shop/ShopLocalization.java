@@ -7,20 +7,16 @@ import ru.homyakin.seeker.game.shop.models.SoldItem;
 import ru.homyakin.seeker.infrastructure.Icons;
 import ru.homyakin.seeker.infrastructure.TextConstants;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
 import ru.homyakin.seeker.locale.item.ItemLocalization;
 import ru.homyakin.seeker.telegram.command.type.CommandType;
-import ru.homyakin.seeker.utils.StringNamedTemplate;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 
 public class ShopLocalization {
-    private static final Resources<ShopResource> resources = new Resources<>();
-
-    public static void add(Language language, ShopResource resource) {
-        resources.add(language, resource);
+    private static Resources<ShopResource> resources() {
+        return LocalizationBundle.current().shop();
     }
 
     public static String menu(Language language, List<ShopItem> items) {
@@ -46,82 +42,75 @@ public class ShopLocalization {
                 selling.append("\n");
             }
         }
-        final var params = new HashMap<String, Object>();
-        params.put("buying_items", buying.toString());
-        params.put("selling_items", selling.toString());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ShopResource::menu),
-            params
-        );
+        return resources().template(language, ShopResource::menu)
+            .param("buying_items", buying.toString())
+            .param("selling_items", selling.toString())
+            .format();
     }
 
     public static String incorrectBuyingItem(Language language) {
-        return resources.getOrDefault(language, ShopResource::incorrectBuyingItem);
+        return resources().getOrDefault(language, ShopResource::incorrectBuyingItem);
     }
 
     public static String incorrectSellingItem(Language language) {
-        return resources.getOrDefault(language, ShopResource::incorrectSellingItem);
+        return resources().getOrDefault(language, ShopResource::incorrectSellingItem);
     }
 
     public static String notEnoughMoney(Language language) {
-        return resources.getOrDefault(language, ShopResource::notEnoughMoney);
+        return resources().getOrDefault(language, ShopResource::notEnoughMoney);
     }
 
     public static String notEnoughSpaceInBag(Language language) {
-        return resources.getOrDefault(language, ShopResource::notEnoughSpaceInBag);
+        return resources().getOrDefault(language, ShopResource::notEnoughSpaceInBag);
     }
 
     public static String successBuy(Language language, Item item) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ShopResource::successBuy),
-            Collections.singletonMap("full_item_name", ItemLocalization.fullItem(language, item))
-        );
+        return resources().template(language, ShopResource::successBuy)
+            .param("full_item_name", ItemLocalization.fullItem(language, item))
+            .format();
     }
 
     public static String successSell(Language language, SoldItem item) {
-        final var params = new HashMap<String, Object>();
-        params.put("full_item_name", ItemLocalization.fullItem(language, item.item()));
-        params.put("price_value", item.price().value());
-        params.put("money_icon", Icons.MONEY);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ShopResource::successSell),
-            params
-        );
+        return resources().template(language, ShopResource::successSell)
+            .param("full_item_name", ItemLocalization.fullItem(language, item.item()))
+            .param("price_value", item.price().value())
+            .param("money_icon", Icons.MONEY)
+            .format();
     }
 
     private static String sellingItem(Language language, ShopItem.Sell item) {
-        final var params = new HashMap<String, Object>();
-        params.put("short_item_name", ItemLocalization.shortItem(language, item.item()));
-        params.put("price_value", item.price().value());
-        params.put("money_icon", Icons.MONEY);
-        params.put("sell_command", CommandType.SELL_ITEM.getText() + TextConstants.TG_COMMAND_DELIMITER + item.item().id());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ShopResource::sellingItem),
-            params
-        );
+        return resources().template(language, ShopResource::sellingItem)
+            .param("short_item_name", ItemLocalization.shortItem(language, item.item()))
+            .param("price_value", item.price().value())
+            .param("money_icon", Icons.MONEY)
+            .param(
+                "sell_command",
+                CommandType.SELL_ITEM.getText() + TextConstants.TG_COMMAND_DELIMITER + item.item().id()
+            )
+            .format();
     }
 
     private static String buyingItem(Language language, ShopItem.Buy item) {
-        final var params = new HashMap<String, Object>();
-        params.put("shop_item_icon", item.type().icon);
-        params.put("shop_item_name", shopItemName(language, item.type()));
-        params.put("price_value", item.price().value());
-        params.put("money_icon", Icons.MONEY);
-        params.put("buy_command", CommandType.BUY_ITEM.getText() + TextConstants.TG_COMMAND_DELIMITER + item.type().telegramCode);
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, ShopResource::buyingItem),
-            params
-        );
+        return resources().template(language, ShopResource::buyingItem)
+            .param("shop_item_icon", item.type().icon)
+            .param("shop_item_name", shopItemName(language, item.type()))
+            .param("price_value", item.price().value())
+            .param("money_icon", Icons.MONEY)
+            .param(
+                "buy_command",
+                CommandType.BUY_ITEM.getText() + TextConstants.TG_COMMAND_DELIMITER + item.type().telegramCode
+            )
+            .format();
     }
 
     private static String shopItemName(Language language, ShopItemType type) {
         return switch (type) {
-            case COMMON -> resources.getOrDefault(language, ShopResource::common);
-            case UNCOMMON -> resources.getOrDefault(language, ShopResource::uncommon);
-            case RARE -> resources.getOrDefault(language, ShopResource::rare);
-            case EPIC -> resources.getOrDefault(language, ShopResource::epic);
-            case LEGENDARY -> resources.getOrDefault(language, ShopResource::legendary);
-            case RANDOM -> resources.getOrDefault(language, ShopResource::random);
+            case COMMON -> resources().getOrDefault(language, ShopResource::common);
+            case UNCOMMON -> resources().getOrDefault(language, ShopResource::uncommon);
+            case RARE -> resources().getOrDefault(language, ShopResource::rare);
+            case EPIC -> resources().getOrDefault(language, ShopResource::epic);
+            case LEGENDARY -> resources().getOrDefault(language, ShopResource::legendary);
+            case RANDOM -> resources().getOrDefault(language, ShopResource::random);
         };
     }
 
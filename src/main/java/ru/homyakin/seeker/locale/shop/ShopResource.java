@@ -1,8 +1,13 @@
 package ru.homyakin.seeker.locale.shop;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record ShopResource(
+    @TemplateParams({"buying_items", "selling_items"})
     String menu,
+    @TemplateParams({"short_item_name", "price_value", "money_icon", "sell_command"})
     String sellingItem,
+    @TemplateParams({"shop_item_icon", "shop_item_name", "price_value", "money_icon", "buy_command"})
     String buyingItem,
     String common,
     String uncommon,
@@ -14,7 +19,9 @@ public record ShopResource(
     String incorrectSellingItem,
     String notEnoughMoney,
     String notEnoughSpaceInBag,
+    @TemplateParams({"full_item_name"})
     String successBuy,
+    @TemplateParams({"full_item_name", "price_value", "money_icon"})
     String successSell
 ) {
 }
@@ -1,8 +1,13 @@
 package ru.homyakin.seeker.locale.spin;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record EverydaySpinResource(
+    @TemplateParams({"required_users"})
     String notEnoughUsers,
+    @TemplateParams({"mention_personage_badge_with_name"})
     String[] alreadyChosen,
+    @TemplateParams({"mention_personage_badge_with_name"})
     String[] chosenUser
 ) {
 }
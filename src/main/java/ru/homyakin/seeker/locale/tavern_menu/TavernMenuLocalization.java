@@ -1,7 +1,5 @@
 package ru.homyakin.seeker.locale.tavern_menu;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Optional;
 
 import ru.homyakin.seeker.game.effect.Effect;
@@ -11,6 +9,7 @@ import ru.homyakin.seeker.game.tavern_menu.order.models.ConsumeResult;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowOrderError;
 import ru.homyakin.seeker.infrastructure.Icons;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
 import ru.homyakin.seeker.locale.common.CommonLocalization;
 import ru.homyakin.seeker.telegram.command.type.CommandType;
@@ -20,31 +19,29 @@ import ru.homyakin.seeker.telegram.models.TgPersonageMention;
 import ru.homyakin.seeker.utils.StringNamedTemplate;
 
 public class TavernMenuLocalization {
-    private static final Resources<TavernMenuResource> resources = new Resources<>();
-
-    public static void add(Language language, TavernMenuResource resource) {
-        resources.add(language, resource);
+    private static Resources<TavernMenuResource> resources() {
+        return LocalizationBundle.current().tavernMenu();
     }
 
     public static String menuHeader(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::menuHeader);
+        return resources().getOrDefault(language, TavernMenuResource::menuHeader);
     }
 
     public static String drinks(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::drinks);
+        return resources().getOrDefault(language, TavernMenuResource::drinks);
     }
 
     public static String itemNotInMenu(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::itemNotInMenu);
+        return resources().getOrDefault(language, TavernMenuResource::itemNotInMenu);
     }
 
     public static String mainDishes(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::mainDishes);
+        return resources().getOrDefault(language, TavernMenuResource::mainDishes);
     }
 
     public static String notEnoughMoneyDrink(Language language, Money itemCost, Money personageMoneyValue) {
         return notEnoughMoney(
-            resources.getOrDefaultRandom(language, TavernMenuResource::notEnoughMoneyDrink),
+            resources().randomTemplate(language, TavernMenuResource::notEnoughMoneyDrink),
             itemCost,
             personageMoneyValue
         );
@@ -52,82 +49,75 @@ public class TavernMenuLocalization {
 
     public static String notEnoughMoneyMainDish(Language language, Money itemCost, Money personageMoneyValue) {
         return notEnoughMoney(
-            resources.getOrDefaultRandom(language, TavernMenuResource::notEnoughMoneyMainDish),
+            resources().randomTemplate(language, TavernMenuResource::notEnoughMoneyMainDish),
             itemCost,
             personageMoneyValue
         );
     }
 
     public static String orderGiftToDifferentBot(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::orderGiftToDifferentBot);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::orderGiftToDifferentBot);
     }
 
     public static String orderGiftToThisBot(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::orderGiftToThisBot);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::orderGiftToThisBot);
     }
 
     public static String order(Language language, MenuItem item, TgPersonageMention giver, TgPersonageMention acceptor) {
-        final var params = new HashMap<String, Object>();
-        params.put("item_name", item.name(language));
-        params.put("mention_acceptor_icon_with_name", acceptor.value());
-        final String text;
+        final StringNamedTemplate template;
         if (!giver.equals(acceptor)) {
-            params.put("mention_giver_icon_with_name", giver.value());
-            text = resources.getOrDefaultRandom(language, TavernMenuResource::orderGift);
+            template = resources().randomTemplate(language, TavernMenuResource::orderGift);
         } else {
-            text = resources.getOrDefaultRandom(language, TavernMenuResource::order);
+            template = resources().randomTemplate(language, TavernMenuResource::order);
         }
-        return StringNamedTemplate.format(text, params);
+        return template
+            .param("item_name", item.name(language))
+            .param("mention_acceptor_icon_with_name", acceptor.value())
+            .param("mention_giver_icon_with_name", giver.value())
+            .format();
     }
 
-    private static String notEnoughMoney(String template, Money itemCost, Money personageMoneyValue) {
-        final var params = new HashMap<String, Object>();
-        params.put("money_icon", Icons.MONEY);
-        params.put("not_enough_money_value", itemCost.value() - personageMoneyValue.value());
-        params.put("item_cost", itemCost.value());
-        return StringNamedTemplate.format(
-            template,
-            params
-        );
+    private static String notEnoughMoney(StringNamedTemplate template, Money itemCost, Money personageMoneyValue) {
+        return template
+            .param("money_icon", Icons.MONEY)
+            .param("not_enough_money_value", itemCost.value() - personageMoneyValue.value())
+            .param("item_cost", itemCost.value())
+            .format();
     }
 
     public static String consumeDrinkButton(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::consumeDrinkButton);
+        return resources().getOrDefault(language, TavernMenuResource::consumeDrinkButton);
     }
 
     public static String consumeMainDishButton(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::consumeMainDishButton);
+        return resources().getOrDefault(language, TavernMenuResource::consumeMainDishButton);
     }
 
     public static String wrongConsumer(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::wrongConsumer);
+        return resources().getOrDefault(language, TavernMenuResource::wrongConsumer);
     }
 
     public static String consumeAlreadyInFinalStatus(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::consumeAlreadyInFinalStatus);
+        return resources().getOrDefault(language, TavernMenuResource::consumeAlreadyInFinalStatus);
     }
 
     public static String consumed(Language language, ConsumeResult result) {
-        final var params = new HashMap<String, Object>();
-        params.put("consumed_item_text", result.item().consumeText(language, result.personage()));
-        params.put("effect", CommonLocalization.effect(language, result.effect().effect()));
-
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TavernMenuResource::consumed),
-            params
-        );
+        return resources().template(language, TavernMenuResource::consumed)
+            .param("consumed_item_text", result.item().consumeText(language, result.personage()))
+            .param("effect", CommonLocalization.effect(language, result.effect().effect()))
+            .format();
     }
 
     public static String expiredOrder(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::expiredOrder);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::expiredOrder);
     }
 
     public static String orderToUnknownUser(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::orderToUnknownUser);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::orderToUnknownUser);
     }
 
     public static String orderIsLocked(Language language) {
-        return resources.getOrDefault(language, TavernMenuResource::orderIsLocked);
+        return resources().getOrDefault(language, TavernMenuResource::orderIsLocked);
     }
 
     public static String throwOrderError(Language language, ThrowOrderTgError error) {
@@ -138,10 +128,9 @@ public class TavernMenuLocalization {
     }
 
     private static String userNotFoundToThrow(Language language) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TavernMenuResource::userNotFoundToThrow),
-            Collections.singletonMap("get_profile_command", CommandType.GET_PROFILE.getText())
-        );
+        return resources().template(language, TavernMenuResource::userNotFoundToThrow)
+            .param("get_profile_command", CommandType.GET_PROFILE.getText())
+            .format();
     }
 
     private static String throwOrderError(Language language, ThrowOrderError error) {
@@ -162,19 +151,16 @@ public class TavernMenuLocalization {
                 Optional.of(throwToOtherPersonage.effect());
             case ThrowResultTg.ThrowToStaff throwToStaff -> Optional.of(throwToStaff.domain().effect());
         };
-        final var params = new HashMap<String, Object>();
-        params.put("throw_text", text);
-        params.put("money_icon", Icons.MONEY);
-        params.put("money_value", result.cost().value());
+        final var params = resources().template(language, TavernMenuResource::throwResult).bind();
+        params.param("throw_text", text);
+        params.param("money_icon", Icons.MONEY);
+        params.param("money_value", result.cost().value());
         if (effect.isEmpty()) {
-            params.put("optional_effect", "");
+            params.param("optional_effect", "");
         } else {
-            params.put("optional_effect", throwEffect(language, effect.get()));
+            params.param("optional_effect", throwEffect(language, effect.get()));
         }
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TavernMenuResource::throwResult),
-            params
-        );
+        return params.format();
     }
 
     private static String throwResultText(Language language, ThrowResultTg result) {
@@ -205,61 +191,57 @@ public class TavernMenuLocalization {
     }
 
     private static String throwDishToNone(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::throwDishToNone);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::throwDishToNone);
     }
 
     private static String throwDrinkToNone(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::throwDrinkToNone);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::throwDrinkToNone);
     }
 
     private static String throwDishToPersonage(Language language, TgPersonageMention mention) {
-        return StringNamedTemplate.format(
-            resources.getOrDefaultRandom(language, TavernMenuResource::throwDishToPersonage),
-            Collections.singletonMap("mention_target_icon_with_name", mention.value())
-        );
+        return resources().randomTemplate(language, TavernMenuResource::throwDishToPersonage)
+            .param("mention_target_icon_with_name", mention.value())
+            .format();
     }
 
     private static String throwDrinkToPersonage(Language language, TgPersonageMention mention) {
-        return StringNamedTemplate.format(
-            resources.getOrDefaultRandom(language, TavernMenuResource::throwDrinkToPersonage),
-            Collections.singletonMap("mention_target_icon_with_name", mention.value())
-        );
+        return resources().randomTemplate(language, TavernMenuResource::throwDrinkToPersonage)
+            .param("mention_target_icon_with_name", mention.value())
+            .format();
     }
 
     private static String selfThrowDish(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::selfThrowDish);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::selfThrowDish);
     }
 
     private static String selfThrowDrink(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::selfThrowDrink);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::selfThrowDrink);
     }
 
     private static String throwToStaff(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::throwToStaff);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::throwToStaff);
     }
 
     private static String noOrdersToThrow(Language language) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TavernMenuResource::noOrdersToThrow),
-            Collections.singletonMap("menu_command", CommandType.TAVERN_MENU.getText())
-        );
+        return resources().template(language, TavernMenuResource::noOrdersToThrow)
+            .param("menu_command", CommandType.TAVERN_MENU.getText())
+            .format();
     }
 
     private static String onlyCreatedOrder(Language language, ThrowOrderError.OnlyCreatedOrders error) {
         return switch (error.category()) {
-            case DRINK -> resources.getOrDefaultRandom(language, TavernMenuResource::onlyCreatedDrink);
-            case MAIN_DISH -> resources.getOrDefaultRandom(language, TavernMenuResource::onlyCreatedDish);
+            case DRINK -> resources().getOrDefaultRandom(language, TavernMenuResource::onlyCreatedDrink);
+            case MAIN_DISH -> resources().getOrDefaultRandom(language, TavernMenuResource::onlyCreatedDish);
         };
     }
 
     private static String notEnoughMoneyToThrow(Language language) {
-        return resources.getOrDefaultRandom(language, TavernMenuResource::notEnoughMoneyToThrow);
+        return resources().getOrDefaultRandom(language, TavernMenuResource::notEnoughMoneyToThrow);
     }
 
     private static String throwEffect(Language language, Effect effect) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TavernMenuResource::throwEffect),
-            Collections.singletonMap("effect", CommonLocalization.effect(language, effect))
-        );
+        return resources().template(language, TavernMenuResource::throwEffect)
+            .param("effect", CommonLocalization.effect(language, effect))
+            .format();
     }
 }
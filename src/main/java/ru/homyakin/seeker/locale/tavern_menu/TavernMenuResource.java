@@ -1,34 +1,47 @@
 package ru.homyakin.seeker.locale.tavern_menu;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record TavernMenuResource(
     String menuHeader,
     String drinks,
     String mainDishes,
     String itemNotInMenu,
+    @TemplateParams({"money_icon", "not_enough_money_value", "item_cost"})
     String[] notEnoughMoneyDrink,
+    @TemplateParams({"money_icon", "not_enough_money_value"})
     String[] notEnoughMoneyMainDish,
     String[] orderGiftToDifferentBot,
     String[] orderGiftToThisBot,
+    @TemplateParams({"item_name", "mention_acceptor_icon_with_name"})
     String[] order,
+    @TemplateParams({"item_name", "mention_giver_icon_with_name", "mention_acceptor_icon_with_name"})
     String[] orderGift,
     String consumeDrinkButton,
     String consumeMainDishButton,
     String consumeAlreadyInFinalStatus,
+    @TemplateParams({"consumed_item_text", "effect"})
     String consumed,
     String wrongConsumer,
     String[] expiredOrder,
     String[] orderToUnknownUser,
     String orderIsLocked,
+    @TemplateParams({"get_profile_command"})
     String userNotFoundToThrow,
+    @TemplateParams({"menu_command"})
     String noOrdersToThrow,
     String[] onlyCreatedDish,
     String[] onlyCreatedDrink,
     String[] notEnoughMoneyToThrow,
+    @TemplateParams({"throw_text", "money_value", "money_icon", "optional_effect"})
     String throwResult,
+    @TemplateParams({"effect"})
     String throwEffect,
     String[] throwDishToNone,
     String[] throwDrinkToNone,
+    @TemplateParams({"mention_target_icon_with_name"})
     String[] throwDishToPersonage,
+    @TemplateParams({"mention_target_icon_with_name"})
     String[] throwDrinkToPersonage,
     String[] selfThrowDish,
     String[] selfThrowDrink,
@@ -1,95 +1,77 @@
 package ru.homyakin.seeker.locale.top;
 
-import java.util.HashMap;
-import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.top.models.TopRaidPosition;
 import ru.homyakin.seeker.game.top.models.TopRaidResult;
 import ru.homyakin.seeker.game.top.models.TopSpinPosition;
 import ru.homyakin.seeker.game.top.models.TopSpinResult;
 import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationBundle;
 import ru.homyakin.seeker.locale.Resources;
 import ru.homyakin.seeker.telegram.command.type.CommandType;
 import ru.homyakin.seeker.utils.StringNamedTemplate;
 
 public class TopLocalization {
-    private static final Resources<TopResource> resources = new Resources<>();
-
-    public static void add(Language language, TopResource resource) {
-        resources.add(language, resource);
+    private static Resources<TopResource> resources() {
+        return LocalizationBundle.current().top();
     }
 
-    public static String topRaidWeek(Language language, PersonageId requestedPersonageId, TopRaidResult topRaidResult) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TopResource::topRaidWeek),
-            topRaidWeekParams(language, requestedPersonageId, topRaidResult)
-        );
+    public static String topRaidWeek(Language language, TopRaidResult topRaidResult) {
+        return topRaidWeekParams(resources().template(language, TopResource::topRaidWeek), language, topRaidResult).format();
     }
 
-    public static String topRaidWeekGroup(Language language, PersonageId requestedPersonageId, TopRaidResult topRaidResult) {
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TopResource::topRaidWeekGroup),
-            topRaidWeekParams(language, requestedPersonageId, topRaidResult)
-        );
+    public static String topRaidWeekGroup(Language language, TopRaidResult topRaidResult) {
+        return topRaidWeekParams(resources().template(language, TopResource::topRaidWeekGroup), language, topRaidResult).format();
     }
 
-    private static HashMap<String, Object> topRaidWeekParams(
+    private static StringNamedTemplate.Binder topRaidWeekParams(
+        StringNamedTemplate template,
         Language language,
-        PersonageId requestedPersonageId,
         TopRaidResult topRaidResult
     ) {
-        final var params = new HashMap<String, Object>();
-        params.put("start_date", topRaidResult.startDate());
-        params.put("end_date", topRaidResult.endDate());
-        final var topPersonageList = TopUtils.createTopList(language, requestedPersonageId, topRaidResult);
-        params.put("top_personage_list", topPersonageList);
-        params.put("total_count", topRaidResult.positions().size());
-        return params;
+        return template
+            .param("start_date", topRaidResult.startDate())
+            .param("end_date", topRaidResult.endDate())
+            .param("top_personage_list", TopUtils.createTopList(language, topRaidResult))
+            .param("total_count", topRaidResult.totalCount());
     }
 
     public static String topRaidPosition(Language language, int positionNumber, TopRaidPosition position) {
-        final var params = new HashMap<String, Object>();
-        params.put("position", positionNumber);
-        params.put("personage_badge_with_name", position.personageBadgeWithName());
-        params.put("success_raids", position.successRaids());
-        params.put("all_raids", position.successRaids() + position.failedRaids());
-        return StringNamedTemplate.format(resources.getOrDefault(language, TopResource::topRaidPosition), params);
+        return resources().template(language, TopResource::topRaidPosition)
+            .param("position", positionNumber)
+            .param("personage_badge_with_name", position.personageBadgeWithName())
+            .param("success_raids", position.successRaids())
+            .param("all_raids", position.successRaids() + position.failedRaids())
+            .format();
     }
 
     public static String topRaidEmpty(Language language) {
-        return resources.getOrDefault(language, TopResource::topRaidEmpty);
+        return resources().getOrDefault(language, TopResource::topRaidEmpty);
     }
 
     public static String topList(Language language) {
-        final var params = new HashMap<String, Object>();
-        params.put("top_work_group_command", CommandType.SPIN_TOP.getText());
-        params.put("top_raid_week_command", CommandType.TOP_RAID_WEEK.getText());
-        params.put("top_raid_week_group_command", CommandType.TOP_RAID_WEEK_GROUP.getText());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TopResource::topList),
-            params
-        );
+        return resources().template(language, TopResource::topList)
+            .param("top_work_group_command", CommandType.SPIN_TOP.getText())
+            .param("top_raid_week_command", CommandType.TOP_RAID_WEEK.getText())
+            .param("top_raid_week_group_command", CommandType.TOP_RAID_WEEK_GROUP.getText())
+            .format();
     }
 
     public static String topSpinEmpty(Language language) {
-        return resources.getOrDefault(language, TopResource::topSpinEmpty);
+        return resources().getOrDefault(language, TopResource::topSpinEmpty);
     }
 
-    public static String topSpinGroup(Language language, PersonageId requestedPersonageId, TopSpinResult topSpinResult) {
-        final var params = new HashMap<String, Object>();
-        final var topPersonageList = TopUtils.createTopList(language, requestedPersonageId, topSpinResult);
-        params.put("top_personage_list", topPersonageList);
-        params.put("total_count", topSpinResult.positions().size());
-        return StringNamedTemplate.format(
-            resources.getOrDefault(language, TopResource::topSpinGroup),
-            params
-        );
+    public static String topSpinGroup(Language language, TopSpinResult topSpinResult) {
+        return resources().template(language, TopResource::topSpinGroup)
+            .param("top_personage_list", TopUtils.createTopList(language, topSpinResult))
+            .param("total_count", topSpinResult.totalCount())
+            .format();
     }
 
     public static String topSpinPosition(Language language, int positionNumber, TopSpinPosition position) {
-        final var params = new HashMap<String, Object>();
-        params.put("position", positionNumber);
-        params.put("personage_badge_with_name", position.personageBadgeWithName());
-        params.put("work_count", position.workCount());
-        return StringNamedTemplate.format(resources.getOrDefault(language, TopResource::topSpinPosition), params);
+        return resources().template(language, TopResource::topSpinPosition)
+            .param("position", positionNumber)
+            .param("personage_badge_with_name", position.personageBadgeWithName())
+            .param("work_count", position.workCount())
+            .format();
     }
 }
@@ -1,13 +1,21 @@
 package ru.homyakin.seeker.locale.top;
 
+import ru.homyakin.seeker.locale.TemplateParams;
+
 public record TopResource(
+    @TemplateParams({"start_date", "end_date", "top_personage_list", "total_count"})
     String topRaidWeek,
+    @TemplateParams({"start_date", "end_date", "top_personage_list", "total_count"})
     String topRaidWeekGroup,
+    @TemplateParams({"position", "personage_badge_with_name", "success_raids", "all_raids"})
     String topRaidPosition,
     String topRaidEmpty,
+    @TemplateParams({"top_work_group_command", "top_raid_week_command", "top_raid_week_group_command"})
     String topList,
     String topSpinEmpty,
+    @TemplateParams({"top_personage_list", "total_count"})
     String topSpinGroup,
+    @TemplateParams({"position", "personage_badge_with_name", "work_count"})
     String topSpinPosition
 ) {
 }
@@ -1,47 +1,34 @@
 package ru.homyakin.seeker.locale.top;
 
-import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.top.models.TopPosition;
 import ru.homyakin.seeker.game.top.models.TopResult;
+import ru.homyakin.seeker.game.top.models.TopSlice;
 import ru.homyakin.seeker.locale.Language;
 
 public class TopUtils {
-    public static String createTopList(
-        Language language,
-        PersonageId requestedPersonage,
-        TopResult<? extends TopPosition> result
-    ) {
-        final var positions = result.positions();
-        final var positionsToShow = Math.min(MAX_TOP_POSITIONS, positions.size());
+    public static String createTopList(Language language, TopResult<? extends TopPosition> result) {
         final var personageList = new StringBuilder();
-        for (int i = 1; i <= positionsToShow; ++i) {
-            personageList.append(positions.get(i - 1).toLocalizedString(language, i));
-            if (i != positionsToShow) {
+        appendSlice(personageList, language, result.top());
+        final var window = result.personageWindow();
+        if (!window.positions().isEmpty()) {
+            //Крайний случай, когда персонаж следующий в топе
+            if (window.offset() == result.top().end()) {
                 personageList.append("\n");
+            } else {
+                personageList.append("\n-----------\n");
             }
-        }
-        if (positionsToShow < positions.size()) {
-            final var requestedIdx = result.findPersonageIndex(requestedPersonage);
-            requestedIdx.ifPresent(
-                index -> {
-                    //Крайний случай, когда персонаж следующий в топе
-                    if (index == positionsToShow) {
-                        personageList.append("\n").append(positions.get(index).toLocalizedString(language, index + 1));
-                    } else if (index > positionsToShow) {
-                        personageList
-                            .append("\n-----------\n")
-                            .append(positions.get(index - 1).toLocalizedString(language, index))
-                            .append("\n")
-                            .append(positions.get(index).toLocalizedString(language, index + 1));
-                        if (positions.size() > index + 1) {
-                            personageList.append("\n").append(positions.get(index + 1).toLocalizedString(language, index + 2));
-                        }
-                    }
-                }
-            );
+            appendSlice(personageList, language, window);
         }
         return personageList.toString();
     }
 
-    private static final int MAX_TOP_POSITIONS = 10;
+    private static void appendSlice(StringBuilder personageList, Language language, TopSlice<? extends TopPosition> slice) {
+        final var positions = slice.positions();
+        for (int i = 0; i < positions.size(); ++i) {
+            personageList.append(positions.get(i).toLocalizedString(language, slice.offset() + i + 1));
+            if (i != positions.size() - 1) {
+                personageList.append("\n");
+            }
+        }
+    }
 }
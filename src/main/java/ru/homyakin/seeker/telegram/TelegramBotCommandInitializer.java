@@ -56,6 +56,7 @@ public class TelegramBotCommandInitializer {
     private static final List<BotCommand> PERSONAL_COMMAND = List.of(
         new BotCommand(CommandType.SHOW_HELP.getText(), "Get help"),
         new BotCommand(CommandType.RAID_REPORT.getText(), "Show last raid report"),
+        new BotCommand(CommandType.RAID_HISTORY.getText(), "Show stats for all raids"),
         new BotCommand(CommandType.INIT_FEEDBACK.getText(), "Send feedback to developers")
     );
 }
@@ -1,6 +1,10 @@
 package ru.homyakin.seeker.telegram;
 
 import io.vavr.control.Either;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -8,6 +12,7 @@ import org.telegram.telegrambots.client.okhttp.OkHttpTelegramClient;
 import org.telegram.telegrambots.meta.api.methods.AnswerCallbackQuery;
 import org.telegram.telegrambots.meta.api.methods.commands.SetMyCommands;
 import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatMember;
+import org.telegram.telegrambots.meta.api.methods.send.SendDocument;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMember;
@@ -17,6 +22,8 @@ import ru.homyakin.seeker.telegram.group.GroupTgService;
 import ru.homyakin.seeker.telegram.group.models.GroupTgId;
 import ru.homyakin.seeker.telegram.models.ChatMemberError;
 import ru.homyakin.seeker.telegram.models.TelegramError;
+import ru.homyakin.seeker.telegram.sender.OutgoingMessageQueue;
+import ru.homyakin.seeker.telegram.sender.TelegramSenderConfig;
 import ru.homyakin.seeker.telegram.user.UserService;
 import ru.homyakin.seeker.telegram.user.models.UserId;
 
@@ -26,37 +33,67 @@ public class TelegramSender {
     private final TelegramClient client;
     private final GroupTgService groupTgService;
     private final UserService userService;
+    private final OutgoingMessageQueue outgoingQueue;
 
-    protected TelegramSender(TelegramBotConfig botConfig, GroupTgService groupTgService, UserService userService) {
+    protected TelegramSender(
+        TelegramBotConfig botConfig,
+        TelegramSenderConfig senderConfig,
+        GroupTgService groupTgService,
+        UserService userService
+    ) {
         client = new OkHttpTelegramClient(botConfig.token());
         this.groupTgService = groupTgService;
         this.userService = userService;
+        this.outgoingQueue = new OutgoingMessageQueue(client, senderConfig);
     }
 
-    public Either<TelegramError, Message> send(SendMessage sendMessage) {
+    /**
+     * Ставит сообщение в очередь отправки и не ждёт её. Ошибки отправки обрабатываются в очереди
+     */
+    public void send(SendMessage sendMessage) {
+        sendAsync(sendMessage);
+    }
+
+    /**
+     * Сообщение ставится в очередь отправки с учётом ограничений Telegram, поток вызывающего не блокируется.
+     * Если нужен отправленный Message, например id сообщения для привязки кнопок, его нужно обработать в future
+     */
+    public CompletableFuture<Either<TelegramError, Message>> sendAsync(SendMessage sendMessage) {
+        return outgoingQueue
+            .submit(sendMessage.getChatId(), sendMessage)
+            .handle((message, error) -> {
+                if (error == null) {
+                    return Either.right(message);
+                }
+                return Either.left(handleSendMessageError(sendMessage, unwrap(error)));
+            });
+    }
+
+    /**
+     * Сообщения отправляются по очереди, каждое следующее отвечает на предыдущее.
+     * Если сообщение не отправилось, следующее отвечает туда же, куда должно было ответить оно
+     */
+    public void sendReplyChain(List<SendMessage> messages) {
+        var chain = CompletableFuture.<Integer>completedFuture(null);
+        for (final var message : messages) {
+            chain = chain.thenCompose(replyMessageId -> {
+                if (replyMessageId != null) {
+                    message.setReplyToMessageId(replyMessageId);
+                }
+                return sendAsync(message)
+                    .thenApply(result -> result.map(Message::getMessageId).getOrElse(message.getReplyToMessageId()));
+            });
+        }
+    }
+
+    /**
+     * Файлы отправляются редко и только в служебные чаты, поэтому идут в обход очереди
+     */
+    public Either<TelegramError, Message> send(SendDocument sendDocument) {
         try {
-            return Either.right(client.execute(sendMessage));
+            return Either.right(client.execute(sendDocument));
         } catch (Exception e) {
-            if (e.getMessage().contains("group chat was upgraded to a supergroup chat")) {
-                logger.error("group chat was upgraded to a supergroup chat {}", sendMessage.getChatId());
-                groupTgService.setNotActive(GroupTgId.from(sendMessage.getChatId()));
-            } else if (e.getMessage().contains("[403] Forbidden: the group chat was deleted")) {
-                logger.error("group chat was deleted {}", sendMessage.getChatId());
-                groupTgService.setNotActive(GroupTgId.from(sendMessage.getChatId()));
-            } else if (e.getMessage().contains("[403] Forbidden: bot is not a member of the supergroup chat")) {
-                logger.error("Bot is not a member of the supergroup {}", sendMessage.getChatId());
-                groupTgService.setNotActive(GroupTgId.from(sendMessage.getChatId()));
-            } else if (e.getMessage().contains("[400] Bad Request: not enough rights to send text messages to the chat")) {
-                logger.error("Not enough rights to send text messages to the chat {}", sendMessage.getChatId());
-                groupTgService.setNotActive(GroupTgId.from(sendMessage.getChatId()));
-            } else if (e.getMessage().contains("[403] Forbidden: bot was blocked by the user")) {
-                logger.error("Bot was blocked by the user {}", sendMessage.getChatId());
-                userService.deactivatePrivateMessages(UserId.from(sendMessage.getChatId()));
-            } else {
-                logger.error(
-                    "Unable send message with text %s to %s".formatted(sendMessage.getText(), sendMessage.getChatId()), e
-                );
-            }
+            logger.error("Unable send document to %s".formatted(sendDocument.getChatId()), e);
             return Either.left(new TelegramError.InternalError(e.getMessage()));
         }
     }
@@ -90,21 +127,13 @@ public class TelegramSender {
     }
 
     public void send(EditMessageText editMessageText) {
-        try {
-            client.execute(editMessageText);
-        } catch (Exception e) {
-            if (e.getMessage().contains("[403] Forbidden: bot was kicked from the supergroup chat")) {
-                logger.error("Bot is not a member of the supergroup {}", editMessageText.getChatId());
-                groupTgService.setNotActive(GroupTgId.from(editMessageText.getChatId()));
-            } else if (!e.getMessage().contains("Bad Request: message is not modified")) {
-                logger.error(
-                    "Unable edit message %d in chat %s".formatted(
-                        editMessageText.getMessageId(), editMessageText.getChatId()
-                    ),
-                    e
-                );
-            }
-        }
+        outgoingQueue
+            .submit(editMessageText.getChatId(), editMessageText)
+            .whenComplete((_, error) -> {
+                if (error != null) {
+                    handleEditMessageError(editMessageText, unwrap(error));
+                }
+            });
     }
 
     public void send(SetMyCommands setMyCommands) throws Exception {
@@ -115,4 +144,54 @@ public class TelegramSender {
             throw e;
         }
     }
+
+    @PreDestroy
+    public void shutdown() {
+        outgoingQueue.close();
+    }
+
+    private TelegramError handleSendMessageError(SendMessage sendMessage, Throwable e) {
+        if (e.getMessage().contains("group chat was upgraded to a supergroup chat")) {
+            logger.error("group chat was upgraded to a supergroup chat {}", sendMessage.getChatId());
+            groupTgService.setNotActive(GroupTgId.from(sendMessage.getChatId()));
+        } else if (e.getMessage().contains("[403] Forbidden: the group chat was deleted")) {
+            logger.error("group chat was deleted {}", sendMessage.getChatId());
+            groupTgService.setNotActive(GroupTgId.from(sendMessage.getChatId()));
+        } else if (e.getMessage().contains("[403] Forbidden: bot is not a member of the supergroup chat")) {
+            logger.error("Bot is not a member of the supergroup {}", sendMessage.getChatId());
+            groupTgService.setNotActive(GroupTgId.from(sendMessage.getChatId()));
+        } else if (e.getMessage().contains("[400] Bad Request: not enough rights to send text messages to the chat")) {
+            logger.error("Not enough rights to send text messages to the chat {}", sendMessage.getChatId());
+            groupTgService.setNotActive(GroupTgId.from(sendMessage.getChatId()));
+        } else if (e.getMessage().contains("[403] Forbidden: bot was blocked by the user")) {
+            logger.error("Bot was blocked by the user {}", sendMessage.getChatId());
+            userService.deactivatePrivateMessages(UserId.from(sendMessage.getChatId()));
+        } else {
+            logger.error(
+                "Unable send message with text %s to %s".formatted(sendMessage.getText(), sendMessage.getChatId()), e
+            );
+        }
+        return new TelegramError.InternalError(e.getMessage());
+    }
+
+    private void handleEditMessageError(EditMessageText editMessageText, Throwable e) {
+        if (e.getMessage().contains("[403] Forbidden: bot was kicked from the supergroup chat")) {
+            logger.error("Bot is not a member of the supergroup {}", editMessageText.getChatId());
+            groupTgService.setNotActive(GroupTgId.from(editMessageText.getChatId()));
+        } else if (!e.getMessage().contains("Bad Request: message is not modified")) {
+            logger.error(
+                "Unable edit message %d in chat %s".formatted(
+                    editMessageText.getMessageId(), editMessageText.getChatId()
+                ),
+                e
+            );
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
 }
@@ -0,0 +1,37 @@
+package ru.homyakin.seeker.telegram;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import ru.homyakin.seeker.telegram.command.CommandParser;
+import ru.homyakin.seeker.telegram.command.CommandProcessor;
+import ru.homyakin.seeker.telegram.user.UserService;
+import ru.homyakin.seeker.telegram.utils.TelegramUtils;
+
+@Component
+public class TelegramUpdateHandler {
+    private static final Logger logger = LoggerFactory.getLogger(TelegramUpdateHandler.class);
+
+    private final CommandParser commandParser;
+    private final CommandProcessor commandProcessor;
+    private final UserService userService;
+
+    public TelegramUpdateHandler(CommandParser commandParser, CommandProcessor commandProcessor, UserService userService) {
+        this.commandParser = commandParser;
+        this.commandProcessor = commandProcessor;
+        this.userService = userService;
+    }
+
+    public void handle(Update update) {
+        logger.debug("New update: {}", update.toString());
+        try {
+            userService.updateUserInfoFromUpdate(update);
+            if (TelegramUtils.needToProcessUpdate(update, TelegramBotConfig.username())) {
+                commandParser.parse(update).ifPresent(commandProcessor::process);
+            }
+        } catch (Exception e) {
+            logger.error("Unknown error during update processing", e);
+        }
+    }
+}
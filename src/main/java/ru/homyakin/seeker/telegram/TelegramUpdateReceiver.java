@@ -1,46 +1,45 @@
 package ru.homyakin.seeker.telegram;
 
+import jakarta.annotation.PreDestroy;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.telegram.telegrambots.longpolling.util.LongPollingSingleThreadUpdateConsumer;
+import org.telegram.telegrambots.longpolling.interfaces.LongPollingUpdateConsumer;
 import org.telegram.telegrambots.meta.api.objects.Update;
-import ru.homyakin.seeker.telegram.command.CommandParser;
-import ru.homyakin.seeker.telegram.command.CommandProcessor;
-import ru.homyakin.seeker.telegram.user.UserService;
-import ru.homyakin.seeker.telegram.utils.TelegramUtils;
+import ru.homyakin.seeker.telegram.update.UpdateDispatcher;
+import ru.homyakin.seeker.telegram.update.UpdateDispatcherConfig;
 
 @Component
-public class TelegramUpdateReceiver implements LongPollingSingleThreadUpdateConsumer {
+public class TelegramUpdateReceiver implements LongPollingUpdateConsumer {
     private static final Logger logger = LoggerFactory.getLogger(TelegramUpdateReceiver.class);
 
-    private final TelegramBotConfig config;
-    private final CommandParser commandParser;
-    private final CommandProcessor commandProcessor;
-    private final UserService userService;
+    private final UpdateDispatcher dispatcher;
+    private long lastProducerWaits = 0;
 
-    public TelegramUpdateReceiver(
-        TelegramBotConfig config,
-        CommandParser commandParser,
-        CommandProcessor commandProcessor,
-        UserService userService
-    ) {
-        this.config = config;
-        this.commandParser = commandParser;
-        this.commandProcessor = commandProcessor;
-        this.userService = userService;
+    public TelegramUpdateReceiver(UpdateDispatcherConfig dispatcherConfig, TelegramUpdateHandler updateHandler) {
+        this.dispatcher = new UpdateDispatcher(dispatcherConfig, updateHandler::handle);
     }
 
     @Override
-    public void consume(Update update) {
-        logger.debug("New update: {}", update.toString());
-        try {
-            userService.updateUserInfoFromUpdate(update);
-            if (TelegramUtils.needToProcessUpdate(update, config.username())) {
-                commandParser.parse(update).ifPresent(commandProcessor::process);
-            }
-        } catch (Exception e) {
-            logger.error("Unknown error during update processing", e);
+    public void consume(List<Update> updates) {
+        updates.forEach(dispatcher::dispatch);
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void logDispatcherStats() {
+        final var stats = dispatcher.stats();
+        if (stats.producerWaits() > lastProducerWaits) {
+            logger.warn("Update queues were full {} times since last check: {}", stats.producerWaits() - lastProducerWaits, stats);
+        } else {
+            logger.debug("Update dispatcher stats: {}", stats);
         }
+        lastProducerWaits = stats.producerWaits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.close();
     }
 }
@@ -1,6 +1,9 @@
 package ru.homyakin.seeker.telegram.command;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import org.springframework.stereotype.Component;
 import org.telegram.telegrambots.meta.api.objects.CallbackQuery;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMemberUpdated;
@@ -9,6 +12,7 @@ import org.telegram.telegrambots.meta.api.objects.Update;
 import ru.homyakin.seeker.infrastructure.TextConstants;
 import ru.homyakin.seeker.telegram.command.common.help.SelectHelp;
 import ru.homyakin.seeker.telegram.command.group.action.MigrateFromGroup;
+import ru.homyakin.seeker.telegram.command.group.admin.ExportRaidHistory;
 import ru.homyakin.seeker.telegram.command.group.raid.JoinRaid;
 import ru.homyakin.seeker.telegram.command.group.report.RaidReportInGroup;
 import ru.homyakin.seeker.telegram.command.group.settings.ChangeGroupName;
@@ -58,6 +62,7 @@ import ru.homyakin.seeker.telegram.command.user.personal_quest.GetBulletinBoard;
 import ru.homyakin.seeker.telegram.command.user.personal_quest.TakePersonalQuest;
 import ru.homyakin.seeker.telegram.command.user.profile.GetProfileInPrivate;
 import ru.homyakin.seeker.telegram.command.user.characteristics.ResetCharacteristics;
+import ru.homyakin.seeker.telegram.command.user.report.RaidHistory;
 import ru.homyakin.seeker.telegram.command.user.report.RaidReport;
 import ru.homyakin.seeker.telegram.command.user.setting.ToggleHidePersonage;
 import ru.homyakin.seeker.telegram.command.user.shop.BuyItem;
@@ -129,56 +134,13 @@ public class CommandParser {
     }
 
     private Optional<Command> commandByPrivateMessage(Message message) {
-        return CommandType.getFromString(message.getText())
-            .map(commandType -> switch (commandType) {
-                case CHANGE_LANGUAGE -> UserChangeLanguage.from(message);
-                case START -> StartUser.from(message);
-                case GET_PROFILE, BACK -> GetProfileInPrivate.from(message);
-                case SHOW_HELP -> ShowHelp.from(message);
-                case LEVEL_UP -> LevelUp.from(message);
-                case RECEPTION_DESK -> ReceptionDesk.from(message);
-                case RESET_CHARACTERISTICS -> ResetCharacteristics.from(message);
-                case INIT_CHANGE_NAME -> InitChangeName.from(message);
-                case RAID_REPORT -> RaidReport.from(message);
-                case SHOW_BADGES -> ShowBadges.from(message);
-                case INVENTORY -> Inventory.from(message);
-                case PUT_ON -> PutOnItem.from(message);
-                case TAKE_OFF -> TakeOffItem.from(message);
-                case DROP_ITEM -> DropItem.from(message);
-                case OPEN_SHOP -> OpenShop.from(message);
-                case BUY_ITEM -> BuyItem.from(message);
-                case SELL_ITEM -> SellItem.from(message);
-                case BULLETIN_BOARD -> GetBulletinBoard.from(message);
-                case TAKE_PERSONAL_QUEST -> TakePersonalQuest.from(message);
-                case TOGGLE_HIDE_PERSONAGE -> ToggleHidePersonage.from(message);
-                case INIT_FEEDBACK -> InitFeedback.from(message);
-                default -> null;
-            });
+        return CommandType.getFromString(message.getText()).map(type -> create(PRIVATE_MESSAGES, type, message));
     }
 
     private Optional<Command> parseGroupMessage(Message message) {
-        return CommandType.getFromString(message.getText().split("@")[0].split(" ")[0])
-            .map(commandType -> switch (commandType) {
-                case CHANGE_LANGUAGE -> GroupChangeLanguage.from(message);
-                case GET_PROFILE -> GetProfileInGroup.from(message);
-                case SHOW_HELP -> ShowHelp.from(message);
-                case START_DUEL -> StartDuel.from(message);
-                case TAVERN_MENU -> GetTavernMenu.from(message);
-                case ORDER -> Order.from(message);
-                case GROUP_STATS -> GetGroupStats.from(message);
-                case SPIN -> Spin.from(message);
-                case SPIN_TOP -> TopSpin.from(message);
-                case PERSONAGE_STATS -> GetPersonageStats.from(message);
-                case RAID_REPORT -> RaidReportInGroup.from(message);
-                case TOP_RAID_WEEK -> TopRaidWeek.from(message);
-                case TOP_RAID_WEEK_GROUP -> TopRaidWeekGroup.from(message);
-                case TOP -> TopList.from(message);
-                case SETTINGS -> GetGroupSettings.from(message);
-                case SET_TIME_ZONE -> SetTimeZone.from(message);
-                case THROW_ORDER -> ThrowOrder.from(message);
-                case CHANGE_GROUP_NAME -> ChangeGroupName.from(message);
-                default -> null;
-            });
+        final var text = message.getText();
+        return CommandType.getFromString(text, groupCommandLength(text))
+            .map(type -> create(GROUP_MESSAGES, type, message));
     }
 
     private Optional<Command> parseCallback(CallbackQuery callback) {
@@ -192,34 +154,107 @@ public class CommandParser {
     }
 
     private Optional<Command> parsePrivateCallback(CallbackQuery callback) {
-        final var text = callback.getData().split(TextConstants.CALLBACK_DELIMITER)[0];
-        return CommandType.getFromString(text)
-            .map(commandType -> switch (commandType) {
-                case SELECT_LANGUAGE -> UserSelectLanguage.from(callback);
-                case SELECT_HELP -> SelectHelp.from(callback);
-                case CONFIRM_RESET_CHARACTERISTICS -> ConfirmResetCharacteristics.from(callback);
-                case CANCEL_RESET_CHARACTERISTICS -> CancelResetCharacteristics.from(callback);
-                case INCREASE_CHARACTERISTIC -> IncreaseCharacteristic.from(callback);
-                case SELECT_BADGE -> SelectBadge.from(callback);
-                case CONFIRM_DROP_ITEM -> ConfirmDropItem.from(callback);
-                case REJECT_DROP_ITEM -> RejectDropItem.from(callback);
-                default -> null;
-            });
+        final var data = callback.getData();
+        return CommandType.getFromString(data, callbackCommandLength(data))
+            .map(type -> create(PRIVATE_CALLBACKS, type, callback));
     }
 
     private Optional<Command> parseGroupCallback(CallbackQuery callback) {
-        final var text = callback.getData().split(TextConstants.CALLBACK_DELIMITER)[0];
-        return CommandType.getFromString(text)
-            .map(commandType -> switch (commandType) {
-                case SELECT_LANGUAGE -> GroupSelectLanguage.from(callback);
-                case JOIN_EVENT, JOIN_RAID -> JoinRaid.from(callback);
-                case DECLINE_DUEL -> DeclineDuel.from(callback);
-                case ACCEPT_DUEL -> AcceptDuel.from(callback);
-                case SELECT_HELP -> SelectHelp.from(callback);
-                case CONSUME_MENU_ITEM_ORDER -> ConsumeOrder.from(callback);
-                case TOGGLE_EVENT_INTERVAL -> ToggleEventInterval.from(callback);
-                default -> null;
-            });
+        final var data = callback.getData();
+        return CommandType.getFromString(data, callbackCommandLength(data))
+            .map(type -> create(GROUP_CALLBACKS, type, callback));
     }
 
+    private static <T> Command create(Map<CommandType, Function<T, Command>> constructors, CommandType type, T source) {
+        final var constructor = constructors.get(type);
+        return constructor == null ? null : constructor.apply(source);
+    }
+
+    /**
+     * Команда в группе заканчивается на упоминании бота или на первом пробеле: /order@bot 5
+     */
+    private static int groupCommandLength(String text) {
+        for (int i = 0; i < text.length(); ++i) {
+            final var c = text.charAt(i);
+            if (c == '@' || c == ' ') {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    private static int callbackCommandLength(String data) {
+        final var index = data.indexOf(TextConstants.CALLBACK_DELIMITER);
+        return index < 0 ? data.length() : index;
+    }
+
+    // Какой Command создаётся для типа команды в каждом из видов сообщений; нет типа - сообщение не команда
+    private static final Map<CommandType, Function<Message, Command>> PRIVATE_MESSAGES = new EnumMap<>(CommandType.class);
+    private static final Map<CommandType, Function<Message, Command>> GROUP_MESSAGES = new EnumMap<>(CommandType.class);
+    private static final Map<CommandType, Function<CallbackQuery, Command>> PRIVATE_CALLBACKS = new EnumMap<>(CommandType.class);
+    private static final Map<CommandType, Function<CallbackQuery, Command>> GROUP_CALLBACKS = new EnumMap<>(CommandType.class);
+
+    static {
+        PRIVATE_MESSAGES.put(CommandType.CHANGE_LANGUAGE, UserChangeLanguage::from);
+        PRIVATE_MESSAGES.put(CommandType.START, StartUser::from);
+        PRIVATE_MESSAGES.put(CommandType.GET_PROFILE, GetProfileInPrivate::from);
+        PRIVATE_MESSAGES.put(CommandType.BACK, GetProfileInPrivate::from);
+        PRIVATE_MESSAGES.put(CommandType.SHOW_HELP, ShowHelp::from);
+        PRIVATE_MESSAGES.put(CommandType.LEVEL_UP, LevelUp::from);
+        PRIVATE_MESSAGES.put(CommandType.RECEPTION_DESK, ReceptionDesk::from);
+        PRIVATE_MESSAGES.put(CommandType.RESET_CHARACTERISTICS, ResetCharacteristics::from);
+        PRIVATE_MESSAGES.put(CommandType.INIT_CHANGE_NAME, InitChangeName::from);
+        PRIVATE_MESSAGES.put(CommandType.RAID_REPORT, RaidReport::from);
+        PRIVATE_MESSAGES.put(CommandType.SHOW_BADGES, ShowBadges::from);
+        PRIVATE_MESSAGES.put(CommandType.INVENTORY, Inventory::from);
+        PRIVATE_MESSAGES.put(CommandType.PUT_ON, PutOnItem::from);
+        PRIVATE_MESSAGES.put(CommandType.TAKE_OFF, TakeOffItem::from);
+        PRIVATE_MESSAGES.put(CommandType.DROP_ITEM, DropItem::from);
+        PRIVATE_MESSAGES.put(CommandType.OPEN_SHOP, OpenShop::from);
+        PRIVATE_MESSAGES.put(CommandType.BUY_ITEM, BuyItem::from);
+        PRIVATE_MESSAGES.put(CommandType.SELL_ITEM, SellItem::from);
+        PRIVATE_MESSAGES.put(CommandType.BULLETIN_BOARD, GetBulletinBoard::from);
+        PRIVATE_MESSAGES.put(CommandType.TAKE_PERSONAL_QUEST, TakePersonalQuest::from);
+        PRIVATE_MESSAGES.put(CommandType.TOGGLE_HIDE_PERSONAGE, ToggleHidePersonage::from);
+        PRIVATE_MESSAGES.put(CommandType.INIT_FEEDBACK, InitFeedback::from);
+        PRIVATE_MESSAGES.put(CommandType.RAID_HISTORY, RaidHistory::from);
+
+        GROUP_MESSAGES.put(CommandType.CHANGE_LANGUAGE, GroupChangeLanguage::from);
+        GROUP_MESSAGES.put(CommandType.GET_PROFILE, GetProfileInGroup::from);
+        GROUP_MESSAGES.put(CommandType.SHOW_HELP, ShowHelp::from);
+        GROUP_MESSAGES.put(CommandType.START_DUEL, StartDuel::from);
+        GROUP_MESSAGES.put(CommandType.TAVERN_MENU, GetTavernMenu::from);
+        GROUP_MESSAGES.put(CommandType.ORDER, Order::from);
+        GROUP_MESSAGES.put(CommandType.GROUP_STATS, GetGroupStats::from);
+        GROUP_MESSAGES.put(CommandType.SPIN, Spin::from);
+        GROUP_MESSAGES.put(CommandType.SPIN_TOP, TopSpin::from);
+        GROUP_MESSAGES.put(CommandType.PERSONAGE_STATS, GetPersonageStats::from);
+        GROUP_MESSAGES.put(CommandType.RAID_REPORT, RaidReportInGroup::from);
+        GROUP_MESSAGES.put(CommandType.TOP_RAID_WEEK, TopRaidWeek::from);
+        GROUP_MESSAGES.put(CommandType.TOP_RAID_WEEK_GROUP, TopRaidWeekGroup::from);
+        GROUP_MESSAGES.put(CommandType.TOP, TopList::from);
+        GROUP_MESSAGES.put(CommandType.SETTINGS, GetGroupSettings::from);
+        GROUP_MESSAGES.put(CommandType.SET_TIME_ZONE, SetTimeZone::from);
+        GROUP_MESSAGES.put(CommandType.THROW_ORDER, ThrowOrder::from);
+        GROUP_MESSAGES.put(CommandType.CHANGE_GROUP_NAME, ChangeGroupName::from);
+        GROUP_MESSAGES.put(CommandType.EXPORT_RAID_HISTORY, ExportRaidHistory::from);
+
+        PRIVATE_CALLBACKS.put(CommandType.SELECT_LANGUAGE, UserSelectLanguage::from);
+        PRIVATE_CALLBACKS.put(CommandType.SELECT_HELP, SelectHelp::from);
+        PRIVATE_CALLBACKS.put(CommandType.CONFIRM_RESET_CHARACTERISTICS, ConfirmResetCharacteristics::from);
+        PRIVATE_CALLBACKS.put(CommandType.CANCEL_RESET_CHARACTERISTICS, CancelResetCharacteristics::from);
+        PRIVATE_CALLBACKS.put(CommandType.INCREASE_CHARACTERISTIC, IncreaseCharacteristic::from);
+        PRIVATE_CALLBACKS.put(CommandType.SELECT_BADGE, SelectBadge::from);
+        PRIVATE_CALLBACKS.put(CommandType.CONFIRM_DROP_ITEM, ConfirmDropItem::from);
+        PRIVATE_CALLBACKS.put(CommandType.REJECT_DROP_ITEM, RejectDropItem::from);
+
+        GROUP_CALLBACKS.put(CommandType.SELECT_LANGUAGE, GroupSelectLanguage::from);
+        GROUP_CALLBACKS.put(CommandType.JOIN_EVENT, JoinRaid::from);
+        GROUP_CALLBACKS.put(CommandType.JOIN_RAID, JoinRaid::from);
+        GROUP_CALLBACKS.put(CommandType.DECLINE_DUEL, DeclineDuel::from);
+        GROUP_CALLBACKS.put(CommandType.ACCEPT_DUEL, AcceptDuel::from);
+        GROUP_CALLBACKS.put(CommandType.SELECT_HELP, SelectHelp::from);
+        GROUP_CALLBACKS.put(CommandType.CONSUME_MENU_ITEM_ORDER, ConsumeOrder::from);
+        GROUP_CALLBACKS.put(CommandType.TOGGLE_EVENT_INTERVAL, ToggleEventInterval::from);
+    }
 }
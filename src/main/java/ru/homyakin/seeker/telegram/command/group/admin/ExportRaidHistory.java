@@ -0,0 +1,35 @@
+package ru.homyakin.seeker.telegram.command.group.admin;
+
+import java.util.Optional;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.telegram.command.Command;
+import ru.homyakin.seeker.telegram.group.models.GroupTgId;
+
+/**
+ * Выгрузка истории рейдов персонажа в CSV, доступна только в группе администраторов
+ */
+public record ExportRaidHistory(
+    GroupTgId groupId,
+    int messageId,
+    Optional<PersonageId> personageId
+) implements Command {
+    public static ExportRaidHistory from(Message message) {
+        return new ExportRaidHistory(
+            GroupTgId.from(message.getChatId()),
+            message.getMessageId(),
+            personageIdFromString(message.getText().split(" "))
+        );
+    }
+
+    private static Optional<PersonageId> personageIdFromString(String[] data) {
+        if (data.length != 2) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(PersonageId.from(Long.parseLong(data[1])));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
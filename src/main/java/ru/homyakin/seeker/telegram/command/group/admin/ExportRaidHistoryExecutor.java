@@ -0,0 +1,92 @@
+package ru.homyakin.seeker.telegram.command.group.admin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.methods.send.SendDocument;
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+import ru.homyakin.seeker.game.personage.PersonageService;
+import ru.homyakin.seeker.game.personage.RaidHistoryCsv;
+import ru.homyakin.seeker.game.personage.models.LifetimeRaidStats;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.telegram.TelegramSender;
+import ru.homyakin.seeker.telegram.command.CommandExecutor;
+import ru.homyakin.seeker.telegram.command.type.CommandType;
+import ru.homyakin.seeker.telegram.user.state.FeedbackConfig;
+import ru.homyakin.seeker.telegram.utils.SendMessageBuilder;
+
+@Component
+public class ExportRaidHistoryExecutor extends CommandExecutor<ExportRaidHistory> {
+    private static final Logger logger = LoggerFactory.getLogger(ExportRaidHistoryExecutor.class);
+    private final PersonageService personageService;
+    private final TelegramSender telegramSender;
+    private final FeedbackConfig config;
+
+    public ExportRaidHistoryExecutor(
+        PersonageService personageService,
+        TelegramSender telegramSender,
+        FeedbackConfig config
+    ) {
+        this.personageService = personageService;
+        this.telegramSender = telegramSender;
+        this.config = config;
+    }
+
+    @Override
+    public void execute(ExportRaidHistory command) {
+        if (command.groupId().value() != config.adminGroup()) {
+            return;
+        }
+        if (command.personageId().isEmpty()) {
+            reply(command, "Формат: %s <personage_id>".formatted(CommandType.EXPORT_RAID_HISTORY.getText()));
+            return;
+        }
+        final var personageId = command.personageId().get();
+        if (personageService.getById(personageId).isEmpty()) {
+            reply(command, "Персонаж %d не найден".formatted(personageId.value()));
+            return;
+        }
+        try {
+            export(command, personageId);
+        } catch (IOException e) {
+            logger.error("Unable export raid history for personage " + personageId.value(), e);
+            reply(command, "Не удалось выгрузить историю: " + e.getMessage());
+        }
+    }
+
+    /**
+     * История пишется во временный файл потоком, поэтому размер выгрузки не ограничен памятью
+     */
+    private void export(ExportRaidHistory command, PersonageId personageId) throws IOException {
+        final var file = Files.createTempFile("raid-history-" + personageId.value() + "-", ".csv");
+        try {
+            final LifetimeRaidStats total;
+            try (final var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                total = RaidHistoryCsv.write(personageService.streamRaidHistory(personageId), writer);
+            }
+            telegramSender.send(
+                SendDocument.builder()
+                    .chatId(command.groupId().value())
+                    .replyToMessageId(command.messageId())
+                    .document(new InputFile(file.toFile(), "raid-history-%d.csv".formatted(personageId.value())))
+                    .caption("Рейдов: %d, наград: %d".formatted(total.raidsCount(), total.reward()))
+                    .build()
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void reply(ExportRaidHistory command, String text) {
+        telegramSender.send(
+            SendMessageBuilder.builder()
+                .chatId(command.groupId())
+                .text(text)
+                .replyMessageId(command.messageId())
+                .build()
+        );
+    }
+}
@@ -88,10 +88,10 @@ public class JoinRaidExecutor extends CommandExecutor<JoinRaid> {
             case AddPersonageToRaidError.RaidInFinalStatus raidInFinalStatus -> {
                 final var editText = switch (raidInFinalStatus) {
                     case AddPersonageToRaidError.RaidInFinalStatus.CompletedRaid completedRaid ->
-                        completedRaid.raid().toEndMessageWithParticipants(
+                        completedRaid.raid().toEndMessagesWithParticipants(
                             completedRaid.participants(),
                             group.language()
-                        );
+                        ).getFirst();
                     case AddPersonageToRaidError.RaidInFinalStatus.CreationErrorRaid _ ->
                         CommonLocalization.internalError(group.language());
                     case AddPersonageToRaidError.RaidInFinalStatus.ExpiredRaid _ ->
@@ -2,6 +2,7 @@ package ru.homyakin.seeker.telegram.command.group.top;
 
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.top.TopService;
+import ru.homyakin.seeker.game.top.models.TopRequest;
 import ru.homyakin.seeker.telegram.TelegramSender;
 import ru.homyakin.seeker.telegram.command.CommandExecutor;
 import ru.homyakin.seeker.telegram.group.GroupUserService;
@@ -28,10 +29,10 @@ public class TopRaidWeekExecutor extends CommandExecutor<TopRaidWeek> {
         final var groupUser = groupUserService.getAndActivateOrCreate(command.groupId(), command.userId());
         final var group = groupUser.first();
         final var user = groupUser.second();
-        final var top = topService.getTopRaidWeek();
+        final var top = topService.getTopRaidWeek(TopRequest.firstPage(user.personageId()));
         telegramSender.send(
             SendMessageBuilder.builder()
-                .text(top.toLocalizedString(group.language(), user.personageId()))
+                .text(top.toLocalizedString(group.language()))
                 .chatId(group.id())
                 .build()
         );
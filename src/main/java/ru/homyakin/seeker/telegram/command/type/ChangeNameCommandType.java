@@ -3,9 +3,9 @@ package ru.homyakin.seeker.telegram.command.type;
 import ru.homyakin.seeker.locale.personal.ChangeNameResource;
 import ru.homyakin.seeker.utils.CommonUtils;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum ChangeNameCommandType {
     CONFIRM,
@@ -13,7 +13,7 @@ public enum ChangeNameCommandType {
     CANCEL,
     ;
 
-    private static final Map<String, ChangeNameCommandType> textToType = new HashMap<>();
+    private static final Map<String, ChangeNameCommandType> textToType = new ConcurrentHashMap<>();
 
     public static Optional<ChangeNameCommandType> getFromString(String text) {
         return Optional.ofNullable(textToType.get(text));
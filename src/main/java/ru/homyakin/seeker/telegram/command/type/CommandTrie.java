@@ -0,0 +1,96 @@
+package ru.homyakin.seeker.telegram.command.type;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Префиксное дерево текстов команд, строится целиком и дальше не меняется.
+ * Переходы узла лежат в отсортированном массиве символов и ищутся бинарным поиском,
+ * поэтому поиск идёт по символам исходного текста без подстрок и без перебора всех команд.
+ * Если искать нужно по всему тексту, сначала проверяется мапа точных совпадений: у строки уже посчитан hashCode,
+ * и для кнопок меню с длинным текстом это быстрее прохода по дереву
+ */
+final class CommandTrie {
+    private final Map<String, CommandType> exact;
+    private final Node root;
+
+    private CommandTrie(Map<String, CommandType> exact, Node root) {
+        this.exact = exact;
+        this.root = root;
+    }
+
+    /**
+     * @param exact команды, которые совпадают с текстом целиком
+     * @param prefixes команды, текст которых может продолжаться параметрами
+     */
+    static CommandTrie build(Map<String, CommandType> exact, Map<String, CommandType> prefixes) {
+        final var root = new Builder();
+        exact.forEach((text, type) -> root.node(text).exact = type);
+        prefixes.forEach((text, type) -> root.node(text).prefix = type);
+        return new CommandTrie(Map.copyOf(exact), root.build());
+    }
+
+    /**
+     * Ищет команду по первым length символам text.
+     * Точное совпадение важнее префикса, из префиксов выбирается самый длинный
+     */
+    CommandType find(String text, int length) {
+        if (length == text.length()) {
+            final var type = exact.get(text);
+            if (type != null) {
+                return type;
+            }
+        }
+        var node = root;
+        CommandType lastPrefix = null;
+        for (int i = 0; i < length; ++i) {
+            if (node.prefix != null) {
+                lastPrefix = node.prefix;
+            }
+            final var index = Arrays.binarySearch(node.keys, text.charAt(i));
+            if (index < 0) {
+                return lastPrefix;
+            }
+            node = node.children[index];
+        }
+        if (node.exact != null) {
+            return node.exact;
+        }
+        return node.prefix != null ? node.prefix : lastPrefix;
+    }
+
+    private record Node(char[] keys, Node[] children, CommandType exact, CommandType prefix) {
+    }
+
+    private static class Builder {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private final TreeMap<Character, Builder> children = new TreeMap<>();
+        private CommandType exact;
+        private CommandType prefix;
+
+        private Builder node(String text) {
+            var node = this;
+            for (int i = 0; i < text.length(); ++i) {
+                node = node.children.computeIfAbsent(text.charAt(i), _ -> new Builder());
+            }
+            return node;
+        }
+
+        private Node build() {
+            if (children.isEmpty()) {
+                return new Node(NO_KEYS, NO_CHILDREN, exact, prefix);
+            }
+            final var keys = new char[children.size()];
+            final var nodes = new Node[children.size()];
+            int i = 0;
+            for (final var entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().build();
+                ++i;
+            }
+            return new Node(keys, nodes, exact, prefix);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package ru.homyakin.seeker.telegram.command.type;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -60,9 +59,13 @@ public enum CommandType {
     INIT_FEEDBACK("/feedback", CheckType.EQUALS),
     THROW_ORDER("/throw", CheckType.EQUALS),
     CHANGE_GROUP_NAME("/name", CheckType.EQUALS),
+    RAID_HISTORY("/history", CheckType.EQUALS),
+    EXPORT_RAID_HISTORY("/export_raids", CheckType.STARTS_WITH),
     ;
 
+    // При перезагрузке локализации тексты кнопок только добавляются: у пользователей остаются клавиатуры со старым текстом
     private static final Map<String, CommandType> textToType = new HashMap<>();
+    private static volatile CommandTrie trie = buildTrie();
 
     private final String text;
     private final CheckType checkType;
@@ -77,15 +80,17 @@ public enum CommandType {
     }
 
     public static Optional<CommandType> getFromString(String text) {
-        if (textToType.containsKey(text)) {
-            return Optional.of(textToType.get(text));
-        }
-        return Arrays.stream(values())
-            .filter(type -> type.check(text))
-            .findFirst();
+        return getFromString(text, text.length());
+    }
+
+    /**
+     * Ищет команду по первым length символам text, чтобы не вырезать токен команды из сообщения
+     */
+    public static Optional<CommandType> getFromString(String text, int length) {
+        return Optional.ofNullable(trie.find(text, length));
     }
 
-    public static void fillLocaleMap(MenuResource resource) {
+    public static synchronized void fillLocaleMap(MenuResource resource) {
         CommonUtils.putIfKeyPresents(textToType, resource.profileButton(), CommandType.GET_PROFILE);
         CommonUtils.putIfKeyPresents(textToType, resource.languageButton(), CommandType.CHANGE_LANGUAGE);
         CommonUtils.putIfKeyPresents(textToType, resource.receptionDeskButton(), CommandType.RECEPTION_DESK);
@@ -97,13 +102,24 @@ public enum CommandType {
         CommonUtils.putIfKeyPresents(textToType, resource.shopButton(), CommandType.OPEN_SHOP);
         CommonUtils.putIfKeyPresents(textToType, resource.bulletinBoardButton(), CommandType.BULLETIN_BOARD);
         CommonUtils.putIfKeyPresents(textToType, resource.takePersonalQuestButton(), CommandType.TAKE_PERSONAL_QUEST);
+        trie = buildTrie();
     }
 
-    private boolean check(String text) {
-        return switch (this.checkType) {
-            case EQUALS -> this.text.equals(text);
-            case STARTS_WITH -> text.startsWith(this.text);
-            case MAP -> false;
-        };
+    /**
+     * Тексты кнопок важнее текстов команд, как и раньше при проверке мапы до перебора типов
+     */
+    private static CommandTrie buildTrie() {
+        final var exact = new HashMap<String, CommandType>();
+        final var prefixes = new HashMap<String, CommandType>();
+        for (final var type : values()) {
+            switch (type.checkType) {
+                case EQUALS -> exact.put(type.text, type);
+                case STARTS_WITH -> prefixes.put(type.text, type);
+                case MAP -> {
+                }
+            }
+        }
+        exact.putAll(textToType);
+        return CommandTrie.build(exact, prefixes);
     }
 }
@@ -3,9 +3,9 @@ package ru.homyakin.seeker.telegram.command.type;
 import ru.homyakin.seeker.locale.feedback.FeedbackResource;
 import ru.homyakin.seeker.utils.CommonUtils;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum FeedbackCommandType {
     SUGGEST_TEXT,
@@ -13,7 +13,7 @@ public enum FeedbackCommandType {
     BACK,
     ;
 
-    private static final Map<String, FeedbackCommandType> textToType = new HashMap<>();
+    private static final Map<String, FeedbackCommandType> textToType = new ConcurrentHashMap<>();
 
     public static Optional<FeedbackCommandType> getFromString(String text) {
         return Optional.ofNullable(textToType.get(text));
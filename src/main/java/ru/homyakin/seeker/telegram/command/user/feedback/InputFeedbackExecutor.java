@@ -37,27 +37,28 @@ public class InputFeedbackExecutor extends CommandExecutor<InputFeedback> {
     public void execute(InputFeedback command) {
         final var user = userService.getOrCreateFromPrivate(command.userId());
         final var personage = personageService.getByIdForce(user.personageId());
-        final var result = telegramSender.send(
+        telegramSender.sendAsync(
             SendMessageBuilder
                 .builder()
                 .chatId(config.adminGroup())
                 .text(FeedbackLocalization.feedback(user.language(), personage, command))
                 .build()
-        );
-        final String text;
-        if (result.isRight()) {
-            text = FeedbackLocalization.feedbackSent(user.language());
-        } else {
-            text = FeedbackLocalization.feedbackErrorSent(user.language());
-        }
-        telegramSender.send(
-            SendMessageBuilder
-                .builder()
-                .chatId(command.userId())
-                .text(text)
-                .keyboard(ReplyKeyboards.mainKeyboard(user.language()))
-                .build()
-        );
+        ).thenAccept(result -> {
+            final String text;
+            if (result.isRight()) {
+                text = FeedbackLocalization.feedbackSent(user.language());
+            } else {
+                text = FeedbackLocalization.feedbackErrorSent(user.language());
+            }
+            telegramSender.send(
+                SendMessageBuilder
+                    .builder()
+                    .chatId(command.userId())
+                    .text(text)
+                    .keyboard(ReplyKeyboards.mainKeyboard(user.language()))
+                    .build()
+            );
+        });
 
         userStateService.clearUserState(user);
     }
@@ -0,0 +1,13 @@
+package ru.homyakin.seeker.telegram.command.user.report;
+
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import ru.homyakin.seeker.telegram.command.Command;
+import ru.homyakin.seeker.telegram.user.models.UserId;
+
+public record RaidHistory(
+    UserId userId
+) implements Command {
+    public static RaidHistory from(Message message) {
+        return new RaidHistory(UserId.from(message.getFrom().getId()));
+    }
+}
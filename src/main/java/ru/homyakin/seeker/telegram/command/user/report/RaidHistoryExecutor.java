@@ -0,0 +1,43 @@
+package ru.homyakin.seeker.telegram.command.user.report;
+
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.game.personage.PersonageService;
+import ru.homyakin.seeker.locale.raid.RaidLocalization;
+import ru.homyakin.seeker.telegram.TelegramSender;
+import ru.homyakin.seeker.telegram.command.CommandExecutor;
+import ru.homyakin.seeker.telegram.user.UserService;
+import ru.homyakin.seeker.telegram.utils.SendMessageBuilder;
+
+@Component
+public class RaidHistoryExecutor extends CommandExecutor<RaidHistory> {
+    private final UserService userService;
+    private final PersonageService personageService;
+    private final TelegramSender telegramSender;
+
+    public RaidHistoryExecutor(
+        UserService userService,
+        PersonageService personageService,
+        TelegramSender telegramSender
+    ) {
+        this.userService = userService;
+        this.personageService = personageService;
+        this.telegramSender = telegramSender;
+    }
+
+    @Override
+    public void execute(RaidHistory command) {
+        final var user = userService.getOrCreateFromPrivate(command.userId());
+        final var stats = personageService.getLifetimeRaidStats(user.personageId());
+        final String text;
+        if (stats.raidsCount() == 0) {
+            text = RaidLocalization.reportNotPresentForPersonage(user.language());
+        } else {
+            text = RaidLocalization.lifetimeStats(user.language(), stats);
+        }
+        telegramSender.send(SendMessageBuilder.builder()
+            .chatId(user.id())
+            .text(text)
+            .build()
+        );
+    }
+}
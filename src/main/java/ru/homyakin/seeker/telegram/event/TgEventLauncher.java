@@ -1,5 +1,9 @@
 package ru.homyakin.seeker.telegram.event;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -9,8 +13,12 @@ import ru.homyakin.seeker.game.event.service.GroupEventService;
 import ru.homyakin.seeker.game.group.action.GetGroup;
 import ru.homyakin.seeker.game.group.action.UpdateGroupParameters;
 import ru.homyakin.seeker.game.group.entity.Group;
+import ru.homyakin.seeker.infrastructure.lock.LockKey;
 import ru.homyakin.seeker.infrastructure.lock.LockPrefixes;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineHandler;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.telegram.TelegramSender;
 import ru.homyakin.seeker.telegram.group.GroupTgService;
 import ru.homyakin.seeker.telegram.utils.InlineKeyboards;
@@ -18,7 +26,7 @@ import ru.homyakin.seeker.telegram.utils.SendMessageBuilder;
 import ru.homyakin.seeker.utils.TimeUtils;
 
 @Service
-public class TgEventLauncher {
+public class TgEventLauncher implements DeadlineHandler {
     private static final Logger logger = LoggerFactory.getLogger(TgEventLauncher.class);
     private final GetGroup getGroup;
     private final UpdateGroupParameters updateGroupParameters;
@@ -27,6 +35,7 @@ public class TgEventLauncher {
     private final GroupEventService groupEventService;
     private final LockService lockService;
     private final RaidService raidService;
+    private final DeadlineQueue deadlineQueue;
 
     public TgEventLauncher(
         GetGroup getGroup,
@@ -35,7 +44,8 @@ public class TgEventLauncher {
         TelegramSender telegramSender,
         GroupEventService groupEventService,
         LockService lockService,
-        RaidService raidService
+        RaidService raidService,
+        DeadlineQueue deadlineQueue
     ) {
         this.getGroup = getGroup;
         this.updateGroupParameters = updateGroupParameters;
@@ -44,15 +54,42 @@ public class TgEventLauncher {
         this.groupEventService = groupEventService;
         this.lockService = lockService;
         this.raidService = raidService;
+        this.deadlineQueue = deadlineQueue;
+    }
+
+    @Override
+    public DeadlineType type() {
+        return DeadlineType.GROUP_EVENT;
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> loadDeadlines(LocalDateTime until) {
+        return getGroup.getNextEventDates(until)
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().value(), Map.Entry::getValue));
+    }
+
+    @Override
+    public void processDue() {
+        launchRaidsInGroups();
     }
 
     public void launchRaidsInGroups() {
+        final var now = TimeUtils.moscowTime();
         getGroup
-            .getGetGroupsWithLessNextEventDate(TimeUtils.moscowTime())
+            .getGetGroupsWithLessNextEventDate(now)
             .stream()
-            .filter(it -> it.settings().isActiveForEventNow())
+            .filter(it -> {
+                if (it.settings().isActiveForEventNow()) {
+                    return true;
+                }
+                // Интервалы событий начинаются в начале часа, проверим группу снова тогда
+                deadlineQueue.schedule(DeadlineType.GROUP_EVENT, it.id().value(), now.truncatedTo(ChronoUnit.HOURS).plusHours(1));
+                return false;
+            })
             .forEach(group -> {
-                final var key = LockPrefixes.GROUP_EVENT.name() + group.id().value();
+                final var key = new LockKey(LockPrefixes.GROUP_EVENT, group.id().value());
                 lockService.tryLockAndExecute(
                     key,
                     () -> raidService.getRandomRaid()
@@ -69,21 +106,21 @@ public class TgEventLauncher {
         final var launchedRaidResult = raidService.launchRaid(raid, group.id());
         final var launchedEvent = launchedRaidResult.launchedEvent();
         final var groupTg = groupTgService.forceGet(group.id());
-        var result = telegramSender.send(
+        // Следующее событие назначается до отправки: сообщение уходит асинхронно, и без этого группа,
+        // пока ждёт ограничений Telegram, могла бы получить второй рейд
+        updateGroupParameters.updateNextEventDate(
+            group.id(),
+            group.settings().eventDateInNextInterval().withOffsetSameInstant(TimeUtils.moscowOffset()).toLocalDateTime()
+        );
+        telegramSender.sendAsync(
             SendMessageBuilder.builder()
                 .chatId(groupTg.id())
                 .text(raid.toStartMessage(groupTg.language(), launchedEvent.startDate(), launchedEvent.endDate()))
                 .keyboard(InlineKeyboards.joinRaidKeyboard(groupTg.language(), launchedEvent.id(), launchedRaidResult.energyCost()))
                 .build()
-        );
-        if (result.isLeft()) {
-            groupEventService.creationError(launchedEvent);
-            return;
-        }
-        groupEventService.createGroupEvent(launchedEvent, groupTg, result.get().getMessageId());
-        updateGroupParameters.updateNextEventDate(
-            group.id(),
-            group.settings().eventDateInNextInterval().withOffsetSameInstant(TimeUtils.moscowOffset()).toLocalDateTime()
+        ).thenAccept(result -> result
+            .peek(message -> groupEventService.createGroupEvent(launchedEvent, groupTg, message.getMessageId()))
+            .peekLeft(_ -> groupEventService.creationError(launchedEvent))
         );
     }
 }
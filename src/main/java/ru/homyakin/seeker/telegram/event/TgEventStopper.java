@@ -1,13 +1,20 @@
 package ru.homyakin.seeker.telegram.event;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import ru.homyakin.seeker.game.event.models.EventResult;
 import ru.homyakin.seeker.game.event.service.EventProcessing;
 import ru.homyakin.seeker.game.event.service.GroupEventService;
+import ru.homyakin.seeker.infrastructure.lock.LockKey;
 import ru.homyakin.seeker.infrastructure.lock.LockPrefixes;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineHandler;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.locale.personal.PersonalQuestLocalization;
 import ru.homyakin.seeker.locale.raid.RaidLocalization;
 import ru.homyakin.seeker.game.stats.action.GroupStatsService;
@@ -19,7 +26,7 @@ import ru.homyakin.seeker.telegram.utils.EditMessageTextBuilder;
 import ru.homyakin.seeker.telegram.utils.SendMessageBuilder;
 
 @Service
-public class TgEventStopper {
+public class TgEventStopper implements DeadlineHandler {
     private static final Logger logger = LoggerFactory.getLogger(TgEventStopper.class);
     private final GroupTgService groupTgService;
     private final TelegramSender telegramSender;
@@ -47,11 +54,28 @@ public class TgEventStopper {
         this.userService = userService;
     }
 
+    @Override
+    public DeadlineType type() {
+        return DeadlineType.LAUNCHED_EVENT_END;
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> loadDeadlines(LocalDateTime until) {
+        return groupEventService.getActiveEventsWithLessEndDate(until)
+            .stream()
+            .collect(Collectors.toMap(LaunchedEvent::id, LaunchedEvent::endDate));
+    }
+
+    @Override
+    public void processDue() {
+        stopEvents();
+    }
+
     public void stopEvents() {
         groupEventService
             .getExpiredActiveEvents()
             .forEach(event -> {
-                final var key = LockPrefixes.LAUNCHED_EVENT.name() + event.id();
+                final var key = new LockKey(LockPrefixes.LAUNCHED_EVENT, event.id());
                 lockService.tryLockAndExecute(key, () -> stopLaunchedEvent(event));
             });
     }
@@ -82,7 +106,7 @@ public class TgEventStopper {
                 message.text(PersonalQuestLocalization.successQuest(user.language(), success));
             }
         }
-        telegramSender.send(message.build());
+        telegramSender.sendAsync(message.build());
     }
 
     private void processRaidResult(LaunchedEvent launchedEvent, EventResult.RaidResult result) {
@@ -93,17 +117,24 @@ public class TgEventStopper {
                     switch (result) {
                         case EventResult.RaidResult.Completed completed -> {
                             groupStatsService.updateRaidStats(group.domainGroupId(), completed);
+                            final var raidMessages = completed.raid().toEndMessages(completed, group.language());
                             telegramSender.send(EditMessageTextBuilder.builder()
                                 .chatId(groupEvent.groupId())
                                 .messageId(groupEvent.messageId())
-                                .text(completed.raid().toEndMessage(completed, group.language()))
+                                .text(raidMessages.getFirst())
                                 .build()
                             );
-                            telegramSender.send(SendMessageBuilder.builder()
-                                .chatId(groupEvent.groupId())
-                                .text(completed.raid().endMessage(group.language(), completed))
-                                .replyMessageId(groupEvent.messageId())
-                                .build()
+                            final var replies = new ArrayList<>(raidMessages.subList(1, raidMessages.size()));
+                            replies.addAll(completed.raid().endMessages(group.language(), completed));
+                            telegramSender.sendReplyChain(
+                                replies.stream()
+                                    .map(text -> SendMessageBuilder.builder()
+                                        .chatId(groupEvent.groupId())
+                                        .text(text)
+                                        .replyMessageId(groupEvent.messageId())
+                                        .build()
+                                    )
+                                    .toList()
                             );
                         }
                         case EventResult.RaidResult.Expired _ -> telegramSender.send(
@@ -3,7 +3,6 @@ package ru.homyakin.seeker.telegram.group.database;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
-import javax.sql.DataSource;
 
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
@@ -25,8 +24,8 @@ public class GroupDao {
 
     private final JdbcClient jdbcClient;
 
-    public GroupDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public GroupDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     public void save(GroupTg group) {
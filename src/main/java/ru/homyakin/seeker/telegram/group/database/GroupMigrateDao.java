@@ -1,7 +1,6 @@
 package ru.homyakin.seeker.telegram.group.database;
 
 import java.util.HashMap;
-import javax.sql.DataSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,8 +12,8 @@ import ru.homyakin.seeker.utils.DatabaseUtils;
 public class GroupMigrateDao {
     private final JdbcClient jdbcClient;
 
-    public GroupMigrateDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public GroupMigrateDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     @Transactional
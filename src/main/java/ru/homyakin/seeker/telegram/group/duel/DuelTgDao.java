@@ -3,8 +3,9 @@ package ru.homyakin.seeker.telegram.group.duel;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
-import javax.sql.DataSource;
+import java.util.Map;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 import ru.homyakin.seeker.game.duel.models.DuelStatus;
@@ -14,8 +15,8 @@ import ru.homyakin.seeker.telegram.group.models.GroupTgId;
 public class DuelTgDao {
     private final JdbcClient jdbcClient;
 
-    public DuelTgDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public DuelTgDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     public DuelTg save(DuelTg duelTg) {
@@ -36,6 +37,17 @@ public class DuelTgDao {
             .list();
     }
 
+    public Map<Long, LocalDateTime> getNotFinalExpireDates(LocalDateTime maxExpiringDateTime) {
+        final var result = new HashMap<Long, LocalDateTime>();
+        jdbcClient.sql(GET_EXPIRE_DATES_WITH_STATUS)
+            .param("status_id", DuelStatus.WAITING.id())
+            .param("expiring_date", maxExpiringDateTime)
+            .query(rs -> {
+                result.put(rs.getLong("duel_id"), rs.getTimestamp("expiring_date").toLocalDateTime());
+            });
+        return result;
+    }
+
     private DuelTg mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new DuelTg(
             rs.getLong("duel_id"),
@@ -53,5 +65,10 @@ public class DuelTgDao {
         LEFT JOIN duel d on d.id = dt.duel_id
         WHERE d.status_id = :status_id AND d.expiring_date <= :expiring_date;
         """;
+    private static final String GET_EXPIRE_DATES_WITH_STATUS = """
+        SELECT dt.duel_id, d.expiring_date FROM duel_tg dt
+        LEFT JOIN duel d on d.id = dt.duel_id
+        WHERE d.status_id = :status_id AND d.expiring_date <= :expiring_date;
+        """;
 }
 
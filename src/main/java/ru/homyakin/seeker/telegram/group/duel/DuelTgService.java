@@ -1,14 +1,18 @@
 package ru.homyakin.seeker.telegram.group.duel;
 
 import io.vavr.control.Either;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.telegram.telegrambots.meta.api.objects.message.Message;
 import ru.homyakin.seeker.game.duel.DuelService;
 import ru.homyakin.seeker.game.duel.models.CreateDuelError;
 import ru.homyakin.seeker.game.personage.PersonageService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineHandler;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.locale.duel.DuelLocalization;
 import ru.homyakin.seeker.telegram.TelegramSender;
 import ru.homyakin.seeker.telegram.group.GroupTgService;
@@ -24,7 +28,7 @@ import ru.homyakin.seeker.telegram.utils.SendMessageBuilder;
 import ru.homyakin.seeker.utils.TimeUtils;
 
 @Service
-public class DuelTgService {
+public class DuelTgService implements DeadlineHandler {
     private static final Logger logger = LoggerFactory.getLogger(DuelTgService.class);
     private final DuelTgDao duelTgDao;
     private final DuelService duelService;
@@ -65,20 +69,30 @@ public class DuelTgService {
                     result.cost()
                 )
             )
-            .flatMap(result -> sendMessage(result, group)
+            .peek(result -> sendMessage(result, group).thenAccept(sent -> sent
                 .peek(message -> linkDuelToMessage(result.duelId(), group.id(), message.getMessageId()))
-                .map(_ -> result)
-                .mapLeft(
-                    error -> {
-                        duelService.expireDuel(result.duelId());
-                        logger.warn("Can't send message to telegram: " + error.toString());
-                        return new CreateDuelError.InternalError();
-                    }
-                )
-            );
+                .peekLeft(error -> {
+                    duelService.expireDuel(result.duelId());
+                    logger.warn("Can't send message to telegram: " + error.toString());
+                })
+            ));
+    }
+
+    @Override
+    public DeadlineType type() {
+        return DeadlineType.DUEL_EXPIRE;
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> loadDeadlines(LocalDateTime until) {
+        return duelTgDao.getNotFinalExpireDates(until);
+    }
+
+    @Override
+    public void processDue() {
+        expireOldDuels();
     }
 
-    @Scheduled(cron = "0 * * * * *")
     public void expireOldDuels() {
         logger.debug("Expiring duels");
         duelTgDao.findNotFinalWithLessExpireDateTime(TimeUtils.moscowTime()).forEach(
@@ -102,8 +116,12 @@ public class DuelTgService {
         );
     }
 
-    private Either<TelegramError, Message> sendMessage(CreateDuelTgResult result, GroupTg group) {
-        return telegramSender.send(
+    /**
+     * Сообщение отправляется асинхронно, чтобы поток апдейтов не ждал ограничений Telegram.
+     * Дуэль привязывается к сообщению, когда оно отправится
+     */
+    private CompletableFuture<Either<TelegramError, Message>> sendMessage(CreateDuelTgResult result, GroupTg group) {
+        return telegramSender.sendAsync(
             SendMessageBuilder.builder()
                 .chatId(group.id())
                 .text(DuelLocalization.initDuel(group.language(), result))
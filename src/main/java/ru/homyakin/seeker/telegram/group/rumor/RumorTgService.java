@@ -1,9 +1,10 @@
 package ru.homyakin.seeker.telegram.group.rumor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import ru.homyakin.seeker.game.group.action.GetGroup;
@@ -12,8 +13,11 @@ import ru.homyakin.seeker.game.group.entity.Group;
 import ru.homyakin.seeker.game.rumor.Rumor;
 import ru.homyakin.seeker.game.rumor.RumorConfig;
 import ru.homyakin.seeker.game.rumor.RumorService;
+import ru.homyakin.seeker.infrastructure.lock.LockKey;
 import ru.homyakin.seeker.infrastructure.lock.LockPrefixes;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineHandler;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.telegram.TelegramSender;
 import ru.homyakin.seeker.telegram.group.GroupTgService;
 import ru.homyakin.seeker.telegram.group.models.GroupTg;
@@ -22,7 +26,7 @@ import ru.homyakin.seeker.utils.RandomUtils;
 import ru.homyakin.seeker.utils.TimeUtils;
 
 @Service
-public class RumorTgService {
+public class RumorTgService implements DeadlineHandler {
     private static final Logger logger = LoggerFactory.getLogger(RumorTgService.class);
     private final GetGroup getGroup;
     private final UpdateGroupParameters updateGroupParameters;
@@ -48,13 +52,30 @@ public class RumorTgService {
         this.lockService = lockService;
     }
 
-    @Scheduled(cron = "0 * * * * *")
+    @Override
+    public DeadlineType type() {
+        return DeadlineType.GROUP_RUMOR;
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> loadDeadlines(LocalDateTime until) {
+        return getGroup.getNextRumorDates(until)
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().value(), Map.Entry::getValue));
+    }
+
+    @Override
+    public void processDue() {
+        createNewRumors();
+    }
+
     public void createNewRumors() {
         logger.debug("Creating new rumors");
         getGroup.getGetGroupsWithLessNextRumorDate(TimeUtils.moscowTime())
             .forEach(
                 group -> lockService.tryLockAndExecute(
-                    LockPrefixes.RUMOR.name() + group.id().value(),
+                    new LockKey(LockPrefixes.RUMOR, group.id().value()),
                     () -> launchRandomRumorInGroup(group)
                 )
             );
@@ -66,7 +87,7 @@ public class RumorTgService {
                 rumor -> {
                     final var groupTg = groupTgService.forceGet(group.id());
                     logger.info("Launching rumor " + rumor.code() + " in group " + group.id());
-                    telegramSender.send(toMessage(rumor, groupTg));
+                    telegramSender.sendAsync(toMessage(rumor, groupTg));
                     updateGroupParameters.updateNextRumorDate(group.id(), nextRumorDate());
                 },
                 () -> logger.warn("No available rumors")
@@ -8,18 +8,19 @@ import ru.homyakin.seeker.game.tavern_menu.order.models.MenuItemOrder;
 import ru.homyakin.seeker.game.tavern_menu.order.models.OrderStatus;
 import ru.homyakin.seeker.telegram.group.models.GroupTgId;
 
-import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class MenuItemOrderTgDao {
     private final JdbcClient jdbcClient;
 
-    public MenuItemOrderTgDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public MenuItemOrderTgDao(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     public MenuItemOrderTg insert(MenuItemOrderTg menuItemOrderTg) {
@@ -40,6 +41,17 @@ public class MenuItemOrderTgDao {
             .list();
     }
 
+    public Map<Long, LocalDateTime> getNotFinalExpireDates(LocalDateTime maxExpireDateTime) {
+        final var result = new HashMap<Long, LocalDateTime>();
+        jdbcClient.sql(GET_EXPIRE_DATES_WITH_STATUS)
+            .param("status_ids", List.of(OrderStatus.CREATED.id(), OrderStatus.CONSUMED.id()))
+            .param("expire_date_time", maxExpireDateTime)
+            .query(rs -> {
+                result.put(rs.getLong("menu_item_order_id"), rs.getTimestamp("expire_date_time").toLocalDateTime());
+            });
+        return result;
+    }
+
     public List<MenuItemOrder> findNotFinalForPersonageInGroup(PersonageId personageId, GroupTgId groupId) {
         final var sql = """
             SELECT mio.* FROM menu_item_order mio
@@ -73,5 +85,10 @@ public class MenuItemOrderTgDao {
         LEFT JOIN menu_item_order mio on mio.id = miot.menu_item_order_id
         WHERE mio.status_id in (:status_ids) AND mio.expire_date_time <= :expire_date_time;
         """;
+    private static final String GET_EXPIRE_DATES_WITH_STATUS = """
+        SELECT miot.menu_item_order_id, mio.expire_date_time FROM menu_item_order_tg miot
+        LEFT JOIN menu_item_order mio on mio.id = miot.menu_item_order_id
+        WHERE mio.status_id in (:status_ids) AND mio.expire_date_time <= :expire_date_time;
+        """;
 }
 
@@ -1,9 +1,10 @@
 package ru.homyakin.seeker.telegram.group.taver_menu;
 
 import io.vavr.control.Either;
+import java.time.LocalDateTime;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import ru.homyakin.seeker.game.personage.PersonageService;
 import ru.homyakin.seeker.game.personage.models.Personage;
@@ -13,6 +14,8 @@ import ru.homyakin.seeker.game.tavern_menu.order.OrderService;
 import ru.homyakin.seeker.game.tavern_menu.menu.models.MenuItem;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowResult;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowTarget;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineHandler;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.locale.tavern_menu.TavernMenuLocalization;
 import ru.homyakin.seeker.telegram.TelegramSender;
 import ru.homyakin.seeker.telegram.group.GroupTgService;
@@ -27,11 +30,12 @@ import ru.homyakin.seeker.telegram.utils.EditMessageTextBuilder;
 import ru.homyakin.seeker.telegram.utils.InlineKeyboards;
 import ru.homyakin.seeker.telegram.utils.SendMessageBuilder;
 import ru.homyakin.seeker.utils.TimeUtils;
+import ru.homyakin.seeker.utils.models.Success;
 
 import java.util.Optional;
 
 @Service
-public class OrderTgService {
+public class OrderTgService implements DeadlineHandler {
     private static final Logger logger = LoggerFactory.getLogger(OrderTgService.class);
     private final MenuItemOrderTgDao menuItemOrderTgDao;
     private final OrderService orderService;
@@ -59,7 +63,7 @@ public class OrderTgService {
         this.userService = userService;
     }
 
-    public Either<OrderError, MenuItemOrderTg> orderMenuItem(GroupTg group, User giver, User acceptor, MenuItem menuItem) {
+    public Either<OrderError, Success> orderMenuItem(GroupTg group, User giver, User acceptor, MenuItem menuItem) {
         final var acceptingPersonage = personageService.getByIdForce(acceptor.personageId());
         final Personage givingPersonage;
         if (giver == acceptor) {
@@ -70,7 +74,8 @@ public class OrderTgService {
         return orderService.orderMenuItem(givingPersonage, acceptingPersonage, group.domainGroupId(), menuItem)
             .map(orderId -> {
                     groupStatsService.increaseTavernMoneySpent(group.domainGroupId(), givingPersonage.id(), menuItem.price());
-                    return telegramSender.send(SendMessageBuilder.builder()
+                    // Заказ привязывается к сообщению, когда оно отправится, поток апдейтов этого не ждёт
+                    telegramSender.sendAsync(SendMessageBuilder.builder()
                             .chatId(group.id())
                             .text(
                                 TavernMenuLocalization.order(
@@ -83,11 +88,14 @@ public class OrderTgService {
                             .keyboard(InlineKeyboards.consumeMenuItemOrderKeyboard(group.language(), orderId, menuItem))
                             .build()
                         )
-                        .map(message -> linkOrderToMessage(orderId, group.id(), message.getMessageId()))
-                        .getOrElseThrow(() -> {
-                            orderService.techCancelOrder(orderId);
-                            return new IllegalStateException("Exception during sending telegram message");
-                        });
+                        .thenAccept(sent -> sent
+                            .peek(message -> linkOrderToMessage(orderId, group.id(), message.getMessageId()))
+                            .peekLeft(error -> {
+                                orderService.techCancelOrder(orderId);
+                                logger.error("Order {} canceled, unable to send message: {}", orderId, error);
+                            })
+                        );
+                    return Success.INSTANCE;
                 }
             );
     }
@@ -144,7 +152,21 @@ public class OrderTgService {
         };
     }
 
-    @Scheduled(cron = "0 * * * * *")
+    @Override
+    public DeadlineType type() {
+        return DeadlineType.ORDER_EXPIRE;
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> loadDeadlines(LocalDateTime until) {
+        return menuItemOrderTgDao.getNotFinalExpireDates(until);
+    }
+
+    @Override
+    public void processDue() {
+        expireOldOrders();
+    }
+
     public void expireOldOrders() {
         logger.debug("Expiring orders");
         menuItemOrderTgDao.findNotFinalWithLessExpireDateTime(TimeUtils.moscowTime()).forEach(
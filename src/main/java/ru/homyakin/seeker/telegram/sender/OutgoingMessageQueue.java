@@ -0,0 +1,233 @@
+package ru.homyakin.seeker.telegram.sender;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+import org.telegram.telegrambots.meta.generics.TelegramClient;
+
+/**
+ * Очередь исходящих запросов в Telegram с учётом ограничений на количество сообщений.
+ * Для каждого чата одновременно выполняется не больше одного запроса, поэтому порядок сообщений в чате сохраняется.
+ * Всё состояние чатов принадлежит одному потоку-диспетчеру, HTTP-запросы выполняются в виртуальных потоках.
+ */
+public class OutgoingMessageQueue implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(OutgoingMessageQueue.class);
+    private static final long IDLE_PARK_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final long SHUTDOWN_TIMEOUT_NANOS = Duration.ofSeconds(10).toNanos();
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final TelegramClient client;
+    private final TelegramSenderConfig config;
+    private final TokenBucket globalBucket;
+    private final Queue<Submission> incoming = new ConcurrentLinkedQueue<>();
+    private final Queue<Completion> completions = new ConcurrentLinkedQueue<>();
+    private final Map<String, ChatQueue> chats = new LinkedHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public OutgoingMessageQueue(TelegramClient client, TelegramSenderConfig config) {
+        this.client = client;
+        this.config = config;
+        this.globalBucket = new TokenBucket(config.globalLimit(), System.nanoTime());
+        this.dispatcher = Thread.ofVirtual().name("telegram-sender").start(this::dispatchLoop);
+    }
+
+    public <T extends Serializable> CompletableFuture<T> submit(String chatId, BotApiMethod<T> method) {
+        final var request = new OutgoingRequest<>(method);
+        if (!running) {
+            request.future().completeExceptionally(new IllegalStateException("Outgoing message queue is closed"));
+            return request.future();
+        }
+        incoming.add(new Submission(chatId == null ? "" : chatId, request));
+        LockSupport.unpark(dispatcher);
+        return request.future();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.close();
+        Submission submission;
+        while ((submission = incoming.poll()) != null) {
+            submission.request.future().completeExceptionally(new IllegalStateException("Outgoing message queue is closed"));
+        }
+    }
+
+    private void dispatchLoop() {
+        long shutdownDeadline = Long.MAX_VALUE;
+        while (true) {
+            drainIncoming();
+            drainCompletions();
+            final var now = System.nanoTime();
+            if (!running) {
+                if (shutdownDeadline == Long.MAX_VALUE) {
+                    shutdownDeadline = now + SHUTDOWN_TIMEOUT_NANOS;
+                }
+                if (chats.values().stream().noneMatch(ChatQueue::hasWork)) {
+                    return;
+                }
+                if (now > shutdownDeadline) {
+                    failPending();
+                    return;
+                }
+            }
+            LockSupport.parkNanos(dispatchReady(now));
+        }
+    }
+
+    /**
+     * @return сколько наносекунд можно спать до появления следующего готового к отправке запроса
+     */
+    private long dispatchReady(long now) {
+        long sleep = IDLE_PARK_NANOS;
+        final var iterator = chats.entrySet().iterator();
+        final var served = new ArrayDeque<ChatQueue>();
+        while (iterator.hasNext()) {
+            final var chat = iterator.next().getValue();
+            if (chat.inFlight) {
+                continue;
+            }
+            if (chat.pending.isEmpty()) {
+                if (chat.bucket.isFull(now)) {
+                    iterator.remove();
+                }
+                continue;
+            }
+            final var chatWait = Math.max(chat.notBefore - now, chat.bucket.nanosToWait(now));
+            if (chatWait > 0) {
+                sleep = Math.min(sleep, chatWait);
+                continue;
+            }
+            if (!globalBucket.tryAcquire(now)) {
+                sleep = Math.min(sleep, globalBucket.nanosToWait(now));
+                break;
+            }
+            chat.bucket.tryAcquire(now);
+            execute(chat, chat.pending.pollFirst());
+            iterator.remove();
+            served.add(chat);
+        }
+        // Обслуженные чаты уходят в конец, чтобы при упоре в общий лимит не голодали остальные
+        served.forEach(chat -> chats.put(chat.chatId, chat));
+        return Math.max(sleep, 1);
+    }
+
+    private <T extends Serializable> void execute(ChatQueue chat, OutgoingRequest<T> request) {
+        chat.inFlight = true;
+        executor.execute(() -> {
+            long retryAfterNanos = -1;
+            try {
+                request.future().complete(client.execute(request.method()));
+            } catch (TelegramApiRequestException e) {
+                if (isRetryable(e, request)) {
+                    request.incrementAttempts();
+                    retryAfterNanos = Duration.ofSeconds(e.getParameters().getRetryAfter()).toNanos();
+                    logger.warn("Too many requests to chat {}, retry after {}s", chat.chatId, e.getParameters().getRetryAfter());
+                } else {
+                    request.future().completeExceptionally(e);
+                }
+            } catch (Exception e) {
+                request.future().completeExceptionally(e);
+            } finally {
+                completions.add(new Completion(chat, retryAfterNanos >= 0 ? request : null, retryAfterNanos));
+                LockSupport.unpark(dispatcher);
+            }
+        });
+    }
+
+    private boolean isRetryable(TelegramApiRequestException e, OutgoingRequest<?> request) {
+        return e.getErrorCode() != null
+            && e.getErrorCode() == TOO_MANY_REQUESTS
+            && e.getParameters() != null
+            && e.getParameters().getRetryAfter() != null
+            && request.attempts() < config.maxRetries();
+    }
+
+    private void drainIncoming() {
+        Submission submission;
+        while ((submission = incoming.poll()) != null) {
+            final var chatId = submission.chatId;
+            final var chat = chats.computeIfAbsent(chatId, this::createChatQueue);
+            final var last = chat.pending.peekLast();
+            if (last != null && last.canBeReplacedBy(submission.request)) {
+                last.replaceWith(submission.request);
+            } else {
+                chat.pending.addLast(submission.request);
+            }
+        }
+    }
+
+    private void drainCompletions() {
+        Completion completion;
+        while ((completion = completions.poll()) != null) {
+            final var chat = completion.chat;
+            chat.inFlight = false;
+            if (completion.retry != null) {
+                chat.pending.addFirst(completion.retry);
+                chat.notBefore = System.nanoTime() + completion.retryAfterNanos;
+            }
+            chats.putIfAbsent(chat.chatId, chat);
+        }
+    }
+
+    private void failPending() {
+        chats.values().forEach(
+            chat -> chat.pending.forEach(
+                request -> request.future().completeExceptionally(
+                    new IllegalStateException("Outgoing message queue closed before request was sent")
+                )
+            )
+        );
+        chats.values().forEach(chat -> chat.pending.clear());
+    }
+
+    private ChatQueue createChatQueue(String chatId) {
+        final var limit = chatId.startsWith("-") ? config.groupChatLimit() : config.privateChatLimit();
+        final var now = System.nanoTime();
+        return new ChatQueue(chatId, new TokenBucket(limit, now), now);
+    }
+
+    private static class ChatQueue {
+        private final String chatId;
+        private final TokenBucket bucket;
+        private final Deque<OutgoingRequest<?>> pending = new ArrayDeque<>();
+        private boolean inFlight = false;
+        private long notBefore;
+
+        private ChatQueue(String chatId, TokenBucket bucket, long nowNanos) {
+            this.chatId = chatId;
+            this.bucket = bucket;
+            this.notBefore = nowNanos;
+        }
+
+        private boolean hasWork() {
+            return inFlight || !pending.isEmpty();
+        }
+    }
+
+    private record Submission(String chatId, OutgoingRequest<?> request) {
+    }
+
+    private record Completion(ChatQueue chat, OutgoingRequest<?> retry, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,56 @@
+package ru.homyakin.seeker.telegram.sender;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.telegram.telegrambots.meta.api.methods.botapimethods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
+
+class OutgoingRequest<T extends Serializable> {
+    private BotApiMethod<T> method;
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private int attempts = 0;
+
+    OutgoingRequest(BotApiMethod<T> method) {
+        this.method = method;
+    }
+
+    BotApiMethod<T> method() {
+        return method;
+    }
+
+    CompletableFuture<T> future() {
+        return future;
+    }
+
+    int attempts() {
+        return attempts;
+    }
+
+    void incrementAttempts() {
+        ++attempts;
+    }
+
+    /**
+     * Несколько ещё не отправленных редактирований одного сообщения можно заменить последним
+     */
+    boolean canBeReplacedBy(OutgoingRequest<?> other) {
+        return method instanceof EditMessageText current
+            && other.method instanceof EditMessageText next
+            && current.getMessageId() != null
+            && Objects.equals(current.getMessageId(), next.getMessageId());
+    }
+
+    @SuppressWarnings("unchecked")
+    void replaceWith(OutgoingRequest<?> other) {
+        this.method = (BotApiMethod<T>) other.method;
+        final var otherFuture = (CompletableFuture<T>) other.future;
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                otherFuture.completeExceptionally(error);
+            } else {
+                otherFuture.complete(result);
+            }
+        });
+    }
+}
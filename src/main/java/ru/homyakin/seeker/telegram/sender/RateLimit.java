@@ -0,0 +1,26 @@
+package ru.homyakin.seeker.telegram.sender;
+
+import java.time.Duration;
+import org.springframework.boot.convert.DurationStyle;
+
+public record RateLimit(
+    int permits,
+    Duration period
+) {
+    public RateLimit {
+        if (permits <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit must be positive: " + permits + "/" + period);
+        }
+    }
+
+    /**
+     * @param value строка в формате "permits/period", например "20/1m"
+     */
+    public static RateLimit parse(String value) {
+        final var parts = value.split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid rate limit " + value);
+        }
+        return new RateLimit(Integer.parseInt(parts[0].trim()), DurationStyle.detectAndParse(parts[1].trim()));
+    }
+}
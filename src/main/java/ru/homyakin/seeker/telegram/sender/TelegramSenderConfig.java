@@ -0,0 +1,43 @@
+package ru.homyakin.seeker.telegram.sender;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "homyakin.seeker.telegram.sender")
+public class TelegramSenderConfig {
+    private RateLimit globalLimit;
+    private RateLimit privateChatLimit;
+    private RateLimit groupChatLimit;
+    private int maxRetries;
+
+    public RateLimit globalLimit() {
+        return globalLimit;
+    }
+
+    public RateLimit privateChatLimit() {
+        return privateChatLimit;
+    }
+
+    public RateLimit groupChatLimit() {
+        return groupChatLimit;
+    }
+
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    public void setGlobalLimit(String globalLimit) {
+        this.globalLimit = RateLimit.parse(globalLimit);
+    }
+
+    public void setPrivateChatLimit(String privateChatLimit) {
+        this.privateChatLimit = RateLimit.parse(privateChatLimit);
+    }
+
+    public void setGroupChatLimit(String groupChatLimit) {
+        this.groupChatLimit = RateLimit.parse(groupChatLimit);
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.homyakin.seeker.telegram.sender;
+
+/**
+ * Не потокобезопасен, используется только из потока очереди отправки.
+ */
+class TokenBucket {
+    private final double capacity;
+    private final double permitsPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(RateLimit limit, long nowNanos) {
+        this.capacity = limit.permits();
+        this.permitsPerNano = limit.permits() / (double) limit.period().toNanos();
+        this.tokens = capacity;
+        this.lastRefill = nowNanos;
+    }
+
+    long nanosToWait(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / permitsPerNano);
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    boolean isFull(long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        if (nowNanos > lastRefill) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefill) * permitsPerNano);
+            lastRefill = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package ru.homyakin.seeker.telegram.update;
+
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+
+/**
+ * Раздаёт обновления по шардам в зависимости от отправителя.
+ * Обновления одного пользователя обрабатываются последовательно, разные пользователи - параллельно.
+ * Если очередь шарда переполнена, то поток long polling ждёт, пока в ней освободится место.
+ */
+public class UpdateDispatcher implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(UpdateDispatcher.class);
+    private final UpdateShard[] shards;
+
+    public UpdateDispatcher(UpdateDispatcherConfig config, Consumer<Update> handler) {
+        if (config.shards() <= 0 || config.queueCapacity() <= 0) {
+            throw new IllegalArgumentException("Shards count and queue capacity must be positive");
+        }
+        shards = new UpdateShard[config.shards()];
+        for (int i = 0; i < shards.length; ++i) {
+            shards[i] = new UpdateShard(i, config.queueCapacity(), handler);
+        }
+    }
+
+    public void dispatch(Update update) {
+        final var shard = shards[Math.floorMod(Long.hashCode(shardKey(update)), shards.length)];
+        try {
+            shard.submit(update);
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while dispatching update {}", update.getUpdateId());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public UpdateDispatcherStats stats() {
+        long queued = 0;
+        long maxQueueSize = 0;
+        long processed = 0;
+        long producerWaits = 0;
+        for (final var shard : shards) {
+            final var stats = shard.stats();
+            queued += stats.queued();
+            maxQueueSize = Math.max(maxQueueSize, stats.maxQueueSize());
+            processed += stats.processed();
+            producerWaits += stats.producerWaits();
+        }
+        return new UpdateDispatcherStats(queued, maxQueueSize, processed, producerWaits);
+    }
+
+    @Override
+    public void close() {
+        for (final var shard : shards) {
+            shard.stop();
+        }
+        for (final var shard : shards) {
+            try {
+                shard.awaitTermination();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ключ шардирования - id отправителя, так как состояние персонажа привязано к пользователю,
+     * а один пользователь может писать одновременно в личку и в несколько групп.
+     * Если отправителя нет, то используется id чата.
+     */
+    static long shardKey(Update update) {
+        final User from;
+        final Long chatId;
+        if (update.hasMessage()) {
+            from = update.getMessage().getFrom();
+            chatId = update.getMessage().getChatId();
+        } else if (update.hasCallbackQuery()) {
+            final var callback = update.getCallbackQuery();
+            from = callback.getFrom();
+            chatId = callback.getMessage() != null ? callback.getMessage().getChatId() : null;
+        } else if (update.hasMyChatMember()) {
+            from = update.getMyChatMember().getFrom();
+            chatId = update.getMyChatMember().getChat().getId();
+        } else if (update.hasChatMember()) {
+            from = update.getChatMember().getFrom();
+            chatId = update.getChatMember().getChat().getId();
+        } else if (update.hasEditedMessage()) {
+            from = update.getEditedMessage().getFrom();
+            chatId = update.getEditedMessage().getChatId();
+        } else {
+            return 0;
+        }
+        if (from != null) {
+            return from.getId();
+        }
+        return chatId != null ? chatId : 0;
+    }
+}
@@ -0,0 +1,25 @@
+package ru.homyakin.seeker.telegram.update;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "homyakin.seeker.telegram.dispatcher")
+public class UpdateDispatcherConfig {
+    private int shards;
+    private int queueCapacity;
+
+    public int shards() {
+        return shards;
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+}
@@ -0,0 +1,15 @@
+package ru.homyakin.seeker.telegram.update;
+
+/**
+ * @param queued обновления, которые сейчас ждут в очередях шардов
+ * @param maxQueueSize максимальная заполненность одной очереди за всё время
+ * @param processed сколько обновлений обработано
+ * @param producerWaits сколько раз поток long polling ждал места в переполненной очереди
+ */
+public record UpdateDispatcherStats(
+    long queued,
+    long maxQueueSize,
+    long processed,
+    long producerWaits
+) {
+}
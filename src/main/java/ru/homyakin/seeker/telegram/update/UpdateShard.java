@@ -0,0 +1,71 @@
+package ru.homyakin.seeker.telegram.update;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+/**
+ * Очередь обновлений одного шарда. Обрабатывается одним виртуальным потоком,
+ * поэтому обновления одного чата выполняются строго в порядке поступления.
+ */
+class UpdateShard {
+    private static final Logger logger = LoggerFactory.getLogger(UpdateShard.class);
+    private final BlockingQueue<Update> queue;
+    private final Consumer<Update> handler;
+    private final Thread worker;
+    private final AtomicLong maxQueueSize = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong producerWaits = new AtomicLong();
+    private volatile boolean running = true;
+
+    UpdateShard(int number, int queueCapacity, Consumer<Update> handler) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.handler = handler;
+        this.worker = Thread.ofVirtual().name("update-shard-" + number).start(this::processLoop);
+    }
+
+    void submit(Update update) throws InterruptedException {
+        if (!queue.offer(update)) {
+            producerWaits.incrementAndGet();
+            logger.debug("Update queue of {} is full, waiting", worker.getName());
+            queue.put(update);
+        }
+        maxQueueSize.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    UpdateDispatcherStats stats() {
+        return new UpdateDispatcherStats(queue.size(), maxQueueSize.get(), processed.get(), producerWaits.get());
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    void awaitTermination() throws InterruptedException {
+        worker.join();
+    }
+
+    private void processLoop() {
+        while (running || !queue.isEmpty()) {
+            final Update update;
+            try {
+                update = queue.take();
+            } catch (InterruptedException e) {
+                // При остановке дорабатываем то, что уже попало в очередь
+                continue;
+            }
+            try {
+                handler.accept(update);
+            } catch (Exception e) {
+                logger.error("Unknown error during update processing", e);
+            } finally {
+                processed.incrementAndGet();
+            }
+        }
+    }
+}
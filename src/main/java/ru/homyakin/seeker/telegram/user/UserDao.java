@@ -2,10 +2,15 @@ package ru.homyakin.seeker.telegram.user;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import javax.sql.DataSource;
 
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
@@ -18,9 +23,11 @@ import ru.homyakin.seeker.utils.TimeUtils;
 @Component
 public class UserDao {
     private final JdbcClient jdbcClient;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    public UserDao(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public UserDao(JdbcClient jdbcClient, NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     public void save(User user) {
@@ -30,6 +37,7 @@ public class UserDao {
             .param("language_id", user.language().id())
             .param("init_date", TimeUtils.moscowTime())
             .param("personage_id", user.personageId().value())
+            .param("username", user.username().orElse(null))
             .update();
     }
 
@@ -55,11 +63,21 @@ public class UserDao {
             .optional();
     }
 
-    public void updateUsername(UserId userId, String newUsername) {
-        jdbcClient.sql(UPDATE_USERNAME)
-            .param("username", newUsername)
-            .param("id", userId.value())
-            .update();
+    /**
+     * Записывает юзернеймы одним batch запросом. Строка меняется, только если юзернейм действительно другой,
+     * а пользователей, которых ещё нет в базе, запрос пропускает
+     */
+    public void updateUsernames(Map<UserId, Optional<String>> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        final var parameters = usernames.entrySet().stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("id", entry.getKey().value())
+                .addValue("username", entry.getValue().orElse(null))
+            )
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_USERNAME, parameters);
     }
 
     public void update(User user) {
@@ -82,6 +100,24 @@ public class UserDao {
             .list();
     }
 
+    public Map<PersonageId, LocalDateTime> getEnergyRecoveryTimes(LocalDateTime maxRecoveryTime) {
+        final var sql = """
+        SELECT p.id, p.energy_recovery_notification_time FROM usertg u
+        LEFT JOIN personage p ON u.personage_id = p.id
+        WHERE p.energy_recovery_notification_time < :max_recovery_time
+        """;
+        final var result = new HashMap<PersonageId, LocalDateTime>();
+        jdbcClient.sql(sql)
+            .param("max_recovery_time", maxRecoveryTime)
+            .query(rs -> {
+                result.put(
+                    PersonageId.from(rs.getLong("id")),
+                    rs.getTimestamp("energy_recovery_notification_time").toLocalDateTime()
+                );
+            });
+        return result;
+    }
+
     private User mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new User(
             new UserId(rs.getLong("id")),
@@ -93,8 +129,8 @@ public class UserDao {
     }
 
     private static final String SAVE_USER = """
-        insert into usertg (id, is_active_private_messages, language_id, init_date, personage_id)
-        values (:id, :is_active_private_messages, :language_id, :init_date, :personage_id);
+        insert into usertg (id, is_active_private_messages, language_id, init_date, personage_id, username)
+        values (:id, :is_active_private_messages, :language_id, :init_date, :personage_id, :username);
         """;
     private static final String GET_USER_BY_ID = """
         SELECT * FROM usertg
@@ -114,5 +150,8 @@ public class UserDao {
         AND g.id = :grouptg_id
         AND ptp.is_active = true
         """;
-    private static final String UPDATE_USERNAME = "UPDATE usertg SET username = :username WHERE id = :id";
+    private static final String UPDATE_USERNAME = """
+        UPDATE usertg SET username = :username
+        WHERE id = :id AND username IS DISTINCT FROM :username
+        """;
 }
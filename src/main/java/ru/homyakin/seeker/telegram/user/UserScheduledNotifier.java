@@ -1,16 +1,20 @@
 package ru.homyakin.seeker.telegram.user;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import ru.homyakin.seeker.game.personage.PersonageService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineHandler;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineType;
 import ru.homyakin.seeker.locale.common.CommonLocalization;
 import ru.homyakin.seeker.telegram.TelegramSender;
 import ru.homyakin.seeker.telegram.utils.SendMessageBuilder;
 
 @Component
-public class UserScheduledNotifier {
+public class UserScheduledNotifier implements DeadlineHandler {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final UserService userService;
     private final PersonageService personageService;
@@ -22,22 +26,40 @@ public class UserScheduledNotifier {
         this.telegramSender = telegramSender;
     }
 
-    @Scheduled(cron = "0 * * * * *")
+    @Override
+    public DeadlineType type() {
+        return DeadlineType.ENERGY_RECOVERY;
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> loadDeadlines(LocalDateTime until) {
+        return userService.getEnergyRecoveryTimes(until)
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().value(), Map.Entry::getValue));
+    }
+
+    @Override
+    public void processDue() {
+        notifyUsersAboutEnergyRegen();
+    }
+
     public void notifyUsersAboutEnergyRegen() {
         for (final var user : userService.getUsersWithRecoveredEnergy()) {
+            // Тут сайд эффект, энергия регенерируется и время уведомления сбрасывается в базе до отправки,
+            // чтобы следующий дедлайн не выбрал этого пользователя повторно
+            personageService.refreshStateForce(user.personageId());
             if (user.isActivePrivateMessages()) {
                 logger.info("Notify user {} about energy regen", user.id());
-                telegramSender.send(
+                telegramSender.sendAsync(
                     SendMessageBuilder
                         .builder()
                         .chatId(user.id())
                         .text(CommonLocalization.energyRecovered(user.language()))
                         .build()
-                ) // Тут сайд эффект, энергия автоматом регенерируется при получении персонажа
-                    .peek(_ -> personageService.getByIdForce(user.personageId()));
+                );
             } else {
                 logger.info("Skip notify user {} about energy regen, disabled in private", user.id());
-                personageService.getByIdForce(user.personageId());
             }
         }
     }
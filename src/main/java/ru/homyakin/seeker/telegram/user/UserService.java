@@ -12,7 +12,9 @@ import ru.homyakin.seeker.telegram.models.MentionInfo;
 import ru.homyakin.seeker.telegram.models.UserType;
 import ru.homyakin.seeker.telegram.user.models.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import ru.homyakin.seeker.telegram.user.models.UserId;
 
@@ -21,13 +23,16 @@ public class UserService {
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private final UserDao userDao;
     private final PersonageService personageService;
+    private final UsernameSync usernameSync;
 
     public UserService(
         UserDao userDao,
-        PersonageService personageService
+        PersonageService personageService,
+        UsernameSync usernameSync
     ) {
         this.userDao = userDao;
         this.personageService = personageService;
+        this.usernameSync = usernameSync;
     }
 
     public User getOrCreateFromGroup(UserId userId) {
@@ -61,6 +66,10 @@ public class UserService {
             .orElseThrow(() -> new IllegalStateException("User must be present at personage " + personageId));
     }
 
+    /**
+     * Запоминает юзернеймы из апдейта без обращения к базе.
+     * Пользователи здесь не создаются: это происходит при первой команде, которая к ним обращается
+     */
     public void updateUserInfoFromUpdate(Update update) {
         if (update.hasMessage()) {
             updateUserInfoFromUser(update.getMessage().getFrom());
@@ -80,6 +89,10 @@ public class UserService {
         return userDao.getUsersWithRecoveredEnergy();
     }
 
+    public Map<PersonageId, LocalDateTime> getEnergyRecoveryTimes(LocalDateTime maxRecoveryTime) {
+        return userDao.getEnergyRecoveryTimes(maxRecoveryTime);
+    }
+
     public void deactivatePrivateMessages(UserId userId) {
         userDao.getById(userId).ifPresent(it -> it.deactivatePrivateMessages(userDao));
     }
@@ -88,21 +101,11 @@ public class UserService {
         if (user.getIsBot()) {
             return;
         }
-        final var userId = UserId.from(user.getId());
-        final var username = Optional.ofNullable(user.getUserName());
-        final var savedUser = userDao
-            .getById(userId)
-            .orElseGet(() -> createUser(userId, false, username));
-        if (!savedUser.username().equals(username)) {
-            userDao.updateUsername(savedUser.id(), username.orElse(null));
-        }
+        usernameSync.seen(UserId.from(user.getId()), Optional.ofNullable(user.getUserName()));
     }
 
     private User createUser(UserId userId, boolean isPrivateMessage) {
-        return createUser(userId, isPrivateMessage, Optional.empty());
-    }
-
-    private User createUser(UserId userId, boolean isPrivateMessage, Optional<String> username) {
+        final var username = usernameSync.known(userId);
         final var personage = username
             .map(
                 name -> personageService
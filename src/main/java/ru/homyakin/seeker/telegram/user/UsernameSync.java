@@ -0,0 +1,79 @@
+package ru.homyakin.seeker.telegram.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.homyakin.seeker.telegram.user.models.UserId;
+
+/**
+ * Синхронизирует юзернеймы пользователей из апдейтов с базой.
+ * Последний увиденный юзернейм хранится в памяти, в базу попадают только изменения, и раз в несколько секунд пачкой.
+ * Пользователей, которых ещё нет в базе, запись пропускает: они создаются при первой команде
+ * и берут юзернейм отсюда через known
+ */
+@Component
+public class UsernameSync {
+    private static final Logger logger = LoggerFactory.getLogger(UsernameSync.class);
+    private final UserDao userDao;
+    private final Cache<UserId, Optional<String>> known;
+    private final Map<UserId, Optional<String>> dirty = new ConcurrentHashMap<>();
+
+    public UsernameSync(UserDao userDao, UsernameSyncConfig config) {
+        this.userDao = userDao;
+        this.known = Caffeine.newBuilder()
+            .maximumSize(config.maxSize())
+            .expireAfterWrite(config.expireAfterWrite())
+            .build();
+    }
+
+    /**
+     * Запоминает юзернейм из апдейта. Если он совпадает с уже известным, то ничего не делает
+     */
+    public void seen(UserId userId, Optional<String> username) {
+        if (username.equals(known.getIfPresent(userId))) {
+            return;
+        }
+        known.put(userId, username);
+        dirty.put(userId, username);
+    }
+
+    /**
+     * @return последний увиденный юзернейм, если пользователь писал недавно
+     */
+    public Optional<String> known(UserId userId) {
+        final var username = known.getIfPresent(userId);
+        if (username != null) {
+            return username;
+        }
+        return dirty.getOrDefault(userId, Optional.empty());
+    }
+
+    @Scheduled(fixedDelayString = "${homyakin.seeker.telegram.username-sync.flushInterval}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        final var batch = new HashMap<>(dirty);
+        try {
+            userDao.updateUsernames(batch);
+            // Если за время записи юзернейм снова изменился, то он останется до следующего flush
+            batch.forEach(dirty::remove);
+            logger.debug("Flushed {} usernames", batch.size());
+        } catch (Exception e) {
+            logger.error("Unable to flush usernames", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,11 @@
+package ru.homyakin.seeker.telegram.user;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("homyakin.seeker.telegram.username-sync")
+public record UsernameSyncConfig(
+    int maxSize,
+    Duration expireAfterWrite
+) {
+}
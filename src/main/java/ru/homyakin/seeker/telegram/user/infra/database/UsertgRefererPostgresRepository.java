@@ -5,15 +5,14 @@ import org.springframework.stereotype.Repository;
 import ru.homyakin.seeker.telegram.user.entity.UsertgRefererStorage;
 import ru.homyakin.seeker.telegram.user.models.UserId;
 
-import javax.sql.DataSource;
 import java.time.ZonedDateTime;
 
 @Repository
 public class UsertgRefererPostgresRepository implements UsertgRefererStorage {
     private final JdbcClient jdbcClient;
 
-    public UsertgRefererPostgresRepository(DataSource dataSource) {
-        jdbcClient = JdbcClient.create(dataSource);
+    public UsertgRefererPostgresRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
     }
 
     @Override
@@ -3,7 +3,6 @@ package ru.homyakin.seeker.telegram.user.state;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
-import javax.sql.DataSource;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 import ru.homyakin.seeker.telegram.user.models.UserId;
@@ -14,9 +13,9 @@ public class UserStateDao {
     private final JsonUtils jsonUtils;
     private final JdbcClient jdbcClient;
 
-    public UserStateDao(JsonUtils jsonUtils, DataSource dataSource) {
+    public UserStateDao(JsonUtils jsonUtils, JdbcClient jdbcClient) {
         this.jsonUtils = jsonUtils;
-        this.jdbcClient = JdbcClient.create(dataSource);
+        this.jdbcClient = jdbcClient;
     }
 
     public Optional<UserState> getUserStateById(UserId userId) {
@@ -0,0 +1,64 @@
+package ru.homyakin.seeker.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Раскладывает части текста по сообщениям заданной длины. Часть не разрывается между сообщениями,
+ * если сама помещается в сообщение, иначе режется по limit.
+ * Для всех сообщений используется один StringBuilder ёмкостью limit.
+ * Первое сообщение может быть короче остальных: в него обычно дописывается текст вокруг частей
+ */
+public final class MessageChunks {
+    /**
+     * Максимальная длина текста сообщения в Telegram
+     */
+    public static final int TELEGRAM_MESSAGE_LIMIT = 4096;
+
+    private final int limit;
+    private final String separator;
+    private final StringBuilder buffer;
+    private final List<String> chunks = new ArrayList<>();
+    private int currentLimit;
+
+    public MessageChunks(int firstLimit, int limit, String separator) {
+        this.limit = limit;
+        this.separator = separator;
+        this.currentLimit = Math.min(firstLimit, limit);
+        this.buffer = new StringBuilder(limit);
+    }
+
+    public MessageChunks add(String part) {
+        final var length = buffer.isEmpty() ? part.length() : buffer.length() + separator.length() + part.length();
+        if (length > currentLimit && (!buffer.isEmpty() || chunks.isEmpty())) {
+            flush();
+        }
+        if (!buffer.isEmpty()) {
+            buffer.append(separator);
+        }
+        int start = 0;
+        while (part.length() - start > limit) {
+            buffer.append(part, start, start + limit);
+            flush();
+            start += limit;
+        }
+        buffer.append(part, start, part.length());
+        return this;
+    }
+
+    /**
+     * @return сообщения по порядку; первое есть всегда и может быть пустым, если в него ничего не поместилось
+     */
+    public List<String> build() {
+        if (!buffer.isEmpty() || chunks.isEmpty()) {
+            flush();
+        }
+        return List.copyOf(chunks);
+    }
+
+    private void flush() {
+        chunks.add(buffer.toString());
+        buffer.setLength(0);
+        currentLimit = limit;
+    }
+}
@@ -34,12 +34,23 @@ public class RandomUtils {
     }
 
     public static int getInInterval(int start, int end) {
+        return getInInterval(random, start, end);
+    }
+
+    /**
+     * Для мест, где нужен свой поток случайных чисел, например воспроизводимые симуляции
+     */
+    public static int getInInterval(RandomGenerator random, int start, int end) {
         if (start >= end) {
             return start;
         }
         return random.nextInt(start, end + 1);
     }
 
+    public static RandomGenerator generator() {
+        return random;
+    }
+
     public static OffsetDateTime getInInterval(OffsetDateTime start, OffsetDateTime end) {
         final var startSeconds = start.toEpochSecond();
         final var endSeconds = end.toEpochSecond();
@@ -13,18 +13,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 
+/**
+ * Читает ресурсы из classpath. Если задана папка контента, файл с тем же относительным путём берётся из неё:
+ * так локализацию и игровые данные можно поправить без сборки
+ */
 public class ResourceUtils {
     private static final Logger logger = LoggerFactory.getLogger(ResourceUtils.class);
+    private static volatile Path contentDirectory = null;
+
+    public static void setContentDirectory(Path directory) {
+        contentDirectory = directory;
+    }
 
     public static void doAction(String path, Consumer<InputStream> action) {
-        try (final var stream = new ClassPathResource(path).getInputStream()) {
+        try (final var stream = open(path)) {
             action.accept(stream);
         } catch (IOException _) {
         }
     }
 
     public static <T> Optional<T> calc(String path, Function<InputStream, T> function) {
-        try (final var stream = new ClassPathResource(path).getInputStream()) {
+        try (final var stream = open(path)) {
             return Optional.of(function.apply(stream));
         } catch (IOException _) {
             return Optional.empty();
@@ -33,7 +42,10 @@ public class ResourceUtils {
 
     public static List<Path> listAllFiles(String path) {
         try {
-            final var directory = Paths.get(new ClassPathResource(path).getURI());
+            final var external = external(path);
+            final var directory = external.isPresent() && Files.isDirectory(external.get())
+                ? external.get()
+                : Paths.get(new ClassPathResource(path).getURI());
             try (final var list = Files.list(directory)) {
                 return list.filter(Files::isRegularFile).toList();
             }
@@ -42,4 +54,20 @@ public class ResourceUtils {
             return List.of();
         }
     }
+
+    private static InputStream open(String path) throws IOException {
+        final var external = external(path);
+        if (external.isPresent() && Files.isRegularFile(external.get())) {
+            return Files.newInputStream(external.get());
+        }
+        return new ClassPathResource(path).getInputStream();
+    }
+
+    private static Optional<Path> external(String path) {
+        final var directory = contentDirectory;
+        if (directory == null) {
+            return Optional.empty();
+        }
+        return Optional.of(directory.resolve(path));
+    }
 }
@@ -1,43 +1,123 @@
 package ru.homyakin.seeker.utils;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
-public class StringNamedTemplate {
+/**
+ * Шаблон с параметрами вида ${name}, разобранный один раз на куски текста и слоты параметров.
+ * Параметры передаются через Binder в массив по индексу, поэтому форматирование не ищет ${ в тексте и не создаёт мапу.
+ * Слот без переданного значения выводится как есть, например ${name}
+ */
+public final class StringNamedTemplate {
     private static final String START_TOKEN = "${";
     private static final String END_TOKEN = "}";
+    private static final Object UNBOUND = new Object();
 
-    // https://gist.github.com/Homyakin/812028a0ed7aef18af2fbd62fbeac0c1
-    public static String format(String template, Map<String, Object> parameters) {
-        if (template == null) {
-            return null;
+    private final String[] texts;
+    private final int[] slots;
+    private final String[] params;
+    private final int textLength;
+
+    private StringNamedTemplate(String[] texts, int[] slots, String[] params) {
+        this.texts = texts;
+        this.slots = slots;
+        this.params = params;
+        var length = 0;
+        for (final var text : texts) {
+            length += text.length();
         }
-        StringBuilder result = new StringBuilder();
+        this.textLength = length;
+    }
+
+    // https://gist.github.com/Homyakin/812028a0ed7aef18af2fbd62fbeac0c1
+    public static StringNamedTemplate compile(String template) {
+        final var texts = new ArrayList<String>();
+        final var slotNames = new ArrayList<String>();
+        final var text = new StringBuilder();
 
         int startIndex = 0;
         while (startIndex < template.length()) {
             int openIndex = template.indexOf(START_TOKEN, startIndex);
             if (openIndex < 0) {
-                result.append(template.substring(startIndex));
+                text.append(template, startIndex, template.length());
                 break;
             }
 
             int closeIndex = template.indexOf(END_TOKEN, openIndex);
             if (closeIndex < 0) {
-                result.append(template.substring(startIndex));
+                text.append(template, startIndex, template.length());
                 break;
             }
 
-            String key = template.substring(openIndex + START_TOKEN.length(), closeIndex);
-            if (!parameters.containsKey(key)) {
-                result.append(template, startIndex, closeIndex + END_TOKEN.length());
-            } else {
-                result.append(template, startIndex, openIndex);
-                result.append(parameters.get(key));
-            }
+            text.append(template, startIndex, openIndex);
+            texts.add(text.toString());
+            text.setLength(0);
+            slotNames.add(template.substring(openIndex + START_TOKEN.length(), closeIndex));
 
             startIndex = closeIndex + END_TOKEN.length();
         }
+        texts.add(text.toString());
 
-        return result.toString();
+        final var params = slotNames.stream().distinct().toList();
+        final var slots = slotNames.stream().mapToInt(params::indexOf).toArray();
+        return new StringNamedTemplate(texts.toArray(String[]::new), slots, params.toArray(String[]::new));
+    }
+
+    /**
+     * @return имена параметров без повторов в порядке первого появления в шаблоне
+     */
+    public List<String> params() {
+        return List.of(params);
+    }
+
+    public Binder bind() {
+        return new Binder();
+    }
+
+    public Binder param(String name, Object value) {
+        return bind().param(name, value);
+    }
+
+    public String format() {
+        return new Binder().format();
+    }
+
+    public final class Binder {
+        private final Object[] values = new Object[params.length];
+
+        private Binder() {
+            Arrays.fill(values, UNBOUND);
+        }
+
+        /**
+         * Параметры, которых нет в шаблоне, игнорируются: в переводах могут использоваться не все параметры
+         */
+        public Binder param(String name, Object value) {
+            for (int i = 0; i < params.length; ++i) {
+                if (params[i].equals(name)) {
+                    values[i] = value;
+                    return this;
+                }
+            }
+            return this;
+        }
+
+        public String format() {
+            if (slots.length == 0) {
+                return texts[0];
+            }
+            final var result = new StringBuilder(textLength + slots.length * 16);
+            for (int i = 0; i < slots.length; ++i) {
+                result.append(texts[i]);
+                final var value = values[slots[i]];
+                if (value == UNBOUND) {
+                    result.append(START_TOKEN).append(params[slots[i]]).append(END_TOKEN);
+                } else {
+                    result.append(value);
+                }
+            }
+            return result.append(texts[slots.length]).toString();
+        }
     }
 }
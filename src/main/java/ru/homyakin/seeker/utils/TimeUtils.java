@@ -35,8 +35,11 @@ public class TimeUtils {
     }
 
     public static LocalDate thisWeekMonday() {
-        final var today = LocalDate.now();
-        return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return weekMonday(LocalDate.now());
+    }
+
+    public static LocalDate weekMonday(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
     }
 
     public static LocalDate thisWeekSunday() {
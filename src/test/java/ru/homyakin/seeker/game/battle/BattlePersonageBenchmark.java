@@ -0,0 +1,55 @@
+package ru.homyakin.seeker.game.battle;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.homyakin.seeker.game.personage.models.Characteristics;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattlePersonageBenchmark {
+    private final Characteristics characteristics = new Characteristics(500, 50, 20, 8, 6, 4);
+    private BattlePersonage attacker;
+    private BattlePersonage fullHealthTarget;
+    private BattlePersonage target;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        attacker = new BattlePersonage(1, characteristics, null);
+        fullHealthTarget = new BattlePersonage(2, characteristics, null);
+        target = fullHealthTarget.clone();
+    }
+
+    @Benchmark
+    public double power() {
+        return new BattlePersonage(1, characteristics, null).power();
+    }
+
+    @Benchmark
+    public double healthForTargetPower() {
+        return attacker.calculateHealthForTargetPower(32052);
+    }
+
+    @Benchmark
+    public boolean dealDamage() {
+        // Иначе большая часть итерации замеряла бы удары по мёртвому
+        if (target.isDead()) {
+            target = fullHealthTarget.clone();
+        }
+        attacker.dealDamageToPersonage(target);
+        return target.isDead();
+    }
+}
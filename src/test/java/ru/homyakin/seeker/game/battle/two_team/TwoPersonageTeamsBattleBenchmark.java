@@ -0,0 +1,45 @@
+package ru.homyakin.seeker.game.battle.two_team;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.homyakin.seeker.game.battle.BattlePersonage;
+import ru.homyakin.seeker.test_utils.benchmark.BattleTeams;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TwoPersonageTeamsBattleBenchmark {
+    @Param({"1:1", "20:60", "200:600"})
+    private String teams;
+
+    private final TwoPersonageTeamsBattle battle = new TwoPersonageTeamsBattle();
+    private List<BattlePersonage> firstTeam;
+    private List<BattlePersonage> secondTeam;
+
+    @Setup
+    public void setup() {
+        final var sizes = teams.split(":");
+        final var firstSize = Integer.parseInt(sizes[0]);
+        firstTeam = BattleTeams.team(1, firstSize);
+        secondTeam = BattleTeams.team(firstSize + 1, Integer.parseInt(sizes[1]));
+    }
+
+    @Benchmark
+    public TwoTeamBattleResult battle() {
+        return battle.battle(firstTeam, secondTeam);
+    }
+}
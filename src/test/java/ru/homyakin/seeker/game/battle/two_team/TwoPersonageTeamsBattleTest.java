@@ -0,0 +1,142 @@
+package ru.homyakin.seeker.game.battle.two_team;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.homyakin.seeker.game.battle.BattlePersonage;
+import ru.homyakin.seeker.game.battle.PersonageBattleResult;
+import ru.homyakin.seeker.game.event.raid.generator.GroupGenerator;
+import ru.homyakin.seeker.game.personage.models.Characteristics;
+import ru.homyakin.seeker.test_utils.battle.ReferenceTwoPersonageTeamsBattle;
+import ru.homyakin.seeker.test_utils.benchmark.BattleTeams;
+
+public class TwoPersonageTeamsBattleTest {
+    private final TwoPersonageTeamsBattle battle = new TwoPersonageTeamsBattle();
+
+    @Test
+    public void Given_EqualDuel_When_BattleManyTimes_Then_WinRateSameAsReferenceEngine() {
+        // given
+        final var first = List.of(new BattlePersonage(1, new Characteristics(500, 50, 20, 5, 5, 5), null));
+        final var second = List.of(new BattlePersonage(2, new Characteristics(500, 50, 20, 5, 5, 5), null));
+
+        // when
+        final var actual = simulate(first, second, battle::battle);
+        final var expected = simulate(first, second, ReferenceTwoPersonageTeamsBattle::battle);
+
+        // then
+        assertSameDistribution(expected, actual);
+    }
+
+    @Test
+    public void Given_UnequalDuel_When_BattleManyTimes_Then_WinRateSameAsReferenceEngine() {
+        // given
+        final var first = List.of(new BattlePersonage(1, new Characteristics(600, 55, 20, 9, 3, 3), null));
+        final var second = List.of(new BattlePersonage(2, new Characteristics(500, 50, 25, 2, 6, 7), null));
+
+        // when
+        final var actual = simulate(first, second, battle::battle);
+        final var expected = simulate(first, second, ReferenceTwoPersonageTeamsBattle::battle);
+
+        // then
+        assertSameDistribution(expected, actual);
+    }
+
+    @Test
+    public void Given_GeneratedRaidGroup_When_BattleManyTimes_Then_WinRateSameAsReferenceEngine() {
+        // given
+        final var personages = BattleTeams.team(1, 10);
+        final var enemies = new GroupGenerator().generate(personages, 1.0);
+
+        // when
+        final var actual = simulate(enemies, personages, battle::battle);
+        final var expected = simulate(enemies, personages, ReferenceTwoPersonageTeamsBattle::battle);
+
+        // then
+        assertSameDistribution(expected, actual);
+    }
+
+    @Test
+    public void Given_SameSeed_When_Battle_Then_SameResult() {
+        // given
+        final var first = BattleTeams.team(1, 5);
+        final var second = BattleTeams.team(6, 15);
+
+        // when
+        final var result1 = battle.battle(first, second, new SplittableRandom(42));
+        final var result2 = battle.battle(first, second, new SplittableRandom(42));
+
+        // then
+        Assertions.assertEquals(result1, result2);
+    }
+
+    @Test
+    public void When_Battle_Then_ResultsInInputOrderAndInputNotChanged() {
+        // given
+        final var first = BattleTeams.team(1, 3);
+        final var second = BattleTeams.team(4, 9);
+        final var health = first.getFirst().remainingHealth();
+
+        // when
+        final var result = battle.battle(first, second);
+
+        // then
+        Assertions.assertEquals(
+            first.stream().map(it -> it.personage().id()).toList(),
+            result.firstTeamResults().stream().map(it -> it.personage().id()).toList()
+        );
+        Assertions.assertEquals(
+            second.stream().map(it -> it.personage().id()).toList(),
+            result.secondTeamResults().stream().map(it -> it.personage().id()).toList()
+        );
+        Assertions.assertEquals(health, first.getFirst().remainingHealth());
+        final var loser = result.winner() == TwoTeamBattleWinner.FIRST_TEAM
+            ? result.secondTeamResults()
+            : result.firstTeamResults();
+        Assertions.assertTrue(loser.stream().allMatch(it -> it.stats().isDead()));
+    }
+
+    private static Distribution simulate(
+        List<BattlePersonage> first,
+        List<BattlePersonage> second,
+        BiFunction<List<BattlePersonage>, List<BattlePersonage>, TwoTeamBattleResult> engine
+    ) {
+        int firstTeamWins = 0;
+        double damage = 0;
+        for (int i = 0; i < BATTLES; ++i) {
+            final var result = engine.apply(first, second);
+            if (result.winner() == TwoTeamBattleWinner.FIRST_TEAM) {
+                ++firstTeamWins;
+            }
+            damage += result.firstTeamResults().stream()
+                .map(PersonageBattleResult::stats)
+                .mapToLong(it -> it.damageDealt())
+                .sum();
+        }
+        return new Distribution((double) firstTeamWins / BATTLES, damage / BATTLES);
+    }
+
+    private static void assertSameDistribution(Distribution expected, Distribution actual) {
+        final var pooled = (expected.firstTeamWinRate() + actual.firstTeamWinRate()) / 2;
+        final var error = Math.sqrt(pooled * (1 - pooled) * 2 / BATTLES);
+        Assertions.assertTrue(
+            Math.abs(expected.firstTeamWinRate() - actual.firstTeamWinRate()) <= MAX_Z * error,
+            "Win rate differs: expected %f, actual %f".formatted(expected.firstTeamWinRate(), actual.firstTeamWinRate())
+        );
+        Assertions.assertEquals(
+            expected.firstTeamDamage(),
+            actual.firstTeamDamage(),
+            expected.firstTeamDamage() * DAMAGE_TOLERANCE,
+            "Average damage differs"
+        );
+    }
+
+    private record Distribution(double firstTeamWinRate, double firstTeamDamage) {
+    }
+
+    private static final int BATTLES = 4000;
+    // Порог с большим запасом, чтобы тест не падал случайно
+    private static final double MAX_Z = 4.5;
+    private static final double DAMAGE_TOLERANCE = 0.05;
+}
@@ -0,0 +1,119 @@
+package ru.homyakin.seeker.game.catalog;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.homyakin.seeker.game.item.models.GenerateItemObject;
+import ru.homyakin.seeker.game.item.models.ItemRarity;
+import ru.homyakin.seeker.game.item.modifier.models.GenerateModifier;
+import ru.homyakin.seeker.game.item.modifier.models.ModifierType;
+import ru.homyakin.seeker.game.personage.models.PersonageSlot;
+
+public class GameCatalogSnapshotTest {
+    private final SplittableRandom random = new SplittableRandom(0);
+
+    @Test
+    public void Given_Modifiers_When_RandomModifierExcept_Then_NeverReturnExcludedAndReturnAllOthers() {
+        // given
+        final var modifiers = List.of(
+            modifier(1, ModifierType.PREFIX),
+            modifier(2, ModifierType.PREFIX),
+            modifier(3, ModifierType.SUFFIX),
+            modifier(4, ModifierType.SUFFIX)
+        );
+        final var snapshot = snapshot(Map.of(), Map.of(ItemRarity.COMMON, modifiers));
+
+        // when
+        final var result = new HashSet<Integer>();
+        for (int i = 0; i < 1000; ++i) {
+            result.add(snapshot.randomModifierExcept(ItemRarity.COMMON, 2, random).orElseThrow().id());
+        }
+
+        // then
+        Assertions.assertEquals(Set.of(1, 3, 4), result);
+    }
+
+    @Test
+    public void Given_SingleModifier_When_RandomModifierExceptIt_Then_ReturnEmpty() {
+        // given
+        final var snapshot = snapshot(Map.of(), Map.of(ItemRarity.COMMON, List.of(modifier(1, ModifierType.PREFIX))));
+
+        // when
+        final var result = snapshot.randomModifierExcept(ItemRarity.COMMON, 1, random);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void Given_Modifiers_When_RandomModifierWithType_Then_ReturnOnlyThisType() {
+        // given
+        final var modifiers = List.of(
+            modifier(1, ModifierType.PREFIX),
+            modifier(2, ModifierType.SUFFIX),
+            modifier(3, ModifierType.SUFFIX)
+        );
+        final var snapshot = snapshot(Map.of(), Map.of(ItemRarity.COMMON, modifiers));
+
+        // when
+        final var result = new HashSet<Integer>();
+        for (int i = 0; i < 100; ++i) {
+            result.add(snapshot.randomModifier(ItemRarity.COMMON, ModifierType.SUFFIX, random).orElseThrow().id());
+        }
+
+        // then
+        Assertions.assertEquals(Set.of(2, 3), result);
+    }
+
+    @Test
+    public void Given_Objects_When_RandomObject_Then_ReturnOnlyObjectsForSlot() {
+        // given
+        final var objects = List.of(
+            object(1, Set.of(PersonageSlot.MAIN_HAND)),
+            object(2, Set.of(PersonageSlot.MAIN_HAND, PersonageSlot.OFF_HAND)),
+            object(3, Set.of(PersonageSlot.SHOES))
+        );
+        final var snapshot = snapshot(Map.of(ItemRarity.COMMON, objects), Map.of());
+
+        // when
+        final var result = new HashSet<Integer>();
+        for (int i = 0; i < 100; ++i) {
+            result.add(snapshot.randomObject(ItemRarity.COMMON, PersonageSlot.MAIN_HAND, random).orElseThrow().id());
+        }
+
+        // then
+        Assertions.assertEquals(Set.of(1, 2), result);
+    }
+
+    @Test
+    public void Given_EmptySnapshot_When_Get_Then_ReturnEmpty() {
+        final var snapshot = GameCatalogSnapshot.EMPTY;
+        Assertions.assertTrue(snapshot.randomRaid(random).isEmpty());
+        Assertions.assertTrue(snapshot.raid(1).isEmpty());
+        Assertions.assertTrue(snapshot.randomRumor(random).isEmpty());
+        Assertions.assertTrue(snapshot.randomObject(ItemRarity.COMMON, PersonageSlot.SHOES, random).isEmpty());
+        Assertions.assertTrue(snapshot.randomModifier(ItemRarity.COMMON, random).isEmpty());
+        Assertions.assertTrue(snapshot.randomModifierExcept(ItemRarity.COMMON, 1, random).isEmpty());
+        Assertions.assertTrue(snapshot.menuItem(1).isEmpty());
+        Assertions.assertTrue(snapshot.availableMenu().isEmpty());
+    }
+
+    private static GameCatalogSnapshot snapshot(
+        Map<ItemRarity, List<GenerateItemObject>> objects,
+        Map<ItemRarity, List<GenerateModifier>> modifiers
+    ) {
+        return new GameCatalogSnapshot(List.of(), List.of(), List.of(), objects, modifiers, List.of());
+    }
+
+    private static GenerateModifier modifier(int id, ModifierType type) {
+        return new GenerateModifier(id, "modifier" + id, type, null, Map.of());
+    }
+
+    private static GenerateItemObject object(int id, Set<PersonageSlot> slots) {
+        return new GenerateItemObject(id, "object" + id, slots, null, Map.of());
+    }
+}
@@ -0,0 +1,60 @@
+package ru.homyakin.seeker.game.event.launched.partition;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import ru.homyakin.seeker.utils.TimeUtils;
+
+public class EventPartitionMaintenanceTest {
+    private final EventPartitionDao dao = Mockito.mock();
+    private final EventPartitionMaintenance maintenance = new EventPartitionMaintenance(dao, new EventPartitionConfig(2));
+    private final LocalDate currentMonth = TimeUtils.moscowDate().withDayOfMonth(1);
+
+    @Test
+    public void Given_OnlyCurrentMonth_When_Maintain_Then_CreateNextMonthAfterCurrentRange() {
+        // given
+        final var current = partition(currentMonth, 100);
+        Mockito.when(dao.getAll()).thenReturn(List.of(current));
+
+        // when
+        maintenance.maintain();
+
+        // then
+        final var captor = ArgumentCaptor.forClass(EventPartition.class);
+        Mockito.verify(dao).create(captor.capture());
+        final var created = captor.getValue();
+        Assertions.assertEquals(currentMonth.plusMonths(1), created.month());
+        Assertions.assertEquals(Optional.of(current.toId()), created.fromId());
+        Assertions.assertEquals(current.toId() + EventPartition.SIZE, created.toId());
+        Mockito.verify(dao).moveSequenceTo(current.fromId().orElseThrow());
+    }
+
+    @Test
+    public void Given_PartitionsOlderThanRetention_When_Maintain_Then_ArchiveOnlyThem() {
+        // given
+        final var legacy = new EventPartition(currentMonth.minusMonths(4), "legacy", Optional.empty(), 100, false);
+        final var archived = new EventPartition(currentMonth.minusMonths(3), "archived", Optional.of(50L), 100, true);
+        final var old = partition(currentMonth.minusMonths(3), 200);
+        final var kept = partition(currentMonth.minusMonths(2), 300);
+        final var next = partition(currentMonth.plusMonths(1), 500);
+        Mockito.when(dao.getAll()).thenReturn(List.of(legacy, archived, old, kept, next));
+
+        // when
+        maintenance.maintain();
+
+        // then
+        Mockito.verify(dao).archive(legacy);
+        Mockito.verify(dao).archive(old);
+        Mockito.verify(dao, Mockito.never()).archive(archived);
+        Mockito.verify(dao, Mockito.never()).archive(kept);
+        Mockito.verify(dao, Mockito.never()).create(Mockito.any());
+    }
+
+    private static EventPartition partition(LocalDate month, long fromId) {
+        return new EventPartition(month, "test", Optional.of(fromId), fromId + EventPartition.SIZE, false);
+    }
+}
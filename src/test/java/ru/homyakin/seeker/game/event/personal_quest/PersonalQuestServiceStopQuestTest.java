@@ -10,12 +10,13 @@ import ru.homyakin.seeker.game.models.Money;
 import ru.homyakin.seeker.game.personage.PersonageService;
 import ru.homyakin.seeker.game.personage.event.PersonageEventService;
 import ru.homyakin.seeker.game.personage.event.QuestParticipant;
-import ru.homyakin.seeker.infrastructure.lock.InMemoryLockService;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.lock.StripedLockService;
 import ru.homyakin.seeker.test_utils.PersonageUtils;
 import ru.homyakin.seeker.test_utils.event.LaunchedEventUtils;
 import ru.homyakin.seeker.utils.RandomUtils;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -27,7 +28,7 @@ import static org.mockito.Mockito.when;
 public class PersonalQuestServiceStopQuestTest {
     private final PersonalQuestDao personalQuestDao = Mockito.mock();
     private final PersonageService personageService = Mockito.mock();
-    private final LockService lockService = new InMemoryLockService();
+    private final LockService lockService = new StripedLockService(16, Duration.ofMillis(100));
     private final LaunchedEventService launchedEventService = Mockito.mock();
     private final PersonalQuestConfig config = Mockito.mock();
     private final PersonageEventService personageEventService = Mockito.mock();
@@ -59,6 +60,7 @@ public class PersonalQuestServiceStopQuestTest {
         // then
         final var expected = new EventResult.PersonalQuestResult.Success(quest, participant.personage(), REWARD);
         assertEquals(expected, result);
+        Mockito.verify(personageService).updateQuestStreak(participant.personage().id(), true);
     }
 
     @Test
@@ -80,6 +82,7 @@ public class PersonalQuestServiceStopQuestTest {
         // then
         final var expected = new EventResult.PersonalQuestResult.Failure(quest, participant.personage());
         assertEquals(expected, result);
+        Mockito.verify(personageService).updateQuestStreak(participant.personage().id(), false);
     }
 
     @Test
@@ -16,13 +16,15 @@ import ru.homyakin.seeker.game.personage.event.AddPersonageToEventRequest;
 import ru.homyakin.seeker.game.personage.event.PersonageEventService;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.personage.models.errors.NotEnoughEnergy;
-import ru.homyakin.seeker.infrastructure.lock.InMemoryLockService;
+import ru.homyakin.seeker.infrastructure.lock.LockKey;
 import ru.homyakin.seeker.infrastructure.lock.LockPrefixes;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.lock.StripedLockService;
 import ru.homyakin.seeker.test_utils.PersonageUtils;
 import ru.homyakin.seeker.utils.TimeUtils;
 import ru.homyakin.seeker.utils.models.Success;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -35,7 +37,7 @@ import static org.mockito.Mockito.when;
 public class PersonalQuestServiceTakeQuestTest {
     private final PersonalQuestDao personalQuestDao = Mockito.mock();
     private final PersonageService personageService = Mockito.mock();
-    private final LockService lockService = new InMemoryLockService();
+    private final LockService lockService = new StripedLockService(16, Duration.ofMillis(100));
     private final LaunchedEventService launchedEventService = Mockito.mock();
     private final PersonalQuestConfig config = Mockito.mock();
     private final PersonageEventService personageEventService = Mockito.mock();
@@ -57,7 +59,7 @@ public class PersonalQuestServiceTakeQuestTest {
     public void Given_PersonageLocked_When_TakeQuest_Then_ReturnPersonageLocked() {
         // Given
         PersonageId personageId = new PersonageId(1);
-        lockService.tryLock(LockPrefixes.PERSONAGE.name() + "-" + personageId.value());
+        lockService.tryLock(new LockKey(LockPrefixes.PERSONAGE, personageId.value()));
 
         // When
         final var result = personalQuestService.takeQuest(personageId);
@@ -6,12 +6,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import ru.homyakin.seeker.game.catalog.GameCatalog;
 import ru.homyakin.seeker.game.event.raid.models.Raid;
 import ru.homyakin.seeker.game.event.launched.LaunchedEventService;
 import ru.homyakin.seeker.game.event.raid.models.RaidPersonageParams;
 import ru.homyakin.seeker.game.personage.PersonageService;
 import ru.homyakin.seeker.game.event.raid.models.JoinToRaidResult;
 import ru.homyakin.seeker.game.event.raid.models.AddPersonageToRaidError;
+import ru.homyakin.seeker.game.personage.event.AddPersonageToEventError;
 import ru.homyakin.seeker.game.personage.event.AddPersonageToEventRequest;
 import ru.homyakin.seeker.game.personage.event.PersonageEventService;
 import ru.homyakin.seeker.game.personage.event.RaidParticipant;
@@ -28,12 +30,14 @@ import java.util.stream.Stream;
 
 public class RaidServiceAddPersonageTest {
     private final RaidDao raidDao = Mockito.mock();
+    private final GameCatalog gameCatalog = Mockito.mock();
     private final LaunchedEventService launchedEventService = Mockito.mock();
     private final PersonageService personageService = Mockito.mock();
     private final RaidConfig config = Mockito.mock();
     private final PersonageEventService personageEventService = Mockito.mock();
     private final RaidService service = new RaidService(
         raidDao,
+        gameCatalog,
         personageService,
         launchedEventService,
         personageEventService,
@@ -59,7 +63,7 @@ public class RaidServiceAddPersonageTest {
             new AddPersonageToEventRequest(launchedEvent.id(), personageId, Optional.of(new RaidPersonageParams(false)))
             ))
             .thenReturn(Either.right(Success.INSTANCE));
-        Mockito.when(raidDao.getByEventId(launchedEvent.eventId())).thenReturn(Optional.of(raid));
+        Mockito.when(gameCatalog.getRaid(launchedEvent.eventId())).thenReturn(Optional.of(raid));
         final var participants = Stream.of(PersonageUtils.random(), PersonageUtils.withId(personageId))
             .map(it -> new RaidParticipant(it, new RaidPersonageParams(false)))
             .toList();
@@ -110,7 +114,7 @@ public class RaidServiceAddPersonageTest {
         // given
         final var launchedEvent = LaunchedEventUtils.expiredWithEventId(1);
         Mockito.when(launchedEventService.getById(launchedEvent.id())).thenReturn(Optional.of(launchedEvent));
-        Mockito.when(raidDao.getByEventId(launchedEvent.eventId())).thenReturn(Optional.of(raid));
+        Mockito.when(gameCatalog.getRaid(launchedEvent.eventId())).thenReturn(Optional.of(raid));
 
         // when
         final var result = service.addPersonage(personageId, launchedEvent.id());
@@ -120,12 +124,32 @@ public class RaidServiceAddPersonageTest {
         Assertions.assertEquals(AddPersonageToRaidError.RaidInFinalStatus.ExpiredRaid.INSTANCE, result.getLeft());
     }
 
+    @Test
+    public void Given_EventFinishedWhileWaitingLock_When_JoinRaid_Then_ReturnEndedRaidErrorAndKeepEnergy() {
+        // given
+        final var launchedEvent = LaunchedEventUtils.withEventId(1);
+        Mockito.when(launchedEventService.getById(launchedEvent.id())).thenReturn(Optional.of(launchedEvent));
+        Mockito.when(gameCatalog.getRaid(launchedEvent.eventId())).thenReturn(Optional.of(raid));
+        Mockito.when(launchedEventService.getActiveEventByPersonageId(personageId)).thenReturn(Optional.empty());
+        Mockito.when(personageService.checkPersonageEnergy(personageId, 33))
+            .thenReturn(Either.right(PersonageUtils.withId(personageId)));
+        Mockito.when(personageEventService.addPersonageToLaunchedEvent(Mockito.any()))
+            .thenReturn(Either.left(new AddPersonageToEventError.EventInFinalStatus(LaunchedEventUtils.expiredWithEventId(1))));
+
+        // when
+        final var result = service.addPersonage(personageId, launchedEvent.id());
+
+        // then
+        Assertions.assertEquals(Either.left(AddPersonageToRaidError.RaidInFinalStatus.ExpiredRaid.INSTANCE), result);
+        Mockito.verify(personageService, Mockito.never()).reduceEnergy(Mockito.any(), Mockito.anyInt(), Mockito.any());
+    }
+
     @Test
     public void Given_PersonageInThisEvent_When_JoinRaid_Then_ReturnPersonageInThisRaidError() {
         // given
         final var launchedEvent = LaunchedEventUtils.withEventId(1);
         Mockito.when(launchedEventService.getById(launchedEvent.id())).thenReturn(Optional.of(launchedEvent));
-        Mockito.when(raidDao.getByEventId(launchedEvent.eventId())).thenReturn(Optional.of(raid));
+        Mockito.when(gameCatalog.getRaid(launchedEvent.eventId())).thenReturn(Optional.of(raid));
         Mockito.when(launchedEventService.getActiveEventByPersonageId(personageId)).thenReturn(Optional.of(launchedEvent));
 
         // when
@@ -141,7 +165,7 @@ public class RaidServiceAddPersonageTest {
         // given
         final var launchedEvent = LaunchedEventUtils.withId(1);
         Mockito.when(launchedEventService.getById(launchedEvent.id())).thenReturn(Optional.of(launchedEvent));
-        Mockito.when(raidDao.getByEventId(launchedEvent.eventId())).thenReturn(Optional.of(raid));
+        Mockito.when(gameCatalog.getRaid(launchedEvent.eventId())).thenReturn(Optional.of(raid));
         Mockito.when(launchedEventService.getActiveEventByPersonageId(personageId))
             .thenReturn(Optional.of(LaunchedEventUtils.withId(2)));
 
@@ -158,7 +182,7 @@ public class RaidServiceAddPersonageTest {
         // given
         final var launchedEvent = LaunchedEventUtils.withEventId(1);
         Mockito.when(launchedEventService.getById(launchedEvent.id())).thenReturn(Optional.of(launchedEvent));
-        Mockito.when(raidDao.getByEventId(launchedEvent.eventId())).thenReturn(Optional.of(raid));
+        Mockito.when(gameCatalog.getRaid(launchedEvent.eventId())).thenReturn(Optional.of(raid));
         Mockito.when(launchedEventService.getActiveEventByPersonageId(personageId)).thenReturn(Optional.empty());
         Mockito.when(personageService.checkPersonageEnergy(personageId, 33))
             .thenReturn(Either.left(NotEnoughEnergy.INSTANCE));
@@ -0,0 +1,41 @@
+package ru.homyakin.seeker.game.event.raid.generator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.homyakin.seeker.game.battle.BattlePersonage;
+import ru.homyakin.seeker.test_utils.benchmark.BattleTeams;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupGeneratorBenchmark {
+    @Param({"1", "20", "200"})
+    private int personages;
+
+    private final GroupGenerator generator = new GroupGenerator();
+    private List<BattlePersonage> team;
+
+    @Setup
+    public void setup() {
+        team = BattleTeams.team(1, personages);
+    }
+
+    @Benchmark
+    public List<BattlePersonage> generate() {
+        return generator.generate(team, 1.0);
+    }
+}
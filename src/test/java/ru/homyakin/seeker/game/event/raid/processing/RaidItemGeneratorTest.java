@@ -1,14 +1,21 @@
 package ru.homyakin.seeker.game.event.raid.processing;
 
 import io.vavr.control.Either;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import ru.homyakin.seeker.game.event.raid.models.GeneratedItemResult;
+import ru.homyakin.seeker.game.event.raid.models.RaidPersonageParams;
 import ru.homyakin.seeker.game.item.ItemService;
+import ru.homyakin.seeker.game.item.errors.GenerateItemError;
 import ru.homyakin.seeker.game.item.models.Item;
 import ru.homyakin.seeker.game.personage.PersonageService;
+import ru.homyakin.seeker.game.personage.event.RaidParticipant;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.random.item.action.raid.PersonageNextRaidItemParams;
+import ru.homyakin.seeker.test_utils.PersonageUtils;
 import ru.homyakin.seeker.utils.RandomUtils;
 
 public class RaidItemGeneratorTest {
@@ -19,40 +26,91 @@ public class RaidItemGeneratorTest {
 
     @Test
     public void Given_Lose_Then_ReturnEmpty() {
-        final var result = generator.generateItem(false, Mockito.mock(), true);
+        final var result = generator.generateItems(false, List.of(participant(1, false)));
         Assertions.assertTrue(result.isEmpty());
+        Mockito.verifyNoInteractions(personageService, itemService, personageNextRaidItemParams);
     }
 
     @Test
     public void Given_IsExhausted_Then_ReturnEmpty() {
-        final var result = generator.generateItem(true, Mockito.mock(), false);
+        final var result = generator.generateItems(true, List.of(participant(1, true)));
         Assertions.assertTrue(result.isEmpty());
+        Mockito.verifyNoInteractions(personageService, itemService, personageNextRaidItemParams);
     }
 
     @Test
     public void Given_WinAndNotExhausted_When_ProcessChanceIsFalse_Then_ReturnEmpty() {
+        final var participants = List.of(participant(1, false));
+        Mockito.when(personageService.countSuccessRaidsFromLastItem(Mockito.any()))
+            .thenReturn(Map.of(PersonageId.from(1), 3));
         try (final var mock = Mockito.mockStatic(RandomUtils.class)) {
             mock.when(() -> RandomUtils.processChance(Mockito.anyInt())).thenReturn(false);
-            final var result = generator.generateItem(true, Mockito.mock(), false);
+            final var result = generator.generateItems(true, participants);
             Assertions.assertTrue(result.isEmpty());
         }
-
+        Mockito.verifyNoInteractions(itemService, personageNextRaidItemParams);
     }
 
     @Test
     public void Given_WinAndNotExhausted_When_ProcessChanceIsTrue_Then_ReturnItem() {
+        // given
         final var expectedItem = Mockito.mock(Item.class);
+        final var personageId = PersonageId.from(1);
+        final var participants = List.of(participant(1, false));
+        Mockito.when(personageService.countSuccessRaidsFromLastItem(Mockito.any())).thenReturn(Map.of(personageId, 3));
+        Mockito.when(personageNextRaidItemParams.getAll(Mockito.any())).thenReturn(Map.of(personageId, Mockito.mock()));
+        Mockito.when(itemService.generateItemsForPersonages(Mockito.any(), Mockito.any()))
+            .thenReturn(Map.of(personageId, Either.right(expectedItem)));
 
+        // when
+        final Map<PersonageId, GeneratedItemResult> result;
         try (final var mock = Mockito.mockStatic(RandomUtils.class)) {
             mock.when(() -> RandomUtils.processChance(Mockito.anyInt())).thenReturn(true);
-            Mockito.when(personageNextRaidItemParams.get(Mockito.any())).thenReturn(Mockito.mock());
-            Mockito.when(itemService.generateItemForPersonage(Mockito.any(), Mockito.any())).thenReturn(Either.right(expectedItem));
+            result = generator.generateItems(true, participants);
+        }
 
-            final var result = generator.generateItem(true, Mockito.mock(), false);
+        // then
+        Assertions.assertInstanceOf(GeneratedItemResult.Success.class, result.get(personageId));
+        Assertions.assertEquals(expectedItem, ((GeneratedItemResult.Success) result.get(personageId)).item());
+    }
+
+    @Test
+    public void Given_SeveralParticipants_When_Generate_Then_LoadCountersAndParamsOnceForAll() {
+        // given
+        final var lucky = PersonageId.from(1);
+        final var fullBag = PersonageId.from(2);
+        final var participants = List.of(participant(1, false), participant(2, false), participant(3, true));
+        final var item = Mockito.mock(Item.class);
+        Mockito.when(personageService.countSuccessRaidsFromLastItem(Mockito.any()))
+            .thenReturn(Map.of(lucky, 10, fullBag, 10));
+        Mockito.when(personageNextRaidItemParams.getAll(Mockito.any()))
+            .thenReturn(Map.of(lucky, Mockito.mock(), fullBag, Mockito.mock()));
+        Mockito.when(itemService.generateItemsForPersonages(Mockito.any(), Mockito.any()))
+            .thenReturn(Map.of(
+                lucky, Either.right(item),
+                fullBag, Either.left(new GenerateItemError.NotEnoughSpace(item))
+            ));
 
-            Assertions.assertFalse(result.isEmpty());
-            Assertions.assertInstanceOf(GeneratedItemResult.Success.class, result.get());
-            Assertions.assertEquals(expectedItem, ((GeneratedItemResult.Success) result.get()).item());
+        // when
+        final Map<PersonageId, GeneratedItemResult> result;
+        try (final var mock = Mockito.mockStatic(RandomUtils.class)) {
+            mock.when(() -> RandomUtils.processChance(Mockito.anyInt())).thenReturn(true);
+            result = generator.generateItems(true, participants);
         }
+
+        // then
+        Mockito.verify(personageService, Mockito.times(1)).countSuccessRaidsFromLastItem(List.of(lucky, fullBag));
+        Mockito.verify(personageNextRaidItemParams, Mockito.times(1)).getAll(List.of(lucky, fullBag));
+        Mockito.verify(itemService, Mockito.times(1)).generateItemsForPersonages(Mockito.any(), Mockito.any());
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertInstanceOf(GeneratedItemResult.Success.class, result.get(lucky));
+        Assertions.assertInstanceOf(GeneratedItemResult.NotEnoughSpaceInBag.class, result.get(fullBag));
+    }
+
+    private static RaidParticipant participant(long id, boolean isExhausted) {
+        return new RaidParticipant(
+            PersonageUtils.withId(PersonageId.from(id)),
+            new RaidPersonageParams(isExhausted)
+        );
     }
 }
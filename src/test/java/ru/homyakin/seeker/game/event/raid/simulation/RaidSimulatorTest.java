@@ -0,0 +1,56 @@
+package ru.homyakin.seeker.game.event.raid.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.homyakin.seeker.game.event.raid.models.RaidTemplate;
+import ru.homyakin.seeker.test_utils.benchmark.BattleTeams;
+
+public class RaidSimulatorTest {
+    private final RaidSimulator simulator = new RaidSimulator(ForkJoinPool.commonPool());
+
+    @Test
+    public void Given_SameSeed_When_SimulateWithDifferentParallelism_Then_SameResult() {
+        // given
+        final var roster = BattleTeams.team(1, 5);
+
+        // when
+        final var parallel = simulator.simulate(RaidTemplate.ENEMY_GROUP, roster, 1.0, 1000, 7);
+        final RaidSimulationResult sequential;
+        try (final var pool = new ForkJoinPool(1)) {
+            sequential = new RaidSimulator(pool).simulate(RaidTemplate.ENEMY_GROUP, roster, 1.0, 1000, 7);
+        }
+
+        // then
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void When_RaidPowerGrows_Then_WinRateDecreases() {
+        // given
+        final var roster = BattleTeams.team(1, 5);
+
+        // when
+        final var weak = simulator.simulate(RaidTemplate.ENEMY_GROUP, roster, 0.5, 2000, 1);
+        final var strong = simulator.simulate(RaidTemplate.ENEMY_GROUP, roster, 2.0, 2000, 1);
+
+        // then
+        Assertions.assertTrue(weak.winRate() > strong.winRate());
+        Assertions.assertTrue(weak.survivors().mean() > strong.survivors().mean());
+    }
+
+    @Test
+    public void When_SolvePowerPercent_Then_WinRateCloseToTarget() {
+        // given
+        final var roster = BattleTeams.team(1, 3);
+        final var target = 0.6;
+
+        // when
+        final var result = simulator.solvePowerPercent(RaidTemplate.SINGLE_BOSS, roster, target, 2000, 3);
+
+        // then
+        Assertions.assertEquals(target, result.winRate(), 0.05);
+        final var check = simulator.simulate(RaidTemplate.SINGLE_BOSS, roster, result.powerPercent(), 2000, 4);
+        Assertions.assertEquals(target, check.winRate(), 0.07);
+    }
+}
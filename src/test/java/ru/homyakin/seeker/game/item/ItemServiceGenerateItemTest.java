@@ -2,6 +2,7 @@ package ru.homyakin.seeker.game.item;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Assertions;
@@ -9,10 +10,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import ru.homyakin.seeker.game.catalog.GameCatalog;
 import ru.homyakin.seeker.game.item.characteristics.ItemCharacteristicService;
 import ru.homyakin.seeker.game.item.characteristics.models.ModifierGenerateCharacteristics;
 import ru.homyakin.seeker.game.item.database.ItemDao;
 import ru.homyakin.seeker.game.item.database.ItemObjectDao;
+import ru.homyakin.seeker.game.item.errors.GenerateItemError;
 import ru.homyakin.seeker.game.item.models.GenerateItemObject;
 import ru.homyakin.seeker.game.item.models.GenerateItemParams;
 import ru.homyakin.seeker.game.item.modifier.ItemModifierService;
@@ -21,6 +24,7 @@ import ru.homyakin.seeker.game.item.models.Item;
 import ru.homyakin.seeker.game.item.characteristics.models.ObjectGenerateCharacteristics;
 import ru.homyakin.seeker.game.item.modifier.models.ModifierType;
 import ru.homyakin.seeker.game.item.models.ItemRarity;
+import ru.homyakin.seeker.game.personage.PersonageService;
 import ru.homyakin.seeker.game.personage.models.Characteristics;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.personage.models.PersonageSlot;
@@ -32,16 +36,20 @@ public class ItemServiceGenerateItemTest {
     private final ItemModifierService itemModifierService = Mockito.mock(ItemModifierService.class);
     private final ItemDao itemDao = Mockito.mock(ItemDao.class);
     private final ItemCharacteristicService characteristicService = Mockito.mock(ItemCharacteristicService.class);
+    private final PersonageService personageService = Mockito.mock(PersonageService.class);
+    private final GameCatalog gameCatalog = Mockito.mock(GameCatalog.class);
     private final ItemService service = new ItemService(
         itemObjectDao,
         itemModifierService,
         itemDao,
-        characteristicService
+        characteristicService,
+        personageService,
+        gameCatalog
     );
 
     @BeforeEach
     public void init() {
-        Mockito.when(itemObjectDao.getRandomObject(Mockito.any(), Mockito.any())).thenReturn(object);
+        Mockito.when(gameCatalog.getRandomObject(Mockito.any(), Mockito.any())).thenReturn(Optional.of(object));
     }
 
     @Test
@@ -114,6 +122,37 @@ public class ItemServiceGenerateItemTest {
         Assertions.assertEquals(item, captor.getValue());
     }
 
+    @Test
+    public void When_GenerateForSeveralPersonages_And_OneBagIsFull_Then_SaveOthersInOneBatch() {
+        // given
+        final var fullBagId = PersonageId.from(1L);
+        final var personages = List.of(PersonageUtils.withId(personageId), PersonageUtils.withId(fullBagId));
+        final var params = new GenerateItemParams(ItemRarity.COMMON, PersonageSlot.MAIN_HAND, 0);
+        Mockito.when(itemDao.countItemsInBag(Mockito.any())).thenReturn(
+            Map.of(personageId, 0, fullBagId, personages.get(1).maxBagSize())
+        );
+        Mockito.when(itemDao.saveItems(Mockito.any())).thenReturn(List.of(42L));
+        Mockito.when(characteristicService.createCharacteristics(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(
+            characteristics
+        );
+
+        // when
+        final var result = service.generateItemsForPersonages(
+            personages,
+            Map.of(personageId, params, fullBagId, params)
+        );
+
+        // then
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Item>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(itemDao, Mockito.times(1)).saveItems(captor.capture());
+        Mockito.verify(itemDao, Mockito.never()).saveItem(Mockito.any());
+        Assertions.assertEquals(1, captor.getValue().size());
+        Assertions.assertEquals(Optional.of(personageId), captor.getValue().getFirst().personageId());
+        Assertions.assertEquals(42L, result.get(personageId).get().id());
+        Assertions.assertInstanceOf(GenerateItemError.NotEnoughSpace.class, result.get(fullBagId).getLeft());
+    }
+
     private final PersonageId personageId = PersonageId.from(0L);
     private final GenerateItemObject object = new GenerateItemObject(
         0,
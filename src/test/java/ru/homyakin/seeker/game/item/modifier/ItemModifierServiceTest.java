@@ -3,16 +3,19 @@ package ru.homyakin.seeker.game.item.modifier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import ru.homyakin.seeker.game.catalog.GameCatalog;
 import ru.homyakin.seeker.game.item.characteristics.models.ModifierGenerateCharacteristics;
 import ru.homyakin.seeker.game.item.modifier.models.GenerateModifier;
 import ru.homyakin.seeker.game.item.modifier.models.ModifierType;
 import ru.homyakin.seeker.game.item.models.ItemRarity;
 
 import java.util.Map;
+import java.util.Optional;
 
 public class ItemModifierServiceTest {
     private final ItemModifierDao dao = Mockito.mock(ItemModifierDao.class);
-    private final ItemModifierService service = new ItemModifierService(dao);
+    private final GameCatalog gameCatalog = Mockito.mock(GameCatalog.class);
+    private final ItemModifierService service = new ItemModifierService(dao, gameCatalog);
 
     @Test
     public void When_GenerateZeroModifiers_Then_ReturnEmptyList() {
@@ -23,7 +26,7 @@ public class ItemModifierServiceTest {
 
     @Test
     public void When_Generate1Modifier_Then_ReturnOneModifier() {
-        Mockito.when(dao.getRandomModifier(ItemRarity.COMMON)).thenReturn(prefixModifier);
+        Mockito.when(gameCatalog.getRandomModifier(ItemRarity.COMMON)).thenReturn(Optional.of(prefixModifier));
         final var modifiers = service.generate(ItemRarity.COMMON, 1);
 
         Assertions.assertEquals(1, modifiers.size());
@@ -31,8 +34,8 @@ public class ItemModifierServiceTest {
 
     @Test
     public void When_Generate2Modifiers_And_FirstIsPrefix_Then_ReturnTwoPrefixes() {
-        Mockito.when(dao.getRandomModifier(ItemRarity.COMMON)).thenReturn(prefixModifier);
-        Mockito.when(dao.getRandomModifierExcludeId(prefixModifier.id(), ItemRarity.COMMON)).thenReturn(prefixModifier);
+        Mockito.when(gameCatalog.getRandomModifier(ItemRarity.COMMON)).thenReturn(Optional.of(prefixModifier));
+        Mockito.when(gameCatalog.getRandomModifierExcludeId(prefixModifier.id(), ItemRarity.COMMON)).thenReturn(Optional.of(prefixModifier));
         final var modifiers = service.generate(ItemRarity.COMMON, 2);
 
         Assertions.assertEquals(2, modifiers.size());
@@ -42,8 +45,8 @@ public class ItemModifierServiceTest {
 
     @Test
     public void When_Generate2Modifiers_And_FirstIsSuffix_Then_ReturnOnePrefixAndOneSuffix() {
-        Mockito.when(dao.getRandomModifier(ItemRarity.COMMON)).thenReturn(suffixModifier);
-        Mockito.when(dao.getRandomModifierWithType(ModifierType.PREFIX, ItemRarity.COMMON)).thenReturn(prefixModifier);
+        Mockito.when(gameCatalog.getRandomModifier(ItemRarity.COMMON)).thenReturn(Optional.of(suffixModifier));
+        Mockito.when(gameCatalog.getRandomModifierWithType(ModifierType.PREFIX, ItemRarity.COMMON)).thenReturn(Optional.of(prefixModifier));
         final var modifiers = service.generate(ItemRarity.COMMON, 2);
 
         Assertions.assertEquals(2, modifiers.size());
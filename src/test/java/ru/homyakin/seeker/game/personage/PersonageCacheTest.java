@@ -0,0 +1,185 @@
+package ru.homyakin.seeker.game.personage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.homyakin.seeker.game.models.Money;
+import ru.homyakin.seeker.game.personage.models.Characteristics;
+import ru.homyakin.seeker.game.personage.models.Personage;
+import ru.homyakin.seeker.test_utils.PersonageUtils;
+import ru.homyakin.seeker.utils.TimeUtils;
+
+public class PersonageCacheTest {
+    private final PersonageDao personageDao = Mockito.mock(PersonageDao.class);
+    private static final LocalDateTime REGEN_TIME = TimeUtils.moscowTime().plusHours(2);
+    private final PersonageCache cache = new PersonageCache(personageDao, new PersonageCacheConfig(true, 100, Duration.ofMinutes(10)));
+
+    @Test
+    public void Given_CachedPersonage_When_GetAgain_Then_DatabaseIsNotQueried() {
+        // given
+        final var personage = PersonageUtils.random();
+        final var loads = new AtomicInteger();
+
+        // when
+        cache.get(personage.id(), _ -> {
+            loads.incrementAndGet();
+            return Optional.of(personage);
+        });
+        final var result = cache.get(personage.id(), _ -> {
+            loads.incrementAndGet();
+            return Optional.of(personage);
+        });
+
+        // then
+        Assertions.assertEquals(Optional.of(personage), result);
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void When_UpdateStateLater_Then_UpdateOnlyOnFlushInBatch() {
+        // given
+        final var personage = PersonageUtils.randomZeroEnergy(Duration.ofHours(1));
+
+        // when
+        final var updated = cache.updateStateLater(personage, REGEN_TIME);
+
+        // then
+        Mockito.verify(personageDao, Mockito.never()).update(Mockito.any());
+        cache.flush();
+        Mockito.verify(personageDao).updateBatch(List.of(updated));
+        cache.flush();
+        Mockito.verify(personageDao, Mockito.times(1)).updateBatch(Mockito.any());
+    }
+
+    @Test
+    public void Given_DirtyPersonage_When_Save_Then_UpdateImmediatelyAndNothingToFlush() {
+        // given
+        final var personage = PersonageUtils.randomZeroEnergy(Duration.ofHours(1));
+        cache.updateStateLater(personage, REGEN_TIME);
+        final var updated = personage.addMoney(new Money(10));
+
+        // when
+        cache.save(updated);
+        cache.flush();
+
+        // then
+        Mockito.verify(personageDao).update(updated);
+        Mockito.verify(personageDao, Mockito.never()).updateBatch(Mockito.any());
+    }
+
+    @Test
+    public void Given_DirtyPersonage_When_Invalidate_Then_ComputedFieldsReloadedAndPendingStateKept() {
+        // given
+        final var personage = PersonageUtils.randomZeroEnergy(Duration.ofHours(1));
+        cache.get(personage.id(), _ -> Optional.of(personage));
+        final var updated = cache.updateStateLater(personage, REGEN_TIME);
+        final var reloaded = PersonageUtils.withId(personage.id());
+
+        // when
+        cache.invalidate(personage.id());
+
+        // then
+        Mockito.verify(personageDao, Mockito.never()).update(Mockito.any());
+        final var result = cache.get(personage.id(), _ -> Optional.of(reloaded)).orElseThrow();
+        Assertions.assertEquals(updated.energy(), result.energy());
+        Assertions.assertEquals(reloaded.itemCharacteristics(), result.itemCharacteristics());
+        cache.flush();
+        Mockito.verify(personageDao).updateBatch(List.of(updated));
+    }
+
+    @Test
+    public void Given_CachedPersonageWithNewMoney_When_UpdateStateLaterWithStaleCopy_Then_MoneyIsKept() {
+        // given
+        final var stale = PersonageUtils.randomZeroEnergy(Duration.ofHours(1));
+        cache.get(stale.id(), _ -> Optional.of(stale));
+        cache.save(stale.addMoney(new Money(10)));
+
+        // when
+        final var result = cache.updateStateLater(stale, REGEN_TIME);
+
+        // then
+        Assertions.assertEquals(stale.money().add(new Money(10)), result.money());
+        Assertions.assertNotEquals(stale.energy(), result.energy());
+        cache.flush();
+        Mockito.verify(personageDao).updateBatch(List.of(result));
+    }
+
+    @Test
+    public void Given_CachedPersonage_When_SaveStaleCopy_Then_ComputedFieldsAreKeptFromCache() {
+        // given
+        final var stale = PersonageUtils.random();
+        final var items = new Characteristics(10, 10, 10, 0, 0, 0);
+        final var fresh = new Personage(
+            stale.id(),
+            stale.name(),
+            stale.money(),
+            stale.characteristics(),
+            stale.energy(),
+            stale.badge(),
+            items,
+            stale.effects(),
+            stale.currentEvent()
+        );
+        cache.get(stale.id(), _ -> Optional.of(fresh));
+
+        // when
+        cache.save(stale.addMoney(new Money(5)));
+
+        // then
+        final var result = cache.get(stale.id(), _ -> Optional.empty()).orElseThrow();
+        Assertions.assertEquals(items, result.itemCharacteristics());
+        Assertions.assertEquals(stale.money().add(new Money(5)), result.money());
+    }
+
+    @Test
+    public void Given_SaveInTransaction_When_Rollback_Then_PersonageReloadedFromDatabase() {
+        // given
+        final var personage = PersonageUtils.random();
+        cache.get(personage.id(), _ -> Optional.of(personage));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.save(personage.addMoney(new Money(10)));
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        Assertions.assertEquals(Optional.of(personage), cache.get(personage.id(), _ -> Optional.of(personage)));
+    }
+
+    @Test
+    public void Given_DisabledCache_When_GetAndUpdateState_Then_AlwaysDatabase() {
+        // given
+        final var disabled = new PersonageCache(personageDao, new PersonageCacheConfig(false, 100, Duration.ofMinutes(10)));
+        final var personage = PersonageUtils.randomZeroEnergy(Duration.ofHours(1));
+        final var loads = new AtomicInteger();
+
+        // when
+        disabled.get(personage.id(), _ -> {
+            loads.incrementAndGet();
+            return Optional.of(personage);
+        });
+        disabled.get(personage.id(), _ -> {
+            loads.incrementAndGet();
+            return Optional.of(personage);
+        });
+        final var updated = disabled.updateStateLater(personage, REGEN_TIME);
+
+        // then
+        Assertions.assertEquals(2, loads.get());
+        Mockito.verify(personageDao).update(updated);
+        disabled.flush();
+        Mockito.verify(personageDao, Mockito.never()).updateBatch(Mockito.any());
+    }
+}
@@ -0,0 +1,64 @@
+package ru.homyakin.seeker.game.personage;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.homyakin.seeker.game.battle.PersonageBattleStats;
+import ru.homyakin.seeker.game.models.Money;
+import ru.homyakin.seeker.game.personage.models.Characteristics;
+import ru.homyakin.seeker.game.personage.models.LifetimeRaidStats;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.personage.models.PersonageRaidSavedResult;
+
+public class RaidHistoryCsvTest {
+    @Test
+    public void Given_History_When_Write_Then_RowPerRaidAndTotals() throws IOException {
+        // given
+        final var history = Stream.of(
+            result(20, 30, Optional.of(7L)),
+            result(10, 15, Optional.empty())
+        );
+        final var writer = new StringWriter();
+
+        // when
+        final var total = RaidHistoryCsv.write(history, writer);
+
+        // then
+        final var lines = writer.toString().split("\n");
+        Assertions.assertEquals(3, lines.length);
+        Assertions.assertTrue(lines[0].startsWith("launched_event_id,reward,generated_item_id,"));
+        Assertions.assertEquals("20,30,7,100,200,10,300,3,40,4,50,5,6,50,20,500,5,5,5", lines[1]);
+        Assertions.assertEquals("10,15,,100,200,10,300,3,40,4,50,5,6,50,20,500,5,5,5", lines[2]);
+        Assertions.assertEquals(
+            new LifetimeRaidStats(2, 1, 45, 400, 20, 600, 6, 80, 8, 100, 10, 12),
+            total
+        );
+    }
+
+    @Test
+    public void Given_EmptyHistory_When_Write_Then_OnlyHeader() throws IOException {
+        // given
+        final var writer = new StringWriter();
+
+        // when
+        final var total = RaidHistoryCsv.write(Stream.empty(), writer);
+
+        // then
+        Assertions.assertEquals(1, writer.toString().split("\n").length);
+        Assertions.assertEquals(LifetimeRaidStats.empty(), total);
+        Assertions.assertEquals(0, total.critPercent());
+    }
+
+    private static PersonageRaidSavedResult result(long launchedEventId, int reward, Optional<Long> itemId) {
+        return new PersonageRaidSavedResult(
+            PersonageId.from(1),
+            launchedEventId,
+            new PersonageBattleStats(100, 200, 10, 300, 3, 40, 4, 50, 5, 6, Characteristics.createDefault()),
+            Money.from(reward),
+            itemId
+        );
+    }
+}
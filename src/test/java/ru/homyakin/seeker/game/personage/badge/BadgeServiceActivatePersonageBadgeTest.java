@@ -5,12 +5,14 @@ import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import ru.homyakin.seeker.game.personage.PersonageCache;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.test_utils.TestRandom;
 
 public class BadgeServiceActivatePersonageBadgeTest {
     private final BadgeDao badgeDao = Mockito.mock(BadgeDao.class);
-    private final BadgeService service = new BadgeService(badgeDao);
+    private final PersonageCache personageCache = Mockito.mock(PersonageCache.class);
+    private final BadgeService service = new BadgeService(badgeDao, personageCache);
 
     @Test
     public void Given_ActivatingDifferentAvailableBadge_When_ActivateBadge_Then_Success() {
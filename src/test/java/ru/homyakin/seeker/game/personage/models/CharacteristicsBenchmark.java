@@ -0,0 +1,46 @@
+package ru.homyakin.seeker.game.personage.models;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.homyakin.seeker.game.effect.Effect;
+import ru.homyakin.seeker.game.effect.EffectCharacteristic;
+import ru.homyakin.seeker.game.personage.models.effect.PersonageEffect;
+import ru.homyakin.seeker.game.personage.models.effect.PersonageEffectType;
+import ru.homyakin.seeker.game.personage.models.effect.PersonageEffects;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharacteristicsBenchmark {
+    private final Characteristics characteristics = new Characteristics(500, 50, 20, 8, 6, 4);
+    private final PersonageEffects effects = new PersonageEffects(
+        Map.of(
+            PersonageEffectType.MENU_ITEM_EFFECT,
+            new PersonageEffect(new Effect.Multiplier(10, EffectCharacteristic.ATTACK), null),
+            PersonageEffectType.THROW_DAMAGE_EFFECT,
+            new PersonageEffect(new Effect.Add(-20, EffectCharacteristic.HEALTH), null)
+        )
+    );
+
+    @Benchmark
+    public Characteristics applyNoEffects() {
+        return characteristics.apply(PersonageEffects.EMPTY);
+    }
+
+    @Benchmark
+    public Characteristics applyEffects() {
+        return characteristics.apply(effects);
+    }
+}
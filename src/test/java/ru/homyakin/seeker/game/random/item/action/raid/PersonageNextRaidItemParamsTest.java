@@ -17,6 +17,7 @@ import ru.homyakin.seeker.game.random.item.entity.pool.SlotRandomPool;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 public class PersonageNextRaidItemParamsTest {
     private final RaidItemRandomPoolRepository raidItemRandomPoolRepository = Mockito.mock();
@@ -55,4 +56,38 @@ public class PersonageNextRaidItemParamsTest {
         Assertions.assertEquals(List.of(PersonageSlot.GLOVES), captor.getValue().slotRandomPool().pool());
         Assertions.assertEquals(List.of(2), captor.getValue().modifierCountRandomPool().pool());
     }
+
+    @Test
+    public void When_GetAllForSeveralPersonages_Then_LoadAndSavePoolsOnce() {
+        // given
+        final var withPool = PersonageId.from(1);
+        final var withoutPool = PersonageId.from(2);
+        final var pool = new FullItemRandomPool(
+            new RarityRandomPool(new LinkedList<>(List.of(ItemRarity.COMMON, ItemRarity.UNCOMMON))),
+            new SlotRandomPool(new LinkedList<>(List.of(PersonageSlot.HELMET, PersonageSlot.GLOVES))),
+            new ModifierCountRandomPool(new LinkedList<>(List.of(1, 2)))
+        );
+        final var renewedPool = new FullItemRandomPool(
+            new RarityRandomPool(new LinkedList<>(List.of(ItemRarity.RARE))),
+            new SlotRandomPool(new LinkedList<>(List.of(PersonageSlot.SHOES))),
+            new ModifierCountRandomPool(new LinkedList<>(List.of(0)))
+        );
+
+        // when
+        Mockito.when(raidItemRandomPoolRepository.getAll(List.of(withPool, withoutPool)))
+            .thenReturn(Map.of(withPool, pool, withoutPool, FullItemRandomPool.EMPTY));
+        Mockito.when(randomPoolRenew.fullRenewIfEmpty(pool)).thenReturn(pool);
+        Mockito.when(randomPoolRenew.fullRenewIfEmpty(FullItemRandomPool.EMPTY)).thenReturn(renewedPool);
+        final var result = action.getAll(List.of(withPool, withoutPool));
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Map<PersonageId, FullItemRandomPool>> captor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(raidItemRandomPoolRepository, Mockito.times(1)).saveAll(captor.capture());
+        Mockito.verify(raidItemRandomPoolRepository, Mockito.never()).get(Mockito.any());
+
+        // then
+        Assertions.assertEquals(new FullItemParams(ItemRarity.COMMON, PersonageSlot.HELMET, 1), result.get(withPool));
+        Assertions.assertEquals(new FullItemParams(ItemRarity.RARE, PersonageSlot.SHOES, 0), result.get(withoutPool));
+        Assertions.assertEquals(List.of(ItemRarity.UNCOMMON), captor.getValue().get(withPool).rarityRandomPool().pool());
+        Assertions.assertTrue(captor.getValue().get(withoutPool).rarityRandomPool().pool().isEmpty());
+    }
 }
@@ -24,8 +24,9 @@ import ru.homyakin.seeker.game.tavern_menu.order.models.ConsumeOrderError;
 import ru.homyakin.seeker.game.tavern_menu.order.models.OrderStatus;
 import ru.homyakin.seeker.game.tavern_menu.order.MenuItemOrderDao;
 import ru.homyakin.seeker.game.tavern_menu.order.OrderService;
-import ru.homyakin.seeker.infrastructure.lock.InMemoryLockService;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.lock.StripedLockService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
 import ru.homyakin.seeker.test_utils.PersonageUtils;
 import ru.homyakin.seeker.utils.TimeUtils;
 
@@ -37,14 +38,16 @@ public class OrderServiceConsumeTest {
     private final PersonageService personageService = Mockito.mock(PersonageService.class);
     private final MenuItemOrderDao menuItemOrderDao = Mockito.mock(MenuItemOrderDao.class);
     private final MenuService menuService = Mockito.mock(MenuService.class);
-    private final LockService lockService = new InMemoryLockService();
+    private final LockService lockService = new StripedLockService(16, Duration.ofMillis(100));
     private final OrderConfig config = Mockito.mock(OrderConfig.class);
+    private final DeadlineQueue deadlineQueue = Mockito.mock(DeadlineQueue.class);
     private final OrderService orderService = new OrderService(
         personageService,
         menuItemOrderDao,
         menuService,
         lockService,
-        config
+        config,
+        deadlineQueue
     );
 
     @BeforeEach
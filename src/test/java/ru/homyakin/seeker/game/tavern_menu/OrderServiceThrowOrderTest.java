@@ -24,8 +24,9 @@ import ru.homyakin.seeker.game.tavern_menu.order.models.OrderStatus;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowOrderError;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowResult;
 import ru.homyakin.seeker.game.tavern_menu.order.models.ThrowTarget;
-import ru.homyakin.seeker.infrastructure.lock.InMemoryLockService;
 import ru.homyakin.seeker.infrastructure.lock.LockService;
+import ru.homyakin.seeker.infrastructure.lock.StripedLockService;
+import ru.homyakin.seeker.infrastructure.scheduling.DeadlineQueue;
 import ru.homyakin.seeker.test_utils.PersonageUtils;
 import ru.homyakin.seeker.utils.TimeUtils;
 
@@ -39,14 +40,16 @@ public class OrderServiceThrowOrderTest {
     private final PersonageService personageService = Mockito.mock();
     private final MenuItemOrderDao menuItemOrderDao = Mockito.mock();
     private final MenuService menuService = Mockito.mock();
-    private final LockService lockService = new InMemoryLockService();
+    private final LockService lockService = new StripedLockService(16, Duration.ofMillis(100));
     private final OrderConfig config = Mockito.mock();
+    private final DeadlineQueue deadlineQueue = Mockito.mock(DeadlineQueue.class);
     private final OrderService orderService = new OrderService(
         personageService,
         menuItemOrderDao,
         menuService,
         lockService,
-        config
+        config,
+        deadlineQueue
     );
 
     @BeforeEach
@@ -0,0 +1,112 @@
+package ru.homyakin.seeker.game.top;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.homyakin.seeker.common.models.GroupId;
+import ru.homyakin.seeker.game.personage.badge.BadgeView;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardEntry;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardType;
+import ru.homyakin.seeker.game.top.models.TopPosition;
+import ru.homyakin.seeker.game.top.models.TopRequest;
+import ru.homyakin.seeker.game.top.models.TopSpinPosition;
+
+public class TopServiceTest {
+    private final TopDao topDao = Mockito.mock();
+    private final TopService service = new TopService(
+        topDao,
+        new InMemoryLeaderboardBackend(topDao, new TopConfig(LeaderboardType.IN_MEMORY, 100, Duration.ofHours(1)))
+    );
+    private final GroupId groupId = GroupId.from(1);
+
+    @BeforeEach
+    public void init() {
+        // Персонаж i на месте i - 1
+        final var scores = new ArrayList<LeaderboardEntry>();
+        for (int i = 1; i <= 30; ++i) {
+            scores.add(new LeaderboardEntry(PersonageId.from(i), 100 - i));
+        }
+        Mockito.when(topDao.getScores(Mockito.any())).thenReturn(scores);
+        Mockito.when(topDao.getGroupSpinPositions(Mockito.eq(groupId), Mockito.any())).thenAnswer(invocation -> {
+            final List<PersonageId> ids = invocation.getArgument(1);
+            return ids.stream()
+                .map(id -> new TopSpinPosition(id, "name" + id.value(), BadgeView.STANDARD, (int) (100 - id.value())))
+                .toList();
+        });
+    }
+
+    @Test
+    public void Given_PersonageOnPage_When_GetTop_Then_OnlyPageWithoutWindow() {
+        // when
+        final var result = service.getTopSpinGroup(groupId, TopRequest.firstPage(PersonageId.from(5)));
+
+        // then
+        Assertions.assertEquals(0, result.top().offset());
+        Assertions.assertEquals(ids(1, 10), personageIds(result.top().positions()));
+        Assertions.assertTrue(result.personageWindow().positions().isEmpty());
+        Assertions.assertEquals(30, result.totalCount());
+    }
+
+    @Test
+    public void Given_PersonageRightAfterPage_When_GetTop_Then_WindowIsOnlyPersonage() {
+        // when
+        final var result = service.getTopSpinGroup(groupId, TopRequest.firstPage(PersonageId.from(11)));
+
+        // then
+        Assertions.assertEquals(10, result.personageWindow().offset());
+        Assertions.assertEquals(ids(11, 11), personageIds(result.personageWindow().positions()));
+    }
+
+    @Test
+    public void Given_PersonageFarFromPage_When_GetTop_Then_WindowWithNeighbours() {
+        // when
+        final var result = service.getTopSpinGroup(groupId, TopRequest.firstPage(PersonageId.from(20)));
+
+        // then
+        Assertions.assertEquals(18, result.personageWindow().offset());
+        Assertions.assertEquals(ids(19, 21), personageIds(result.personageWindow().positions()));
+    }
+
+    @Test
+    public void Given_SecondPage_When_GetTop_Then_ReturnOnlyItsSlice() {
+        // when
+        final var result = service.getTopSpinGroup(groupId, TopRequest.firstPage(PersonageId.from(15)).page(2));
+
+        // then
+        Assertions.assertEquals(20, result.top().offset());
+        Assertions.assertEquals(ids(21, 30), personageIds(result.top().positions()));
+        Assertions.assertEquals(13, result.personageWindow().offset());
+        Assertions.assertEquals(ids(14, 16), personageIds(result.personageWindow().positions()));
+    }
+
+    @Test
+    public void Given_LoadedTop_When_UpdateSpinWins_Then_PersonageMovesUp() {
+        // given
+        service.getTopSpinGroup(groupId, TopRequest.firstPage(PersonageId.from(1)));
+
+        // when
+        service.updateSpinWins(groupId, PersonageId.from(30), 1000);
+        final var result = service.getTopSpinGroup(groupId, TopRequest.firstPage(PersonageId.from(1)));
+
+        // then
+        Assertions.assertEquals(PersonageId.from(30), result.top().positions().getFirst().personageId());
+        Mockito.verify(topDao, Mockito.times(1)).getScores(Mockito.any());
+    }
+
+    private static List<PersonageId> ids(int from, int to) {
+        final var ids = new ArrayList<PersonageId>();
+        for (int i = from; i <= to; ++i) {
+            ids.add(PersonageId.from(i));
+        }
+        return ids;
+    }
+
+    private static List<PersonageId> personageIds(List<? extends TopPosition> positions) {
+        return positions.stream().map(TopPosition::personageId).toList();
+    }
+}
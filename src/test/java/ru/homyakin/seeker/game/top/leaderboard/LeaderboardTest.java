@@ -0,0 +1,93 @@
+package ru.homyakin.seeker.game.top.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+
+public class LeaderboardTest {
+    @Test
+    public void Given_Entries_When_Range_Then_SortedByScoreDescAndIdAsc() {
+        // given
+        final var leaderboard = new Leaderboard(List.of(
+            new LeaderboardEntry(PersonageId.from(3), 5),
+            new LeaderboardEntry(PersonageId.from(1), 7),
+            new LeaderboardEntry(PersonageId.from(2), 5)
+        ));
+
+        // when
+        final var result = leaderboard.range(0, 10);
+
+        // then
+        Assertions.assertEquals(
+            List.of(
+                new LeaderboardEntry(PersonageId.from(1), 7),
+                new LeaderboardEntry(PersonageId.from(2), 5),
+                new LeaderboardEntry(PersonageId.from(3), 5)
+            ),
+            result
+        );
+        Assertions.assertEquals(Optional.of(2), leaderboard.rank(PersonageId.from(3)));
+    }
+
+    @Test
+    public void Given_Score_When_RaiseToLowerScore_Then_NothingChanged() {
+        // given
+        final var leaderboard = new Leaderboard();
+        leaderboard.raise(PersonageId.from(1), 10);
+
+        // when
+        final var changed = leaderboard.raise(PersonageId.from(1), 4);
+
+        // then
+        Assertions.assertFalse(changed);
+        Assertions.assertEquals(Optional.of(10), leaderboard.score(PersonageId.from(1)));
+    }
+
+    @Test
+    public void Given_UnknownPersonage_When_Rank_Then_ReturnEmpty() {
+        final var leaderboard = new Leaderboard(List.of(new LeaderboardEntry(PersonageId.from(1), 1)));
+        Assertions.assertTrue(leaderboard.rank(PersonageId.from(2)).isEmpty());
+        Assertions.assertTrue(leaderboard.range(1, 10).isEmpty());
+    }
+
+    @Test
+    public void Given_RandomRaisesAndRemoves_When_RankAndRange_Then_SameAsFullSort() {
+        // given
+        final var random = new SplittableRandom(42);
+        final var leaderboard = new Leaderboard();
+        final var expectedScores = new HashMap<Long, Integer>();
+
+        // when
+        for (int i = 0; i < 5000; ++i) {
+            final var id = random.nextLong(1, 500);
+            if (random.nextInt(10) == 0) {
+                leaderboard.remove(PersonageId.from(id));
+                expectedScores.remove(id);
+            } else {
+                final var score = random.nextInt(0, 100);
+                leaderboard.raise(PersonageId.from(id), score);
+                expectedScores.merge(id, score, Math::max);
+            }
+        }
+
+        // then
+        final var expected = new ArrayList<LeaderboardEntry>();
+        expectedScores.forEach((id, score) -> expected.add(new LeaderboardEntry(PersonageId.from(id), score)));
+        expected.sort(
+            Comparator.comparingInt(LeaderboardEntry::score).reversed()
+                .thenComparingLong(it -> it.personageId().value())
+        );
+        Assertions.assertEquals(expected.size(), leaderboard.size());
+        Assertions.assertEquals(expected, leaderboard.range(0, expected.size()));
+        Assertions.assertEquals(expected.subList(50, 60), leaderboard.range(50, 10));
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals(Optional.of(i), leaderboard.rank(expected.get(i).personageId()));
+        }
+    }
+}
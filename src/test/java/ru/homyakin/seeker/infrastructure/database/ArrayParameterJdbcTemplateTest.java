@@ -0,0 +1,57 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+public class ArrayParameterJdbcTemplateTest {
+    @Test
+    public void Given_NumberList_When_Rewrite_Then_AnyWithBigintArray() {
+        // given
+        final var params = new MapSqlParameterSource(Map.of("id_list", List.of(1L, 2, 3L), "status_id", 2));
+
+        // when
+        final var result = ArrayParameterJdbcTemplate.rewrite(
+            "SELECT * FROM item WHERE personage_id in (:id_list) AND status_id = :status_id",
+            params
+        );
+
+        // then
+        Assertions.assertEquals("SELECT * FROM item WHERE personage_id = ANY(:id_list) AND status_id = :status_id", result.sql());
+        final var array = Assertions.assertInstanceOf(
+            ArrayParameterJdbcTemplate.BigintArray.class,
+            result.params().getValue("id_list")
+        );
+        Assertions.assertArrayEquals(new Long[]{1L, 2L, 3L}, array.values());
+        Assertions.assertEquals(2, result.params().getValue("status_id"));
+    }
+
+    @Test
+    public void Given_NotInAndEmptyList_When_Rewrite_Then_AllWithEmptyArray() {
+        // given
+        final var params = new MapSqlParameterSource("ids", List.of());
+
+        // when
+        final var result = ArrayParameterJdbcTemplate.rewrite("DELETE FROM badge WHERE id NOT IN ( :ids )", params);
+
+        // then
+        Assertions.assertEquals("DELETE FROM badge WHERE id <> ALL(:ids)", result.sql());
+        Assertions.assertEquals(0, ((ArrayParameterJdbcTemplate.BigintArray) result.params().getValue("ids")).values().length);
+    }
+
+    @Test
+    public void Given_StringList_When_Rewrite_Then_SqlNotChanged() {
+        // given
+        final var sql = "SELECT * FROM badge WHERE code IN (:codes)";
+        final var params = new MapSqlParameterSource("codes", List.of("a", "b"));
+
+        // when
+        final var result = ArrayParameterJdbcTemplate.rewrite(sql, params);
+
+        // then
+        Assertions.assertEquals(sql, result.sql());
+        Assertions.assertSame(params, result.params());
+    }
+}
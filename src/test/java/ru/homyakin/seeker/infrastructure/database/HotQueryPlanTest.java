@@ -0,0 +1,249 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import ru.homyakin.seeker.common.models.GroupId;
+import ru.homyakin.seeker.game.event.database.GroupTgLaunchedEventDao;
+import ru.homyakin.seeker.game.event.launched.LaunchedEventDao;
+import ru.homyakin.seeker.game.event.launched.LaunchedEventGroupDao;
+import ru.homyakin.seeker.game.group.infra.database.GroupPostgresDao;
+import ru.homyakin.seeker.game.personage.PersonageConfig;
+import ru.homyakin.seeker.game.personage.PersonageDao;
+import ru.homyakin.seeker.game.personage.PersonageRaidResultDao;
+import ru.homyakin.seeker.game.personage.PersonageStreakDao;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.game.top.TopDao;
+import ru.homyakin.seeker.game.top.leaderboard.LeaderboardKey;
+import ru.homyakin.seeker.telegram.group.models.GroupTgId;
+import ru.homyakin.seeker.telegram.user.UserDao;
+import ru.homyakin.seeker.utils.JsonUtils;
+
+/**
+ * Проверяет, что запросы, которые выполняются по расписанию, используют индексы.
+ * Нужен локальный postgres, например SEEKER_TEST_DATABASE_URL=jdbc:postgresql://localhost:5432/seeker_test,
+ * без переменной тест пропускается. На пустую базу накатываются миграции, последовательное чтение запрещается
+ * через enable_seqscan = off: после этого Seq Scan в плане остаётся только там, где подходящего индекса нет
+ */
+@EnabledIfEnvironmentVariable(named = "SEEKER_TEST_DATABASE_URL", matches = ".+")
+public class HotQueryPlanTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static SingleConnectionDataSource dataSource;
+    private static PlanCapturingJdbcTemplate jdbcTemplate;
+    private static JdbcClient jdbcClient;
+
+    @BeforeAll
+    public static void migrate() throws Exception {
+        dataSource = new SingleConnectionDataSource(
+            System.getenv("SEEKER_TEST_DATABASE_URL"),
+            System.getenv().getOrDefault("SEEKER_TEST_DATABASE_USERNAME", "dev"),
+            System.getenv().getOrDefault("SEEKER_TEST_DATABASE_PASSWORD", "dev"),
+            true
+        );
+        final var liquibase = new SpringLiquibase();
+        liquibase.setChangeLog("classpath:migrations/main-changelog.xml");
+        liquibase.setDataSource(dataSource);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        jdbcTemplate = new PlanCapturingJdbcTemplate(dataSource);
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("SET enable_seqscan = off");
+        jdbcClient = JdbcClient.create(new ArrayParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @AfterAll
+    public static void close() {
+        dataSource.destroy();
+    }
+
+    @BeforeEach
+    public void clearPlans() {
+        jdbcTemplate.plans.clear();
+    }
+
+    @Test
+    public void When_GetActiveEventsWithLessEndDate_Then_NoSeqScan() {
+        new LaunchedEventDao(jdbcTemplate, jdbcClient).getActiveEventsWithLessEndDate(LocalDateTime.now());
+        assertNoSeqScan();
+    }
+
+    @Test
+    public void When_GetGroupsWithLessNextEventDate_Then_NoSeqScan() {
+        final var dao = new GroupPostgresDao(jdbcClient, new JsonUtils());
+        dao.getGetGroupsWithLessNextEventDate(LocalDateTime.now());
+        dao.getGetGroupsWithLessNextRumorDate(LocalDateTime.now());
+        assertNoSeqScan();
+    }
+
+    @Test
+    public void When_QueryEventHistory_Then_NoSeqScan() {
+        // given
+        final var launchedEventDao = new LaunchedEventDao(jdbcTemplate, jdbcClient);
+        final var groupTgLaunchedEventDao = new GroupTgLaunchedEventDao(jdbcClient);
+
+        // when
+        launchedEventDao.getActiveByPersonageId(PersonageId.from(1));
+        groupTgLaunchedEventDao.countFailedRaidsFromLastSuccessInGroup(GroupTgId.from(1));
+        groupTgLaunchedEventDao.lastEndedRaidInGroup(GroupTgId.from(1));
+        new LaunchedEventGroupDao(jdbcClient).getGroupIds(1);
+
+        // then
+        assertNoSeqScan();
+    }
+
+    @Test
+    public void When_GetUsersWithRecoveredEnergy_Then_NoSeqScan() {
+        new UserDao(jdbcClient, new ArrayParameterJdbcTemplate(jdbcTemplate)).getUsersWithRecoveredEnergy();
+        assertNoSeqScan();
+    }
+
+    @Test
+    public void When_CountSuccessRaidsFromLastItem_Then_NoSeqScan() {
+        new PersonageRaidResultDao(new ArrayParameterJdbcTemplate(jdbcTemplate), jdbcClient, new JsonUtils())
+            .countSuccessRaidsFromLastItem(List.of(PersonageId.from(1), PersonageId.from(2)));
+        assertNoSeqScan();
+    }
+
+    @Test
+    public void When_ReadPersonageStreak_Then_NoSeqScan() {
+        final var dao = new PersonageStreakDao(new ArrayParameterJdbcTemplate(jdbcTemplate), jdbcClient);
+        dao.getRaidsWithoutItem(List.of(PersonageId.from(1), PersonageId.from(2)));
+        dao.getFailedQuestsInRow(PersonageId.from(1));
+        dao.countFailedQuestsInRowFromHistory(PersonageId.from(1));
+        assertNoSeqScan();
+    }
+
+    @Test
+    public void When_ReadRaidHistory_Then_NoSeqScan() {
+        final var dao = new PersonageRaidResultDao(new ArrayParameterJdbcTemplate(jdbcTemplate), jdbcClient, new JsonUtils());
+        dao.streamByPersonage(PersonageId.from(1)).count();
+        dao.getLifetimeStats(PersonageId.from(1));
+        assertNoSeqScan();
+    }
+
+    @Test
+    public void When_GetPersonageById_Then_NoSeqScan() {
+        new PersonageDao(
+            new ArrayParameterJdbcTemplate(jdbcTemplate),
+            jdbcClient,
+            new JsonUtils(),
+            new PersonageConfig(Duration.ofHours(24), 50, 100)
+        ).getById(PersonageId.from(1));
+        assertNoSeqScan();
+    }
+
+    @Test
+    public void When_QueryTops_Then_NoSeqScan() {
+        // given
+        final var dao = new TopDao(jdbcClient);
+        final var groupId = GroupId.from(1);
+        final var weekStart = LocalDate.now();
+        final var personageIds = List.of(PersonageId.from(1), PersonageId.from(2));
+
+        // when
+        for (final var key : List.of(
+            new LeaderboardKey.RaidWeek(weekStart),
+            new LeaderboardKey.GroupRaidWeek(groupId, weekStart),
+            new LeaderboardKey.GroupSpin(groupId)
+        )) {
+            dao.getScores(key, 0, 10);
+            dao.getRank(key, PersonageId.from(1));
+        }
+        dao.getRaidPositions(weekStart, personageIds);
+        dao.getGroupRaidPositions(groupId, weekStart, personageIds);
+        dao.getGroupSpinPositions(groupId, personageIds);
+
+        // then
+        assertNoSeqScan();
+    }
+
+    private static void assertNoSeqScan() {
+        Assertions.assertFalse(jdbcTemplate.plans.isEmpty());
+        for (final var plan : jdbcTemplate.plans) {
+            final var seqScans = new ArrayList<String>();
+            collectSeqScans(plan.plan().get(0).get("Plan"), seqScans);
+            Assertions.assertTrue(seqScans.isEmpty(), () -> "Seq Scan on " + seqScans + " in\n" + plan.sql());
+        }
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> result) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            result.add(node.path("Relation Name").asText());
+        }
+        for (final var child : node.path("Plans")) {
+            collectSeqScans(child, result);
+        }
+    }
+
+    private record CapturedPlan(String sql, JsonNode plan) {
+    }
+
+    /**
+     * Перед каждым запросом выполняет EXPLAIN для него же с теми же параметрами:
+     * PreparedStatementCreator получает соединение, которое дописывает EXPLAIN к тексту запроса
+     */
+    private static class PlanCapturingJdbcTemplate extends JdbcTemplate {
+        private final List<CapturedPlan> plans = new ArrayList<>();
+
+        private PlanCapturingJdbcTemplate(SingleConnectionDataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+            plans.add(execute((ConnectionCallback<CapturedPlan>) connection -> explain(connection, psc)));
+            return super.query(psc, pss, rse);
+        }
+
+        private static CapturedPlan explain(Connection connection, PreparedStatementCreator psc) throws SQLException {
+            final var sql = new String[1];
+            final var explainConnection = (Connection) Proxy.newProxyInstance(
+                HotQueryPlanTest.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (_, method, args) -> {
+                    if (method.getName().equals("prepareStatement")) {
+                        sql[0] = (String) args[0];
+                        args[0] = "EXPLAIN (FORMAT JSON) " + args[0];
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            );
+            try (final var statement = psc.createPreparedStatement(explainConnection);
+                 final var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return new CapturedPlan(sql[0], objectMapper.readTree(resultSet.getString(1)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
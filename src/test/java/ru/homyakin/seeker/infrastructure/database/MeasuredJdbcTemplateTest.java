@@ -0,0 +1,64 @@
+package ru.homyakin.seeker.infrastructure.database;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class MeasuredJdbcTemplateTest {
+    private final DataSource dataSource = Mockito.mock();
+    private final Connection connection = Mockito.mock();
+    private final StatementMetrics metrics = new StatementMetrics(Duration.ofMinutes(1));
+    private final MeasuredJdbcTemplate jdbcTemplate = new MeasuredJdbcTemplate(dataSource, metrics);
+
+    @BeforeEach
+    public void init() throws SQLException {
+        final DatabaseMetaData metaData = Mockito.mock();
+        Mockito.when(metaData.supportsBatchUpdates()).thenReturn(true);
+        Mockito.when(connection.getMetaData()).thenReturn(metaData);
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    public void When_BatchUpdate_Then_StatementMeasuredWithSumOfRows() throws SQLException {
+        // given
+        final var sql = "UPDATE personage SET money = ? WHERE id = ?";
+        final PreparedStatement statement = Mockito.mock();
+        Mockito.when(connection.prepareStatement(sql)).thenReturn(statement);
+        Mockito.when(statement.getConnection()).thenReturn(connection);
+        Mockito.when(statement.executeBatch()).thenReturn(new int[]{1, 1, 0});
+
+        // when
+        jdbcTemplate.batchUpdate(sql, List.of(new Object[]{1, 1}, new Object[]{2, 2}, new Object[]{3, 3}));
+
+        // then
+        final var stats = metrics.snapshot().get(sql);
+        Assertions.assertEquals(1, stats.calls());
+        Assertions.assertEquals(2, stats.rows());
+    }
+
+    @Test
+    public void When_UpdateWithoutParameters_Then_StatementMeasured() throws SQLException {
+        // given
+        final var sql = "DELETE FROM duel WHERE status_id = 1";
+        final Statement statement = Mockito.mock();
+        Mockito.when(connection.createStatement()).thenReturn(statement);
+        Mockito.when(statement.executeUpdate(sql)).thenReturn(3);
+
+        // when
+        jdbcTemplate.update(sql);
+
+        // then
+        final var stats = metrics.snapshot().get(sql);
+        Assertions.assertEquals(1, stats.calls());
+        Assertions.assertEquals(3, stats.rows());
+    }
+}
@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.homyakin.seeker.game.event.service.EventService;
 import ru.homyakin.seeker.game.item.ItemService;
 import ru.homyakin.seeker.game.item.modifier.ItemModifierService;
@@ -20,48 +23,51 @@ public class InitGameDataTest {
         Mockito.mock(BadgeService.class),
         Mockito.mock(ItemService.class),
         Mockito.mock(ItemModifierService.class),
-        config
+        config,
+        Mockito.mock(ApplicationEventPublisher.class),
+        new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class))
     );
 
     @ParameterizedTest
     @EnumSource(InitGameDataType.class)
-    public void When_LoadRaids_Then_NoErrors(InitGameDataType type) {
+    public void When_ReadRaids_Then_NoErrors(InitGameDataType type) {
         config.setType(type);
-        Assertions.assertDoesNotThrow(initGameData::loadRaids);
+        Assertions.assertDoesNotThrow(initGameData::readRaids);
     }
 
     @ParameterizedTest
     @EnumSource(InitGameDataType.class)
-    public void When_LoadMenuItems_Then_NoErrors(InitGameDataType type) {
+    public void When_ReadMenuItems_Then_NoErrors(InitGameDataType type) {
         config.setType(type);
-        Assertions.assertDoesNotThrow(initGameData::loadMenuItems);
+        Assertions.assertDoesNotThrow(initGameData::readMenuItems);
     }
 
     @ParameterizedTest
     @EnumSource(InitGameDataType.class)
-    public void When_LoadRumors_Then_NoErrors(InitGameDataType type) {
+    public void When_ReadRumors_Then_NoErrors(InitGameDataType type) {
         config.setType(type);
-        Assertions.assertDoesNotThrow(initGameData::loadRumors);
+        Assertions.assertDoesNotThrow(initGameData::readRumors);
     }
 
     @ParameterizedTest
     @EnumSource(InitGameDataType.class)
-    public void When_LoadBadges_Then_NoErrors(InitGameDataType type) {
+    public void When_ReadBadges_Then_NoErrors(InitGameDataType type) {
         config.setType(type);
-        Assertions.assertDoesNotThrow(initGameData::loadBadges);
+        Assertions.assertDoesNotThrow(initGameData::readBadges);
     }
 
     @ParameterizedTest
     @EnumSource(InitGameDataType.class)
-    public void When_LoadItems_Then_NoErrors(InitGameDataType type) {
+    public void When_ReadItems_Then_NoErrors(InitGameDataType type) {
         config.setType(type);
-        Assertions.assertDoesNotThrow(initGameData::loadItems);
+        Assertions.assertDoesNotThrow(initGameData::readItemObjects);
+        Assertions.assertDoesNotThrow(initGameData::readItemModifiers);
     }
 
     @ParameterizedTest
     @EnumSource(InitGameDataType.class)
-    public void When_LoadPersonalQuests_Then_NoErrors(InitGameDataType type) {
+    public void When_ReadPersonalQuests_Then_NoErrors(InitGameDataType type) {
         config.setType(type);
-        Assertions.assertDoesNotThrow(initGameData::loadPersonalQuests);
+        Assertions.assertDoesNotThrow(initGameData::readPersonalQuests);
     }
 }
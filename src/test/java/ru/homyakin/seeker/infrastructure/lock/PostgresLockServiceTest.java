@@ -0,0 +1,165 @@
+package ru.homyakin.seeker.infrastructure.lock;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class PostgresLockServiceTest {
+    private final DataSource dataSource = Mockito.mock(DataSource.class);
+    private final Connection connection = Mockito.mock(Connection.class);
+    private final PreparedStatement tryLockStatement = Mockito.mock(PreparedStatement.class);
+    private final PreparedStatement lockStatement = Mockito.mock(PreparedStatement.class);
+    private final PreparedStatement unlockStatement = Mockito.mock(PreparedStatement.class);
+    private final PreparedStatement setConfigStatement = Mockito.mock(PreparedStatement.class);
+    private final ResultSet tryLockResult = Mockito.mock(ResultSet.class);
+    private final ResultSet unlockResult = Mockito.mock(ResultSet.class);
+    private final PostgresLockService service = new PostgresLockService(
+        dataSource,
+        new LockConfig(LockType.POSTGRES, 16, Duration.ofMillis(100), Duration.ofSeconds(30), 2, Duration.ofMillis(10))
+    );
+
+    @BeforeEach
+    public void init() throws SQLException {
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+        Mockito.when(connection.prepareStatement(Mockito.anyString())).thenAnswer(invocation -> {
+            final String sql = invocation.getArgument(0);
+            if (sql.contains("pg_try_advisory_lock")) {
+                return tryLockStatement;
+            } else if (sql.contains("pg_advisory_lock")) {
+                return lockStatement;
+            } else if (sql.contains("pg_advisory_unlock")) {
+                return unlockStatement;
+            }
+            return setConfigStatement;
+        });
+        Mockito.when(tryLockStatement.executeQuery()).thenReturn(tryLockResult);
+        Mockito.when(unlockStatement.executeQuery()).thenReturn(unlockResult);
+        Mockito.when(tryLockResult.next()).thenReturn(true);
+        Mockito.when(tryLockResult.getBoolean(1)).thenReturn(true);
+        Mockito.when(unlockResult.next()).thenReturn(true);
+        Mockito.when(unlockResult.getBoolean(1)).thenReturn(true);
+    }
+
+    @Test
+    public void When_TryLockAndCalc_Then_LockAndUnlockInDatabaseWithSameKey() throws SQLException {
+        // given
+        final var key = randomKey();
+
+        // when
+        final var result = service.tryLockAndCalc(key, () -> 1);
+
+        // then
+        Assertions.assertEquals(1, result.get());
+        Mockito.verify(tryLockStatement).setLong(1, key.toLong());
+        Mockito.verify(unlockStatement).setLong(1, key.toLong());
+        Mockito.verify(connection).close();
+        Assertions.assertEquals(1, service.stats().get(key.prefix()).acquired());
+    }
+
+    @Test
+    public void Given_KeyLockedInDatabase_When_TryLockAndCalc_Then_KeyLockedAndConnectionReleased() throws SQLException {
+        // given
+        final var key = randomKey();
+        Mockito.when(tryLockResult.getBoolean(1)).thenReturn(false);
+        final var executed = new AtomicBoolean(false);
+
+        // when
+        final var result = service.tryLockAndCalc(key, () -> executed.getAndSet(true));
+
+        // then
+        Assertions.assertTrue(result.isLeft());
+        Assertions.assertFalse(executed.get());
+        Mockito.verify(connection).close();
+        Mockito.verify(lockStatement, Mockito.never()).execute();
+        Mockito.verify(unlockStatement, Mockito.never()).executeQuery();
+        Assertions.assertEquals(1, service.stats().get(key.prefix()).failed());
+    }
+
+    @Test
+    public void Given_KeyLockedInDatabase_When_LockAndCalcWithTimeout_Then_WaitInDatabase() throws SQLException {
+        // given
+        final var key = randomKey();
+        Mockito.when(tryLockResult.getBoolean(1)).thenReturn(false);
+
+        // when
+        final var result = service.lockAndCalc(key, () -> 1);
+
+        // then
+        Assertions.assertEquals(1, result.get());
+        Mockito.verify(lockStatement).setLong(1, key.toLong());
+        Assertions.assertEquals(1, service.stats().get(key.prefix()).contended());
+    }
+
+    @Test
+    public void Given_DatabaseLockTimeout_When_LockAndCalc_Then_KeyLocked() throws SQLException {
+        // given
+        final var key = randomKey();
+        Mockito.when(tryLockResult.getBoolean(1)).thenReturn(false);
+        Mockito.when(lockStatement.execute()).thenThrow(new SQLException("lock timeout", "55P03"));
+
+        // when
+        final var result = service.lockAndCalc(key, () -> 1);
+
+        // then
+        Assertions.assertTrue(result.isLeft());
+        Mockito.verify(connection).close();
+    }
+
+    @Test
+    public void Given_KeyLockedLocally_When_TryLockAndCalc_Then_DatabaseIsNotQueried() throws SQLException {
+        // given
+        final var key = randomKey();
+        service.tryLock(key);
+        Mockito.clearInvocations(dataSource);
+
+        // when
+        final var result = service.tryLockAndCalc(key, () -> 1);
+
+        // then
+        Assertions.assertTrue(result.isLeft());
+        Mockito.verify(dataSource, Mockito.never()).getConnection();
+    }
+
+    @Test
+    public void Given_AllLockConnectionsHeld_When_TryLock_Then_False() {
+        // given
+        service.tryLock(randomKey());
+        service.tryLock(randomKey());
+
+        // when
+        final var key = randomKey();
+        final var result = service.tryLock(key);
+
+        // then
+        Assertions.assertFalse(result);
+        service.unlock(key);
+    }
+
+    @Test
+    public void Given_DatabaseError_When_TryLockAndCalc_Then_KeyLockedAndLocalLockReleased() throws SQLException {
+        // given
+        final var key = randomKey();
+        Mockito.when(tryLockStatement.executeQuery()).thenThrow(new SQLException("connection lost"));
+
+        // when
+        final var result = service.tryLockAndCalc(key, () -> 1);
+
+        // then
+        Assertions.assertTrue(result.isLeft());
+        Mockito.doReturn(tryLockResult).when(tryLockStatement).executeQuery();
+        Assertions.assertTrue(service.tryLockAndCalc(key, () -> 1).isRight());
+    }
+
+    private static LockKey randomKey() {
+        return new LockKey(LockPrefixes.DUEL, ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+    }
+}
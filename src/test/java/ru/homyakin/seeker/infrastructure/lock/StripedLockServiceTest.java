@@ -1,20 +1,23 @@
 package ru.homyakin.seeker.infrastructure.lock;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-public class InMemoryLockServiceTest {
-    private final InMemoryLockService service = new InMemoryLockService();
+public class StripedLockServiceTest {
+    private final StripedLockService service = new StripedLockService(1024, Duration.ofMillis(100));
 
     @Test
     public void When_TryToLockNewKey_Then_KeyLocked() {
         // when
-        final var key = UUID.randomUUID().toString();
+        final var key = randomKey();
         final var result = service.tryLock(key);
 
         // then
@@ -24,7 +27,7 @@ public class InMemoryLockServiceTest {
     @Test
     public void Given_LockedKey_When_TryToLockSeveralTimes_Then_NoLockHappened() {
         // given
-        final var key = UUID.randomUUID().toString();
+        final var key = randomKey();
         service.tryLock(key);
 
         // when
@@ -41,7 +44,7 @@ public class InMemoryLockServiceTest {
     @Test
     public void Given_LockedKey_When_LockAfterUnlock_Then_SuccessLocked() {
         // given
-        final var key = UUID.randomUUID().toString();
+        final var key = randomKey();
         service.tryLock(key);
 
         // when
@@ -55,7 +58,7 @@ public class InMemoryLockServiceTest {
     @Test
     public void When_TryLockInMultithreading_Then_Only_OneLockHappened() throws InterruptedException {
         // given
-        final var key = UUID.randomUUID().toString();
+        final var key = randomKey();
         final var threadCount = 10;
         final var executorService = Executors.newFixedThreadPool(threadCount);
         final var latch = new CountDownLatch(threadCount);
@@ -87,8 +90,8 @@ public class InMemoryLockServiceTest {
     @Test
     public void Given_TwoKeys_When_LockKeys_Then_SuccessLock() {
         // given
-        final var key1 = UUID.randomUUID().toString();
-        final var key2 = UUID.randomUUID().toString();
+        final var key1 = randomKey();
+        final var key2 = randomKey();
 
         // when
         final var result1 = service.tryLock(key1);
@@ -101,8 +104,8 @@ public class InMemoryLockServiceTest {
     @Test
     public void Given_TwoLockedKeys_When_UnlockKey1_Then_Key2StillLocked() {
         // given
-        final var key1 = UUID.randomUUID().toString();
-        final var key2 = UUID.randomUUID().toString();
+        final var key1 = randomKey();
+        final var key2 = randomKey();
         service.tryLock(key1);
         service.tryLock(key2);
 
@@ -116,7 +119,7 @@ public class InMemoryLockServiceTest {
     @Test
     public void When_TryLockAndExecute_Then_RunAction() {
         // given
-        final var key = UUID.randomUUID().toString();
+        final var key = randomKey();
         final var action = Mockito.mock(Runnable.class);
 
         // when
@@ -130,7 +133,7 @@ public class InMemoryLockServiceTest {
     @Test
     void Given_LockedKey_When_TryLockAndExecute_Then_ActionNotExecuted() {
         // given
-        final var key = UUID.randomUUID().toString();
+        final var key = randomKey();
         final var action = Mockito.mock(Runnable.class);
         service.tryLock(key);
 
@@ -145,7 +148,7 @@ public class InMemoryLockServiceTest {
     @Test
     void Given_TryLockAndExecuteOnKey_When_TryLockKey_Then_KeyLocked() {
         // given
-        final var key = UUID.randomUUID().toString();
+        final var key = randomKey();
         final var action = Mockito.mock(Runnable.class);
         service.tryLockAndExecute(key, action);
 
@@ -156,4 +159,73 @@ public class InMemoryLockServiceTest {
         Assertions.assertTrue(result);
     }
 
+    @Test
+    public void Given_LockedKey_When_KeyReleasedWithinTimeout_Then_LockAndCalcWaitsAndExecutes() throws InterruptedException {
+        // given
+        final var key = randomKey();
+        service.tryLock(key);
+        final var started = new CountDownLatch(1);
+        final var executed = new AtomicBoolean(false);
+
+        // when
+        final var thread = Thread.ofVirtual().start(() -> {
+            started.countDown();
+            service.lockAndCalc(key, Duration.ofSeconds(5), () -> executed.getAndSet(true));
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        service.unlock(key);
+        thread.join(Duration.ofSeconds(5));
+
+        // then
+        Assertions.assertTrue(executed.get());
+        Assertions.assertEquals(1, service.stats().get(key.prefix()).contended());
+    }
+
+    @Test
+    public void Given_LockedKey_When_LockAndCalcTimeoutExpired_Then_KeyLocked() {
+        // given
+        final var key = randomKey();
+        service.tryLock(key);
+        final var action = Mockito.mock(Runnable.class);
+
+        // when
+        final var result = service.lockAndCalc(key, () -> {
+            action.run();
+            return 1;
+        });
+
+        // then
+        Assertions.assertTrue(result.isLeft());
+        Mockito.verify(action, Mockito.never()).run();
+        final var stats = service.stats().get(key.prefix());
+        Assertions.assertEquals(1, stats.acquired());
+        Assertions.assertEquals(1, stats.failed());
+    }
+
+    @Test
+    public void Given_SingleStripe_When_LockDifferentKeys_Then_KeysDoNotBlockEachOther() {
+        // given
+        final var singleStripe = new StripedLockService(1, Duration.ofMillis(100));
+        final var key1 = new LockKey(LockPrefixes.DUEL, 1);
+        final var key2 = new LockKey(LockPrefixes.DUEL, 2);
+        final var key3 = new LockKey(LockPrefixes.PERSONAGE, 1);
+        singleStripe.tryLock(key1);
+
+        // when
+        final var result2 = singleStripe.tryLock(key2);
+        final var result3 = singleStripe.tryLock(key3);
+        singleStripe.unlock(key2);
+
+        // then
+        Assertions.assertTrue(result2);
+        Assertions.assertTrue(result3);
+        Assertions.assertFalse(singleStripe.tryLock(key1));
+        Assertions.assertFalse(singleStripe.tryLock(key3));
+        Assertions.assertTrue(singleStripe.tryLock(key2));
+    }
+
+    private static LockKey randomKey() {
+        return new LockKey(LockPrefixes.DUEL, ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+    }
 }
@@ -0,0 +1,163 @@
+package ru.homyakin.seeker.infrastructure.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.homyakin.seeker.utils.TimeUtils;
+
+public class DeadlineSchedulerTest {
+    private final DeadlineQueue queue = new DeadlineQueue();
+    private DeadlineScheduler scheduler;
+
+    @AfterEach
+    public void shutdown() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void Given_ExpiredDeadlineInDatabase_When_Start_Then_ProcessImmediately() throws InterruptedException {
+        // given
+        final var handler = new TestHandler(Map.of(1L, TimeUtils.moscowTime().minusMinutes(1)));
+        scheduler = scheduler(handler);
+
+        // when
+        scheduler.start();
+
+        // then
+        Assertions.assertTrue(handler.processed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void Given_ScheduledDeadline_When_Due_Then_ProcessNotEarlier() throws InterruptedException {
+        // given
+        final var handler = new TestHandler(Map.of());
+        scheduler = scheduler(handler);
+        scheduler.start();
+        final var delay = Duration.ofMillis(300);
+
+        // when
+        final var start = System.nanoTime();
+        queue.schedule(DeadlineType.DUEL_EXPIRE, 1, TimeUtils.moscowTime().plus(delay));
+
+        // then
+        Assertions.assertTrue(handler.processed.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.nanoTime() - start >= delay.toNanos() - TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    public void Given_RescheduledDeadline_When_OldTimeCome_Then_NotProcessed() throws InterruptedException {
+        // given
+        final var handler = new TestHandler(Map.of());
+        scheduler = scheduler(handler);
+        scheduler.start();
+        queue.schedule(DeadlineType.DUEL_EXPIRE, 1, TimeUtils.moscowTime().plusNanos(TimeUnit.MILLISECONDS.toNanos(100)));
+
+        // when
+        queue.schedule(DeadlineType.DUEL_EXPIRE, 1, TimeUtils.moscowTime().plusHours(1));
+
+        // then
+        Assertions.assertFalse(handler.processed.await(300, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void Given_SeveralDueDeadlines_When_HandlerIsBusy_Then_TheyAreProcessedTogether() throws InterruptedException {
+        // given
+        final var handler = new TestHandler(Map.of());
+        final var release = new CountDownLatch(1);
+        handler.beforeProcess = () -> awaitQuietly(release);
+        scheduler = scheduler(handler);
+        scheduler.start();
+        final var past = TimeUtils.moscowTime().minusSeconds(1);
+        queue.schedule(DeadlineType.DUEL_EXPIRE, 1, past);
+        while (handler.calls.get() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        queue.schedule(DeadlineType.DUEL_EXPIRE, 2, past);
+        queue.schedule(DeadlineType.DUEL_EXPIRE, 3, past);
+        Thread.sleep(100);
+        release.countDown();
+        Thread.sleep(100);
+
+        // then
+        Assertions.assertEquals(2, handler.calls.get());
+        Assertions.assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void Given_DeadlineStillDueAfterProcessing_When_Processed_Then_RetryLater() throws InterruptedException {
+        // given
+        final var deadlines = new ConcurrentHashMap<Long, LocalDateTime>();
+        final var time = TimeUtils.moscowTime().plusNanos(TimeUnit.MILLISECONDS.toNanos(50) + 300);
+        deadlines.put(1L, time);
+        final var handler = new TestHandler(deadlines);
+        // Первая обработка не удаётся, как если бы сущность была залочена
+        handler.beforeProcess = () -> {
+            if (handler.calls.get() > 1) {
+                deadlines.remove(1L);
+            }
+        };
+        scheduler = scheduler(handler);
+        scheduler.start();
+
+        // when
+        Thread.sleep(500);
+
+        // then
+        Assertions.assertEquals(2, handler.calls.get());
+        Assertions.assertTrue(deadlines.isEmpty());
+        Assertions.assertEquals(0, queue.size());
+    }
+
+    private DeadlineScheduler scheduler(DeadlineHandler handler) {
+        return new DeadlineScheduler(queue, new DeadlineSchedulerConfig(Duration.ofMinutes(30), Duration.ofMillis(100)), List.of(handler));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class TestHandler implements DeadlineHandler {
+        private final Map<Long, LocalDateTime> deadlines;
+        private final CountDownLatch processed = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+        private Runnable beforeProcess = () -> { };
+
+        private TestHandler(Map<Long, LocalDateTime> deadlines) {
+            this.deadlines = deadlines;
+        }
+
+        @Override
+        public DeadlineType type() {
+            return DeadlineType.DUEL_EXPIRE;
+        }
+
+        @Override
+        public Map<Long, LocalDateTime> loadDeadlines(LocalDateTime until) {
+            return deadlines;
+        }
+
+        @Override
+        public void processDue() {
+            calls.incrementAndGet();
+            beforeProcess.run();
+            processed.countDown();
+        }
+    }
+}
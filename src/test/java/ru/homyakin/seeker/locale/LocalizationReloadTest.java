@@ -0,0 +1,75 @@
+package ru.homyakin.seeker.locale;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import ru.homyakin.seeker.locale.raid.RaidLocalization;
+import ru.homyakin.seeker.utils.ResourceUtils;
+
+public class LocalizationReloadTest {
+    @TempDir
+    private Path contentDirectory;
+    private Path raidFile;
+
+    @BeforeEach
+    public void init() throws IOException {
+        LocalizationInitializer.initLocale();
+        raidFile = contentDirectory.resolve("localization").resolve("ru").resolve("raid.toml");
+        Files.createDirectories(raidFile.getParent());
+        ResourceUtils.setContentDirectory(contentDirectory);
+    }
+
+    @AfterEach
+    public void reset() {
+        ResourceUtils.setContentDirectory(null);
+        LocalizationInitializer.initLocale();
+    }
+
+    @Test
+    public void Given_ChangedFileInContentDirectory_When_InitLocale_Then_NewTextUsed() throws IOException {
+        // given
+        final var original = new String(new ClassPathResource("localization/ru/raid.toml").getContentAsByteArray());
+        Files.writeString(raidFile, original.replace("raidInProcess = \"Рейд уже начался\"", "raidInProcess = \"Новый текст\""));
+
+        // when
+        LocalizationInitializer.initLocale();
+
+        // then
+        Assertions.assertEquals("Новый текст", RaidLocalization.raidInProcess(Language.DEFAULT));
+    }
+
+    @Test
+    public void Given_BrokenFileInContentDirectory_When_InitLocale_Then_PreviousTextKept() throws IOException {
+        // given
+        final var before = RaidLocalization.raidInProcess(Language.DEFAULT);
+        Files.writeString(raidFile, "raidInProcess = ");
+
+        // when
+        Assertions.assertThrows(RuntimeException.class, LocalizationInitializer::initLocale);
+
+        // then
+        Assertions.assertEquals(before, RaidLocalization.raidInProcess(Language.DEFAULT));
+    }
+
+    @Test
+    public void Given_ChangedFileInContentDirectory_When_ReadWithoutPublish_Then_PreviousTextKept() throws IOException {
+        // given
+        final var before = RaidLocalization.raidInProcess(Language.DEFAULT);
+        final var original = new String(new ClassPathResource("localization/ru/raid.toml").getContentAsByteArray());
+        Files.writeString(raidFile, original.replace("raidInProcess = \"Рейд уже начался\"", "raidInProcess = \"Новый текст\""));
+
+        // when
+        final var localization = LocalizationInitializer.read();
+
+        // then
+        Assertions.assertEquals(before, RaidLocalization.raidInProcess(Language.DEFAULT));
+        LocalizationInitializer.publish(localization);
+        Assertions.assertEquals("Новый текст", RaidLocalization.raidInProcess(Language.DEFAULT));
+    }
+}
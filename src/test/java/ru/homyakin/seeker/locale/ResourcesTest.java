@@ -0,0 +1,59 @@
+package ru.homyakin.seeker.locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ResourcesTest {
+    @Test
+    public void Given_TranslationWithUnknownParam_When_Add_Then_ThrowException() {
+        // given
+        final var resources = new Resources<TestResource>();
+        resources.add(Language.DEFAULT, new TestResource("${name}", new String[]{"${a}", "${b}"}));
+
+        // when
+        final var exception = Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> resources.add(Language.EN, new TestResource("${name} ${nmae}", new String[]{"${b}"}))
+        );
+
+        // then
+        Assertions.assertEquals("Localization en has unknown params [nmae] in text", exception.getMessage());
+    }
+
+    @Test
+    public void Given_MissingTranslation_When_Template_Then_DefaultLanguageUsed() {
+        // given
+        final var resources = new Resources<TestResource>();
+        resources.add(Language.DEFAULT, new TestResource("Привет, ${name}", new String[]{"${a}"}));
+        resources.add(Language.EN, new TestResource(null, new String[]{"${a}"}));
+
+        // when
+        final var result = resources.template(Language.EN, TestResource::text).param("name", "Hero").format();
+
+        // then
+        Assertions.assertEquals("Привет, Hero", result);
+    }
+
+    @Test
+    public void Given_DefaultLanguageWithUndeclaredParam_When_Add_Then_ThrowException() {
+        // given
+        final var resources = new Resources<TestResource>();
+
+        // when
+        final var exception = Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> resources.add(Language.DEFAULT, new TestResource("${name}", new String[]{"${c}"}))
+        );
+
+        // then
+        Assertions.assertEquals("Localization ru has unknown params [c] in variants", exception.getMessage());
+    }
+
+    public record TestResource(
+        @TemplateParams({"name"})
+        String text,
+        @TemplateParams({"a", "b"})
+        String[] variants
+    ) {
+    }
+}
@@ -10,6 +10,7 @@ import ru.homyakin.seeker.game.personage.badge.BadgeView;
 import ru.homyakin.seeker.game.personage.models.PersonageId;
 import ru.homyakin.seeker.game.top.models.TopRaidPosition;
 import ru.homyakin.seeker.game.top.models.TopRaidResult;
+import ru.homyakin.seeker.game.top.models.TopSlice;
 import ru.homyakin.seeker.locale.Language;
 import ru.homyakin.seeker.locale.LocalizationInitializer;
 
@@ -26,12 +27,14 @@ public class TopUtilsTest {
         final var top = new TopRaidResult(
             LocalDate.of(2020, 11, 11),
             LocalDate.of(2020, 11, 12),
-            topRaidPositions,
+            new TopSlice<>(0, topRaidPositions.subList(0, 3)),
+            TopSlice.empty(),
+            topRaidPositions.size(),
             TopRaidResult.Type.WEEK
         );
 
         //when
-        final var result = TopUtils.createTopList(Language.RU, PersonageId.from(0L), top);
+        final var result = TopUtils.createTopList(Language.RU, top);
 
         //then
         Assertions.assertEquals(
@@ -50,12 +53,14 @@ public class TopUtilsTest {
         final var top = new TopRaidResult(
             LocalDate.of(2021, 11, 11),
             LocalDate.of(2021, 11, 12),
-            topRaidPositions,
+            new TopSlice<>(0, topRaidPositions.subList(0, 10)),
+            TopSlice.empty(),
+            topRaidPositions.size(),
             TopRaidResult.Type.WEEK
         );
 
         //when
-        final var result = TopUtils.createTopList(Language.RU, PersonageId.from(1000L), top);
+        final var result = TopUtils.createTopList(Language.RU, top);
 
         //then
         Assertions.assertEquals(
@@ -81,12 +86,14 @@ public class TopUtilsTest {
         final var top = new TopRaidResult(
             LocalDate.of(2021, 11, 11),
             LocalDate.of(2021, 11, 12),
-            topRaidPositions,
+            new TopSlice<>(0, topRaidPositions.subList(0, 10)),
+            new TopSlice<>(10, topRaidPositions.subList(10, 11)),
+            topRaidPositions.size(),
             TopRaidResult.Type.WEEK
         );
 
         //when
-        final var result = TopUtils.createTopList(Language.RU, PersonageId.from(10L), top);
+        final var result = TopUtils.createTopList(Language.RU, top);
 
         //then
         Assertions.assertEquals(
@@ -113,12 +120,14 @@ public class TopUtilsTest {
         final var top = new TopRaidResult(
             LocalDate.of(2021, 11, 11),
             LocalDate.of(2021, 11, 12),
-            topRaidPositions,
+            new TopSlice<>(0, topRaidPositions.subList(0, 10)),
+            new TopSlice<>(13, topRaidPositions.subList(13, 15)),
+            topRaidPositions.size(),
             TopRaidResult.Type.WEEK
         );
 
         //when
-        final var result = TopUtils.createTopList(Language.RU, PersonageId.from(14L), top);
+        final var result = TopUtils.createTopList(Language.RU, top);
 
         //then
         Assertions.assertEquals(
@@ -147,12 +156,14 @@ public class TopUtilsTest {
         final var top = new TopRaidResult(
             LocalDate.of(2021, 11, 11),
             LocalDate.of(2021, 11, 12),
-            topRaidPositions,
+            new TopSlice<>(0, topRaidPositions.subList(0, 10)),
+            new TopSlice<>(13, topRaidPositions.subList(13, 16)),
+            topRaidPositions.size(),
             TopRaidResult.Type.WEEK
         );
 
         //when
-        final var result = TopUtils.createTopList(Language.RU, PersonageId.from(14L), top);
+        final var result = TopUtils.createTopList(Language.RU, top);
 
         //then
         Assertions.assertEquals(
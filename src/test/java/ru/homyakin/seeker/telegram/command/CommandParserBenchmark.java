@@ -0,0 +1,125 @@
+package ru.homyakin.seeker.telegram.command;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.telegrambots.meta.api.objects.CallbackQuery;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+import org.telegram.telegrambots.meta.api.objects.chat.Chat;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import ru.homyakin.seeker.infrastructure.TextConstants;
+import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationInitializer;
+import ru.homyakin.seeker.locale.personal.MenuLocalization;
+import ru.homyakin.seeker.telegram.command.type.CommandType;
+import ru.homyakin.seeker.telegram.user.models.UserId;
+import ru.homyakin.seeker.telegram.user.state.UserState;
+import ru.homyakin.seeker.telegram.user.state.UserStateService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParserBenchmark {
+    private final CommandParser parser = new CommandParser(new NoStateUserStateService());
+    private final Update groupCommand = groupMessage("/me@bot");
+    // Не совпадает ни с одной командой: поиск обрывается на первом символе
+    private final Update groupText = groupMessage("просто сообщение в чате");
+    private final Update groupCallback = groupCallback(CommandType.JOIN_RAID.getText() + TextConstants.CALLBACK_DELIMITER + 1);
+    private final Update privateCommand = privateMessage("/start");
+    private Update privateButton;
+
+    @Setup
+    public void init() {
+        LocalizationInitializer.initLocale();
+        privateButton = privateMessage(MenuLocalization.profileButton(Language.DEFAULT));
+    }
+
+    @Benchmark
+    public Optional<Command> groupCommand() {
+        return parser.parse(groupCommand);
+    }
+
+    @Benchmark
+    public Optional<Command> groupText() {
+        return parser.parse(groupText);
+    }
+
+    @Benchmark
+    public Optional<Command> groupCallback() {
+        return parser.parse(groupCallback);
+    }
+
+    @Benchmark
+    public Optional<Command> privateCommand() {
+        return parser.parse(privateCommand);
+    }
+
+    @Benchmark
+    public Optional<Command> privateButton() {
+        return parser.parse(privateButton);
+    }
+
+    private static Update groupMessage(String text) {
+        final var update = new Update();
+        update.setMessage(message(new Chat(GROUP_ID, "supergroup"), text));
+        return update;
+    }
+
+    private static Update privateMessage(String text) {
+        final var update = new Update();
+        update.setMessage(message(new Chat(USER_ID, "private"), text));
+        return update;
+    }
+
+    private static Update groupCallback(String data) {
+        final var callback = new CallbackQuery();
+        callback.setId("1");
+        callback.setFrom(user());
+        callback.setMessage(message(new Chat(GROUP_ID, "supergroup"), "text"));
+        callback.setData(data);
+        final var update = new Update();
+        update.setCallbackQuery(callback);
+        return update;
+    }
+
+    private static Message message(Chat chat, String text) {
+        final var message = new Message();
+        message.setMessageId(1);
+        message.setChat(chat);
+        message.setFrom(user());
+        message.setText(text);
+        message.setDate(0);
+        return message;
+    }
+
+    private static User user() {
+        return new User(USER_ID, "user", false);
+    }
+
+    private static class NoStateUserStateService extends UserStateService {
+        private NoStateUserStateService() {
+            super(null);
+        }
+
+        @Override
+        public Optional<UserState> getUserStateById(UserId userId) {
+            return Optional.empty();
+        }
+    }
+
+    private static final long GROUP_ID = -100;
+    private static final long USER_ID = 1;
+}
@@ -0,0 +1,49 @@
+package ru.homyakin.seeker.telegram.command.type;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.homyakin.seeker.locale.Language;
+import ru.homyakin.seeker.locale.LocalizationInitializer;
+import ru.homyakin.seeker.locale.personal.MenuLocalization;
+
+public class CommandTypeTest {
+    @Test
+    public void Given_EqualsCommands_When_GetFromString_Then_OnlyExactTextMatches() {
+        Assertions.assertEquals(Optional.of(CommandType.TOP), CommandType.getFromString("/top"));
+        Assertions.assertEquals(Optional.of(CommandType.TOP_RAID_WEEK), CommandType.getFromString("/top_raid_week"));
+        Assertions.assertEquals(Optional.of(CommandType.TOP_RAID_WEEK_GROUP), CommandType.getFromString("/top_raid_week_group"));
+        Assertions.assertEquals(Optional.empty(), CommandType.getFromString("/top_raid"));
+        Assertions.assertEquals(Optional.empty(), CommandType.getFromString("/topx"));
+    }
+
+    @Test
+    public void Given_StartsWithCommands_When_GetFromString_Then_TextWithParamsMatches() {
+        Assertions.assertEquals(Optional.of(CommandType.START), CommandType.getFromString("/start"));
+        Assertions.assertEquals(Optional.of(CommandType.START), CommandType.getFromString("/start ref=1"));
+        Assertions.assertEquals(Optional.of(CommandType.SELL_ITEM), CommandType.getFromString("/sell_15"));
+        Assertions.assertEquals(Optional.of(CommandType.SET_TIME_ZONE), CommandType.getFromString("/set_time_zone +3"));
+        Assertions.assertEquals(Optional.empty(), CommandType.getFromString("/sel"));
+        Assertions.assertEquals(Optional.empty(), CommandType.getFromString(""));
+    }
+
+    @Test
+    public void Given_Length_When_GetFromString_Then_RestOfTextIgnored() {
+        final var text = "/me@bot";
+
+        Assertions.assertEquals(Optional.of(CommandType.GET_PROFILE), CommandType.getFromString(text, text.indexOf('@')));
+        Assertions.assertEquals(Optional.empty(), CommandType.getFromString(text));
+    }
+
+    @Test
+    public void Given_LoadedLocalization_When_GetFromString_Then_ButtonTextMatches() {
+        // given
+        LocalizationInitializer.initLocale();
+
+        // when
+        final var result = CommandType.getFromString(MenuLocalization.profileButton(Language.DEFAULT));
+
+        // then
+        Assertions.assertEquals(Optional.of(CommandType.GET_PROFILE), result);
+    }
+}
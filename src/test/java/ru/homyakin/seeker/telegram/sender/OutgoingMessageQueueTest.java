@@ -0,0 +1,137 @@
+package ru.homyakin.seeker.telegram.sender;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+import org.telegram.telegrambots.meta.generics.TelegramClient;
+
+public class OutgoingMessageQueueTest {
+    private static final String GROUP_CHAT_ID = "-100";
+    private final TelegramClient client = Mockito.mock();
+    private OutgoingMessageQueue queue;
+
+    @AfterEach
+    public void closeQueue() {
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    public void Given_TooManyRequestsError_When_Send_Then_RetryAfterDelay() throws Exception {
+        // given
+        queue = new OutgoingMessageQueue(client, config("100/1s", 3));
+        final var message = new Message();
+        Mockito.when(client.execute(Mockito.any(SendMessage.class)))
+            .thenThrow(tooManyRequests())
+            .thenReturn(message);
+
+        // when
+        final var result = queue.submit(GROUP_CHAT_ID, sendMessage("text")).get(5, TimeUnit.SECONDS);
+
+        // then
+        Assertions.assertSame(message, result);
+        Mockito.verify(client, Mockito.times(2)).execute(Mockito.any(SendMessage.class));
+    }
+
+    @Test
+    public void Given_TooManyRequestsErrorMoreThanMaxRetries_When_Send_Then_FutureFailed() throws Exception {
+        // given
+        queue = new OutgoingMessageQueue(client, config("100/1s", 1));
+        Mockito.when(client.execute(Mockito.any(SendMessage.class))).thenThrow(tooManyRequests());
+
+        // when
+        final var future = queue.submit(GROUP_CHAT_ID, sendMessage("text"));
+
+        // then
+        final var error = Assertions.assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(TelegramApiRequestException.class, error.getCause());
+        Mockito.verify(client, Mockito.times(2)).execute(Mockito.any(SendMessage.class));
+    }
+
+    @Test
+    public void Given_RequestInFlight_When_EditSameMessageTwice_Then_OnlyLastEditIsSent() throws Exception {
+        // given
+        queue = new OutgoingMessageQueue(client, config("100/1s", 0));
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        Mockito.when(client.execute(Mockito.any(SendMessage.class))).thenAnswer(_ -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new Message();
+        });
+        queue.submit(GROUP_CHAT_ID, sendMessage("text"));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        final var first = queue.submit(GROUP_CHAT_ID, editMessage("first"));
+        final var second = queue.submit(GROUP_CHAT_ID, editMessage("second"));
+        Thread.sleep(100);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(EditMessageText.class);
+        Mockito.verify(client, Mockito.times(1)).execute(captor.capture());
+        Assertions.assertEquals("second", captor.getValue().getText());
+    }
+
+    @Test
+    public void Given_ChatLimitExceeded_When_Send_Then_RequestWaits() throws Exception {
+        // given
+        queue = new OutgoingMessageQueue(client, config("2/1h", 0));
+        Mockito.when(client.execute(Mockito.any(SendMessage.class))).thenReturn(new Message());
+
+        // when
+        final var first = queue.submit(GROUP_CHAT_ID, sendMessage("1"));
+        final var second = queue.submit(GROUP_CHAT_ID, sendMessage("2"));
+        final var third = queue.submit(GROUP_CHAT_ID, sendMessage("3"));
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+
+        // then
+        Assertions.assertFalse(third.isDone());
+        Mockito.verify(client, Mockito.times(2)).execute(Mockito.any(SendMessage.class));
+    }
+
+    private static TelegramSenderConfig config(String chatLimit, int maxRetries) {
+        final var config = new TelegramSenderConfig();
+        config.setGlobalLimit("1000/1s");
+        config.setGroupChatLimit(chatLimit);
+        config.setPrivateChatLimit(chatLimit);
+        config.setMaxRetries(maxRetries);
+        return config;
+    }
+
+    private static SendMessage sendMessage(String text) {
+        return SendMessage.builder().chatId(GROUP_CHAT_ID).text(text).build();
+    }
+
+    private static EditMessageText editMessage(String text) {
+        return EditMessageText.builder().chatId(GROUP_CHAT_ID).messageId(1).text(text).build();
+    }
+
+    private static TelegramApiRequestException tooManyRequests() {
+        return new TelegramApiRequestException(
+            "Error sending message",
+            ApiResponse.builder()
+                .ok(false)
+                .errorCode(429)
+                .errorDescription("Too Many Requests: retry after 0")
+                .parameters(new ResponseParameters(null, 0))
+                .build()
+        );
+    }
+}
@@ -0,0 +1,151 @@
+package ru.homyakin.seeker.telegram.update;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+import org.telegram.telegrambots.meta.api.objects.chat.Chat;
+import org.telegram.telegrambots.meta.api.objects.message.Message;
+
+public class UpdateDispatcherTest {
+    @Test
+    public void Given_UpdatesFromSeveralChats_When_Dispatch_Then_OrderInsideChatIsKept() {
+        // given
+        final var processed = Collections.synchronizedList(new ArrayList<Update>());
+        final var dispatcher = new UpdateDispatcher(config(4, 8), processed::add);
+        final var chatCount = 10;
+        final var updatesPerChat = 50;
+
+        // when
+        var updateId = 0;
+        for (int i = 0; i < updatesPerChat; ++i) {
+            for (long chatId = 1; chatId <= chatCount; ++chatId) {
+                dispatcher.dispatch(update(++updateId, chatId));
+            }
+        }
+        dispatcher.close();
+
+        // then
+        Assertions.assertEquals(chatCount * updatesPerChat, processed.size());
+        final Map<Long, List<Integer>> byChat = new HashMap<>();
+        for (final var update : processed) {
+            byChat.computeIfAbsent(update.getMessage().getChatId(), _ -> new ArrayList<>()).add(update.getUpdateId());
+        }
+        byChat.values().forEach(ids -> Assertions.assertEquals(ids.stream().sorted().toList(), ids));
+        final var stats = dispatcher.stats();
+        Assertions.assertEquals(chatCount * updatesPerChat, stats.processed());
+        Assertions.assertEquals(0, stats.queued());
+    }
+
+    @Test
+    public void Given_SlowChat_When_DispatchOtherChat_Then_OtherChatIsNotBlocked() throws InterruptedException {
+        // given
+        final var slowChatId = 0L;
+        final var fastChatId = 1L;
+        final var slowStarted = new CountDownLatch(1);
+        final var releaseSlow = new CountDownLatch(1);
+        final var fastProcessed = new CountDownLatch(1);
+        final var dispatcher = new UpdateDispatcher(
+            config(2, 8),
+            update -> {
+                if (update.getMessage().getChatId() == slowChatId) {
+                    slowStarted.countDown();
+                    awaitQuietly(releaseSlow);
+                } else {
+                    fastProcessed.countDown();
+                }
+            }
+        );
+
+        // when
+        dispatcher.dispatch(update(1, slowChatId));
+        Assertions.assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(update(2, fastChatId));
+
+        // then
+        Assertions.assertTrue(fastProcessed.await(5, TimeUnit.SECONDS));
+        releaseSlow.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    public void Given_FullShardQueue_When_Dispatch_Then_ProducerWaitIsCounted() throws InterruptedException {
+        // given
+        final var chatId = 1L;
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var dispatcher = new UpdateDispatcher(
+            config(1, 1),
+            _ -> {
+                started.countDown();
+                awaitQuietly(release);
+            }
+        );
+        dispatcher.dispatch(update(1, chatId));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(update(2, chatId));
+
+        // when
+        final var producer = Thread.ofVirtual().start(() -> dispatcher.dispatch(update(3, chatId)));
+        while (dispatcher.stats().producerWaits() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        producer.join();
+        dispatcher.close();
+
+        // then
+        final var stats = dispatcher.stats();
+        Assertions.assertEquals(1, stats.producerWaits());
+        Assertions.assertEquals(3, stats.processed());
+    }
+
+    @Test
+    public void Given_UpdatesFromOneUserInDifferentChats_When_ShardKey_Then_KeyIsUserId() {
+        // given
+        final var userId = 42L;
+        final var privateUpdate = update(1, userId);
+        privateUpdate.getMessage().setFrom(new User(userId, "user", false));
+        final var groupUpdate = update(2, -100L);
+        groupUpdate.getMessage().setFrom(new User(userId, "user", false));
+
+        // when
+        final var privateKey = UpdateDispatcher.shardKey(privateUpdate);
+        final var groupKey = UpdateDispatcher.shardKey(groupUpdate);
+
+        // then
+        Assertions.assertEquals(userId, privateKey);
+        Assertions.assertEquals(userId, groupKey);
+    }
+
+    private static UpdateDispatcherConfig config(int shards, int queueCapacity) {
+        final var config = new UpdateDispatcherConfig();
+        config.setShards(shards);
+        config.setQueueCapacity(queueCapacity);
+        return config;
+    }
+
+    private static Update update(int updateId, long chatId) {
+        final var message = new Message();
+        message.setChat(new Chat(chatId, "group"));
+        final var update = new Update();
+        update.setUpdateId(updateId);
+        update.setMessage(message);
+        return update;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
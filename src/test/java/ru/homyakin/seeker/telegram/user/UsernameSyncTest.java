@@ -0,0 +1,60 @@
+package ru.homyakin.seeker.telegram.user;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.homyakin.seeker.telegram.user.models.UserId;
+
+public class UsernameSyncTest {
+    private final UserDao userDao = Mockito.mock(UserDao.class);
+    private final UsernameSync sync = new UsernameSync(userDao, new UsernameSyncConfig(100, Duration.ofMinutes(10)));
+
+    @Test
+    public void Given_SameUsernameSeenAgain_When_Flush_Then_WrittenOnce() {
+        // given
+        final var userId = UserId.from(1);
+        sync.seen(userId, Optional.of("name"));
+        sync.flush();
+
+        // when
+        sync.seen(userId, Optional.of("name"));
+        sync.flush();
+
+        // then
+        Mockito.verify(userDao, Mockito.times(1)).updateUsernames(Mockito.any());
+        Mockito.verifyNoMoreInteractions(userDao);
+    }
+
+    @Test
+    public void Given_SeveralChanges_When_Flush_Then_OneBatchWithLastUsernames() {
+        // given
+        sync.seen(UserId.from(1), Optional.of("old"));
+        sync.seen(UserId.from(1), Optional.of("new"));
+        sync.seen(UserId.from(2), Optional.empty());
+
+        // when
+        sync.flush();
+
+        // then
+        Mockito.verify(userDao).updateUsernames(Map.of(UserId.from(1), Optional.of("new"), UserId.from(2), Optional.empty()));
+        Assertions.assertEquals(Optional.of("new"), sync.known(UserId.from(1)));
+        Assertions.assertEquals(Optional.empty(), sync.known(UserId.from(3)));
+    }
+
+    @Test
+    public void Given_FailedFlush_When_FlushAgain_Then_UsernameRetried() {
+        // given
+        sync.seen(UserId.from(1), Optional.of("name"));
+        Mockito.doThrow(new RuntimeException()).doNothing().when(userDao).updateUsernames(Mockito.any());
+        sync.flush();
+
+        // when
+        sync.flush();
+
+        // then
+        Mockito.verify(userDao, Mockito.times(2)).updateUsernames(Map.of(UserId.from(1), Optional.of("name")));
+    }
+}
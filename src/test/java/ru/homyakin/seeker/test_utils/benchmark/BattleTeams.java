@@ -0,0 +1,28 @@
+package ru.homyakin.seeker.test_utils.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import ru.homyakin.seeker.game.battle.BattlePersonage;
+import ru.homyakin.seeker.game.personage.models.PersonageId;
+import ru.homyakin.seeker.test_utils.PersonageUtils;
+
+public class BattleTeams {
+    /**
+     * @param firstId id первого персонажа, id внутри боя должны быть уникальны для обеих команд
+     */
+    public static List<BattlePersonage> team(long firstId, int size) {
+        final var team = new ArrayList<BattlePersonage>(size);
+        for (int i = 0; i < size; ++i) {
+            team.add(PersonageUtils.withId(PersonageId.from(firstId + i)).toBattlePersonage());
+        }
+        return team;
+    }
+
+    public static List<BattlePersonage> copy(List<BattlePersonage> team) {
+        final var copy = new ArrayList<BattlePersonage>(team.size());
+        for (final var personage : team) {
+            copy.add(personage.clone());
+        }
+        return copy;
+    }
+}
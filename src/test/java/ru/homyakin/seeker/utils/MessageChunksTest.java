@@ -0,0 +1,49 @@
+package ru.homyakin.seeker.utils;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MessageChunksTest {
+    @Test
+    public void Given_PartsLongerThanLimit_When_Build_Then_SplitOnPartBoundaries() {
+        // given
+        final var chunks = new MessageChunks(5, 8, ", ");
+
+        // when
+        final var result = chunks.add("aa").add("bb").add("ccc").add("dd").build();
+
+        // then
+        Assertions.assertEquals(List.of("aa", "bb, ccc", "dd"), result);
+        result.forEach(it -> Assertions.assertTrue(it.length() <= 8));
+    }
+
+    @Test
+    public void Given_FirstPartNotFitFirstLimit_When_Build_Then_FirstChunkEmpty() {
+        // given
+        final var chunks = new MessageChunks(2, 5, "\n");
+
+        // when
+        final var result = chunks.add("abcd").build();
+
+        // then
+        Assertions.assertEquals(List.of("", "abcd"), result);
+    }
+
+    @Test
+    public void Given_PartLongerThanLimit_When_Build_Then_PartCut() {
+        // given
+        final var chunks = new MessageChunks(4, 4, "\n");
+
+        // when
+        final var result = chunks.add("a").add("bcdefghij").build();
+
+        // then
+        Assertions.assertEquals(List.of("a", "bcde", "fghi", "j"), result);
+    }
+
+    @Test
+    public void Given_NoParts_When_Build_Then_OneEmptyChunk() {
+        Assertions.assertEquals(List.of(""), new MessageChunks(10, 10, ", ").build());
+    }
+}
@@ -0,0 +1,32 @@
+package ru.homyakin.seeker.utils;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StringNamedTemplateTest {
+    @Test
+    public void Given_RepeatedParam_When_Format_Then_AllSlotsReplaced() {
+        // given
+        final var template = StringNamedTemplate.compile("${name} and ${value}, again ${name}!");
+
+        // when
+        final var result = template.param("name", "Hero").param("value", 10).param("unknown", "x").format();
+
+        // then
+        Assertions.assertEquals("Hero and 10, again Hero!", result);
+        Assertions.assertEquals(List.of("name", "value"), template.params());
+    }
+
+    @Test
+    public void Given_NotBoundParamAndUnclosedToken_When_Format_Then_KeptAsIs() {
+        // given
+        final var template = StringNamedTemplate.compile("${a} ${b} ${c");
+
+        // when
+        final var result = template.param("a", "1").format();
+
+        // then
+        Assertions.assertEquals("1 ${b} ${c", result);
+    }
+}